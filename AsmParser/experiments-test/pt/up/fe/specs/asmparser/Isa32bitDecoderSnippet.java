@@ -0,0 +1,71 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.asmparser;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.SpecsIo;
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Compares the throughput of the rule-by-rule parser with the decision-tree decoder of Isa32bitParser.
+ */
+public class Isa32bitDecoderSnippet {
+
+    @Test
+    public void test() {
+        var parser = Isa32bitParser.newInstance(
+                SpecsIo.getResource(() -> "pt/up/fe/specs/binarytranslation/asm/parsing/asm_test.json"));
+
+        // Instructions of both formats, with random field values
+        var random = new Random(0);
+        var instructions = new long[1 << 16];
+        for (int i = 0; i < instructions.length; i++) {
+            var base = random.nextBoolean() ? 0x63F12AADL : 0x9503C005L;
+            instructions[i] = (base & ~0x3FFFL) | (random.nextInt() & 0x3FFF);
+        }
+
+        var repetitions = 200;
+        var decoded = parser.newDecodedArray();
+
+        for (int i = 0; i < 5; i++) {
+            long tic = System.nanoTime();
+            long linearAcc = 0;
+            for (int j = 0; j < repetitions; j++) {
+                for (var instruction : instructions) {
+                    linearAcc += parser.parseLinear(instruction)[1];
+                }
+            }
+            long linearTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            long treeAcc = 0;
+            for (int j = 0; j < repetitions; j++) {
+                for (var instruction : instructions) {
+                    parser.decode(instruction, decoded);
+                    treeAcc += decoded[1];
+                }
+            }
+            long treeTime = System.nanoTime() - tic;
+
+            var total = (double) repetitions * instructions.length;
+            System.out.println("LINEAR (" + linearAcc + "):" + SpecsStrings.parseTime(linearTime) + ", "
+                    + (long) (total * 1e9 / linearTime) + " inst/s");
+            System.out.println("DECISION TREE (" + treeAcc + "):" + SpecsStrings.parseTime(treeTime) + ", "
+                    + (long) (total * 1e9 / treeTime) + " inst/s");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package pt.up.fe.specs.asmparser;
 import com.google.gson.Gson;
 import pt.up.fe.specs.asmparser.ast.FieldNode;
 import pt.up.fe.specs.asmparser.ast.RuleNode;
+import pt.up.fe.specs.asmparser.parser32bit.Asm32bitDecoder;
 import pt.up.fe.specs.asmparser.parser32bit.Asm32bitParser;
 import pt.up.fe.specs.util.SpecsIo;
 
@@ -22,10 +23,12 @@ public class Isa32bitParser {
 
     private final List<Asm32bitParser> parsers;
     private final Map<String, Integer> fieldsMap;
+    private final Asm32bitDecoder decoder;
 
     private Isa32bitParser(List<Asm32bitParser> parsers, Map<String, Integer> fieldsMap) {
         this.parsers = parsers;
         this.fieldsMap = fieldsMap;
+        this.decoder = Asm32bitDecoder.build(parsers);
     }
 
 
@@ -84,7 +87,47 @@ public class Isa32bitParser {
         return fieldsMap;
     }
 
+    /**
+     * @return the size of the arrays used by {@link #decode(long, int[])}
+     */
+    public int getDecodedSize() {
+        return 1 + fieldsMap.size();
+    }
+
+    public int[] newDecodedArray() {
+        return new int[getDecodedSize()];
+    }
+
+    /**
+     * Decodes an instruction into a reusable array, without allocating.
+     *
+     * <p>
+     * Position 0 receives the id of the format, the other positions the value of each field, according to
+     * {@link #getFieldsMap()}. Fields that are not part of the format are set to 0.
+     *
+     * @param instruction a 32-bit instruction
+     * @param decoded     an array with at least {@link #getDecodedSize()} elements
+     * @return true if the instruction was decoded, false if no format accepts it
+     */
+    public boolean decode(long instruction, int[] decoded) {
+        return decoder.decode(instruction, decoded);
+    }
+
     public int[] parse(long instruction) {
+        var decoded = newDecodedArray();
+
+        if (!decoder.decode(instruction, decoded)) {
+            throw new RuntimeException("Could not decode instruction 0x" + Long.toString(instruction, 16));
+        }
+
+        return decoded;
+    }
+
+    /**
+     * Decodes the instruction by trying the rules of each format in order. Returns the same as
+     * {@link #parse(long)}, it is kept as a reference implementation.
+     */
+    public int[] parseLinear(long instruction) {
         // Iterate over all parsers, looking for one that accepts the instruction
         for (var parser : parsers) {
             var decoded = parser.parse(instruction);
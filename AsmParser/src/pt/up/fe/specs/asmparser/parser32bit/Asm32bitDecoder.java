@@ -0,0 +1,188 @@
+/**
+ * Copyright 2024 SPeCS.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.asmparser.parser32bit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Finds the format of 32-bit instructions with a decision tree built from the constant bits of the formats.
+ *
+ * <p>
+ * Each inner node of the tree reads a range of bits of the instruction and uses it as an index into a table of
+ * children, and each leaf has the few formats that are still possible, which are tested in order with a mask and a
+ * compare. The result is the same as trying each format in order: when several formats accept an instruction, the
+ * first one wins.
+ */
+public class Asm32bitDecoder {
+
+    // Maximum number of bits read by a single node, tables have at most 2^MAX_TABLE_BITS children
+    private static final int MAX_TABLE_BITS = 8;
+
+    private final Node root;
+
+    private Asm32bitDecoder(Node root) {
+        this.root = root;
+    }
+
+    /**
+     *
+     * @param formats the formats, in order of priority
+     * @return a decoder for the given formats
+     */
+    public static Asm32bitDecoder build(List<Asm32bitParser> formats) {
+        return new Asm32bitDecoder(buildNode(formats, 0));
+    }
+
+    /**
+     *
+     * @param instruction a 32-bit instruction
+     * @return the first format that accepts the instruction, or null if none does
+     */
+    public Asm32bitParser find(long instruction) {
+        var node = root;
+        while (node.children != null) {
+            node = node.children[(int) (instruction >>> node.shift) & node.tableMask];
+        }
+
+        for (var format : node.formats) {
+            if (format.matches(instruction)) {
+                return format;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Decodes an instruction into the given array, without allocating.
+     *
+     * @param instruction a 32-bit instruction
+     * @param decoded     array where the format id and the fields are written, see
+     *                    {@link Asm32bitParser#decode(long, int[])}
+     * @return true if a format accepted the instruction, false otherwise
+     */
+    public boolean decode(long instruction, int[] decoded) {
+        var format = find(instruction);
+
+        if (format == null) {
+            return false;
+        }
+
+        format.decode(instruction, decoded);
+        return true;
+    }
+
+    /**
+     *
+     * @param formats  the formats that can still accept the instruction, in order of priority
+     * @param consumed the bits already tested by the parent nodes
+     */
+    private static Node buildNode(List<Asm32bitParser> formats, long consumed) {
+        // A format whose constant bits were all tested always matches, the formats after it are never reached
+        var reachable = new ArrayList<Asm32bitParser>();
+        for (var format : formats) {
+            reachable.add(format);
+
+            if ((format.getMask() & ~consumed) == 0) {
+                break;
+            }
+        }
+
+        if (reachable.size() < 2) {
+            return Node.leaf(reachable);
+        }
+
+        // Count how many formats fix each of the bits not tested yet
+        var counts = new int[32];
+        var maxCount = 0;
+        for (var format : reachable) {
+            var pending = format.getMask() & ~consumed;
+            for (int bit = 0; bit < 32; bit++) {
+                if ((pending >>> bit & 1) != 0) {
+                    counts[bit]++;
+                    maxCount = Math.max(maxCount, counts[bit]);
+                }
+            }
+        }
+
+        // Test the longest range of bits fixed by the most formats
+        var shift = 0;
+        var numBits = 0;
+        var runStart = 0;
+        for (int bit = 0; bit <= 32; bit++) {
+            if (bit < 32 && counts[bit] == maxCount) {
+                continue;
+            }
+
+            if (bit - runStart > numBits) {
+                shift = runStart;
+                numBits = bit - runStart;
+            }
+
+            runStart = bit + 1;
+        }
+
+        numBits = Math.min(numBits, MAX_TABLE_BITS);
+        var tableMask = (1 << numBits) - 1;
+        var rangeMask = (long) tableMask << shift;
+
+        // Formats that do not fix all bits of the range go to every child they are compatible with. Children with the
+        // same formats share the same node.
+        var children = new Node[1 << numBits];
+        var nodes = new HashMap<List<Asm32bitParser>, Node>();
+        for (int i = 0; i < children.length; i++) {
+            var childFormats = new ArrayList<Asm32bitParser>();
+            for (var format : reachable) {
+                var formatMask = (int) (format.getMask() >>> shift) & tableMask;
+                var formatMatch = (int) (format.getMatch() >>> shift) & tableMask;
+
+                if ((i & formatMask) == formatMatch) {
+                    childFormats.add(format);
+                }
+            }
+
+            children[i] = nodes.computeIfAbsent(childFormats, key -> buildNode(key, consumed | rangeMask));
+        }
+
+        return Node.table(shift, tableMask, children);
+    }
+
+    private static class Node {
+
+        // Inner node
+        private final int shift;
+        private final int tableMask;
+        private final Node[] children;
+
+        // Leaf
+        private final Asm32bitParser[] formats;
+
+        private Node(int shift, int tableMask, Node[] children, Asm32bitParser[] formats) {
+            this.shift = shift;
+            this.tableMask = tableMask;
+            this.children = children;
+            this.formats = formats;
+        }
+
+        static Node table(int shift, int tableMask, Node[] children) {
+            return new Node(shift, tableMask, children, null);
+        }
+
+        static Node leaf(List<Asm32bitParser> formats) {
+            return new Node(0, 0, null, formats.toArray(new Asm32bitParser[0]));
+        }
+    }
+}
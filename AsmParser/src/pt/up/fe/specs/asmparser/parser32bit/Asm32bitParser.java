@@ -20,6 +20,7 @@ import pt.up.fe.specs.asmparser.parser32bit.rules.Asm32bitIgnoreRule;
 import pt.up.fe.specs.asmparser.parser32bit.rules.Asm32bitRule;
 import pt.up.fe.specs.util.exceptions.NotImplementedException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -32,12 +33,48 @@ public class Asm32bitParser {
     private final int numFields;
     private final int[] fieldIndexes;
 
+    // Bits of the instruction fixed by constant rules, and their expected values
+    private final long mask;
+    private final long match;
+
+    // Shift and mask that extract each field, in the same order as fieldIndexes
+    private final int[] fieldShifts;
+    private final int[] fieldMasks;
+
     private Asm32bitParser(int id, List<Asm32bitRule> rules, Map<String, Integer> fieldsMap) {
         this.id = id;
         this.rules = rules;
         this.fieldsMap = fieldsMap;
         this.fieldIndexes = buildFieldsIndexes(rules, fieldsMap);
         this.numFields = fieldIndexes.length;
+
+        long mask = 0;
+        long match = 0;
+        var numFieldRules = (int) rules.stream().filter(rule -> rule instanceof Asm32bitFieldRule).count();
+        this.fieldShifts = new int[numFieldRules];
+        this.fieldMasks = new int[numFieldRules];
+
+        int fieldIndex = 0;
+        int startIndex = 0;
+        for (var rule : rules) {
+            var numBits = rule.getNumBits();
+            var shiftAmount = 32 - numBits - startIndex;
+            var bitsMask = (1L << numBits) - 1;
+
+            if (rule instanceof Asm32bitConstantRule constantRule) {
+                mask |= bitsMask << shiftAmount;
+                match |= (constantRule.getLiteral() & bitsMask) << shiftAmount;
+            } else if (rule instanceof Asm32bitFieldRule) {
+                fieldShifts[fieldIndex] = shiftAmount;
+                fieldMasks[fieldIndex] = (int) bitsMask;
+                fieldIndex++;
+            }
+
+            startIndex += numBits;
+        }
+
+        this.mask = mask;
+        this.match = match;
     }
 
     private int[] buildFieldsIndexes(List<Asm32bitRule> rules, Map<String, Integer> fieldsMap) {
@@ -65,6 +102,66 @@ public class Asm32bitParser {
         return fieldIndexes;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return the bits of the instruction that are fixed by this format
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * @return the values the bits in {@link #getMask()} must have for an instruction to belong to this format
+     */
+    public long getMatch() {
+        return match;
+    }
+
+    /**
+     * @return the size of the arrays returned by {@link #parse(long)}
+     */
+    public int getDecodedSize() {
+        return 1 + numFields;
+    }
+
+    /**
+     *
+     * @param instruction a 32-bit instruction
+     * @return true if the instruction belongs to this format
+     */
+    public boolean matches(long instruction) {
+        return (instruction & mask) == match;
+    }
+
+    /**
+     * Extracts the fields of an instruction that belongs to this format, without allocating.
+     *
+     * <p>
+     * Writes the same values {@link #parse(long)} returns to the first {@link #getDecodedSize()} positions of the
+     * given array. Does not check if the instruction matches the format, see {@link #matches(long)}.
+     *
+     * @param instruction a 32-bit instruction
+     * @param decoded     array where the format id and the fields are written
+     */
+    public void decode(long instruction, int[] decoded) {
+        decoded[0] = id;
+        Arrays.fill(decoded, 1, 1 + numFields, 0);
+
+        for (int i = 0; i < fieldShifts.length; i++) {
+            decoded[fieldIndexes[i]] = (int) (instruction >>> fieldShifts[i]) & fieldMasks[i];
+        }
+    }
+
+    /**
+     * Decodes the instruction by applying each rule in order.
+     *
+     * @param instruction a 32-bit instruction
+     * @return an array with the format id followed by the fields, or null if the instruction does not belong to this
+     *         format
+     */
     public int[] parse(long instruction) {
 
         // First element contains instruction format id
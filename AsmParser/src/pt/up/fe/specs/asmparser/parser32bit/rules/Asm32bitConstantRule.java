@@ -30,6 +30,15 @@ public class Asm32bitConstantRule implements Asm32bitRule {
         // System.out.println("Num bits: " + numBits + "; Mask: " + Long.toBinaryString(mask));
     }
 
+    public long getLiteral() {
+        return literal;
+    }
+
+    @Override
+    public int getNumBits() {
+        return numBits;
+    }
+
     @Override
     public Asm32bitResult parse(long asm, int startIndex) {
 
@@ -32,6 +32,11 @@ public class Asm32bitFieldRule implements Asm32bitRule {
         return field;
     }
 
+    @Override
+    public int getNumBits() {
+        return numBits;
+    }
+
     @Override
     public Asm32bitResult parse(long asm, int startIndex) {
 
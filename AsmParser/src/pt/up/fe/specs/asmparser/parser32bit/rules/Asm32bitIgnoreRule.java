@@ -23,6 +23,11 @@ public class Asm32bitIgnoreRule implements Asm32bitRule {
         this.numBits = numBits;
     }
 
+    @Override
+    public int getNumBits() {
+        return numBits;
+    }
+
     @Override
     public Asm32bitResult parse(long asm, int startIndex) {
 
@@ -19,6 +19,11 @@ public interface Asm32bitRule {
 
     Asm32bitResult parse(long asm, int startIndex);
 
+    /**
+     * @return the number of bits of the instruction this rule consumes
+     */
+    int getNumBits();
+
 //    default boolean hasValue() {
 //        return false;
 //    }
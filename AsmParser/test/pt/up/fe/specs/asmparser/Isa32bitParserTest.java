@@ -0,0 +1,117 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.asmparser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.SpecsIo;
+
+public class Isa32bitParserTest {
+
+    private static final String ISA = "pt/up/fe/specs/binarytranslation/asm/parsing/asm_test.json";
+
+    private static Isa32bitParser newParser() {
+        return Isa32bitParser.newInstance(SpecsIo.getResource(() -> ISA));
+    }
+
+    @Test
+    public void testDecode() {
+        var parser = newParser();
+
+        // 0110_xx_registerd(5)_1000_opcode(1)_0_imm(15)
+        var format1 = Long.parseLong("01100011111100010010101010101101", 2);
+        // 100101_0_opcode(1)_000_registerd(5)_11_registera(14)
+        var format0 = Long.parseLong("10010101000000111100000000000101", 2);
+
+        assertArrayEquals(new int[] { 1, 31, 0, 1, 10925 }, parser.parse(format1));
+        assertArrayEquals(new int[] { 0, 3, 5, 1, 0 }, parser.parse(format0));
+
+        // Reused array, fields that are not part of the format are cleared
+        var decoded = parser.newDecodedArray();
+        assertEquals(5, decoded.length);
+
+        assertTrue(parser.decode(format1, decoded));
+        assertArrayEquals(new int[] { 1, 31, 0, 1, 10925 }, decoded);
+
+        assertTrue(parser.decode(format0, decoded));
+        assertArrayEquals(new int[] { 0, 3, 5, 1, 0 }, decoded);
+
+        assertFalse(parser.decode(0, decoded));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testParseInvalid() {
+        newParser().parse(0);
+    }
+
+    @Test
+    public void testSameAsLinear() {
+        var parser = Isa32bitParser.newInstance("{\"fields\": [\"a\", \"b\", \"c\"], \"formats\": ["
+                + "\"0000_a(8)_x(20)\", "
+                + "\"00_a(4)_1_b(5)_0101_c(16)\", "
+                + "\"0_x(3)_10_b(8)_11_a(16)\", "
+                + "\"1_a(15)_c(8)_0000_1111\", "
+                + "\"x(8)_00000000_b(16)\"]}");
+
+        var decoded = parser.newDecodedArray();
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            // Bias the top and bottom bits towards zero, to hit the formats with more constants
+            var instruction = random.nextInt() & 0xFFFFFFFFL;
+            if (i % 2 == 0) {
+                instruction &= 0x0F0FFFF0L;
+            }
+
+            int[] expected;
+            try {
+                expected = parser.parseLinear(instruction);
+            } catch (RuntimeException e) {
+                expected = null;
+            }
+
+            if (expected == null) {
+                assertFalse(parser.decode(instruction, decoded));
+                continue;
+            }
+
+            assertTrue(parser.decode(instruction, decoded));
+            assertArrayEquals(expected, decoded);
+        }
+    }
+
+    @Test
+    public void testFirstFormatWins() {
+        // Both formats accept instructions starting with 1111
+        var parser = Isa32bitParser.newInstance("{\"fields\": [\"a\"], \"formats\": ["
+                + "\"1111_a(28)\", \"11_x(30)\"]}");
+
+        assertEquals(0, parser.parse(0xF0000001L)[0]);
+        assertEquals(1, parser.parse(0xC0000001L)[0]);
+        assertNull(decodeOrNull(parser, 0x40000000L));
+    }
+
+    private static int[] decodeOrNull(Isa32bitParser parser, long instruction) {
+        var decoded = parser.newDecodedArray();
+        return parser.decode(instruction, decoded) ? decoded : null;
+    }
+}
@@ -26,6 +26,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -33,6 +39,8 @@ import com.google.gson.Gson;
 
 import pt.up.fe.specs.gprofer.data.GprofData;
 import pt.up.fe.specs.gprofer.data.GprofLine;
+import pt.up.fe.specs.gprofer.data.GprofRuns;
+import pt.up.fe.specs.gprofer.gmon.GmonAggregator;
 import pt.up.fe.specs.util.SpecsIo;
 import pt.up.fe.specs.util.SpecsLogs;
 import pt.up.fe.specs.util.SpecsSystem;
@@ -44,6 +52,12 @@ import pt.up.fe.specs.util.utilities.LineStream;
 
 /**
  * Utility class for profiling binaries using gprof and parsing the results.
+ *
+ * <p>
+ * By default, the gmon files are merged and reported with the gprof executable. Optionally, the gmon files of ELF
+ * binaries can be read and merged directly (see {@link #summarize(File, List)}), which does not need gprof but
+ * reports names without demangling, per-call times always in milliseconds, and static functions that share a name
+ * as a single function.
  */
 public class Gprofer {
 
@@ -68,6 +82,21 @@ public class Gprofer {
         return parseGprof(SpecsIo.toInputStream(textProfile));
     }
 
+    /**
+     * Summarizes gmon files produced by runs of the given binary, without calling gprof (see {@link GmonAggregator}).
+     *
+     * @param binary the ELF binary that produced the gmon files
+     * @param gmons the gmon files to merge
+     * @return a GprofData object containing the merged profile
+     */
+    public static GprofData summarize(File binary, List<File> gmons) {
+        GmonAggregator aggregator = GmonAggregator.newInstance(binary);
+        for (File gmon : gmons) {
+            aggregator.add(gmon);
+        }
+        return aggregator.getData();
+    }
+
     /**
      * Profiles the given binary using gprof in a temporary directory.
      *
@@ -118,6 +147,24 @@ public class Gprofer {
      */
     public static GprofData profile(File binary, List<String> args, int numRuns, File workingDir,
             boolean deleteWorkingDir, boolean checkReturn) {
+        return profile(binary, args, numRuns, workingDir, deleteWorkingDir, checkReturn, false);
+    }
+
+    /**
+     * Profiles the given binary in the provided directory.
+     *
+     * @param binary the binary file to profile
+     * @param args arguments to pass to the binary
+     * @param numRuns number of times to run the binary
+     * @param workingDir the working directory to use
+     * @param deleteWorkingDir whether to delete the working directory after profiling
+     * @param checkReturn whether to check the return code of the process
+     * @param readGmons whether to read and merge the gmon files directly instead of using gprof, falls back to gprof
+     *            if the binary is not an ELF binary
+     * @return a GprofData object containing the profiling results
+     */
+    public static GprofData profile(File binary, List<String> args, int numRuns, File workingDir,
+            boolean deleteWorkingDir, boolean checkReturn, boolean readGmons) {
         if (!binary.exists()) {
             throw new RuntimeException("Could not locate the binary \"" + binary + "\".");
         }
@@ -130,16 +177,258 @@ public class Gprofer {
         if (deleteWorkingDir) {
             filesToDelete.add(workingDir);
         }
+        GmonAggregator aggregator = readGmons ? newAggregator(binary) : null;
         while (currentRun < numRuns) {
             runBinary(binary, args, workingDir, checkReturn);
-            makeGmon(currentRun, workingDir, filesToDelete, gmons);
+            if (aggregator != null) {
+                addGmon(aggregator, new File(workingDir, "gmon.out"));
+            } else {
+                makeGmon(currentRun, workingDir, filesToDelete, gmons);
+            }
             currentRun++;
         }
-        GprofData data = summarizeGmons(binary, workingDir, gmons, filesToDelete);
+        GprofData data = aggregator != null ? aggregator.getData()
+                : summarizeGmons(binary, workingDir, gmons, filesToDelete);
         deleteTempFiles(filesToDelete);
         return data;
     }
 
+    /**
+     * Profiles the given binary using gprof in a temporary directory, executing several runs at the same time.
+     *
+     * @param binary the binary file to profile
+     * @param args arguments to pass to the binary
+     * @param numRuns number of times to run the binary
+     * @param numThreads maximum number of runs executing at the same time
+     * @return the profiling results merged from all runs, and the time of each run
+     */
+    public static GprofRuns profileParallel(File binary, List<String> args, int numRuns, int numThreads) {
+        File workingDir = SpecsIo.mkdir(
+                SpecsIo.getTempFolder(),
+                "gprofer_" + UUID.randomUUID().toString());
+        boolean deleteWorkingDir = true;
+        boolean checkReturn = true;
+        return profileParallel(binary, args, numRuns, numThreads, workingDir, deleteWorkingDir, checkReturn);
+    }
+
+    /**
+     * Profiles the given binary using gprof in the provided directory, executing several runs at the same time.
+     *
+     * <p>
+     * Since gmon.out is always written to the current directory of the process, each run executes in its own folder
+     * inside the working directory ('run_0', 'run_1', ...). The gmon files are merged as the runs finish, while the
+     * other runs are still executing.
+     *
+     * @param binary the binary file to profile
+     * @param args arguments to pass to the binary
+     * @param numRuns number of times to run the binary
+     * @param numThreads maximum number of runs executing at the same time
+     * @param workingDir the working directory to use
+     * @param deleteWorkingDir whether to delete the working directory after profiling
+     * @param checkReturn whether to check the return code of the process
+     * @return the profiling results merged from all runs, and the time of each run
+     */
+    public static GprofRuns profileParallel(File binary, List<String> args, int numRuns, int numThreads,
+            File workingDir, boolean deleteWorkingDir, boolean checkReturn) {
+        return profileParallel(binary, args, numRuns, numThreads, workingDir, deleteWorkingDir, checkReturn, false);
+    }
+
+    /**
+     * Profiles the given binary in the provided directory, executing several runs at the same time.
+     *
+     * @param binary the binary file to profile
+     * @param args arguments to pass to the binary
+     * @param numRuns number of times to run the binary
+     * @param numThreads maximum number of runs executing at the same time
+     * @param workingDir the working directory to use
+     * @param deleteWorkingDir whether to delete the working directory after profiling
+     * @param checkReturn whether to check the return code of the process
+     * @param readGmons whether to read and merge the gmon files directly instead of using gprof, falls back to gprof
+     *            if the binary is not an ELF binary
+     * @return the profiling results merged from all runs, and the time of each run
+     */
+    public static GprofRuns profileParallel(File binary, List<String> args, int numRuns, int numThreads,
+            File workingDir, boolean deleteWorkingDir, boolean checkReturn, boolean readGmons) {
+        if (!binary.exists()) {
+            throw new RuntimeException("Could not locate the binary \"" + binary + "\".");
+        }
+        if (!workingDir.exists()) {
+            throw new RuntimeException("Could not locate the working directory \"" + workingDir + "\".");
+        }
+        if (numRuns < 1) {
+            throw new RuntimeException("Expected at least one run, got " + numRuns);
+        }
+        if (numThreads < 1) {
+            throw new RuntimeException("Expected at least one thread, got " + numThreads);
+        }
+        long start = System.nanoTime();
+        List<File> filesToDelete = new ArrayList<>();
+        if (deleteWorkingDir) {
+            filesToDelete.add(workingDir);
+        }
+        GmonAggregator aggregator = readGmons ? newAggregator(binary) : null;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(numThreads, numRuns));
+        try {
+            CompletionService<GmonRun> runs = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < numRuns; i++) {
+                int run = i;
+                runs.submit(() -> profileRun(binary, args, run, workingDir, checkReturn));
+            }
+            Long[] runTimes = new Long[numRuns];
+            int finishedRuns = 0;
+            GprofData data = null;
+            while (finishedRuns < numRuns) {
+                // Wait for a run, and merge it together with the runs that finished in the meantime
+                List<GmonRun> finished = new ArrayList<>();
+                finished.add(getRun(runs.take()));
+                Future<GmonRun> next;
+                while ((next = runs.poll()) != null) {
+                    finished.add(getRun(next));
+                }
+                for (GmonRun run : finished) {
+                    runTimes[run.index()] = run.time();
+                }
+                finishedRuns += finished.size();
+                if (aggregator != null) {
+                    for (GmonRun run : finished) {
+                        addGmon(aggregator, run.gmon());
+                    }
+                } else {
+                    data = mergeWithGprof(binary, workingDir, finished, finishedRuns == numRuns, filesToDelete);
+                }
+            }
+            if (aggregator != null) {
+                data = aggregator.getData();
+            }
+            return new GprofRuns(data, List.of(runTimes), System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while profiling the binary \"" + binary + "\".", e);
+        } finally {
+            executor.shutdownNow();
+            deleteTempFiles(filesToDelete);
+        }
+    }
+
+    /**
+     * Creates an aggregator for the gmon files of the binary.
+     *
+     * @param binary the binary file
+     * @return the aggregator, or null if the symbols of the binary cannot be read and gprof must be used instead
+     */
+    private static GmonAggregator newAggregator(File binary) {
+        try {
+            return GmonAggregator.newInstance(binary);
+        } catch (RuntimeException e) {
+            SpecsLogs.debug(() -> "Could not read the symbols of \"" + binary + "\", using gprof: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Merges a gmon file into the aggregator, and deletes the file.
+     *
+     * @param aggregator the aggregator
+     * @param gmon the gmon file of a run
+     */
+    private static void addGmon(GmonAggregator aggregator, File gmon) {
+        if (!gmon.isFile()) {
+            throw new RuntimeException("Could not find file '" + gmon + "'");
+        }
+        aggregator.add(gmon);
+        gmon.delete();
+    }
+
+    /**
+     * Runs the binary once in its own folder inside the working directory.
+     *
+     * @param binary the binary file
+     * @param args arguments to pass to the binary
+     * @param run the index of the run
+     * @param workingDir the working directory
+     * @param checkReturn whether to check the return code of the process
+     * @return the gmon file of the run and its wall time
+     */
+    private static GmonRun profileRun(File binary, List<String> args, int run, File workingDir,
+            boolean checkReturn) {
+        File runDir = SpecsIo.mkdir(workingDir, "run_" + run);
+        long start = System.nanoTime();
+        runBinary(binary, args, runDir, checkReturn);
+        long time = System.nanoTime() - start;
+        File gmon = new File(runDir, "gmon.out");
+        if (!gmon.isFile()) {
+            throw new RuntimeException("Could not find file '" + gmon + "'");
+        }
+        return new GmonRun(run, gmon, time);
+    }
+
+    /**
+     * Returns the result of a finished run, rethrowing the exception if the run failed.
+     *
+     * @param future the future of the run
+     * @return the gmon file of the run and its wall time
+     */
+    private static GmonRun getRun(Future<GmonRun> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Could not profile the binary", e.getCause());
+        }
+    }
+
+    /**
+     * Merges the gmon files of finished runs into the file gmon.sum of the working directory, using gprof.
+     *
+     * @param binary the binary file
+     * @param workingDir the working directory
+     * @param finished the runs that finished since the last merge
+     * @param last whether these are the last runs, in which case the profile is also reported
+     * @param filesToDelete files to delete after processing
+     * @return the profile of all runs if these are the last runs, null otherwise
+     */
+    private static GprofData mergeWithGprof(File binary, File workingDir, List<GmonRun> finished, boolean last,
+            List<File> filesToDelete) {
+        List<File> gmons = new ArrayList<>();
+        File gmonSum = new File(workingDir, "gmon.sum");
+        if (gmonSum.isFile()) {
+            gmons.add(gmonSum);
+        }
+        finished.stream().map(GmonRun::gmon).forEach(gmons::add);
+        GprofData data = null;
+        if (last) {
+            data = summarizeGmons(binary, workingDir, gmons, filesToDelete);
+        } else {
+            mergeGmons(binary, workingDir, gmons);
+        }
+        for (GmonRun run : finished) {
+            run.gmon().delete();
+        }
+        return data;
+    }
+
+    /**
+     * Merges the gmon files into the file gmon.sum of the working directory.
+     *
+     * @param binary the binary file
+     * @param workingDir the working directory
+     * @param gmons the list of gmon files, which can include gmon.sum itself
+     */
+    private static void mergeGmons(File binary, File workingDir, List<File> gmons) {
+        List<String> command = new ArrayList<>();
+        command.add("gprof");
+        command.add("-bp");
+        command.add("-s");
+        command.add(binary.getAbsolutePath());
+        gmons.stream().map(File::getAbsolutePath).forEach(command::add);
+        ProcessOutputAsString result = SpecsSystem.runProcess(command, workingDir, true, false);
+        if (result.isError()) {
+            throw new RuntimeException("Could not merge the gmon files " + gmons + ": " + result.getStdErr());
+        }
+    }
+
     /**
      * Summarizes the gmon files into a single GprofData object.
      *
@@ -318,4 +607,10 @@ public class Gprofer {
         }
         return Optional.empty();
     }
+
+    /**
+     * The gmon file produced by a run, and the wall time of the run in nanoseconds.
+     */
+    private record GmonRun(int index, File gmon, long time) {
+    }
 }
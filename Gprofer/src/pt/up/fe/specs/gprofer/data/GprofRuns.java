@@ -0,0 +1,67 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.gprofer.data;
+
+import java.util.List;
+
+/**
+ * Result of a profiling session with several runs: the merged profiling data and the wall time of each run.
+ */
+public class GprofRuns {
+
+    private final GprofData data;
+    private final List<Long> runTimes;
+    private final long totalTime;
+
+    /**
+     * Constructs a GprofRuns object with the given data and times.
+     *
+     * @param data the profiling data, merged from all runs
+     * @param runTimes the wall time of each run in nanoseconds, in order of run index
+     * @param totalTime the wall time of the whole session in nanoseconds, including merging the results
+     */
+    public GprofRuns(GprofData data, List<Long> runTimes, long totalTime) {
+        this.data = data;
+        this.runTimes = runTimes;
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * Returns the profiling data, merged from all runs.
+     *
+     * @return a GprofData object
+     */
+    public GprofData getData() {
+        return data;
+    }
+
+    /**
+     * Returns the wall time of each run, in nanoseconds.
+     *
+     * @return a list where the element at index i is the time of run i
+     */
+    public List<Long> getRunTimes() {
+        return runTimes;
+    }
+
+    /**
+     * Returns the wall time of the whole session, in nanoseconds.
+     *
+     * @return the total time
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+}
@@ -0,0 +1,472 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.gprofer.gmon;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Function symbols of an ELF binary, selected and sorted the same way gprof does.
+ *
+ * <p>
+ * Symbols are read from the section .symtab, or from .dynsym if the binary is stripped. Global and weak symbols
+ * defined in code are kept, as well as static functions, except the ones whose names look like labels or
+ * compiler-generated clones. When several symbols have the same address, only one is kept (global before static, then
+ * names with fewer leading underscores). Each symbol spans until the address of the next one.
+ */
+public class ElfSymbols {
+
+    private static final int EI_CLASS = 4;
+    private static final int EI_DATA = 5;
+    private static final int ELFCLASS64 = 2;
+    private static final int ELFDATA2MSB = 2;
+
+    private static final int SHT_SYMTAB = 2;
+    private static final int SHT_DYNSYM = 11;
+    private static final long SHF_EXECINSTR = 0x4;
+
+    private static final int SHN_UNDEF = 0;
+    private static final int SHN_LORESERVE = 0xff00;
+    private static final int SHN_COMMON = 0xfff2;
+
+    private static final int STB_LOCAL = 0;
+    private static final int STB_GLOBAL = 1;
+    private static final int STB_WEAK = 2;
+
+    private static final int STT_OBJECT = 1;
+    private static final int STT_FUNC = 2;
+    private static final int STT_SECTION = 3;
+    private static final int STT_FILE = 4;
+    private static final int STT_GNU_IFUNC = 10;
+
+    /**
+     * Section names that are classified by their prefix, and whether they contain code. A prefix matches if it is
+     * followed by the end of the name, a '.', a '$' or a digit.
+     */
+    private static final String[][] NAMED_SECTIONS = {
+            { ".bss", "" }, { "code", "t" }, { ".data", "" }, { "*DEBUG*", "" }, { ".debug", "" },
+            { ".drectve", "" }, { ".edata", "" }, { ".fini", "t" }, { ".idata", "" }, { ".init", "t" },
+            { ".pdata", "" }, { ".rdata", "" }, { ".rodata", "" }, { ".sbss", "" }, { ".scommon", "" },
+            { ".sdata", "" }, { ".text", "t" }, { "vars", "" }, { "zerovars", "" } };
+
+    private final ByteOrder byteOrder;
+    private final int addressSize;
+    private final long[] addresses;
+    private final long[] endAddresses;
+    private final String[] names;
+    private final boolean[] functions;
+
+    private ElfSymbols(ByteOrder byteOrder, int addressSize, List<Symbol> symbols, long textEnd) {
+        this.byteOrder = byteOrder;
+        this.addressSize = addressSize;
+
+        int size = symbols.size();
+        this.addresses = new long[size];
+        this.endAddresses = new long[size];
+        this.names = new String[size];
+        this.functions = new boolean[size];
+
+        for (int i = 0; i < size; i++) {
+            Symbol symbol = symbols.get(i);
+            addresses[i] = symbol.address();
+            endAddresses[i] = i + 1 < size ? symbols.get(i + 1).address() - 1 : textEnd;
+            names[i] = symbol.name();
+            functions[i] = symbol.function();
+        }
+    }
+
+    /**
+     * Reads the function symbols of the given ELF binary.
+     *
+     * @param binary an ELF executable or shared library
+     * @return the symbols of the binary, sorted by address
+     */
+    public static ElfSymbols read(File binary) {
+        try (FileChannel channel = FileChannel.open(binary.toPath(), StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read the binary '" + binary + "'", e);
+        }
+    }
+
+    /**
+     * Reads the function symbols of an ELF binary.
+     *
+     * @param elf the contents of the binary
+     * @return the symbols of the binary, sorted by address
+     */
+    public static ElfSymbols read(ByteBuffer elf) {
+        if (elf.limit() < 16 || elf.get(0) != 0x7f || elf.get(1) != 'E' || elf.get(2) != 'L' || elf.get(3) != 'F') {
+            throw new RuntimeException("Not an ELF binary");
+        }
+
+        boolean is64 = elf.get(EI_CLASS) == ELFCLASS64;
+        ByteOrder byteOrder = elf.get(EI_DATA) == ELFDATA2MSB ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        ByteBuffer buffer = elf.duplicate().order(byteOrder);
+
+        // Section header table
+        long sectionsOffset = is64 ? buffer.getLong(0x28) : Integer.toUnsignedLong(buffer.getInt(0x20));
+        int sectionSize = Short.toUnsignedInt(buffer.getShort(is64 ? 0x3A : 0x2E));
+        int numSections = Short.toUnsignedInt(buffer.getShort(is64 ? 0x3C : 0x30));
+        int namesIndex = Short.toUnsignedInt(buffer.getShort(is64 ? 0x3E : 0x32));
+
+        Section[] sections = new Section[numSections];
+        for (int i = 0; i < numSections; i++) {
+            sections[i] = Section.read(buffer, Math.toIntExact(sectionsOffset + (long) i * sectionSize), is64);
+        }
+
+        String[] sectionNames = new String[numSections];
+        for (int i = 0; i < numSections; i++) {
+            sectionNames[i] = namesIndex < numSections ? getString(buffer, sections[namesIndex], sections[i].name())
+                    : "";
+        }
+
+        // Prefer the full symbol table, the dynamic one only has exported symbols
+        Section symtab = findSection(sections, SHT_SYMTAB);
+        if (symtab == null) {
+            symtab = findSection(sections, SHT_DYNSYM);
+        }
+        if (symtab == null) {
+            throw new RuntimeException("ELF binary has no symbol table");
+        }
+
+        long textEnd = 0;
+        for (int i = 0; i < numSections; i++) {
+            if (sectionNames[i].equals(".text")) {
+                textEnd = sections[i].address() + sections[i].size() - 1;
+            }
+        }
+
+        List<Symbol> symbols = readSymbols(buffer, symtab, sections[symtab.link()], sections, sectionNames, is64);
+
+        // Stable sort, symbols with the same address keep the order of the symbol table
+        symbols.sort(Comparator.comparing(Symbol::address, Long::compareUnsigned));
+
+        List<Symbol> uniqueSymbols = new ArrayList<>(symbols.size());
+        for (Symbol symbol : symbols) {
+            int last = uniqueSymbols.size() - 1;
+            if (last < 0 || uniqueSymbols.get(last).address() != symbol.address()) {
+                uniqueSymbols.add(symbol);
+                continue;
+            }
+
+            Symbol previous = uniqueSymbols.get(last);
+            if ((!symbol.isStatic() && previous.isStatic())
+                    || (symbol.isStatic() == previous.isStatic() && hasFewerUnderscores(symbol, previous))) {
+                uniqueSymbols.set(last, symbol);
+            }
+        }
+
+        return new ElfSymbols(byteOrder, is64 ? 8 : 4, uniqueSymbols, textEnd);
+    }
+
+    /**
+     * Tests if the first symbol has no leading underscore and the second has, or if the first starts with a single
+     * underscore and the second with two.
+     */
+    private static boolean hasFewerUnderscores(Symbol symbol, Symbol other) {
+        String name = symbol.name();
+        String otherName = other.name();
+        if (!name.startsWith("_")) {
+            return otherName.startsWith("_");
+        }
+
+        return !name.startsWith("__") && otherName.startsWith("__");
+    }
+
+    private static List<Symbol> readSymbols(ByteBuffer buffer, Section symtab, Section strtab, Section[] sections,
+            String[] sectionNames, boolean is64) {
+
+        int entrySize = is64 ? 24 : 16;
+        int numSymbols = Math.toIntExact(symtab.size() / entrySize);
+
+        // If there are function symbols, only those can be the target of calls
+        boolean hasFunctions = false;
+        List<Symbol> symbols = new ArrayList<>();
+
+        // First symbol is always undefined
+        for (int i = 1; i < numSymbols; i++) {
+            int offset = Math.toIntExact(symtab.offset() + (long) i * entrySize);
+
+            int name = buffer.getInt(offset);
+            long value;
+            int info;
+            int sectionIndex;
+            if (is64) {
+                info = Byte.toUnsignedInt(buffer.get(offset + 4));
+                sectionIndex = Short.toUnsignedInt(buffer.getShort(offset + 6));
+                value = buffer.getLong(offset + 8);
+            } else {
+                value = Integer.toUnsignedLong(buffer.getInt(offset + 4));
+                info = Byte.toUnsignedInt(buffer.get(offset + 12));
+                sectionIndex = Short.toUnsignedInt(buffer.getShort(offset + 14));
+            }
+
+            int type = info & 0xf;
+            int binding = info >> 4;
+
+            hasFunctions |= type == STT_FUNC;
+
+            if (!isCandidate(type, binding, sectionIndex, sections, sectionNames)) {
+                continue;
+            }
+
+            String symbolName = getString(buffer, strtab, name);
+            boolean isStatic = binding == STB_LOCAL;
+            if (isStatic && !isStaticFunctionName(buffer, strtab, name, symbolName)) {
+                continue;
+            }
+
+            symbols.add(new Symbol(value, symbolName, isStatic, type == STT_FUNC));
+        }
+
+        if (!hasFunctions) {
+            symbols.replaceAll(symbol -> new Symbol(symbol.address(), symbol.name(), symbol.isStatic(), true));
+        }
+
+        return symbols;
+    }
+
+    /**
+     * Tests if a symbol is a global or weak symbol of any kind of code, or a local symbol in a code section.
+     */
+    private static boolean isCandidate(int type, int binding, int sectionIndex, Section[] sections,
+            String[] sectionNames) {
+
+        if (type == STT_SECTION || type == STT_FILE) {
+            return false;
+        }
+
+        if (sectionIndex == SHN_UNDEF || sectionIndex == SHN_COMMON || type == STT_GNU_IFUNC) {
+            return false;
+        }
+
+        // Weak symbols count as code, unless they are objects
+        if (binding == STB_WEAK) {
+            return type != STT_OBJECT;
+        }
+
+        if (binding != STB_GLOBAL && binding != STB_LOCAL) {
+            return false;
+        }
+
+        if (sectionIndex >= SHN_LORESERVE || sectionIndex >= sections.length) {
+            return false;
+        }
+
+        return isCode(sections[sectionIndex], sectionNames[sectionIndex]);
+    }
+
+    private static boolean isCode(Section section, String name) {
+        for (String[] namedSection : NAMED_SECTIONS) {
+            String prefix = namedSection[0];
+            if (!name.startsWith(prefix)) {
+                continue;
+            }
+
+            if (name.length() == prefix.length() || ".$0123456789".indexOf(name.charAt(prefix.length())) != -1) {
+                return !namedSection[1].isEmpty();
+            }
+        }
+
+        return (section.flags() & SHF_EXECINSTR) != 0;
+    }
+
+    /**
+     * Static names with '$' or '.' are usually labels, except for nested functions ('.NNN') and clones ('.clone.NNN',
+     * '.constprop.NNN').
+     *
+     * <p>
+     * The check is done on the string table itself: when a name ends with a numbered suffix, gprof also checks the
+     * names that follow it in the table, and this does the same so that both report the same functions.
+     */
+    private static boolean isStaticFunctionName(ByteBuffer buffer, Section strtab, int nameIndex, String name) {
+        if (name.isEmpty() || name.startsWith("__gnu_compiled") || name.startsWith("___gnu_compiled")) {
+            return false;
+        }
+
+        int end = Math.toIntExact(strtab.offset() + strtab.size());
+        int i = Math.toIntExact(strtab.offset() + Integer.toUnsignedLong(nameIndex));
+        for (; i < end && buffer.get(i) != 0; i++) {
+            if (buffer.get(i) == '$') {
+                return false;
+            }
+
+            while (i < end && buffer.get(i) == '.') {
+                if (startsWith(buffer, i, end, ".clone.")) {
+                    i += ".clone.".length() - 1;
+                } else if (startsWith(buffer, i, end, ".constprop.")) {
+                    i += ".constprop.".length() - 1;
+                }
+
+                // Suffix must be digits, possibly followed by another suffix
+                boolean digitSeen = false;
+                for (i++; i < end && buffer.get(i) != 0; i++) {
+                    byte c = buffer.get(i);
+                    if (digitSeen && c == '.') {
+                        break;
+                    }
+                    if (c < '0' || c > '9') {
+                        return false;
+                    }
+                    digitSeen = true;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Tests if the string at the given position starts with the prefix, and is longer than it.
+     */
+    private static boolean startsWith(ByteBuffer buffer, int position, int end, String prefix) {
+        for (int i = 0; i <= prefix.length(); i++) {
+            if (position + i >= end || buffer.get(position + i) == 0) {
+                return false;
+            }
+            if (i < prefix.length() && buffer.get(position + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Section findSection(Section[] sections, int type) {
+        for (Section section : sections) {
+            if (section.type() == type) {
+                return section;
+            }
+        }
+
+        return null;
+    }
+
+    private static String getString(ByteBuffer buffer, Section strtab, int index) {
+        int start = Math.toIntExact(strtab.offset() + Integer.toUnsignedLong(index));
+        int end = start;
+        while (buffer.get(end) != 0) {
+            end++;
+        }
+
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the byte order of the binary, which is also the byte order of its gmon files
+     */
+    public ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+    /**
+     * @return the size of an address in the binary, in bytes
+     */
+    public int getAddressSize() {
+        return addressSize;
+    }
+
+    /**
+     * @return the number of symbols
+     */
+    public int getNumSymbols() {
+        return addresses.length;
+    }
+
+    /**
+     * @param index the index of a symbol, in order of address
+     * @return the start address of the symbol
+     */
+    public long getAddress(int index) {
+        return addresses[index];
+    }
+
+    /**
+     * @param index the index of a symbol, in order of address
+     * @return the last address of the symbol, which is the address before the next symbol
+     */
+    public long getEndAddress(int index) {
+        return endAddresses[index];
+    }
+
+    /**
+     * @param index the index of a symbol, in order of address
+     * @return the name of the symbol
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * @param index the index of a symbol, in order of address
+     * @return true if the symbol is a function, and can be the target of a call
+     */
+    public boolean isFunction(int index) {
+        return functions[index];
+    }
+
+    /**
+     * Finds the symbol that contains the given address.
+     *
+     * @param address an address of the binary
+     * @return the index of the symbol, or -1 if no symbol contains the address
+     */
+    public int find(long address) {
+        int low = 0;
+        int high = addresses.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(address, addresses[mid]) < 0) {
+                high = mid - 1;
+            } else if (Long.compareUnsigned(address, endAddresses[mid]) > 0) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    private record Section(int name, int type, long flags, long address, long offset, long size, int link) {
+
+        static Section read(ByteBuffer buffer, int offset, boolean is64) {
+            if (is64) {
+                return new Section(buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getLong(offset + 8),
+                        buffer.getLong(offset + 16), buffer.getLong(offset + 24), buffer.getLong(offset + 32),
+                        buffer.getInt(offset + 40));
+            }
+
+            return new Section(buffer.getInt(offset), buffer.getInt(offset + 4),
+                    Integer.toUnsignedLong(buffer.getInt(offset + 8)),
+                    Integer.toUnsignedLong(buffer.getInt(offset + 12)),
+                    Integer.toUnsignedLong(buffer.getInt(offset + 16)),
+                    Integer.toUnsignedLong(buffer.getInt(offset + 20)), buffer.getInt(offset + 24));
+        }
+    }
+
+    private record Symbol(long address, String name, boolean isStatic, boolean function) {
+    }
+}
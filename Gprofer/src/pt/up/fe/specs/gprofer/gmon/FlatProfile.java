@@ -0,0 +1,379 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.gprofer.gmon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import pt.up.fe.specs.gprofer.data.GprofData;
+import pt.up.fe.specs.gprofer.data.GprofLine;
+
+/**
+ * Computes the flat profile of merged gmon data, the same way gprof does.
+ *
+ * <p>
+ * The samples of each histogram bin are split among the symbols that overlap the bin, in proportion to the overlap.
+ * Calls are counted per called function, without recursive calls of a function to itself. To compute the total time
+ * per call, the time of each function is propagated to its callers in proportion to the number of calls, from the
+ * leaves of the call graph up. Functions that call each other form a cycle, which its callers see as a single
+ * function.
+ */
+class FlatProfile {
+
+    // Histogram addresses are in units of 2 bytes
+    private static final int UNIT = 2;
+
+    private static final double MILLISECONDS = 1000.0;
+
+    // Functions of the profiler itself, which are not reported
+    private static final Set<String> EXCLUDED = Set.of("_gprof_mcount", "mcount", "_mcount", "__mcount",
+            "__mcount_internal", "__mcleanup");
+
+    private final ElfSymbols symbols;
+    private final int numSymbols;
+    private final boolean[] excluded;
+
+    // Time of each symbol and of the functions it calls, in samples
+    private final double[] times;
+    private final double[] childTimes;
+    private final long[] calls;
+    private double totalTime;
+
+    // Arcs between symbols, with the sum of the counts of all call sites
+    private int[] arcParents;
+    private int[] arcChildren;
+    private long[] arcCounts;
+    private int numArcs;
+
+    private FlatProfile(ElfSymbols symbols) {
+        this.symbols = symbols;
+        this.numSymbols = symbols.getNumSymbols();
+        this.excluded = new boolean[numSymbols];
+        for (int i = 0; i < numSymbols; i++) {
+            excluded[i] = EXCLUDED.contains(symbols.getName(i));
+        }
+
+        this.times = new double[numSymbols];
+        this.childTimes = new double[numSymbols];
+        this.calls = new long[numSymbols];
+        this.totalTime = 0;
+    }
+
+    static GprofData build(GmonAggregator gmon) {
+        FlatProfile profile = new FlatProfile(gmon.getSymbols());
+
+        for (GmonHistogram histogram : gmon.getHistograms()) {
+            profile.assignSamples(histogram);
+        }
+
+        profile.tallyArcs(gmon);
+        profile.propagateTimes();
+
+        int rate = gmon.getHistograms().isEmpty() ? 0 : gmon.getHistograms().get(0).getRate();
+        return profile.getData(rate > 0 ? rate : 1);
+    }
+
+    private long getScaledAddress(int symbol) {
+        return Long.divideUnsigned(symbols.getAddress(symbol), UNIT);
+    }
+
+    private void assignSamples(GmonHistogram histogram) {
+        long[] counts = histogram.getCounts();
+        long lowPc = Long.divideUnsigned(histogram.getLowPc(), UNIT);
+        double scale = (double) Long.divideUnsigned(histogram.getHighPc() - histogram.getLowPc(), UNIT)
+                / counts.length;
+
+        // Bins and symbols are both sorted by address, the search for the symbols of a bin starts at the last symbol
+        // of the previous bin
+        int next = 1;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+
+            // Bin bounds are truncated, the same way gprof does
+            long binLowPc = lowPc + (long) (scale * i);
+            long binHighPc = lowPc + (long) (scale * (i + 1));
+            double time = counts[i];
+            totalTime += time;
+
+            for (int j = next - 1; j < numSymbols; next = ++j) {
+                long symbolLowPc = getScaledAddress(j);
+                long symbolHighPc = j + 1 < numSymbols ? getScaledAddress(j + 1)
+                        : Long.divideUnsigned(symbols.getEndAddress(j) + 1, UNIT);
+
+                if (binHighPc < symbolLowPc) {
+                    break;
+                }
+
+                if (binLowPc >= symbolHighPc) {
+                    continue;
+                }
+
+                long overlap = Math.min(binHighPc, symbolHighPc) - Math.max(binLowPc, symbolLowPc);
+                if (overlap <= 0) {
+                    continue;
+                }
+
+                double credit = overlap * time / scale;
+                if (excluded[j]) {
+                    totalTime -= credit;
+                } else {
+                    times[j] += credit;
+                }
+            }
+        }
+    }
+
+    private void tallyArcs(GmonAggregator gmon) {
+        arcParents = new int[gmon.getNumArcs()];
+        arcChildren = new int[gmon.getNumArcs()];
+        arcCounts = new long[gmon.getNumArcs()];
+
+        Map<Long, Integer> arcIndexes = new HashMap<>();
+        for (int i = 0; i < gmon.getNumArcs(); i++) {
+            int parent = symbols.find(gmon.getArcFromPc(i));
+            int child = symbols.find(gmon.getArcSelfPc(i));
+            if (parent < 0 || child < 0) {
+                continue;
+            }
+
+            // Calls go to the start of a function
+            while (child >= 0 && !symbols.isFunction(child)) {
+                child--;
+            }
+            if (child < 0) {
+                continue;
+            }
+
+            long count = gmon.getArcCount(i);
+            calls[child] += count;
+
+            int arc = arcIndexes.computeIfAbsent((long) parent * numSymbols + child, key -> numArcs++);
+            arcParents[arc] = parent;
+            arcChildren[arc] = child;
+            arcCounts[arc] += count;
+        }
+
+        // Calls of a function to itself are not counted
+        for (int arc = 0; arc < numArcs; arc++) {
+            if (arcParents[arc] == arcChildren[arc]) {
+                calls[arcParents[arc]] -= arcCounts[arc];
+            }
+        }
+    }
+
+    private void propagateTimes() {
+        // Arcs of each parent, arcs of symbol i are in the range [arcStarts[i], arcStarts[i + 1])
+        int[] arcStarts = new int[numSymbols + 1];
+        for (int arc = 0; arc < numArcs; arc++) {
+            arcStarts[arcParents[arc] + 1]++;
+        }
+        for (int i = 0; i < numSymbols; i++) {
+            arcStarts[i + 1] += arcStarts[i];
+        }
+        int[] childArcs = new int[numArcs];
+        int[] position = Arrays.copyOf(arcStarts, numSymbols);
+        for (int arc = 0; arc < numArcs; arc++) {
+            childArcs[position[arcParents[arc]]++] = arc;
+        }
+
+        List<int[]> components = getStronglyConnectedComponents(arcStarts, childArcs);
+
+        // Functions in a cycle are seen by callers outside the cycle as a single function
+        int[] cycles = new int[numSymbols];
+        Arrays.fill(cycles, -1);
+        List<int[]> cycleMembers = new ArrayList<>();
+        for (int[] component : components) {
+            if (component.length > 1) {
+                for (int member : component) {
+                    cycles[member] = cycleMembers.size();
+                }
+                cycleMembers.add(component);
+            }
+        }
+
+        double[] cycleTimes = new double[cycleMembers.size()];
+        double[] cycleChildTimes = new double[cycleMembers.size()];
+        long[] cycleCalls = new long[cycleMembers.size()];
+        for (int cycle = 0; cycle < cycleMembers.size(); cycle++) {
+            for (int member : cycleMembers.get(cycle)) {
+                if (!excluded[member]) {
+                    cycleTimes[cycle] += times[member];
+                }
+            }
+        }
+        for (int arc = 0; arc < numArcs; arc++) {
+            int cycle = cycles[arcChildren[arc]];
+            if (cycle >= 0 && cycles[arcParents[arc]] != cycle) {
+                cycleCalls[cycle] += arcCounts[arc];
+            }
+        }
+
+        // Components are in reverse topological order, callees come before their callers
+        for (int[] component : components) {
+            for (int parent : component) {
+                if (excluded[parent]) {
+                    continue;
+                }
+
+                for (int i = arcStarts[parent]; i < arcStarts[parent + 1]; i++) {
+                    int arc = childArcs[i];
+                    int child = arcChildren[arc];
+                    if (arcCounts[arc] == 0 || child == parent || excluded[child]) {
+                        continue;
+                    }
+
+                    double childTime;
+                    double childChildTime;
+                    long childCalls;
+                    int cycle = cycles[child];
+                    if (cycle >= 0) {
+                        if (cycle == cycles[parent]) {
+                            continue;
+                        }
+                        childTime = cycleTimes[cycle];
+                        childChildTime = cycleChildTimes[cycle];
+                        childCalls = cycleCalls[cycle];
+                    } else {
+                        childTime = times[child];
+                        childChildTime = childTimes[child];
+                        childCalls = calls[child];
+                    }
+
+                    if (childCalls == 0) {
+                        continue;
+                    }
+
+                    double fraction = (double) arcCounts[arc] / childCalls;
+                    double share = childTime * fraction + childChildTime * fraction;
+                    childTimes[parent] += share;
+                    if (cycles[parent] >= 0) {
+                        cycleChildTimes[cycles[parent]] += share;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tarjan's algorithm, without recursion.
+     *
+     * @return the strongly connected components of the call graph, in reverse topological order
+     */
+    private List<int[]> getStronglyConnectedComponents(int[] arcStarts, int[] childArcs) {
+        int[] indexes = new int[numSymbols];
+        Arrays.fill(indexes, -1);
+        int[] lowLinks = new int[numSymbols];
+        boolean[] onStack = new boolean[numSymbols];
+        int[] stack = new int[numSymbols];
+        int stackSize = 0;
+        // Symbols being visited, and the position of the next arc to visit of each one
+        int[] path = new int[numSymbols];
+        int[] nextArcs = new int[numSymbols];
+        int pathSize = 0;
+        int nextIndex = 0;
+
+        List<int[]> components = new ArrayList<>();
+        for (int root = 0; root < numSymbols; root++) {
+            if (indexes[root] != -1) {
+                continue;
+            }
+
+            indexes[root] = lowLinks[root] = nextIndex++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            path[pathSize] = root;
+            nextArcs[pathSize++] = arcStarts[root];
+
+            while (pathSize > 0) {
+                int node = path[pathSize - 1];
+                if (nextArcs[pathSize - 1] < arcStarts[node + 1]) {
+                    int child = arcChildren[childArcs[nextArcs[pathSize - 1]++]];
+                    if (indexes[child] == -1) {
+                        indexes[child] = lowLinks[child] = nextIndex++;
+                        stack[stackSize++] = child;
+                        onStack[child] = true;
+                        path[pathSize] = child;
+                        nextArcs[pathSize++] = arcStarts[child];
+                    } else if (onStack[child]) {
+                        lowLinks[node] = Math.min(lowLinks[node], indexes[child]);
+                    }
+                    continue;
+                }
+
+                pathSize--;
+                if (pathSize > 0) {
+                    int parent = path[pathSize - 1];
+                    lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[node]);
+                }
+
+                if (lowLinks[node] == indexes[node]) {
+                    int start = stackSize;
+                    do {
+                        start--;
+                        onStack[stack[start]] = false;
+                    } while (stack[start] != node);
+                    components.add(Arrays.copyOfRange(stack, start, stackSize));
+                    stackSize = start;
+                }
+            }
+        }
+
+        return components;
+    }
+
+    private GprofData getData(int rate) {
+        // Same order as gprof: more time first, then more calls, then by name
+        Comparator<Integer> order = Comparator.<Integer> comparingDouble(symbol -> times[symbol]).reversed()
+                .thenComparing(Comparator.<Integer> comparingLong(symbol -> calls[symbol]).reversed())
+                .thenComparing(symbols::getName);
+        List<Integer> sortedSymbols = IntStream.range(0, numSymbols)
+                .filter(symbol -> !excluded[symbol])
+                .boxed()
+                .sorted(order)
+                .toList();
+
+        // Static functions can have the same name, the one with more time is kept
+        Map<String, GprofLine> table = new LinkedHashMap<>();
+        double cumulativeTime = 0;
+        for (int symbol : sortedSymbols) {
+            double time = times[symbol];
+            cumulativeTime += time;
+
+            double percentage = totalTime > 0 ? 100 * time / totalTime : 0.0;
+            Integer numCalls = null;
+            Double selfMsCall = null;
+            Double totalMsCall = null;
+            if (calls[symbol] != 0) {
+                numCalls = (int) Math.min(calls[symbol], Integer.MAX_VALUE);
+                selfMsCall = MILLISECONDS * time / rate / calls[symbol];
+                totalMsCall = MILLISECONDS * (time + childTimes[symbol]) / rate / calls[symbol];
+            }
+
+            String name = symbols.getName(symbol);
+            table.putIfAbsent(name, new GprofLine(percentage, cumulativeTime / rate, time / rate, numCalls,
+                    selfMsCall, totalMsCall, name));
+        }
+
+        return new GprofData(table, new ArrayList<>(table.keySet()));
+    }
+}
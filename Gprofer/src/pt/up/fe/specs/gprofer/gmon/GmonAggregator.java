@@ -0,0 +1,289 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.gprofer.gmon;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import pt.up.fe.specs.gprofer.data.GprofData;
+
+/**
+ * Reads gmon.out files and merges them in memory, like 'gprof -s' does.
+ *
+ * <p>
+ * The samples of the histograms are added bin by bin, and the counts of the call graph arcs are added by pair of call
+ * site and called function, so the memory used does not depend on the number of merged files. The result can be
+ * converted into a flat profile with {@link #getData()}.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+public class GmonAggregator {
+
+    private static final int HEADER_SIZE = 20;
+    private static final int VERSION = 1;
+
+    private static final int TAG_TIME_HIST = 0;
+    private static final int TAG_CG_ARC = 1;
+    private static final int TAG_BB_COUNT = 2;
+
+    // Dimension name and abbreviation of the histogram, always "seconds" and 's'
+    private static final int DIMENSION_SIZE = 16;
+
+    private static final int INITIAL_ARCS = 256;
+
+    private final ElfSymbols symbols;
+    private final List<GmonHistogram> histograms;
+
+    // Call graph arcs, in order of first appearance
+    private long[] arcFromPcs;
+    private long[] arcSelfPcs;
+    private long[] arcCounts;
+    private int numArcs;
+    // Open addressing table, maps (from, self) to the index of the arc plus one, 0 is an empty slot
+    private int[] arcTable;
+
+    private int numFiles;
+
+    /**
+     * Creates an empty aggregator for the gmon files of the given binary.
+     *
+     * @param symbols the symbols of the profiled binary, which also define the format of the gmon files
+     */
+    public GmonAggregator(ElfSymbols symbols) {
+        this.symbols = symbols;
+        this.histograms = new ArrayList<>();
+        this.arcFromPcs = new long[INITIAL_ARCS];
+        this.arcSelfPcs = new long[INITIAL_ARCS];
+        this.arcCounts = new long[INITIAL_ARCS];
+        this.numArcs = 0;
+        this.arcTable = new int[INITIAL_ARCS * 2];
+        this.numFiles = 0;
+    }
+
+    /**
+     * Creates an empty aggregator for the gmon files of the given binary.
+     *
+     * @param binary the profiled binary
+     * @return a new aggregator
+     */
+    public static GmonAggregator newInstance(File binary) {
+        return new GmonAggregator(ElfSymbols.read(binary));
+    }
+
+    /**
+     * Adds the histograms and call graph of a gmon file to this aggregator.
+     *
+     * @param gmon a gmon.out file written by a run of the binary, or a gmon.sum file
+     */
+    public void add(File gmon) {
+        byte[] contents;
+        try {
+            contents = Files.readAllBytes(gmon.toPath());
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read file '" + gmon + "'", e);
+        }
+
+        add(ByteBuffer.wrap(contents), gmon.toString());
+    }
+
+    /**
+     * Adds the histograms and call graph of a gmon file to this aggregator.
+     *
+     * @param gmon the contents of a gmon file
+     */
+    public void add(ByteBuffer gmon) {
+        add(gmon, "gmon data");
+    }
+
+    private void add(ByteBuffer gmon, String source) {
+        ByteBuffer buffer = gmon.duplicate().order(symbols.getByteOrder());
+
+        if (buffer.remaining() < HEADER_SIZE || buffer.get(0) != 'g' || buffer.get(1) != 'm' || buffer.get(2) != 'o'
+                || buffer.get(3) != 'n') {
+            throw new RuntimeException("Not a gmon file: " + source);
+        }
+
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new RuntimeException("Unsupported gmon version " + version + " in " + source);
+        }
+
+        buffer.position(HEADER_SIZE);
+        try {
+            while (buffer.hasRemaining()) {
+                int tag = buffer.get();
+                switch (tag) {
+                case TAG_TIME_HIST -> readHistogram(buffer, source);
+                case TAG_CG_ARC -> addArc(getAddress(buffer), getAddress(buffer),
+                        Integer.toUnsignedLong(buffer.getInt()));
+                case TAG_BB_COUNT -> skipBasicBlocks(buffer);
+                default -> throw new RuntimeException("Unknown record tag " + tag + " in " + source);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new RuntimeException("Truncated gmon file: " + source, e);
+        }
+
+        numFiles++;
+    }
+
+    private void readHistogram(ByteBuffer buffer, String source) {
+        long lowPc = getAddress(buffer);
+        long highPc = getAddress(buffer);
+        int numBins = buffer.getInt();
+        int rate = buffer.getInt();
+        buffer.position(buffer.position() + DIMENSION_SIZE);
+
+        GmonHistogram histogram = getHistogram(lowPc, highPc, numBins, rate, source);
+
+        long[] counts = histogram.getCounts();
+        for (int i = 0; i < numBins; i++) {
+            counts[i] += Short.toUnsignedInt(buffer.getShort());
+        }
+    }
+
+    /**
+     * Returns the histogram with the given range, creating it if this is the first file with that range.
+     */
+    private GmonHistogram getHistogram(long lowPc, long highPc, int numBins, int rate, String source) {
+        for (GmonHistogram histogram : histograms) {
+            if (histogram.getLowPc() == lowPc && histogram.getHighPc() == highPc) {
+                if (histogram.getCounts().length != numBins) {
+                    throw new RuntimeException("Number of histogram bins in " + source
+                            + " does not match the previous files");
+                }
+
+                return histogram;
+            }
+
+            if (histogram.overlaps(lowPc, highPc)) {
+                throw new RuntimeException("Histogram range in " + source + " overlaps the range of previous files");
+            }
+        }
+
+        GmonHistogram histogram = new GmonHistogram(lowPc, highPc, rate, numBins);
+        histograms.add(histogram);
+        return histogram;
+    }
+
+    private void skipBasicBlocks(ByteBuffer buffer) {
+        long numCounts = Integer.toUnsignedLong(buffer.getInt());
+        // Each count is a pair of address and counter, both with the size of an address
+        buffer.position(Math.toIntExact(buffer.position() + numCounts * 2 * symbols.getAddressSize()));
+    }
+
+    private long getAddress(ByteBuffer buffer) {
+        return symbols.getAddressSize() == 8 ? buffer.getLong() : Integer.toUnsignedLong(buffer.getInt());
+    }
+
+    private void addArc(long fromPc, long selfPc, long count) {
+        int mask = arcTable.length - 1;
+        int slot = hash(fromPc, selfPc) & mask;
+        int index;
+        while ((index = arcTable[slot] - 1) >= 0) {
+            if (arcFromPcs[index] == fromPc && arcSelfPcs[index] == selfPc) {
+                arcCounts[index] += count;
+                return;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        if (numArcs == arcFromPcs.length) {
+            arcFromPcs = Arrays.copyOf(arcFromPcs, numArcs * 2);
+            arcSelfPcs = Arrays.copyOf(arcSelfPcs, numArcs * 2);
+            arcCounts = Arrays.copyOf(arcCounts, numArcs * 2);
+        }
+
+        arcFromPcs[numArcs] = fromPc;
+        arcSelfPcs[numArcs] = selfPc;
+        arcCounts[numArcs] = count;
+        numArcs++;
+        arcTable[slot] = numArcs;
+
+        // Keep the table at most half full
+        if (numArcs * 2 > arcTable.length) {
+            rehash(arcTable.length * 2);
+        }
+    }
+
+    private void rehash(int tableSize) {
+        arcTable = new int[tableSize];
+        int mask = tableSize - 1;
+        for (int index = 0; index < numArcs; index++) {
+            int slot = hash(arcFromPcs[index], arcSelfPcs[index]) & mask;
+            while (arcTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            arcTable[slot] = index + 1;
+        }
+    }
+
+    private static int hash(long fromPc, long selfPc) {
+        long hash = (fromPc * 31 + selfPc) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32);
+    }
+
+    /**
+     * @return the number of gmon files added to this aggregator
+     */
+    public int getNumFiles() {
+        return numFiles;
+    }
+
+    ElfSymbols getSymbols() {
+        return symbols;
+    }
+
+    List<GmonHistogram> getHistograms() {
+        return histograms;
+    }
+
+    int getNumArcs() {
+        return numArcs;
+    }
+
+    long getArcFromPc(int index) {
+        return arcFromPcs[index];
+    }
+
+    long getArcSelfPc(int index) {
+        return arcSelfPcs[index];
+    }
+
+    long getArcCount(int index) {
+        return arcCounts[index];
+    }
+
+    /**
+     * Builds the flat profile of the merged files.
+     *
+     * <p>
+     * The values are computed like 'gprof -bp -z' computes them, but are not rounded, the per-call times are always in
+     * milliseconds and names are not demangled. Static functions with the same name are reported once, with the
+     * values of the one with more time.
+     *
+     * @return the profiling data of all the files added so far
+     */
+    public GprofData getData() {
+        return FlatProfile.build(this);
+    }
+}
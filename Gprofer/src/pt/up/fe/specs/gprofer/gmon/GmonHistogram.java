@@ -0,0 +1,69 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.gprofer.gmon;
+
+/**
+ * Histogram of program counter samples over an address range, summed over several runs.
+ */
+class GmonHistogram {
+
+    private final long lowPc;
+    private final long highPc;
+    private final int rate;
+    private final long[] counts;
+
+    GmonHistogram(long lowPc, long highPc, int rate, int numBins) {
+        this.lowPc = lowPc;
+        this.highPc = highPc;
+        this.rate = rate;
+        this.counts = new long[numBins];
+    }
+
+    /**
+     * @return the first address covered by the histogram
+     */
+    long getLowPc() {
+        return lowPc;
+    }
+
+    /**
+     * @return the address after the last address covered by the histogram
+     */
+    long getHighPc() {
+        return highPc;
+    }
+
+    /**
+     * @return the number of samples per second
+     */
+    int getRate() {
+        return rate;
+    }
+
+    /**
+     * @return the number of samples of each bin, the bins divide the address range in equal parts
+     */
+    long[] getCounts() {
+        return counts;
+    }
+
+    /**
+     * @param lowPc the first address of a range
+     * @param highPc the address after the last address of a range
+     * @return true if the range intersects the range of this histogram
+     */
+    boolean overlaps(long lowPc, long highPc) {
+        return Long.compareUnsigned(lowPc, this.highPc) < 0 && Long.compareUnsigned(this.lowPc, highPc) < 0;
+    }
+}
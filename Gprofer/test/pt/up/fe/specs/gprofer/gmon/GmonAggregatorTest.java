@@ -0,0 +1,216 @@
+package pt.up.fe.specs.gprofer.gmon;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import pt.up.fe.specs.gprofer.Gprofer;
+import pt.up.fe.specs.gprofer.data.GprofData;
+import pt.up.fe.specs.gprofer.data.GprofLine;
+
+/**
+ * Test suite for GmonAggregator.
+ *
+ * The fixture binary was compiled from fixture.c with 'gcc -pg -O0 -o fixture fixture.c', and each gmon.out.N was
+ * recorded by running './fixture N'. The file gprof.txt is the output of
+ * 'gprof -bp -zc fixture gmon.out.1 gmon.out.2 gmon.out.3', and the profile read by the aggregator must match it.
+ */
+@DisplayName("GmonAggregator Tests")
+class GmonAggregatorTest {
+
+    private static final List<String> GMONS = List.of("gmon.out.1", "gmon.out.2", "gmon.out.3");
+
+    // gprof prints values with two decimal places
+    private static final Offset<Double> ROUNDING = Offset.offset(0.0051);
+
+    private static File resource(String name) {
+        try {
+            return new File(GmonAggregatorTest.class.getResource(name).toURI());
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static GmonAggregator aggregate(List<String> gmons) {
+        GmonAggregator aggregator = GmonAggregator.newInstance(resource("fixture"));
+        for (String gmon : gmons) {
+            aggregator.add(resource(gmon));
+        }
+        return aggregator;
+    }
+
+    @Nested
+    @DisplayName("Symbol Tests")
+    class SymbolTests {
+
+        @Test
+        @DisplayName("Should read function symbols sorted by address")
+        void testSymbols() {
+            ElfSymbols symbols = ElfSymbols.read(resource("fixture"));
+
+            assertThat(symbols.getByteOrder()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
+            assertThat(symbols.getAddressSize()).isEqualTo(8);
+
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < symbols.getNumSymbols(); i++) {
+                names.add(symbols.getName(i));
+                // Last symbol is 'data_start', which is after the end of the code and has no addresses
+                if (i < symbols.getNumSymbols() - 1) {
+                    assertThat(symbols.find(symbols.getAddress(i))).isEqualTo(i);
+                }
+                if (i > 0) {
+                    assertThat(symbols.getAddress(i)).isGreaterThan(symbols.getAddress(i - 1));
+                }
+            }
+
+            // Static functions are kept, data symbols are not
+            assertThat(names).contains("main", "work", "fib", "is_even", "is_odd", "leaf", "middle");
+            assertThat(names).doesNotContain("__data_start", "completed.0");
+        }
+
+        @Test
+        @DisplayName("Should not find addresses before the first symbol")
+        void testFindOutside() {
+            ElfSymbols symbols = ElfSymbols.read(resource("fixture"));
+
+            assertThat(symbols.find(symbols.getAddress(0) - 1)).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Profile Tests")
+    class ProfileTests {
+
+        @Test
+        @DisplayName("Should produce the same flat profile as gprof")
+        void testMatchesGprof() {
+            GprofData expected = Gprofer.parseTextProfile(resource("gprof.txt").getPath());
+            GprofData actual = aggregate(GMONS).getData();
+
+            assertThat(actual.getTable().keySet()).containsExactlyInAnyOrderElementsOf(expected.getTable().keySet());
+
+            for (GprofLine expectedLine : expected.getTable().values()) {
+                GprofLine line = actual.getTable().get(expectedLine.getName());
+
+                assertThat(line.getPercentage()).as(line.getName()).isCloseTo(expectedLine.getPercentage(), ROUNDING);
+                assertThat(line.getCumulativeSeconds()).as(line.getName())
+                        .isCloseTo(expectedLine.getCumulativeSeconds(), ROUNDING);
+                assertThat(line.getSelfSeconds()).as(line.getName()).isCloseTo(expectedLine.getSelfSeconds(), ROUNDING);
+                assertThat(line.getCalls()).as(line.getName()).isEqualTo(expectedLine.getCalls());
+
+                if (expectedLine.getCalls() != null) {
+                    assertThat(line.getSelfMsCall()).as(line.getName())
+                            .isCloseTo(expectedLine.getSelfMsCall(), ROUNDING);
+                    assertThat(line.getTotalMsCall()).as(line.getName())
+                            .isCloseTo(expectedLine.getTotalMsCall(), ROUNDING);
+                } else {
+                    assertThat(line.getSelfMsCall()).isNull();
+                    assertThat(line.getTotalMsCall()).isNull();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Hotspots should follow the order of gprof")
+        void testHotspotOrder() throws IOException {
+            List<String> expected = Files.readAllLines(resource("gprof.txt").toPath()).stream()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && Character.isDigit(line.charAt(0)))
+                    .map(line -> line.substring(line.lastIndexOf(' ') + 1))
+                    .toList();
+
+            assertThat(aggregate(GMONS).getData().getHotspots()).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Merged calls should be the sum of the calls of each run")
+        void testMergedCalls() {
+            Map<String, GprofLine> merged = aggregate(GMONS).getData().getTable();
+
+            for (String name : List.of("work", "is_even", "is_odd", "leaf", "middle", "fib")) {
+                int calls = 0;
+                for (String gmon : GMONS) {
+                    calls += aggregate(List.of(gmon)).getData().getTable().get(name).getCalls();
+                }
+                assertThat(merged.get(name).getCalls()).as(name).isEqualTo(calls);
+            }
+        }
+
+        @Test
+        @DisplayName("Result should not depend on the order of the files")
+        void testMergeOrder() {
+            Map<String, GprofLine> table = aggregate(GMONS).getData().getTable();
+            Map<String, GprofLine> reversed = aggregate(List.of("gmon.out.3", "gmon.out.1", "gmon.out.2")).getData()
+                    .getTable();
+
+            assertThat(reversed.keySet()).isEqualTo(table.keySet());
+            for (GprofLine line : table.values()) {
+                GprofLine other = reversed.get(line.getName());
+                assertThat(other.getSelfSeconds()).isEqualTo(line.getSelfSeconds());
+                assertThat(other.getCalls()).isEqualTo(line.getCalls());
+                if (line.getCalls() != null) {
+                    assertThat(other.getTotalMsCall()).isCloseTo(line.getTotalMsCall(), Offset.offset(1e-9));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Gprofer.summarize should read the gmon files natively")
+        void testSummarize() {
+            List<File> gmons = GMONS.stream().map(GmonAggregatorTest::resource).toList();
+            GprofData data = Gprofer.summarize(resource("fixture"), gmons);
+
+            assertThat(data.getHotspots()).isEqualTo(aggregate(GMONS).getData().getHotspots());
+            assertThat(data.getHotspots().get(0)).isEqualTo("work");
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Handling Tests")
+    class ErrorHandlingTests {
+
+        @Test
+        @DisplayName("Should reject files that are not gmon files")
+        void testNotGmon() {
+            GmonAggregator aggregator = GmonAggregator.newInstance(resource("fixture"));
+
+            assertThatThrownBy(() -> aggregator.add(resource("fixture.c")))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Not a gmon file");
+        }
+
+        @Test
+        @DisplayName("Should reject truncated gmon files")
+        void testTruncated() throws IOException {
+            byte[] gmon = Files.readAllBytes(resource("gmon.out.1").toPath());
+            GmonAggregator aggregator = GmonAggregator.newInstance(resource("fixture"));
+
+            assertThatThrownBy(() -> aggregator.add(ByteBuffer.wrap(Arrays.copyOf(gmon, gmon.length - 7))))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Truncated");
+            assertThat(aggregator.getNumFiles()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject binaries that are not ELF")
+        void testNotElf() {
+            assertThatThrownBy(() -> ElfSymbols.read(resource("gprof.txt")))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Not an ELF");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+#include <stdio.h>
+#include <stdlib.h>
+
+static double work(int n) {
+    double s = 0;
+    for (int i = 0; i < n; i++) {
+        s += i * 0.5;
+    }
+    return s;
+}
+
+long fib(int n) {
+    return n < 2 ? n : fib(n - 1) + fib(n - 2);
+}
+
+int is_odd(int n);
+
+int is_even(int n) {
+    work(200);
+    return n == 0 ? 1 : is_odd(n - 1);
+}
+
+int is_odd(int n) {
+    work(100);
+    return n == 0 ? 0 : is_even(n - 1);
+}
+
+double leaf(int n) {
+    return work(n);
+}
+
+double middle(int n) {
+    double s = 0;
+    for (int i = 0; i < 1000; i++) {
+        s += leaf(2 * n);
+    }
+    return s;
+}
+
+int main(int argc, char **argv) {
+    int scale = argc > 1 ? atoi(argv[1]) : 1;
+    double s = 0;
+    for (int i = 0; i < 20 * scale; i++) {
+        s += middle(1000);
+    }
+    s += fib(22 + scale);
+    for (int i = 0; i < 300 * scale; i++) {
+        s += is_even(500);
+    }
+    printf("%f\n", s);
+    return 0;
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.jsengine.graal;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.jsengine.JsEngine;
+import pt.up.fe.specs.jsengine.JsEngineType;
+import pt.up.fe.specs.jsengine.JsFileType;
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Measures many small scoped evaluations, as done by weaver scripts, and reports the metrics of the shared engine.
+ */
+public class ScopedEvalSnippet {
+
+    private static final int NUM_EVALS = 100_000;
+
+    @Test
+    public void test() {
+        long tic = System.nanoTime();
+        JsEngine engine = JsEngineType.GRAALVM.newEngine();
+        long creationTime = System.nanoTime() - tic;
+
+        tic = System.nanoTime();
+        JsEngine secondEngine = JsEngineType.GRAALVM.newEngine();
+        long secondCreationTime = System.nanoTime() - tic;
+
+        System.out.println("FIRST ENGINE CREATION TIME:" + SpecsStrings.parseTime(creationTime));
+        System.out.println("SECOND ENGINE CREATION TIME:" + SpecsStrings.parseTime(secondCreationTime));
+
+        Object scope = engine.newNativeMap();
+        engine.put(scope, "$jp", "jp");
+        engine.put(scope, "counter", 0);
+        engine.put(scope, "name", "loop");
+
+        for (int i = 0; i < 5; i++) {
+            tic = System.nanoTime();
+            double sum = 0;
+            for (int j = 0; j < NUM_EVALS; j++) {
+                engine.put(scope, "counter", j);
+                sum += engine.asDouble(engine.eval("counter + name.length", scope, JsFileType.NORMAL, "scoped"));
+            }
+            long time = System.nanoTime() - tic;
+
+            System.out.println("SCOPED EVAL TIME (" + sum + "):" + SpecsStrings.parseTime(time) + " ("
+                    + (time / NUM_EVALS) + " ns per eval)");
+        }
+
+        secondEngine.eval("1");
+
+        System.out.println(GraalvmSharedEngine.getAnalytics());
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.jsengine.graal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+
+/**
+ * Pool of GraalVM contexts that are created in the shared engine, with library code already loaded.
+ *
+ * <p>
+ * A context can only be used by one thread at a time. Values obtained from a context should not be used after the
+ * context is released, since it can then be used by other threads.
+ *
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * var pool = new GraalvmContextPool(() -&gt; Context.newBuilder("js"), List.of(librarySource));
+ * String result = pool.apply(context -&gt; context.getBindings("js").getMember("f").execute(arg).asString());
+ * </pre>
+ */
+public class GraalvmContextPool implements AutoCloseable {
+
+    private static final int DEFAULT_MAX_IDLE = Runtime.getRuntime().availableProcessors();
+
+    private final Supplier<Context.Builder> builderFactory;
+    private final List<Source> initSources;
+    private final int maxIdle;
+
+    private final ConcurrentLinkedDeque<Context> idle;
+    private final AtomicInteger idleCount;
+    private volatile boolean closed;
+
+    private final AtomicLong createdContexts;
+    private final AtomicLong reusedContexts;
+    private final AtomicLong creationNanos;
+
+    public GraalvmContextPool(Supplier<Context.Builder> builderFactory, Collection<Source> initSources) {
+        this(builderFactory, initSources, DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * @param builderFactory creates the builders of new contexts, the engine is set by the pool
+     * @param initSources    code evaluated when a context is created, in order
+     * @param maxIdle        maximum number of released contexts that are kept, additional contexts are closed
+     */
+    public GraalvmContextPool(Supplier<Context.Builder> builderFactory, Collection<Source> initSources, int maxIdle) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("Maximum number of idle contexts cannot be negative: " + maxIdle);
+        }
+
+        this.builderFactory = builderFactory;
+        this.initSources = new ArrayList<>(initSources);
+        this.maxIdle = maxIdle;
+        this.idle = new ConcurrentLinkedDeque<>();
+        this.idleCount = new AtomicInteger(0);
+        this.closed = false;
+        this.createdContexts = new AtomicLong(0);
+        this.reusedContexts = new AtomicLong(0);
+        this.creationNanos = new AtomicLong(0);
+    }
+
+    /**
+     * @return an idle context, or a new one if none is available. Must be given back with {@link #release(Context)}.
+     */
+    public Context acquire() {
+        if (closed) {
+            throw new IllegalStateException("Context pool is closed");
+        }
+
+        var context = idle.pollFirst();
+        if (context != null) {
+            idleCount.decrementAndGet();
+            reusedContexts.incrementAndGet();
+            return context;
+        }
+
+        return newContext();
+    }
+
+    public void release(Context context) {
+        if (closed) {
+            context.close();
+            return;
+        }
+
+        if (idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            context.close();
+            return;
+        }
+
+        // Most recently used contexts are reused first, since their code is more likely to be compiled
+        idle.offerFirst(context);
+
+        // The pool may have been closed in the meantime
+        if (closed && idle.remove(context)) {
+            context.close();
+        }
+    }
+
+    /**
+     * Applies the function to a context of the pool, and releases the context afterwards.
+     */
+    public <T> T apply(Function<Context, T> function) {
+        var context = acquire();
+        try {
+            return function.apply(context);
+        } finally {
+            release(context);
+        }
+    }
+
+    private Context newContext() {
+        long tic = System.nanoTime();
+
+        var context = builderFactory.get()
+                .engine(GraalvmSharedEngine.getEngine())
+                .build();
+
+        try {
+            for (var source : initSources) {
+                context.eval(source);
+            }
+        } catch (RuntimeException e) {
+            context.close();
+            throw new RuntimeException("Could not initialize JavaScript context", e);
+        }
+
+        long nanos = System.nanoTime() - tic;
+        createdContexts.incrementAndGet();
+        creationNanos.addAndGet(nanos);
+        GraalvmSharedEngine.recordContextCreation(nanos);
+
+        return context;
+    }
+
+    public long getCreatedContexts() {
+        return createdContexts.get();
+    }
+
+    public long getReusedContexts() {
+        return reusedContexts.get();
+    }
+
+    /**
+     * @return the total time spent creating and initializing contexts, in nanoseconds
+     */
+    public long getCreationNanos() {
+        return creationNanos.get();
+    }
+
+    public int getIdleContexts() {
+        return idle.size();
+    }
+
+    /**
+     * Closes the idle contexts. Contexts that are in use are closed when released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        Context context;
+        while ((context = idle.pollFirst()) != null) {
+            context.close();
+        }
+    }
+}
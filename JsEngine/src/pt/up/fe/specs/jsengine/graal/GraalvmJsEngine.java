@@ -21,7 +21,6 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -33,7 +32,6 @@ import javax.script.Bindings;
 import javax.script.ScriptException;
 
 import org.graalvm.polyglot.Context;
-import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Source;
@@ -63,6 +61,8 @@ public class GraalvmJsEngine extends AJsEngine {
     private final GraalJSScriptEngine engine;
     private final Set<String> forbiddenClasses;
     private final boolean nashornCompatibility;
+    // Created on first use
+    private Value undefined;
 
     /**
      * Constructs a GraalvmJsEngine with the given blacklisted classes.
@@ -109,13 +109,12 @@ public class GraalvmJsEngine extends AJsEngine {
         this.forbiddenClasses = blacklistedClasses.stream().map(Class::getName).collect(Collectors.toSet());
         this.nashornCompatibility = nashornCompatibility;
 
-        Context.Builder contextBuilder = createBuilder(engineWorkingDirectory, nodeModulesFolder);
+        long tic = System.nanoTime();
 
-        var baseEngine = Engine.newBuilder()
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+        Context.Builder contextBuilder = createBuilder(engineWorkingDirectory, nodeModulesFolder);
 
-        this.engine = GraalJSScriptEngine.create(baseEngine, contextBuilder);
+        // Sharing the engine allows reusing code compiled by other engines
+        this.engine = GraalJSScriptEngine.create(GraalvmSharedEngine.getEngine(), contextBuilder);
 
         this.engine.getContext().setWriter(new PrintWriter(laraiOutputStream, true));
         this.engine.getContext().setErrorWriter(new PrintWriter(laraiOutputStream, true));
@@ -126,6 +125,8 @@ public class GraalvmJsEngine extends AJsEngine {
             throw new RuntimeException(e);
         }
 
+        GraalvmSharedEngine.recordContextCreation(System.nanoTime() - tic);
+
         addToJsRule(Value.class, this::valueToJs);
     }
 
@@ -199,8 +200,14 @@ public class GraalvmJsEngine extends AJsEngine {
 
     @Override
     public Object eval(String code, JsFileType type, String source) {
-        var graalSource = Source.newBuilder("js", new StringBuilder(code), source);
-        return eval(graalSource, type);
+        switch (type) {
+        case NORMAL:
+            return eval(GraalvmSharedEngine.getSources().get(code, source));
+        case MODULE:
+            return eval(GraalvmSharedEngine.getSources().get(code, source, GraalvmSourceCache.MODULE_MIME_TYPE));
+        default:
+            throw new NotImplementedException(type);
+        }
     }
 
     /**
@@ -221,7 +228,7 @@ public class GraalvmJsEngine extends AJsEngine {
         case MODULE:
             try {
                 return eval(graalSource
-                        .mimeType("application/javascript+module")
+                        .mimeType(GraalvmSourceCache.MODULE_MIME_TYPE)
                         .build());
             } catch (IOException e) {
                 throw new RuntimeException("Could not load JS code as module", e);
@@ -238,11 +245,7 @@ public class GraalvmJsEngine extends AJsEngine {
 
     @Override
     public Value eval(String code, String source) {
-        try {
-            return eval(Source.newBuilder("js", new StringBuilder(code), source).build());
-        } catch (IOException e) {
-            throw new RuntimeException("Could not load JS code", e);
-        }
+        return eval(GraalvmSharedEngine.getSources().get(code, source));
     }
 
     /**
@@ -295,9 +298,13 @@ public class GraalvmJsEngine extends AJsEngine {
     }
 
     @Override
-    public Object getUndefined() {
-        var array = engine.getPolyglotContext().eval("js", "[undefined]");
-        return array.getArrayElement(0);
+    public Value getUndefined() {
+        if (undefined == null) {
+            var array = engine.getPolyglotContext().eval("js", "[undefined]");
+            undefined = array.getArrayElement(0);
+        }
+
+        return undefined;
     }
 
     @Override
@@ -311,38 +318,43 @@ public class GraalvmJsEngine extends AJsEngine {
         return engine.getPolyglotContext().getBindings("js");
     }
 
+    /**
+     * Evaluates the code with the members of the scope as global variables, which are restored afterwards.
+     *
+     * <p>
+     * Globals are set and restored through the bindings of the context, and the code is evaluated from a cached
+     * source, so repeated calls with the same code do not parse any code.
+     */
     @Override
     public Object eval(String code, Object scope, JsFileType type, String source) {
         Value scopeValue = asValue(scope);
-        Map<String, Object> previousValues = new HashMap<>();
+        Value globals = getBindings();
 
-        for (String key : scopeValue.getMemberKeys()) {
-            if (asBoolean(eval("typeof variable === 'undefined'"))) {
-                previousValues.put(key, null);
-            } else {
-                previousValues.put(key, eval(key));
-            }
+        String[] keys = scopeValue.getMemberKeys().toArray(new String[0]);
+        // Previous values of the globals, or null if the global did not exist
+        Value[] previousValues = new Value[keys.length];
+        int numSet = 0;
 
-            Value value = scopeValue.getMember(key);
-            if (value.isNull()) {
-                eval(key + " = undefined");
-                continue;
-            }
-            put(key, value);
-        }
+        try {
+            for (; numSet < keys.length; numSet++) {
+                String key = keys[numSet];
 
-        var result = eval(code, type, source);
+                previousValues[numSet] = globals.hasMember(key) ? globals.getMember(key) : null;
 
-        for (var entry : previousValues.entrySet()) {
-            var value = entry.getValue();
-            if (value == null) {
-                eval(entry.getKey() + " = undefined");
-            } else {
-                put(entry.getKey(), value);
+                Value value = scopeValue.getMember(key);
+                globals.putMember(key, value.isNull() ? getUndefined() : value);
             }
-        }
 
-        return result;
+            return eval(code, type, source);
+        } finally {
+            for (int i = 0; i < numSet; i++) {
+                if (previousValues[i] == null) {
+                    globals.removeMember(keys[i]);
+                } else {
+                    globals.putMember(keys[i], previousValues[i]);
+                }
+            }
+        }
     }
 
     /**
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.jsengine.graal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.graalvm.polyglot.Engine;
+
+import pt.up.fe.specs.util.SpecsStrings;
+import pt.up.fe.specs.util.lazy.Lazy;
+
+/**
+ * Engine shared by all GraalVM contexts created by this library.
+ *
+ * <p>
+ * Contexts that share an engine also share the code compiled for equal sources, which is why sources should be
+ * obtained from {@link #getSources()}. Also keeps metrics about the creation of contexts.
+ */
+public class GraalvmSharedEngine {
+
+    private static final int SOURCE_CACHE_SIZE = 512;
+
+    private static final Lazy<Engine> ENGINE = Lazy.newInstance(GraalvmSharedEngine::newEngine);
+    private static final GraalvmSourceCache SOURCES = new GraalvmSourceCache(SOURCE_CACHE_SIZE);
+
+    private static final AtomicLong CREATED_CONTEXTS = new AtomicLong(0);
+    private static final AtomicLong CONTEXT_CREATION_NANOS = new AtomicLong(0);
+
+    private static Engine newEngine() {
+        return Engine.newBuilder()
+                .option("engine.WarnInterpreterOnly", "false")
+                .build();
+    }
+
+    /**
+     * @return the engine shared by all contexts, which is created on the first call
+     */
+    public static Engine getEngine() {
+        return ENGINE.get();
+    }
+
+    public static GraalvmSourceCache getSources() {
+        return SOURCES;
+    }
+
+    /**
+     * Registers the creation of a context, including the time spent loading initial code.
+     */
+    static void recordContextCreation(long nanos) {
+        CREATED_CONTEXTS.incrementAndGet();
+        CONTEXT_CREATION_NANOS.addAndGet(nanos);
+    }
+
+    public static long getCreatedContexts() {
+        return CREATED_CONTEXTS.get();
+    }
+
+    public static long getContextCreationNanos() {
+        return CONTEXT_CREATION_NANOS.get();
+    }
+
+    public static String getAnalytics() {
+        long contexts = getCreatedContexts();
+        long average = contexts == 0 ? 0 : getContextCreationNanos() / contexts;
+
+        return "Created contexts: " + contexts + "\n" +
+                "Average context creation time: " + SpecsStrings.parseTime(average) + "\n" +
+                SOURCES.getAnalytics();
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.jsengine.graal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.graalvm.polyglot.Source;
+
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Bounded cache of JavaScript {@link Source} objects, indexed by name, MIME type and code.
+ *
+ * <p>
+ * Sources are built with {@code cached(true)}, so that contexts of the same engine reuse the code parsed for equal
+ * sources. When full, the least recently used source is removed.
+ */
+public class GraalvmSourceCache {
+
+    private static final String JS = "js";
+    public static final String MODULE_MIME_TYPE = "application/javascript+module";
+
+    private final Map<SourceKey, Source> cache;
+
+    private final AtomicLong cacheHits;
+    private final AtomicLong cacheMisses;
+
+    public GraalvmSourceCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SourceKey, Source> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.cacheHits = new AtomicLong(0);
+        this.cacheMisses = new AtomicLong(0);
+    }
+
+    /**
+     * @param mimeType the MIME type of the source, or null for a regular script
+     */
+    public Source get(String code, String name, String mimeType) {
+        var key = new SourceKey(code, name, mimeType);
+
+        synchronized (cache) {
+            var source = cache.get(key);
+            if (source != null) {
+                cacheHits.incrementAndGet();
+                return source;
+            }
+        }
+
+        // Build outside the lock, in case two threads build the same source, one of them is kept
+        cacheMisses.incrementAndGet();
+        var builder = Source.newBuilder(JS, code, name).cached(true);
+        if (mimeType != null) {
+            builder.mimeType(mimeType);
+        }
+        var source = builder.buildLiteral();
+
+        synchronized (cache) {
+            var existing = cache.putIfAbsent(key, source);
+            return existing != null ? existing : source;
+        }
+    }
+
+    public Source get(String code, String name) {
+        return get(code, name, null);
+    }
+
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    public long getCacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public double getHitRatio() {
+        long hits = cacheHits.get();
+        long total = hits + cacheMisses.get();
+        return total == 0 ? 0.0 : (double) hits / (double) total;
+    }
+
+    public String getAnalytics() {
+        return "Source cache size: " + getCacheSize() + "\n" +
+                "Source cache calls: " + (getCacheHits() + getCacheMisses()) + "\n" +
+                "Source cache hit ratio: " + SpecsStrings.toPercentage(getHitRatio()) + "\n";
+    }
+
+    private static class SourceKey {
+        private final String code;
+        private final String name;
+        private final String mimeType;
+        private final int hashCode;
+
+        private SourceKey(String code, String name, String mimeType) {
+            this.code = code;
+            this.name = name;
+            this.mimeType = mimeType;
+            this.hashCode = Objects.hash(code, name, mimeType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof SourceKey)) {
+                return false;
+            }
+
+            var other = (SourceKey) obj;
+            return code.equals(other.code) && Objects.equals(name, other.name)
+                    && Objects.equals(mimeType, other.mimeType);
+        }
+    }
+}
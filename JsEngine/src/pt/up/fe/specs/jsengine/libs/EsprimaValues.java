@@ -0,0 +1,97 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.jsengine.libs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.graalvm.polyglot.Value;
+
+/**
+ * Converts the AST objects returned by Esprima into the maps and lists used by {@link EsprimaNode}, reading the
+ * polyglot values directly.
+ *
+ * <p>
+ * Values have the same types as when the AST was converted to JSON and read with Gson: objects become maps, arrays
+ * become lists and numbers become doubles. Member names are shared between nodes.
+ */
+class EsprimaValues {
+
+    // Member names repeat in every node, so a single instance of each name is kept
+    private final Map<String, String> keys;
+
+    EsprimaValues() {
+        this.keys = new HashMap<>();
+    }
+
+    Map<String, Object> toMap(Value object) {
+        var memberKeys = object.getMemberKeys();
+        Map<String, Object> map = new LinkedHashMap<>(Math.max(4, memberKeys.size() * 4 / 3 + 1));
+
+        for (var key : memberKeys) {
+            var member = object.getMember(key);
+
+            // JSON.stringify ignores functions
+            if (member.canExecute()) {
+                continue;
+            }
+
+            map.put(keys.computeIfAbsent(key, k -> k), toJava(member));
+        }
+
+        return map;
+    }
+
+    private List<Object> toList(Value array) {
+        int size = (int) array.getArraySize();
+        List<Object> list = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            list.add(toJava(array.getArrayElement(i)));
+        }
+
+        return list;
+    }
+
+    private Object toJava(Value value) {
+        if (value.isNull()) {
+            return null;
+        }
+
+        if (value.isString()) {
+            return value.asString();
+        }
+
+        if (value.isBoolean()) {
+            return value.asBoolean();
+        }
+
+        if (value.isNumber()) {
+            return value.fitsInDouble() ? value.asDouble() : value.toString();
+        }
+
+        if (value.hasArrayElements()) {
+            return toList(value);
+        }
+
+        if (value.hasMembers()) {
+            return toMap(value);
+        }
+
+        return value.toString();
+    }
+}
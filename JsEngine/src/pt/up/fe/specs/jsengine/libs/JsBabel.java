@@ -13,49 +13,47 @@
 
 package pt.up.fe.specs.jsengine.libs;
 
-import pt.up.fe.specs.jsengine.JsEngine;
-import pt.up.fe.specs.jsengine.JsEngineType;
+import java.util.List;
+
+import org.graalvm.polyglot.Context;
+
 import pt.up.fe.specs.jsengine.JsEngineWebResources;
+import pt.up.fe.specs.jsengine.graal.GraalvmContextPool;
+import pt.up.fe.specs.jsengine.graal.GraalvmSharedEngine;
 import pt.up.fe.specs.util.SpecsIo;
+import pt.up.fe.specs.util.lazy.Lazy;
+import pt.up.fe.specs.util.providers.ResourceCache;
 
 /**
  * Utility class for working with Babel JavaScript transpiler.
  */
 public class JsBabel {
 
-    private static final ThreadLocal<JsEngine> BABEL_ENGINE = ThreadLocal
-            .withInitial(JsBabel::newBabelEngine);
+    private static final String TO_ES6_FUNCTION = "function toES6(code) "
+            + "{return Babel.transform(code, { presets: [\"env\"], targets: {\"chrome\": \"58\"} }).code;}";
 
     /**
-     * Creates a new instance of the Babel JavaScript engine.
-     * 
-     * @return a new JsEngine instance configured for Babel
+     * Contexts with Babel already loaded, which are shared by all threads.
      */
-    private static JsEngine newBabelEngine() {
-        // Create JsEngine
-        var engine = JsEngineType.GRAALVM.newEngine();
+    private static final Lazy<GraalvmContextPool> BABEL_CONTEXTS = Lazy.newInstance(JsBabel::newBabelContexts);
 
+    /**
+     * Creates a pool of contexts where Babel is loaded.
+     * 
+     * @return a new pool of contexts configured for Babel
+     */
+    private static GraalvmContextPool newBabelContexts() {
         // Get Babel source code
-        var babelSource = JsEngineWebResources.BABEL.writeVersioned(SpecsIo.getTempFolder("specs_js-engine"),
-                JsBabel.class);
+        var babelFile = ResourceCache.getDefault().get(JsEngineWebResources.BABEL);
 
-        // Load babel
-        engine.eval(SpecsIo.read(babelSource.getFile()));
+        var sources = GraalvmSharedEngine.getSources();
 
-        // Load toES6 function
-        engine.eval(
-                "function toES6(code) {return Babel.transform(code, { presets: [\"env\"], targets: {\"chrome\": \"58\"} }).code;}");
+        // Load babel and toES6 function
+        var initSources = List.of(sources.get(SpecsIo.read(babelFile), babelFile.getName()),
+                sources.get(TO_ES6_FUNCTION, "babel_to_es6.js"));
 
-        return engine;
-    }
-
-    /**
-     * Retrieves the current Babel engine instance.
-     * 
-     * @return the current JsEngine instance
-     */
-    private static JsEngine getEngine() {
-        return BABEL_ENGINE.get();
+        return new GraalvmContextPool(() -> Context.newBuilder("js").option("js.ecmascript-version", "2022"),
+                initSources);
     }
 
     /**
@@ -65,9 +63,9 @@ public class JsBabel {
      * @return the transformed ES6 code
      */
     public static String toES6(String jsCode) {
-        var toEs5Function = getEngine().get("toES6");
-        var es5Code = getEngine().call(toEs5Function, jsCode);
-
-        return es5Code.toString();
+        return BABEL_CONTEXTS.get().apply(context -> context.getBindings("js")
+                .getMember("toES6")
+                .execute(jsCode)
+                .asString());
     }
 }
@@ -13,54 +13,64 @@
 
 package pt.up.fe.specs.jsengine.libs;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 
-import com.google.gson.Gson;
+import org.graalvm.polyglot.Context;
 
-import pt.up.fe.specs.jsengine.JsEngine;
-import pt.up.fe.specs.jsengine.JsEngineType;
 import pt.up.fe.specs.jsengine.JsEngineWebResources;
+import pt.up.fe.specs.jsengine.graal.GraalvmContextPool;
+import pt.up.fe.specs.jsengine.graal.GraalvmSharedEngine;
 import pt.up.fe.specs.util.SpecsIo;
 import pt.up.fe.specs.util.SpecsLogs;
+import pt.up.fe.specs.util.lazy.Lazy;
+import pt.up.fe.specs.util.providers.ResourceCache;
 
 /**
  * Utility class for working with the Esprima JavaScript parser.
  */
 public class JsEsprima {
 
-    private static final ThreadLocal<JsEngine> ESPRIMA_ENGINE = ThreadLocal
-            .withInitial(JsEsprima::newEsprimaEngine);
+    private static final String PARSE_FUNCTION = "function parse(code) "
+            + "{return esprima.parse(code, {loc:true,comment:true});}";
 
     /**
-     * Creates a new instance of the Esprima JavaScript engine.
-     * 
-     * @return a new JsEngine instance configured with Esprima
+     * Contexts with Esprima already loaded, which are shared by all threads.
      */
-    private static JsEngine newEsprimaEngine() {
-        // Create JsEngine
-        var engine = JsEngineType.GRAALVM.newEngine();
+    private static final Lazy<GraalvmContextPool> ESPRIMA_CONTEXTS = Lazy.newInstance(JsEsprima::newEsprimaContexts);
 
+    /**
+     * Creates a pool of contexts where Esprima is loaded.
+     * 
+     * @return a new pool of contexts configured with Esprima
+     */
+    private static GraalvmContextPool newEsprimaContexts() {
         // Get Esprima source code
-        var esprimaSource = JsEngineWebResources.ESPRIMA.writeVersioned(SpecsIo.getTempFolder("specs_js-engine"),
-                JsEsprima.class);
+        var esprimaFile = ResourceCache.getDefault().get(JsEngineWebResources.ESPRIMA);
 
-        // Load Esprima
-        engine.eval(SpecsIo.read(esprimaSource.getFile()));
+        var sources = GraalvmSharedEngine.getSources();
 
-        // Load parse function
-        engine.eval(
-                "function parse(code) {var ast = esprima.parse(code, {loc:true,comment:true}); return JSON.stringify(ast);}");
+        // Load Esprima and parse function
+        var initSources = List.of(sources.get(SpecsIo.read(esprimaFile), esprimaFile.getName()),
+                sources.get(PARSE_FUNCTION, "esprima_parse.js"));
 
-        return engine;
+        return new GraalvmContextPool(() -> Context.newBuilder("js").option("js.ecmascript-version", "2022"),
+                initSources);
     }
 
     /**
-     * Retrieves the current thread-local instance of the Esprima engine.
-     * 
-     * @return the current JsEngine instance
+     * Parses the code and converts the AST to maps, while the context is in use.
      */
-    private static JsEngine getEngine() {
-        return ESPRIMA_ENGINE.get();
+    private static Map<String, Object> parseToMap(String jsCode) {
+        return ESPRIMA_CONTEXTS.get().apply(context -> {
+            var ast = context.getBindings("js")
+                    .getMember("parse")
+                    .execute(jsCode);
+
+            return new EsprimaValues().toMap(ast);
+        });
     }
 
     /**
@@ -80,26 +90,20 @@ public class JsEsprima {
      * @param path the source path associated with the code
      * @return the root node of the parsed AST
      */
-    @SuppressWarnings("unchecked")
     public static EsprimaNode parse(String jsCode, String path) {
-        var engine = getEngine();
-
-        // Obtain JSON string representing the AST
-        var parseFunction = engine.get("parse");
-
-        var result = "";
+        Map<String, Object> result;
 
         try {
-            result = engine.call(parseFunction, jsCode).toString();
+            result = parseToMap(jsCode);
         } catch (Exception e) {
             // If there is a problem during parsing, try transpiling to an older version of EcmaScript
             SpecsLogs.info("Parsing with Esprima failed, transpiling with Babel and trying again");
             var es5Code = JsBabel.toES6(jsCode);
 
-            result = engine.call(parseFunction, es5Code).toString();
+            result = parseToMap(es5Code);
         }
 
-        var program = new EsprimaNode(new Gson().fromJson(result, Map.class));
+        var program = new EsprimaNode(result);
 
         associateComments(program);
 
@@ -109,6 +113,10 @@ public class JsEsprima {
     /**
      * Associates comments with the corresponding nodes in the AST.
      * 
+     * <p>
+     * Comments and nodes are both sorted by position, so they are merged in a single pre-order traversal of the AST,
+     * without collecting the descendants.
+     * 
      * @param program the root node of the AST
      */
     private static void associateComments(EsprimaNode program) {
@@ -118,25 +126,42 @@ public class JsEsprima {
             return;
         }
 
-        var nodes = program.getDescendants();
-
         var commentsIterator = comments.iterator();
 
         var currentComment = commentsIterator.next();
+        var commentLine = currentComment.getLoc().getStartLine();
 
-        NODES: for (var node : nodes) {
-            var nodeLoc = node.getLoc();
+        Deque<EsprimaNode> stack = new ArrayDeque<>();
+        pushChildren(program, stack);
+
+        while (!stack.isEmpty()) {
+            var node = stack.pop();
+            var nodeLine = node.getLoc().getStartLine();
 
             // If node start line is the same or greater than the comment, associate node with comment
-            while (nodeLoc.getStartLine() >= currentComment.getLoc().getStartLine()) {
+            while (nodeLine >= commentLine) {
                 node.setComment(currentComment);
 
                 if (!commentsIterator.hasNext()) {
-                    break NODES;
+                    return;
                 }
 
                 currentComment = commentsIterator.next();
+                commentLine = currentComment.getLoc().getStartLine();
             }
+
+            pushChildren(node, stack);
+        }
+    }
+
+    /**
+     * Pushes the children in reverse order, so that the first child is visited first.
+     */
+    private static void pushChildren(EsprimaNode node, Deque<EsprimaNode> stack) {
+        var children = node.getChildren();
+
+        for (int i = children.size() - 1; i >= 0; i--) {
+            stack.push(children.get(i));
         }
     }
 
@@ -13,6 +13,8 @@
 
 package pt.up.fe.specs.jsengine;
 
+import static org.junit.Assert.assertEquals;
+
 import java.util.stream.Collectors;
 
 import org.junit.Test;
@@ -49,6 +51,27 @@ public class EsprimaTester {
         System.out.println("NUM NODES: " + numNodes);
     }
 
+    @Test
+    public void testAst() {
+        var program = JsEsprima.parse("// first\nvar a = 1;\n/* second */\nfunction f(x) { return x + 'b'; }\n");
+
+        assertEquals("Program", program.getType());
+
+        var nodes = program.getDescendants();
+        var declaration = nodes.get(0);
+        assertEquals("VariableDeclaration", declaration.getType());
+        assertEquals(" first", declaration.getComment().getContents());
+        assertEquals(2, declaration.getLoc().getStartLine());
+
+        var literal = nodes.stream().filter(node -> node.getType().equals("Literal")).findFirst().get();
+        assertEquals(1.0, literal.get("value"));
+
+        var function = nodes.stream().filter(node -> node.getType().equals("FunctionDeclaration")).findFirst().get();
+        assertEquals("/* second */", function.getComment().getCode());
+        assertEquals("f", function.getAsNode("id").getAsString("name"));
+        assertEquals(1, function.getAsNodes("params").size());
+    }
+
     private static final String PROGRAM_1 = "/** \r\n"
             + " * \r\n"
             + " */\r\n"
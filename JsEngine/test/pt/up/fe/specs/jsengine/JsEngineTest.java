@@ -164,6 +164,24 @@ public class JsEngineTest {
         assertEquals("true", engine1.eval("typeof aString === 'undefined'").toString());
     }
 
+    @Test
+    public void testEvalWithBindingsRestoresGlobals() {
+        JsEngine engine = getEngine();
+        engine.eval("var existing = 'global';");
+
+        Object scope = engine.newNativeMap();
+        engine.put(scope, "existing", "scoped");
+        engine.put(scope, "aNumber", 10);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("scoped10",
+                    engine.eval("existing + aNumber", scope, JsFileType.NORMAL, "JsEngineTest.scoped").toString());
+        }
+
+        assertEquals("global", engine.eval("existing").toString());
+        assertEquals("true", engine.eval("typeof aNumber === 'undefined'").toString());
+    }
+
     @Test
     public void testUndefined() {
         assertEquals("undefined", getEngine().getUndefined().toString());
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.jsengine.graal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.graalvm.polyglot.Context;
+import org.junit.Test;
+
+public class GraalvmContextPoolTest {
+
+    @Test
+    public void testReuse() {
+        var library = GraalvmSharedEngine.getSources().get("function twice(x) { return 2 * x; }", "twice.js");
+
+        try (var pool = new GraalvmContextPool(() -> Context.newBuilder("js"), List.of(library), 1)) {
+            var first = pool.acquire();
+            assertEquals(42, first.getBindings("js").getMember("twice").execute(21).asInt());
+            pool.release(first);
+
+            // Released context is reused, with the library already loaded
+            var second = pool.acquire();
+            assertSame(first, second);
+
+            // Pool is empty, new context is created
+            var third = pool.acquire();
+            assertNotSame(second, third);
+            assertEquals(4, third.getBindings("js").getMember("twice").execute(2).asInt());
+
+            pool.release(second);
+            pool.release(third);
+
+            assertEquals(2, pool.getCreatedContexts());
+            assertEquals(1, pool.getReusedContexts());
+            assertEquals(1, pool.getIdleContexts());
+        }
+    }
+
+    @Test
+    public void testApply() {
+        try (var pool = new GraalvmContextPool(() -> Context.newBuilder("js"), List.of())) {
+            assertEquals(3, (int) pool.apply(context -> context.eval("js", "1 + 2").asInt()));
+            assertEquals(5, (int) pool.apply(context -> context.eval("js", "2 + 3").asInt()));
+            assertEquals(1, pool.getCreatedContexts());
+        }
+    }
+
+    @Test
+    public void testSourceCache() {
+        var cache = new GraalvmSourceCache(2);
+
+        var source = cache.get("1 + 1", "a.js");
+        assertSame(source, cache.get("1 + 1", "a.js"));
+        assertNotSame(source, cache.get("1 + 1", "a.mjs", GraalvmSourceCache.MODULE_MIME_TYPE));
+
+        // Least recently used source is removed
+        cache.get("2 + 2", "b.js");
+        cache.get("1 + 1", "a.js");
+
+        assertEquals(2, cache.getCacheSize());
+        assertEquals(1, cache.getCacheHits());
+        assertEquals(4, cache.getCacheMisses());
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.logging.AsyncHandler;
+import pt.up.fe.specs.util.logging.AsyncHandler.OverflowPolicy;
+import pt.up.fe.specs.util.logging.ConsoleFormatter;
+import pt.up.fe.specs.util.logging.SimpleFileHandler;
+
+/**
+ * Compares a synchronous file handler with the same handler behind an AsyncHandler, with several threads logging.
+ */
+public class AsyncLoggingSnippet {
+
+    private static final int NUM_THREADS = 8;
+    private static final int RECORDS_PER_THREAD = 100_000;
+
+    @Test
+    public void test() throws Exception {
+        File logFile = new File(SpecsIo.getTempFolder("async_logging_snippet"), "log.txt");
+
+        for (int i = 0; i < 3; i++) {
+            try (PrintStream stream = new PrintStream(logFile)) {
+                Handler handler = newFileHandler(stream);
+                long time = logInParallel(handler);
+                handler.close();
+                System.out.println("SYNC TIME:" + SpecsStrings.parseTime(time));
+            }
+
+            try (PrintStream stream = new PrintStream(logFile)) {
+                AsyncHandler handler = new AsyncHandler(List.of(newFileHandler(stream)), AsyncHandler.DEFAULT_CAPACITY,
+                        OverflowPolicy.BLOCK);
+                long time = logInParallel(handler);
+                handler.close();
+                System.out.println("ASYNC TIME:" + SpecsStrings.parseTime(time) + " (max queue depth "
+                        + handler.getMaxQueueDepth() + ", dropped " + handler.getDroppedRecords() + ")");
+            }
+        }
+
+        SpecsIo.deleteFolder(logFile.getParentFile());
+    }
+
+    private static Handler newFileHandler(PrintStream stream) {
+        SimpleFileHandler handler = new SimpleFileHandler(stream);
+        handler.setFormatter(new ConsoleFormatter());
+        return handler;
+    }
+
+    /**
+     * @return the time until the records were published, including flushing the handler
+     */
+    private static long logInParallel(Handler handler) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+
+        long tic = System.nanoTime();
+        for (int t = 0; t < NUM_THREADS; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                    handler.publish(new LogRecord(Level.INFO, "Thread " + thread + ", record " + i + "\n"));
+                }
+            });
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        handler.flush();
+
+        return System.nanoTime() - tic;
+    }
+}
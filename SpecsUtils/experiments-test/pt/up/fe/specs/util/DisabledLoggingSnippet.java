@@ -0,0 +1,65 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+/**
+ * Measures the cost of log calls whose level is disabled, in a tight loop.
+ */
+public class DisabledLoggingSnippet {
+
+    private static final int ITERATIONS = 10_000_000;
+
+    @Test
+    public void test() {
+        Logger logger = SpecsLogs.getLogger();
+        Level previousLevel = logger.getLevel();
+        logger.setLevel(Level.OFF);
+
+        RuntimeException exception = new RuntimeException("cause");
+
+        try {
+            for (int run = 0; run < 5; run++) {
+                long tic = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    SpecsLogs.info("Iteration " + i);
+                }
+                long stringTime = System.nanoTime() - tic;
+
+                tic = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    int iteration = i;
+                    SpecsLogs.infoLazy(() -> "Iteration " + iteration);
+                }
+                long supplierTime = System.nanoTime() - tic;
+
+                tic = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    SpecsLogs.warn("Iteration", exception);
+                }
+                long warnCauseTime = System.nanoTime() - tic;
+
+                System.out.println("INFO STRING TIME:" + SpecsStrings.parseTime(stringTime));
+                System.out.println("INFO SUPPLIER TIME:" + SpecsStrings.parseTime(supplierTime));
+                System.out.println("WARN WITH CAUSE TIME:" + SpecsStrings.parseTime(warnCauseTime));
+            }
+        } finally {
+            logger.setLevel(previousLevel);
+        }
+    }
+}
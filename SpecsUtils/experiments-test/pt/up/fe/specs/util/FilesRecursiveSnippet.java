@@ -0,0 +1,67 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Compares the sequential, parallel and lazy modes of SpecsIo.getFilesRecursive on a generated folder tree.
+ */
+public class FilesRecursiveSnippet {
+
+    @Test
+    public void test() {
+        File root = SpecsIo.getTempFolder("files_recursive_snippet");
+
+        // 100 folders x 10 sub-folders x 20 files
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 10; j++) {
+                File folder = SpecsIo.mkdir(new File(root, "f" + i + "/g" + j));
+                for (int k = 0; k < 20; k++) {
+                    SpecsIo.write(new File(folder, "file" + k + (k % 2 == 0 ? ".c" : ".h")), "");
+                }
+            }
+        }
+
+        List<String> extensions = List.of("c");
+
+        for (int i = 0; i < 3; i++) {
+            long tic = System.nanoTime();
+            int sequential = SpecsIo.getFilesRecursive(root, extensions, true, folder -> false).size();
+            long sequentialTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            int parallel = SpecsIo.getFilesRecursiveParallel(root, extensions, true, folder -> false).size();
+            long parallelTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            long lazy;
+            try (Stream<Path> files = SpecsIo.streamFilesRecursive(root, extensions, true, folder -> false)) {
+                lazy = files.count();
+            }
+            long lazyTime = System.nanoTime() - tic;
+
+            System.out.println("SEQUENTIAL (" + sequential + "):" + SpecsStrings.parseTime(sequentialTime));
+            System.out.println("PARALLEL (" + parallel + "):" + SpecsStrings.parseTime(parallelTime));
+            System.out.println("LAZY (" + lazy + "):" + SpecsStrings.parseTime(lazyTime));
+        }
+
+        SpecsIo.deleteFolder(root);
+    }
+}
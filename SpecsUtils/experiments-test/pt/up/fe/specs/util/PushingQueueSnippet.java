@@ -18,6 +18,7 @@ import org.junit.Test;
 import pt.up.fe.specs.util.collections.pushingqueue.ArrayPushingQueue;
 import pt.up.fe.specs.util.collections.pushingqueue.LinkedPushingQueue;
 import pt.up.fe.specs.util.collections.pushingqueue.PushingQueue;
+import pt.up.fe.specs.util.collections.pushingqueue.RingPushingQueue;
 
 public class PushingQueueSnippet {
 
@@ -30,17 +31,21 @@ public class PushingQueueSnippet {
             int capacity = i;
             PushingQueue<Integer> arrayQueue = new ArrayPushingQueue<>(capacity);
             PushingQueue<Integer> linkedQueue = new LinkedPushingQueue<>(capacity);
+            PushingQueue<Integer> ringQueue = new RingPushingQueue<>(capacity);
 
             // Warm up
             measure(arrayQueue, capacity, times);
             measure(linkedQueue, capacity, times);
+            measure(ringQueue, capacity, times);
 
             long arrayTime = measure(arrayQueue, capacity, times);
             long linkedTime = measure(linkedQueue, capacity, times);
+            long ringTime = measure(ringQueue, capacity, times);
 
             System.out.println("Elements:" + capacity);
             System.out.println("ARRAY TIME:" + SpecsStrings.parseTime(arrayTime));
             System.out.println("LINKED TIME:" + SpecsStrings.parseTime(linkedTime));
+            System.out.println("RING TIME:" + SpecsStrings.parseTime(ringTime));
         }
         /*
         	int capacity = 10000;
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Compares the bulk NIO read used by {@link SpecsIo#read(File)} with the previous char-by-char BufferedReader loop.
+ */
+public class SpecsIoReadSnippet {
+
+    @Test
+    public void test() {
+        File folder = SpecsIo.getTempFolder("specs_io_read_snippet");
+
+        for (int sizeMb : new int[] { 1, 16, 128 }) {
+            File file = new File(folder, "file_" + sizeMb + "mb.txt");
+            SpecsIo.write(file, "int main() { return 0; } // çãõ\n".repeat(sizeMb * 32 * 1024));
+
+            // Warm up
+            readLoop(file);
+            SpecsIo.read(file);
+            SpecsIo.readCharSequence(file);
+
+            long loopTime = measure(() -> readLoop(file));
+            long bulkTime = measure(() -> SpecsIo.read(file));
+            long viewTime = measure(() -> SpecsIo.readCharSequence(file));
+
+            System.out.println("Size: " + sizeMb + "MB");
+            System.out.println("LOOP TIME:" + SpecsStrings.parseTime(loopTime));
+            System.out.println("BULK TIME:" + SpecsStrings.parseTime(bulkTime));
+            System.out.println("CHARSEQUENCE TIME:" + SpecsStrings.parseTime(viewTime));
+        }
+
+        SpecsIo.deleteFolder(folder);
+    }
+
+    private static long measure(Runnable runnable) {
+        long tic = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - tic;
+    }
+
+    /**
+     * Previous implementation of SpecsIo.read(File).
+     */
+    private static String readLoop(File file) {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        try (BufferedReader bufferedReader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+
+            int intChar = bufferedReader.read();
+            while (intChar != -1) {
+                stringBuilder.append((char) intChar);
+                intChar = bufferedReader.read();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.classmap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.SpecsStrings;
+import pt.up.fe.specs.util.utilities.ClassMapper;
+
+/**
+ * Compares dispatching through ClassMapper (plus a map lookup, as ClassMap used to do) with ClassDispatchTable, in a
+ * single thread and in parallel.
+ */
+public class ClassDispatchSnippet {
+
+    @Test
+    public void test() {
+        List<Class<?>> keys = List.of(Number.class, CharSequence.class, List.class, Map.class, Exception.class);
+
+        ClassMapper mapper = new ClassMapper();
+        Map<Class<?>, String> map = new HashMap<>();
+        ClassDispatchTable<String> table = new ClassDispatchTable<>();
+        for (Class<?> key : keys) {
+            mapper.add(key);
+            map.put(key, key.getSimpleName());
+            table.put(key, key.getSimpleName());
+        }
+        table.freeze();
+
+        Object[] objects = { 1, 2.0, "string", new StringBuilder(), new ArrayList<>(), new LinkedList<>(),
+                new HashMap<>(), new RuntimeException(), 3L };
+
+        int times = 10_000_000;
+
+        for (int i = 0; i < 3; i++) {
+            long tic = System.nanoTime();
+            long mapperHits = 0;
+            for (int j = 0; j < times; j++) {
+                var mapped = mapper.map(objects[j % objects.length].getClass());
+                if (mapped.isPresent() && map.get(mapped.get()) != null) {
+                    mapperHits++;
+                }
+            }
+            long mapperTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            long tableHits = 0;
+            for (int j = 0; j < times; j++) {
+                if (table.getOrDefault(objects[j % objects.length].getClass(), null) != null) {
+                    tableHits++;
+                }
+            }
+            long tableTime = System.nanoTime() - tic;
+
+            // ClassMapper is not thread-safe, only the table can be measured in parallel
+            tic = System.nanoTime();
+            long parallelHits = IntStream.range(0, times).parallel()
+                    .filter(j -> table.getOrDefault(objects[j % objects.length].getClass(), null) != null)
+                    .count();
+            long parallelTime = System.nanoTime() - tic;
+
+            System.out.println("CLASS MAPPER (" + mapperHits + "):" + SpecsStrings.parseTime(mapperTime));
+            System.out.println("DISPATCH TABLE (" + tableHits + "):" + SpecsStrings.parseTime(tableTime));
+            System.out.println("DISPATCH TABLE PARALLEL (" + parallelHits + "):"
+                    + SpecsStrings.parseTime(parallelTime));
+        }
+    }
+}
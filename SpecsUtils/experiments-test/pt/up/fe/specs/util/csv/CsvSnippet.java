@@ -0,0 +1,100 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.csv;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.SpecsIo;
+import pt.up.fe.specs.util.SpecsStrings;
+import pt.up.fe.specs.util.utilities.LineStream;
+
+/**
+ * Compares line splitting with the streaming CSV parser when reading, and appending line by line with the block
+ * writer when writing.
+ */
+public class CsvSnippet {
+
+    private static final int NUM_ROWS = 500_000;
+
+    @Test
+    public void test() {
+        File csvFile = new File(SpecsIo.getTempFolder("csv_snippet"), "data.csv");
+
+        for (int i = 0; i < 3; i++) {
+            // Writing
+            long tic = System.nanoTime();
+            try (CsvStreamWriter writer = new CsvStreamWriter(csvFile, false)) {
+                writer.writeRow("id", "name", "value");
+                for (int row = 0; row < NUM_ROWS; row++) {
+                    writer.writeRow(Integer.toString(row), "name" + row, Double.toString(row * 0.5));
+                }
+            }
+            long streamWriteTime = System.nanoTime() - tic;
+
+            // Reading
+            tic = System.nanoTime();
+            long splitSum = 0;
+            try (LineStream lines = LineStream.newInstance(csvFile)) {
+                lines.nextLine();
+                while (lines.hasNextLine()) {
+                    List<String> fields = Arrays.asList(lines.nextLine().split(";"));
+                    splitSum += Long.parseLong(fields.get(0));
+                }
+            }
+            long splitTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            long parserSum = 0;
+            try (CsvParser parser = CsvParser.newInstance(csvFile, ";")) {
+                parser.readHeader();
+                CsvRow row;
+                while ((row = parser.nextRow()) != null) {
+                    parserSum += row.getLong(0);
+                }
+            }
+            long parserTime = System.nanoTime() - tic;
+
+            System.out.println("STREAM WRITE TIME:" + SpecsStrings.parseTime(streamWriteTime));
+            System.out.println("SPLIT READ TIME (" + splitSum + "):" + SpecsStrings.parseTime(splitTime));
+            System.out.println("PARSER READ TIME (" + parserSum + "):" + SpecsStrings.parseTime(parserTime));
+        }
+
+        // Appending line by line reopens the file for each line, so it uses fewer rows
+        int appendRows = 5_000;
+        long tic = System.nanoTime();
+        SpecsIo.write(csvFile, "");
+        for (int row = 0; row < appendRows; row++) {
+            SpecsIo.append(csvFile, row + ";name" + row + ";" + (row * 0.5) + "\n");
+        }
+        long appendTime = System.nanoTime() - tic;
+
+        tic = System.nanoTime();
+        try (BufferedCsvWriter writer = new BufferedCsvWriter(csvFile, Arrays.asList("id", "name", "value"))) {
+            writer.setFlushEvery(0);
+            for (int row = 0; row < appendRows; row++) {
+                writer.addLine(Integer.toString(row), "name" + row, Double.toString(row * 0.5));
+            }
+        }
+        long bufferedTime = System.nanoTime() - tic;
+
+        System.out.println("APPEND " + appendRows + " ROWS:" + SpecsStrings.parseTime(appendTime));
+        System.out.println("BUFFERED WRITER " + appendRows + " ROWS:" + SpecsStrings.parseTime(bufferedTime));
+
+        SpecsIo.delete(csvFile);
+    }
+}
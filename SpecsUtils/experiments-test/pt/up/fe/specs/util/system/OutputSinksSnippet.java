@@ -0,0 +1,75 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.system;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.SpecsIo;
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Compares StreamToString with the sinks in OutputSinks, on an in-memory stream with the size of a large compiler log.
+ */
+public class OutputSinksSnippet {
+
+    @Test
+    public void test() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1_000_000; i++) {
+            builder.append("warning: line ").append(i).append(" of a very verbose tool\n");
+        }
+        byte[] bytes = builder.toString().getBytes(Charset.defaultCharset());
+
+        File spillFile = new File(SpecsIo.getTempFolder("output_sinks_snippet"), "spill.txt");
+
+        for (int i = 0; i < 5; i++) {
+            long tic = System.nanoTime();
+            int stringLength = new StreamToString(false, true, OutputType.StdOut)
+                    .apply(new ByteArrayInputStream(bytes)).length();
+            long stringTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            int tailLength = OutputSinks.tail(64 * 1024, null).apply(new ByteArrayInputStream(bytes)).length();
+            long tailTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            long spillSize = OutputSinks.spillTo(spillFile).apply(new ByteArrayInputStream(bytes)).getSize();
+            long spillTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            long transferSize = OutputSinks.transferTo(OutputStream.nullOutputStream())
+                    .apply(new ByteArrayInputStream(bytes));
+            long transferTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            LongAdder chars = new LongAdder();
+            long numLines = OutputSinks.lines(line -> chars.add(line.length())).apply(new ByteArrayInputStream(bytes));
+            long linesTime = System.nanoTime() - tic;
+
+            System.out.println("STREAM TO STRING (" + stringLength + "):" + SpecsStrings.parseTime(stringTime));
+            System.out.println("TAIL (" + tailLength + "):" + SpecsStrings.parseTime(tailTime));
+            System.out.println("SPILL (" + spillSize + "):" + SpecsStrings.parseTime(spillTime));
+            System.out.println("TRANSFER (" + transferSize + "):" + SpecsStrings.parseTime(transferTime));
+            System.out.println("LINES (" + numLines + "):" + SpecsStrings.parseTime(linesTime));
+        }
+
+        SpecsIo.deleteFolder(spillFile.getParentFile());
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.system;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.SpecsIo;
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Compares the fixed cost of launching many short processes with the legacy launcher (login shell, GC before each
+ * launch), the fast launcher, and the fast launcher in batch mode.
+ */
+public class ProcessLauncherSnippet {
+
+    @Test
+    public void test() {
+        File workingDir = SpecsIo.getWorkingDir();
+        int numProcesses = 200;
+        Function<InputStream, String> output = new StreamToString(false, true, OutputType.StdOut);
+        Function<InputStream, String> error = new StreamToString(false, true, OutputType.StdErr);
+
+        List<ProcessBuilder> builders = new ArrayList<>();
+        for (int i = 0; i < numProcesses; i++) {
+            builders.add(new ProcessBuilder("true").directory(workingDir));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            long tic = System.nanoTime();
+            for (ProcessBuilder builder : builders) {
+                ProcessLauncher.legacy().run(new ProcessBuilder(builder.command()).directory(workingDir), output,
+                        error, null, null);
+            }
+            long legacyTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            for (ProcessBuilder builder : builders) {
+                ProcessLauncher.newInstance().run(builder, output, error, null, null);
+            }
+            long fastTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            ProcessLauncher.newInstance().runBatch(builders, Runtime.getRuntime().availableProcessors(), output,
+                    error, null, (index, result) -> {
+                    });
+            long batchTime = System.nanoTime() - tic;
+
+            System.out.println("Processes: " + numProcesses);
+            System.out.println("LEGACY TIME:" + SpecsStrings.parseTime(legacyTime));
+            System.out.println("FAST TIME:" + SpecsStrings.parseTime(fastTime));
+            System.out.println("BATCH TIME:" + SpecsStrings.parseTime(batchTime));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.treenode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Compares indexed and unindexed getDescendants(Class) queries on a tree with about 1M nodes.
+ */
+public class TreeNodeTypeIndexSnippet {
+
+    private static final int NUM_QUERIES = 100;
+
+    @Test
+    public void test() {
+        SnippetNode root = buildTree();
+
+        List<SnippetNode> queryNodes = new ArrayList<>(root.getChildren());
+        queryNodes.add(root);
+
+        // Warm up
+        query(queryNodes);
+
+        long tic = System.nanoTime();
+        int unindexed = query(queryNodes);
+        long unindexedTime = System.nanoTime() - tic;
+
+        root.enableTypeIndex();
+
+        tic = System.nanoTime();
+        // Includes building the index on the first query
+        int indexed = query(queryNodes);
+        long indexedTime = System.nanoTime() - tic;
+
+        System.out.println("Nodes: " + (root.getDescendants().size() + 1));
+        System.out.println("UNINDEXED (" + unindexed + "):" + SpecsStrings.parseTime(unindexedTime));
+        System.out.println("INDEXED (" + indexed + "):" + SpecsStrings.parseTime(indexedTime));
+    }
+
+    private static int query(List<SnippetNode> queryNodes) {
+        int count = 0;
+        for (int i = 0; i < NUM_QUERIES; i++) {
+            SnippetNode node = queryNodes.get(i % queryNodes.size());
+            count += node.getDescendants(LeafNode.class).size();
+        }
+        return count;
+    }
+
+    /**
+     * 100 subtrees, each with 100 inner nodes of 100 leaves.
+     */
+    private static SnippetNode buildTree() {
+        SnippetNode root = new SnippetNode();
+        for (int i = 0; i < 100; i++) {
+            SnippetNode subtree = new SnippetNode();
+            for (int j = 0; j < 100; j++) {
+                SnippetNode inner = new SnippetNode();
+                for (int k = 0; k < 100; k++) {
+                    inner.addChild(k % 10 == 0 ? new LeafNode() : new SnippetNode());
+                }
+                subtree.addChild(inner);
+            }
+            root.addChild(subtree);
+        }
+        return root;
+    }
+
+    private static class SnippetNode extends ATreeNode<SnippetNode> {
+
+        public SnippetNode() {
+            super(Collections.emptyList());
+        }
+
+        @Override
+        public String toContentString() {
+            return "";
+        }
+
+        @Override
+        protected SnippetNode copyPrivate() {
+            return new SnippetNode();
+        }
+    }
+
+    private static class LeafNode extends SnippetNode {
+    }
+}
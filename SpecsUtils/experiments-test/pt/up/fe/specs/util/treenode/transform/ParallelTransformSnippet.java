@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.treenode.transform;
+
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.SpecsStrings;
+import pt.up.fe.specs.util.treenode.ATreeNode;
+import pt.up.fe.specs.util.treenode.transform.impl.DefaultTransformResult;
+import pt.up.fe.specs.util.treenode.transform.util.TraversalStrategy;
+
+/**
+ * Compares the sequential and parallel collection of transformations on a tree with about 1M nodes.
+ */
+public class ParallelTransformSnippet {
+
+    @Test
+    public void test() {
+        SnippetNode root = buildTree();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        for (TraversalStrategy strategy : TraversalStrategy.values()) {
+            SnippetRule rule = new SnippetRule(strategy);
+
+            for (int i = 0; i < 3; i++) {
+                long tic = System.nanoTime();
+                int sequential = strategy.getTransformations(root, new SequentialRule(rule)).getTransforms().size();
+                long sequentialTime = System.nanoTime() - tic;
+
+                tic = System.nanoTime();
+                int parallel = strategy.getTransformationsParallel(root, rule, pool).getTransforms().size();
+                long parallelTime = System.nanoTime() - tic;
+
+                System.out.println(strategy + " SEQUENTIAL (" + sequential + "):"
+                        + SpecsStrings.parseTime(sequentialTime));
+                System.out.println(strategy + " PARALLEL (" + parallel + ", " + pool.getParallelism() + " threads):"
+                        + SpecsStrings.parseTime(parallelTime));
+            }
+        }
+    }
+
+    /**
+     * 100 subtrees, each with 100 inner nodes of 100 leaves.
+     */
+    private static SnippetNode buildTree() {
+        SnippetNode root = new SnippetNode(0);
+        int id = 1;
+        for (int i = 0; i < 100; i++) {
+            SnippetNode subtree = new SnippetNode(id++);
+            for (int j = 0; j < 100; j++) {
+                SnippetNode inner = new SnippetNode(id++);
+                for (int k = 0; k < 100; k++) {
+                    inner.addChild(new SnippetNode(id++));
+                }
+                subtree.addChild(inner);
+            }
+            root.addChild(subtree);
+        }
+        return root;
+    }
+
+    private static class SnippetNode extends ATreeNode<SnippetNode> {
+
+        private final int id;
+
+        public SnippetNode(int id) {
+            super(Collections.emptyList());
+            this.id = id;
+        }
+
+        @Override
+        public String toContentString() {
+            return Integer.toString(id);
+        }
+
+        @Override
+        protected SnippetNode copyPrivate() {
+            return new SnippetNode(id);
+        }
+    }
+
+    /**
+     * Deletes one in every 100 nodes, after doing some work on the content of the node.
+     */
+    private static class SnippetRule implements ParallelTransformRule<SnippetNode, DefaultTransformResult> {
+
+        private final TraversalStrategy strategy;
+
+        public SnippetRule(TraversalStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        @Override
+        public DefaultTransformResult apply(SnippetNode node, TransformQueue<SnippetNode> queue) {
+            if (node.toContentString().hashCode() % 100 == 0) {
+                queue.delete(node);
+            }
+
+            return new DefaultTransformResult(true);
+        }
+
+        @Override
+        public TraversalStrategy getTraversalStrategy() {
+            return strategy;
+        }
+    }
+
+    /**
+     * Same as the given rule, but without the parallel marker.
+     */
+    private static class SequentialRule implements TransformRule<SnippetNode, DefaultTransformResult> {
+
+        private final SnippetRule rule;
+
+        public SequentialRule(SnippetRule rule) {
+            this.rule = rule;
+        }
+
+        @Override
+        public DefaultTransformResult apply(SnippetNode node, TransformQueue<SnippetNode> queue) {
+            return rule.apply(node, queue);
+        }
+
+        @Override
+        public TraversalStrategy getTraversalStrategy() {
+            return rule.getTraversalStrategy();
+        }
+    }
+}
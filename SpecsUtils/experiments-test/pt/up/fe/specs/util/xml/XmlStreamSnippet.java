@@ -0,0 +1,64 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.xml;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import pt.up.fe.specs.util.SpecsIo;
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Compares reading the elements of a large XML report through the DOM with the streaming reader.
+ */
+public class XmlStreamSnippet {
+
+    @Test
+    public void test() {
+        File xmlFile = new File(SpecsIo.getTempFolder("xml_stream_snippet"), "report.xml");
+
+        StringBuilder xml = new StringBuilder("<report>\n");
+        for (int i = 0; i < 200_000; i++) {
+            xml.append("  <function name=\"f").append(i).append("\" calls=\"").append(i)
+                    .append("\"><callee name=\"g\"/><time>0.5</time></function>\n");
+        }
+        xml.append("</report>\n");
+        SpecsIo.write(xmlFile, xml.toString());
+
+        for (int i = 0; i < 3; i++) {
+            long tic = System.nanoTime();
+            long domSum = 0;
+            for (XmlElement function : XmlDocument.newInstance(xmlFile).getElementsByName("function")) {
+                domSum += Long.parseLong(function.getAttribute("calls"));
+            }
+            long domTime = System.nanoTime() - tic;
+
+            tic = System.nanoTime();
+            AtomicLong streamSum = new AtomicLong();
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(xmlFile)) {
+                reader.onPath("/report/function",
+                        function -> streamSum.addAndGet(Long.parseLong(function.getAttribute("calls"))));
+                reader.read();
+            }
+            long streamTime = System.nanoTime() - tic;
+
+            System.out.println("DOM TIME (" + domSum + "):" + SpecsStrings.parseTime(domTime));
+            System.out.println("STREAM TIME (" + streamSum + "):" + SpecsStrings.parseTime(streamTime));
+        }
+
+        SpecsIo.delete(xmlFile);
+    }
+}
@@ -13,9 +13,6 @@
 package pt.up.fe.specs.util;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
@@ -25,11 +22,9 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -40,6 +35,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
@@ -59,16 +55,15 @@ import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-import java.util.prefs.Preferences;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import pt.up.fe.specs.util.collections.SpecsList;
+import pt.up.fe.specs.util.io.BulkFileIo;
+import pt.up.fe.specs.util.io.FileWalker;
+import pt.up.fe.specs.util.io.ZipArchiver;
+import pt.up.fe.specs.util.providers.ResourceCache;
 import pt.up.fe.specs.util.providers.ResourceProvider;
-import pt.up.fe.specs.util.utilities.ProgressCounter;
 
 /**
  * Utility methods for input/output operations.
@@ -286,33 +281,45 @@ public class SpecsIo {
             return null;
         }
 
-        StringBuilder stringBuilder = new StringBuilder();
-
-        // Try to read the contents of the file into the StringBuilder
-
-        try (final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(new FileInputStream(file),
-                SpecsIo.DEFAULT_CHAR_SET))) {
+        try {
+            return BulkFileIo.read(file.toPath(), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException ex) {
+            SpecsLogs.msgInfo("FileNotFoundException: " + ex.getMessage());
+            return null;
+        } catch (IOException ex) {
+            SpecsLogs.msgInfo("IOException: " + ex.getMessage());
+            return null;
+        }
+    }
 
-            // Read first character. It can't be cast to "char", otherwise the
-            // -1 will be converted in a character.
-            // First test for -1, then cast.
-            int intChar = bufferedReader.read();
-            while (intChar != -1) {
-                char character = (char) intChar;
-                stringBuilder.append(character);
-                intChar = bufferedReader.read();
-            }
+    /**
+     * Given a File object, returns a CharSequence with the contents of the file.
+     *
+     * <p>
+     * Similar to {@link #read(File)}, but for large files it avoids building a String and returns a read-only view
+     * over the decoded contents.
+     *
+     * <p>
+     * If an error occurs (ex.: the File argument does not represent a file) returns null and logs the cause.
+     *
+     * @param file a File object representing a file.
+     * @return a CharSequence with the contents of the file.
+     */
+    public static CharSequence readCharSequence(File file) {
+        if (file == null) {
+            SpecsLogs.msgInfo("Input 'file' is null.");
+            return null;
+        }
 
-        } catch (FileNotFoundException ex) {
+        try {
+            return BulkFileIo.readCharSequence(file.toPath(), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException ex) {
             SpecsLogs.msgInfo("FileNotFoundException: " + ex.getMessage());
             return null;
-
         } catch (IOException ex) {
             SpecsLogs.msgInfo("IOException: " + ex.getMessage());
             return null;
         }
-
-        return stringBuilder.toString();
     }
 
     public static void close(Closeable closeable) {
@@ -330,35 +337,12 @@ public class SpecsIo {
      *
      */
     public static String read(InputStream inputStream) {
-        StringBuilder stringBuilder = new StringBuilder();
-
-        // Try to read the contents of the input stream into the StringBuilder
-        // Using 'finally' style 2 as described in
-        // http://www.javapractices.com/topic/TopicAction.do?Id=25
-        try (final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream,
-                SpecsIo.DEFAULT_CHAR_SET))) {
-
-            // Read first character. It can't be cast to "char", otherwise the
-            // -1 will be converted in a character.
-            // First test for -1, then cast.
-            int intChar = bufferedReader.read();
-            while (intChar != -1) {
-                char character = (char) intChar;
-
-                stringBuilder.append(character);
-
-                intChar = bufferedReader.read();
-            }
-
-        } catch (FileNotFoundException ex) {
-            SpecsLogs.warn("FileNotFoundException", ex);
-            stringBuilder = new StringBuilder(0);
+        try (inputStream) {
+            return BulkFileIo.read(inputStream, StandardCharsets.UTF_8);
         } catch (IOException ex) {
             SpecsLogs.warn("IOException", ex);
-            stringBuilder = new StringBuilder(0);
+            return "";
         }
-
-        return stringBuilder.toString();
     }
 
     /**
@@ -420,11 +404,6 @@ public class SpecsIo {
     /**
      * Method shared among write and append.
      *
-     * <p>
-     * Using 'finally' style 2 as described in
-     * <a href="http://www.javapractices.com/topic/TopicAction.do?Id=25">Java
-     * Practices: Finally and Catch</a>.
-     *
      */
     private static boolean writeAppendHelper(File file, String contents, boolean append) {
         boolean isSuccess = true;
@@ -434,23 +413,17 @@ public class SpecsIo {
             SpecsIo.mkdir(file.getParent());
         }
 
-        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, append),
-                SpecsIo.DEFAULT_CHAR_SET))) {
-
-            if (!file.exists()) {
-                boolean success = file.createNewFile();
-                if (!success) {
-                    SpecsLogs.warn("Could not create file '" + file + "'");
-                    return false;
-                }
-            }
-
-            if (!file.isFile()) {
+        try {
+            if (file.exists() && !file.isFile()) {
                 SpecsLogs.warn("Path '" + file + "' is not a file.");
                 return false;
             }
 
-            writer.write(contents, 0, contents.length());
+            if (append) {
+                BulkFileIo.append(file.toPath(), contents, StandardCharsets.UTF_8);
+            } else {
+                BulkFileIo.write(file.toPath(), contents, StandardCharsets.UTF_8);
+            }
 
             // Inform about the operation
             if (append) {
@@ -549,66 +522,43 @@ public class SpecsIo {
     public static List<File> getFilesRecursive(File path, Collection<String> extensions, boolean followSymlinks,
             Predicate<File> cutoffFolders) {
 
-        // Make extensions lower-case
-        Collection<String> lowerCaseExtensions = extensions.stream().map(String::toLowerCase)
-                .collect(Collectors.toSet());
-
-        List<File> files = new ArrayList<>();
-
-        getFilesRecursivePrivate(path, lowerCaseExtensions, followSymlinks, cutoffFolders, files);
-
-        return files;
+        return new FileWalker(extensions, followSymlinks, cutoffFolders).getFiles(path);
     }
 
-    private static void getFilesRecursivePrivate(File path, Collection<String> extensions, boolean followSymlinks,
-            Predicate<File> cutoffFolders, List<File> foundFiles) {
-        if (!path.exists()) {
-            SpecsLogs.debug(() -> "Path '" + path + "' does not exist.");
-            return;
-        }
-
-        // Ignore path if is symlink
-        if (!followSymlinks && Files.isSymbolicLink(path.toPath())) {
-            return;
-        }
-
-        if (path.isFile()) {
-            // Test for extension, if set is not empty
-            if (!extensions.isEmpty()) {
-                String extension = SpecsIo.getExtension(path).toLowerCase();
-                if (!extensions.contains(extension)) {
-                    return;
-                }
-            }
-
-            foundFiles.add(path);
-
-            return;
-        }
-
-        if (!path.isDirectory()) {
-            SpecsLogs.debug(() -> "Ignoring path that is neither file or folder: " + path);
-            return;
-        }
-
-        // Must be a folder from this point on
-        SpecsCheck.checkArgument(path.isDirectory(), () -> "Expected file to be a folder: " + path);
+    /**
+     * Parallel version of {@link #getFilesRecursive(File, Collection, boolean, Predicate)}, which visits sub-folders
+     * concurrently using the common fork-join pool. Returns the files in the same order as the sequential version.
+     *
+     * @param path           a File representing a folder or a file.
+     * @param extensions     a set of strings
+     * @param followSymlinks whether to follow symlinks
+     * @param cutoffFolders  a predicate to determine if a folder should be cut off
+     *
+     * @return all the files inside the given folder, excluding other folders, that
+     *         have a certain extension as determined by the set.
+     */
+    public static List<File> getFilesRecursiveParallel(File path, Collection<String> extensions,
+            boolean followSymlinks, Predicate<File> cutoffFolders) {
 
-        // If it should be cut-off, stop processing of this folder
-        if (cutoffFolders.test(path)) {
-            return;
-        }
+        return new FileWalker(extensions, followSymlinks, cutoffFolders).getFilesParallel(path);
+    }
 
-        // Recursively add files of folder
-        File[] children = path.listFiles();
-        if (children == null) {
-            children = new File[0];
-            SpecsLogs.debug("Could not list files of path '" + path.getAbsolutePath() + "'");
-        }
+    /**
+     * Lazy version of {@link #getFilesRecursive(File, Collection, boolean, Predicate)}, which returns the files as
+     * they are found. The stream should be closed after use (e.g., with try-with-resources).
+     *
+     * @param path           a File representing a folder or a file.
+     * @param extensions     a set of strings
+     * @param followSymlinks whether to follow symlinks
+     * @param cutoffFolders  a predicate to determine if a folder should be cut off
+     *
+     * @return a stream with all the files inside the given folder, excluding other folders, that
+     *         have a certain extension as determined by the set.
+     */
+    public static Stream<Path> streamFilesRecursive(File path, Collection<String> extensions, boolean followSymlinks,
+            Predicate<File> cutoffFolders) {
 
-        for (File child : children) {
-            getFilesRecursivePrivate(child, extensions, followSymlinks, cutoffFolders, foundFiles);
-        }
+        return new FileWalker(extensions, followSymlinks, cutoffFolders).stream(path.toPath());
     }
 
     /**
@@ -1005,71 +955,57 @@ public class SpecsIo {
 
     }
 
+    /**
+     * Extracts a zip file to the given folder, in parallel.
+     *
+     * @return true if the file was extracted, false if the folder does not exist or there were errors while
+     *         extracting
+     */
     public static boolean extractZip(File zipFile, File folder) {
-        try (InputStream stream = new FileInputStream(zipFile)) {
-            return extractZipResource(stream, folder);
-        } catch (IOException e) {
-            throw new RuntimeException("Could not unzip file '" + zipFile + "'", e);
-        }
-
+        return extractZip(zipFile, folder, new ZipArchiver());
     }
 
-    public static boolean extractZipResource(InputStream resource, File folder) {
-        boolean success = true;
+    /**
+     * Extracts a zip file to the given folder, using the given archiver (e.g., to skip unchanged files or to report
+     * progress).
+     *
+     * @return true if the file was extracted, false if the folder does not exist or there were errors while
+     *         extracting
+     */
+    public static boolean extractZip(File zipFile, File folder, ZipArchiver archiver) {
+        if (!zipFile.isFile()) {
+            throw new RuntimeException("Could not unzip file '" + zipFile + "', it does not exist");
+        }
+
         if (!folder.isDirectory()) {
             SpecsLogs.warn("Given folder '" + folder.getPath() + "' does not exist.");
             return false;
         }
 
-        // Using 'finally' style 2 as described in
-        // http://www.javapractices.com/topic/TopicAction.do?Id=25
-        try (ZipInputStream zis = new ZipInputStream(resource)) {
-
-            ZipEntry entry;
-            while ((entry = zis.getNextEntry()) != null) {
-                // If folder, create it
-                if (entry.isDirectory()) {
-                    File zippedFolder = SpecsIo.mkdir(folder, entry.getName());
-                    SpecsLogs.msgInfo("Create folder '" + zippedFolder + "'");
-                    continue;
-                }
-
-                File outFile = new File(folder, entry.getName());
-
-                SpecsLogs.msgInfo("Unzipping '" + outFile.getPath() + "'");
-                unzipFile(zis, outFile);
-            }
-
-        } catch (IOException ex) {
-            SpecsLogs.warn("IoException while unzipping to folder '" + folder + "'", ex);
-            success = false;
+        try {
+            archiver.extract(zipFile, folder);
+        } catch (IOException e) {
+            SpecsLogs.warn("IoException while unzipping to folder '" + folder + "'", e);
+            return false;
         }
 
-        return success;
+        return true;
     }
 
-    /**
-     * Reads the contents of ZipInputStream at the current position to a File.
-     *
-     * <p>
-     * Does not close the stream, so that it can be used again for the remaining
-     * zipped files.
-     *
-     */
-    private static void unzipFile(ZipInputStream zis, File outFile) throws IOException {
-        int size;
-        byte[] buffer = new byte[2048];
-
-        // Make sure folder to output file exists
-        SpecsIo.mkdir(outFile.getParentFile());
-
-        try (BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(outFile), buffer.length)) {
+    public static boolean extractZipResource(InputStream resource, File folder) {
+        if (!folder.isDirectory()) {
+            SpecsLogs.warn("Given folder '" + folder.getPath() + "' does not exist.");
+            return false;
+        }
 
-            while ((size = zis.read(buffer, 0, buffer.length)) != -1) {
-                bos.write(buffer, 0, size);
-            }
-            bos.flush();
+        try {
+            new ZipArchiver().extract(resource, folder);
+        } catch (IOException e) {
+            SpecsLogs.warn("IoException while unzipping to folder '" + folder + "'", e);
+            return false;
         }
+
+        return true;
     }
 
     /**
@@ -1267,24 +1203,25 @@ public class SpecsIo {
 
     /**
      * Copies the given resource to the destination folder. If the file already
-     * exists, uses ResourceProvider version method to determine if the file should
-     * be overwritten or not.
+     * exists and is a copy of the same version of the resource (see
+     * ResourceProvider version method), the file is not written again.
      *
      * <p>
-     * If the file already exists but no versioning information is available in the
-     * system, the file is overwritten.
+     * The resource is first extracted to the default {@link ResourceCache}, which
+     * is keyed by the contents and version of the resource, and is shared by the
+     * processes of the current user. The version of the copy is stored in a hidden
+     * file next to it. If the file already exists but is a copy of a different
+     * version, or no versioning information is available, the file is overwritten.
      *
      * <p>
-     * The method will use the package of the class indicated in 'context' as the
-     * location to store the information about versioning. Keep in mind that calls
-     * using the same context will refer to the same local copy of the resource.
+     * The 'context' is no longer used. Versioning information was previously
+     * stored in the preferences of its package.
      *
      * @return the file that was written
      */
     public static ResourceCopyData resourceCopyVersioned(ResourceProvider resource, File destinationFolder,
             boolean useResourcePath, Class<?> context) {
 
-        // Create file
         String resourceOutput = resource.getResource();
         if (!useResourcePath) {
             resourceOutput = SpecsIo.getResourceName(resourceOutput);
@@ -1292,40 +1229,9 @@ public class SpecsIo {
 
         File destination = new File(destinationFolder, resourceOutput);
 
-        // If file does not exist, just write and return
-        if (!destination.exists()) {
-            return new ResourceCopyData(resourceCopy(resource.getResource(), destinationFolder, useResourcePath, false),
-                    true);
-        }
-
-        Preferences prefs = Preferences.userNodeForPackage(context);
-
-        // Check version information
-        String key = resource.getClass().getSimpleName() + "." + resource.getResource();
-        String NOT_FOUND = "<NOT FOUND>";
-        String version = prefs.get(key, NOT_FOUND);
-
-        // If current version is the same as the version of the resource just return the
-        // existing file
-        if (version.equals(resource.version())) {
-            return new ResourceCopyData(destination, false);
-        }
-
-        // Warn when there is not version information available
-        if (version.equals(NOT_FOUND)) {
-            SpecsLogs.msgInfo("Resource '" + resource
-                    + "' already exists, but no versioning information is available. Overwriting file '" + key
-                    + "' and storing information.");
-        }
-
-        // Copy resource and store version information
-        File writtenFile = resourceCopy(resource.getResource(), destinationFolder, useResourcePath, true);
-        prefs.put(key, resource.version());
-
-        assert writtenFile.equals(destination);
-
-        return new ResourceCopyData(writtenFile, true);
+        boolean written = ResourceCache.getDefault().copy(resource, destination, true);
 
+        return new ResourceCopyData(destination, written);
     }
 
     public static File resourceCopy(String resource, File destinationFolder, boolean useResourcePath,
@@ -2271,30 +2177,20 @@ public class SpecsIo {
      *
      */
     public static void zip(List<File> entries, File basePath, File zipFile) {
+        zip(entries, basePath, zipFile, new ZipArchiver());
+    }
 
-        try (FileOutputStream outStream = new FileOutputStream(zipFile);
-                ZipOutputStream zip = new ZipOutputStream(outStream)) {
-
-            ProgressCounter progress = new ProgressCounter(entries.size());
-            SpecsLogs.msgInfo("Zipping " + entries.size() + " files to '" + zipFile.getAbsolutePath() + "'");
-            for (File entry : entries) {
-                SpecsLogs.msgInfo("Zipping '" + entry.getAbsolutePath() + "'... " + progress.next());
-                // Get relative path, to create ZipEntry
-                Optional<String> entryPath = SpecsIo.getRelativePath(entry, basePath, true);
-
-                if (entryPath.isEmpty()) {
-                    SpecsLogs.msgInfo("Entry '" + entry.getAbsolutePath() + "' is not inside base path '"
-                            + basePath.getAbsolutePath() + "'");
-                    continue;
-                }
-
-                ZipEntry zipEntry = new ZipEntry(entryPath.get());
-                zip.putNextEntry(zipEntry);
-
-                zip.write(SpecsIo.readAsBytes(entry));
-                zip.closeEntry();
-            }
+    /**
+     * Compresses the entries into the given zipFile, using the given archiver (e.g.,
+     * to reuse unchanged entries or to report progress). Uses basePath to calculate
+     * the root of entries in the zip.
+     *
+     */
+    public static void zip(List<File> entries, File basePath, File zipFile, ZipArchiver archiver) {
+        SpecsLogs.msgInfo("Zipping " + entries.size() + " files to '" + zipFile.getAbsolutePath() + "'");
 
+        try {
+            archiver.zip(entries, basePath, zipFile);
         } catch (IOException e) {
             SpecsLogs.warn("Exception while zipping archive:\n", e);
         }
@@ -24,6 +24,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.StreamHandler;
 
+import pt.up.fe.specs.util.logging.AsyncHandler;
+import pt.up.fe.specs.util.logging.AsyncHandler.OverflowPolicy;
 import pt.up.fe.specs.util.logging.ConsoleFormatter;
 import pt.up.fe.specs.util.logging.CustomConsoleHandler;
 import pt.up.fe.specs.util.logging.EnumLogger;
@@ -220,6 +222,17 @@ public class SpecsLogs {
         return cHandler;
     }
 
+    /**
+     * Builds a handler that prints to the console like the handlers of {@link #buildStdOutHandler()} and
+     * {@link #buildStdErrHandler()}, but in a background thread.
+     *
+     * @return an AsyncHandler that waits when its buffer is full
+     */
+    public static AsyncHandler buildAsyncConsoleHandler() {
+        return new AsyncHandler(List.of(buildStdOutHandler(), buildStdErrHandler()), AsyncHandler.DEFAULT_CAPACITY,
+                OverflowPolicy.BLOCK);
+    }
+
     /**
      * builds a Console Handler which uses as formatter, ConsoleFormatter.
      *
@@ -317,7 +330,18 @@ public class SpecsLogs {
         warn(msg, ourCause);
     }
 
+    /**
+     * Only calls the supplier if warnings are enabled.
+     */
+    public static void warnLazy(Supplier<String> msg) {
+        SPECS_LOGGER.get().warnLazy(msg);
+    }
+
     public static void warn(String msg, Throwable ourCause) {
+        // Avoid capturing the stack trace if the message will not be logged
+        if (!isLoggable(Level.WARNING)) {
+            return;
+        }
 
         // Get the root cause
         while (ourCause.getCause() != null) {
@@ -359,6 +383,13 @@ public class SpecsLogs {
         SPECS_LOGGER.get().info(msg);
     }
 
+    /**
+     * Only calls the supplier if info messages are enabled.
+     */
+    public static void infoLazy(Supplier<String> msg) {
+        SPECS_LOGGER.get().infoLazy(msg);
+    }
+
     /**
      * Lib-level message.
      *
@@ -371,6 +402,22 @@ public class SpecsLogs {
         SPECS_LOGGER.get().log(LogLevel.LIB, msg);
     }
 
+    /**
+     * Only calls the supplier if library messages are enabled.
+     */
+    public static void msgLibLazy(Supplier<String> msg) {
+        SPECS_LOGGER.get().logLazy(LogLevel.LIB, null, msg);
+    }
+
+    /**
+     * Use this to avoid building messages that would not be logged, when a lazy variant is not available.
+     *
+     * @return true if messages of the given level are logged by the SpecsLogs logger
+     */
+    public static boolean isLoggable(Level level) {
+        return SPECS_LOGGER.get().isLoggable(level, null);
+    }
+
     /**
      * Writes a message to the logger with name defined by LOGGING_TAG.
      *
@@ -17,11 +17,11 @@ import pt.up.fe.specs.util.classmap.ClassSet;
 import pt.up.fe.specs.util.lazy.Lazy;
 import pt.up.fe.specs.util.properties.SpecsProperty;
 import pt.up.fe.specs.util.system.OutputType;
+import pt.up.fe.specs.util.system.ProcessLauncher;
 import pt.up.fe.specs.util.system.ProcessOutput;
 import pt.up.fe.specs.util.system.ProcessOutputAsString;
 import pt.up.fe.specs.util.system.StreamToString;
 import pt.up.fe.specs.util.utilities.JarPath;
-import pt.up.fe.specs.util.utilities.ProgressCounter;
 
 import java.io.File;
 import java.io.IOException;
@@ -45,7 +45,6 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.jar.Manifest;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Utility methods related to system tasks.
@@ -69,6 +68,9 @@ public class SpecsSystem {
 
     private static final Lazy<String> WINDOWS_POWERSHELL = Lazy.newInstance(SpecsSystem::findPwsh);
 
+    private static final ProcessLauncher LEGACY_LAUNCHER = ProcessLauncher.legacy();
+    private static final ProcessLauncher FAST_LAUNCHER = ProcessLauncher.newInstance();
+
     private static boolean testIsDebug() {
 
         // Test if file debug exists in working directory
@@ -183,182 +185,32 @@ public class SpecsSystem {
             Function<InputStream, O> outputProcessor, Function<InputStream, E> errorProcessor,
             Consumer<OutputStream> input, Long timeoutNanos) {
 
-        // The command in the builder might need processing (e.g., Windows system
-        // commands)
-        processCommand(builder);
-        SpecsLogs.debug(() -> "Launching Process: " + String.join(" ", builder.command()));
-
-        Process process;
-        try {
-            // Experiment: Calling Garbage Collector before starting process in order to
-            // reduce memory required to fork VM
-            // http://www.bryanmarty.com/2012/01/14/forking-jvm/
-            long totalMemBefore = Runtime.getRuntime().totalMemory();
-            System.gc();
-            long totalMemAfter = Runtime.getRuntime().totalMemory();
-            SpecsLogs.msgLib("Preparing to run process, memory before -> after GC: "
-                    + SpecsStrings.parseSize(totalMemBefore) + " -> " + SpecsStrings.parseSize(totalMemAfter));
-            process = builder.start();
-
-        } catch (IOException e) {
-            throw new RuntimeException("Could not start process", e);
-        }
-
-        ExecutorService stdoutThread = Executors.newSingleThreadExecutor();
-        InputStream inputStream = process.getInputStream();
-        Future<O> outputFuture = stdoutThread.submit(() -> outputProcessor.apply(inputStream));
-
-        ExecutorService stderrThread = Executors.newSingleThreadExecutor();
-        InputStream errorStream = process.getErrorStream();
-        Future<E> errorFuture = stderrThread.submit(() -> errorProcessor.apply(errorStream));
-
-        if (input != null) {
-            ExecutorService stdinThread = Executors.newSingleThreadExecutor();
-            OutputStream inStream = process.getOutputStream();
-            stdinThread.submit(() -> input.accept(inStream));
-            stdinThread.shutdown();
-        }
-
-        // The ExecutorService objects are shutdown, as they will not
-        // receive more tasks.
-        stdoutThread.shutdown();
-        stderrThread.shutdown();
-
-        return executeProcess(process, timeoutNanos, outputFuture, errorFuture);
+        return LEGACY_LAUNCHER.run(builder, outputProcessor, errorProcessor, input, timeoutNanos);
     }
 
     /**
-     * Performs several fixes on the builder command (e.g., adapts command for
-     * Windows platforms)
+     * Launches the process characterized by 'builder' with a low fixed cost: the
+     * command is executed directly instead of through a shell, and the garbage
+     * collector is not called before launching. Use {@link ProcessLauncher} for
+     * more options, or to launch several processes in parallel.
      *
      */
-    private static void processCommand(ProcessBuilder builder) {
-        // Do nothing if no command
-        if (builder.command().isEmpty()) {
-            return;
-        }
-
-        if (isWindows()) {
-            // Check if command is a file that exists in the working folder
-            File workingDir = builder.directory();
-            File command = new File(workingDir, builder.command().get(0));
-
-            // If command is a file that exists, do nothing
-            if (command.isFile()) {
-                return;
-            }
-
-            // Update command
-            List<String> newCommand = new ArrayList<>(builder.command().size() + 2);
-            newCommand.add("cmd");
-            newCommand.add("/c");
-            newCommand.addAll(builder.command());
-
-            builder.command(newCommand);
-        } else if (isLinux()) {
-            // Update command
-            List<String> newCommand = new ArrayList<>(4);
-            newCommand.add("bash");
-            // Same user
-            newCommand.add("-l");
-            // Command
-            newCommand.add("-c");
-            newCommand.add(builder.command().stream()
-                    .map(arg -> arg.replace(" ", "\\ "))
-                    .collect(Collectors.joining(" ")));
-
-            builder.command(newCommand);
-        }
-
-    }
-
-    private static <O, E> ProcessOutput<O, E> executeProcess(Process process,
-            Long timeoutNanos, Future<O> outputFuture, Future<E> errorFuture) {
-
-        boolean timedOut = false;
-
-        // Read streams before the process ends
-        O output = null;
-        E error = null;
-
-        // wait forever, or just for a while
-        try {
-            if (timeoutNanos == null) {
-                process.waitFor();
-                SpecsLogs.debug(() -> "Process ended on its own");
-
-            } else {
-                SpecsLogs.debug(() -> "Launched process with a timeout of " + timeoutNanos + "ns");
-                timedOut = !process.waitFor(timeoutNanos, TimeUnit.NANOSECONDS);
-                boolean timedOutFinal = timedOut;
-                SpecsLogs.debug(() -> "Process timed out? " + timedOutFinal);
-            }
-
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-            destroyProcess(process);
-            throw new RuntimeException("Could not finish process with command '"
-                    + process.info().commandLine().orElse("<NOT AVAILABLE>") + "'");
-        }
-
-        Exception outputException = null;
-        try {
-            output = outputFuture.get(1, TimeUnit.MINUTES);
-            error = errorFuture.get(1, TimeUnit.MINUTES);
-
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Thread interrupted while waiting for output/error streams");
-
-        } catch (Exception e) {
-            SpecsLogs.info("Exception while waiting for output/error streams: " + e.getMessage());
-            outputException = e;
-        }
-
-        int returnValue = timedOut ? -1 : process.exitValue();
-        if (timedOut) {
-            SpecsLogs.info("Process timed out after " + SpecsStrings.parseTime(timeoutNanos));
-        }
-
-        destroyProcess(process);
-        return new ProcessOutput<>(returnValue, output, error, outputException);
-    }
-
-    private static void destroyProcess(Process process) {
-
-        // TODO: a breakpoint is necessary before process destruction, or else the
-        // "insts"
-        // linestream is closed
+    public static <O, E> ProcessOutput<O, E> runProcessFast(ProcessBuilder builder,
+            Function<InputStream, O> outputProcessor, Function<InputStream, E> errorProcessor, Long timeoutNanos) {
 
-        // Get descendants of the process
-        List<ProcessHandle> processDescendants = process.descendants().collect(Collectors.toList());
-        SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Killing process...");
-        process.destroyForcibly();
-        destroyDescendants(processDescendants);
+        return FAST_LAUNCHER.run(builder, outputProcessor, errorProcessor, null, timeoutNanos);
     }
 
-    private static void destroyDescendants(List<ProcessHandle> processDescendants) {
-
-        // Destroy descendants
-        ProgressCounter counter = new ProgressCounter(processDescendants.size());
-        SpecsLogs.debug("Found " + processDescendants.size() + " descendants processes");
-        for (ProcessHandle handle : processDescendants) {
-            SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Killing descendant process... " + counter.next());
-
-            handle.destroyForcibly();
-            SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Waiting killing...");
-            try {
-                handle.onExit().get(1, TimeUnit.SECONDS);
-                SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Destroyed");
-
-            } catch (TimeoutException t) {
-                SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Timeout while destroying descendant process!");
+    /**
+     * Helper method which receives the command and the working directory instead of
+     * the builder, and launches the process with
+     * {@link #runProcessFast(ProcessBuilder, Function, Function, Long)}.
+     *
+     */
+    public static ProcessOutputAsString runProcessFast(List<String> command, File workingDir,
+            boolean storeOutput, boolean printOutput) {
 
-            } catch (Exception e) {
-                SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Could not destroy descendant process!");
-            }
-        }
+        return FAST_LAUNCHER.run(command, workingDir, storeOutput, printOutput);
     }
 
     public static ThreadFactory getDaemonThreadFactory() {
@@ -43,6 +43,31 @@ import org.xml.sax.SAXParseException;
  */
 public class SpecsXml {
 
+    // Creating a factory and a builder is expensive, so that each thread reuses its own builder
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal<>();
+
+    /**
+     * Returns a DocumentBuilder with the default configuration, which is reused by the current thread. The builder is
+     * reset before it is returned, and should not be kept after the document is parsed or created.
+     */
+    public static DocumentBuilder getDocumentBuilder() {
+        DocumentBuilder builder = DOCUMENT_BUILDER.get();
+
+        if (builder != null) {
+            builder.reset();
+            return builder;
+        }
+
+        try {
+            builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new RuntimeException("Could not create XML document builder", e);
+        }
+
+        DOCUMENT_BUILDER.set(builder);
+        return builder;
+    }
+
     public static NodeList getNodeList(File file) {
         return getXmlRoot(file).getChildNodes();
     }
@@ -72,10 +97,7 @@ public class SpecsXml {
      */
     public static Document getXmlRoot(InputSource in, InputStream schemaDocument) {
         try {
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(in);
+            Document doc = getDocumentBuilder().parse(in);
 
             // If schema present, validate document
             if (schemaDocument != null) {
@@ -91,7 +113,7 @@ public class SpecsXml {
             return doc;
         } catch (SAXParseException e) {
             throw new RuntimeException("XML document not according to schema", e);
-        } catch (ParserConfigurationException | IOException | SAXException e) {
+        } catch (IOException | SAXException e) {
             SpecsLogs.warn("Error message:\n", e);
         }
 
@@ -13,13 +13,9 @@
 
 package pt.up.fe.specs.util.classmap;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
 import java.util.function.BiConsumer;
 
 import pt.up.fe.specs.util.exceptions.NotImplementedException;
-import pt.up.fe.specs.util.utilities.ClassMapper;
 
 /**
  * Maps a class to a BiConsumer that receives an instance of that class being
@@ -32,22 +28,20 @@ import pt.up.fe.specs.util.utilities.ClassMapper;
  */
 public class BiConsumerClassMap<T, U> {
 
-    private final Map<Class<? extends T>, BiConsumer<? extends T, U>> map;
     private final boolean ignoreNotFound;
-    private final ClassMapper classMapper;
+    private final ClassDispatchTable<BiConsumer<? extends T, U>> table;
 
     public BiConsumerClassMap() {
-        this(false, new ClassMapper());
+        this(false);
     }
 
-    private BiConsumerClassMap(boolean ignoreNotFound, ClassMapper classMapper) {
-        this.map = new HashMap<>();
+    private BiConsumerClassMap(boolean ignoreNotFound) {
+        this.table = new ClassDispatchTable<>();
         this.ignoreNotFound = ignoreNotFound;
-        this.classMapper = classMapper;
     }
 
     public static <T, U> BiConsumerClassMap<T, U> newInstance(boolean ignoreNotFound) {
-        return new BiConsumerClassMap<>(ignoreNotFound, new ClassMapper());
+        return new BiConsumerClassMap<>(ignoreNotFound);
     }
 
     /**
@@ -65,29 +59,22 @@ public class BiConsumerClassMap<T, U> {
      */
     public <VS extends T, KS extends VS> void put(Class<KS> aClass,
             BiConsumer<VS, U> value) {
-        this.map.put(aClass, value);
-        this.classMapper.add(aClass);
+        this.table.put(aClass, value);
     }
 
-    @SuppressWarnings("unchecked")
-    private <TK extends T> BiConsumer<T, U> get(Class<TK> key) {
-        // Map given class to a class supported by this instance
-        var mappedClass = classMapper.map(key);
-
-        if (mappedClass.isEmpty()) {
-            return null;
-        }
-
-        var function = this.map.get(mappedClass.get());
-
-        Objects.requireNonNull(function, () -> "There should be a mapping for " + mappedClass.get() + ", verify");
-
-        return (BiConsumer<T, U>) function;
+    /**
+     * Prevents further changes to the mappings of this map.
+     *
+     * @return this map
+     */
+    public BiConsumerClassMap<T, U> freeze() {
+        table.freeze();
+        return this;
     }
 
     @SuppressWarnings("unchecked")
-    private <TK extends T> BiConsumer<T, U> get(TK key) {
-        return get((Class<TK>) key.getClass());
+    private BiConsumer<T, U> get(T key) {
+        return (BiConsumer<T, U>) table.getOrDefault(key.getClass(), null);
     }
 
     /**
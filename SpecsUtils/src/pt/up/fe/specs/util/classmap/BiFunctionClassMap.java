@@ -13,13 +13,9 @@
 
 package pt.up.fe.specs.util.classmap;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
 import java.util.function.BiFunction;
 
 import pt.up.fe.specs.util.exceptions.NotImplementedException;
-import pt.up.fe.specs.util.utilities.ClassMapper;
 
 /**
  * Maps a class to a BiFunction that receives an instance of that class being
@@ -32,13 +28,10 @@ import pt.up.fe.specs.util.utilities.ClassMapper;
  */
 public class BiFunctionClassMap<T, U, R> {
 
-    private final Map<Class<? extends T>, BiFunction<? extends T, U, R>> map;
-    private final ClassMapper classMapper;
+    private final ClassDispatchTable<BiFunction<? extends T, U, R>> table;
 
     public BiFunctionClassMap() {
-        this.map = new HashMap<>();
-        // this.supportInterfaces = true;
-        this.classMapper = new ClassMapper();
+        this.table = new ClassDispatchTable<>();
     }
 
     /**
@@ -56,29 +49,22 @@ public class BiFunctionClassMap<T, U, R> {
      */
     public <VS extends T, KS extends VS> void put(Class<KS> aClass,
             BiFunction<VS, U, R> value) {
-        this.map.put(aClass, value);
-        classMapper.add(aClass);
+        this.table.put(aClass, value);
     }
 
-    @SuppressWarnings("unchecked")
-    private <TK extends T> BiFunction<T, U, R> get(Class<TK> key) {
-        // Map given class to a class supported by this instance
-        var mappedClass = classMapper.map(key);
-
-        if (mappedClass.isEmpty()) {
-            return null;
-        }
-
-        var function = this.map.get(mappedClass.get());
-
-        Objects.requireNonNull(function, () -> "There should be a mapping for " + mappedClass.get() + ", verify");
-
-        return (BiFunction<T, U, R>) function;
+    /**
+     * Prevents further changes to the mappings of this map.
+     *
+     * @return this map
+     */
+    public BiFunctionClassMap<T, U, R> freeze() {
+        table.freeze();
+        return this;
     }
 
     @SuppressWarnings("unchecked")
-    private <TK extends T> BiFunction<T, U, R> get(TK key) {
-        return get((Class<TK>) key.getClass());
+    private BiFunction<T, U, R> get(T key) {
+        return (BiFunction<T, U, R>) table.getOrDefault(key.getClass(), null);
     }
 
     /**
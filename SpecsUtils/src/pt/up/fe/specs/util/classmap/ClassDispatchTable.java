@@ -0,0 +1,203 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.classmap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps classes to values, respecting the class hierarchy, in the same way as
+ * {@link pt.up.fe.specs.util.utilities.ClassMapper}.
+ *
+ * <p>
+ * Lookups are lock-free and safe to use from several threads. The value
+ * resolved for each class is cached in a single {@link ClassValue} of the
+ * table, so after the first lookup of a class, resolving it costs a
+ * ClassValue access, and allocates nothing. Cached values are tagged with the
+ * version of the mappings they were resolved with, and adding a mapping
+ * increments the version, so values resolved before are recomputed on their
+ * next lookup.
+ *
+ * <p>
+ * After setup, the table can be frozen with {@link #freeze()}, after which
+ * adding mappings throws an exception and resolved values are never
+ * recomputed.
+ *
+ * @param <V> the type of the values
+ */
+public class ClassDispatchTable<V> {
+
+    // Marks classes without a mapping in the cache
+    private static final Object MISSING = new Object();
+
+    // Encodes null values in the cache
+    private static final Object NULL = new Object();
+
+    private final Map<Class<?>, Object> values;
+    private final ClassValue<Resolved> cache;
+    // Incremented when a mapping is added
+    private volatile int version;
+    private volatile boolean frozen;
+
+    /**
+     * Value of a class, resolved with the given version of the mappings.
+     */
+    private record Resolved(int version, Object value) {
+    }
+
+    public ClassDispatchTable() {
+        this.values = new ConcurrentHashMap<>();
+        this.version = 0;
+        this.frozen = false;
+        this.cache = new ClassValue<>() {
+            @Override
+            protected Resolved computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+    }
+
+    /**
+     * Creates a table with the same mappings as the given table. The new table is
+     * not frozen.
+     */
+    public ClassDispatchTable(ClassDispatchTable<? extends V> table) {
+        this();
+
+        synchronized (table) {
+            values.putAll(table.values);
+        }
+    }
+
+    /**
+     * Associates the given value with the given class.
+     *
+     * @return true if the class did not have a mapping before
+     */
+    public synchronized boolean put(Class<?> aClass, V value) {
+        if (aClass == null) {
+            throw new IllegalArgumentException("Class cannot be null");
+        }
+
+        if (frozen) {
+            throw new IllegalStateException("Cannot add mapping for class '" + aClass.getName()
+                    + "', table is frozen");
+        }
+
+        boolean isNew = values.put(aClass, value == null ? NULL : value) == null;
+
+        // Values resolved until now are stale
+        version++;
+
+        return isNew;
+    }
+
+    /**
+     * Prevents further changes to the table.
+     */
+    public synchronized void freeze() {
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Returns the value associated with the given class, or with the closest
+     * superclass or interface that has a mapping.
+     *
+     * @param aClass       the class to look for
+     * @param defaultValue the value to return if there is no mapping
+     * @return the mapped value (which can be null), or defaultValue if no mapping
+     *         was found
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Class<?> aClass, V defaultValue) {
+        Object value = get(aClass);
+
+        if (value == MISSING) {
+            return defaultValue;
+        }
+
+        return value == NULL ? null : (V) value;
+    }
+
+    /**
+     * 
+     * @return true if the given class, or one of its superclasses or interfaces,
+     *         has a mapping
+     */
+    public boolean contains(Class<?> aClass) {
+        return get(aClass) != MISSING;
+    }
+
+    private Object get(Class<?> aClass) {
+        Resolved resolved = cache.get(aClass);
+
+        // Mappings were added after the value was resolved
+        while (resolved.version() != version) {
+            cache.remove(aClass);
+            resolved = cache.get(aClass);
+        }
+
+        return resolved.value();
+    }
+
+    private Resolved resolve(Class<?> type) {
+        // Read before the mappings, if a mapping is added meanwhile the value is resolved again
+        int currentVersion = version;
+
+        Class<?> mapping = calculateMapping(type);
+        return new Resolved(currentVersion, mapping == null ? MISSING : values.get(mapping));
+    }
+
+    private Class<?> calculateMapping(Class<?> aClass) {
+        Class<?> currentClass = aClass;
+
+        while (currentClass != null) {
+            // Test current class
+            if (values.containsKey(currentClass)) {
+                return currentClass;
+            }
+
+            // Test interfaces recursively
+            Class<?> interfaceMapping = findInterfaceMapping(currentClass);
+            if (interfaceMapping != null) {
+                return interfaceMapping;
+            }
+
+            // Go to the next super class
+            currentClass = currentClass.getSuperclass();
+        }
+
+        return null;
+    }
+
+    private Class<?> findInterfaceMapping(Class<?> aClass) {
+        for (Class<?> interf : aClass.getInterfaces()) {
+            if (values.containsKey(interf)) {
+                return interf;
+            }
+
+            // Recursively check interfaces of interfaces
+            Class<?> nestedInterfaceMapping = findInterfaceMapping(interf);
+            if (nestedInterfaceMapping != null) {
+                return nestedInterfaceMapping;
+            }
+        }
+
+        return null;
+    }
+}
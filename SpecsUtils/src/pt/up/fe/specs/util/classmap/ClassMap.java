@@ -20,7 +20,6 @@ import java.util.Optional;
 import java.util.Set;
 
 import pt.up.fe.specs.util.exceptions.NotImplementedException;
-import pt.up.fe.specs.util.utilities.ClassMapper;
 
 /**
  * Maps a class T or subtype of T to a value V.
@@ -38,31 +37,34 @@ import pt.up.fe.specs.util.utilities.ClassMapper;
  */
 public class ClassMap<T, V> {
 
+    // Returned by the table when there is no mapping
+    private static final Object NOT_FOUND = new Object();
+
     private final Map<Class<? extends T>, V> map;
 
     // Can be null
     private final V defaultValue;
 
-    private final ClassMapper classMapper;
+    private final ClassDispatchTable<V> table;
 
     public ClassMap() {
-        this(new HashMap<>(), null, new ClassMapper());
+        this(new HashMap<>(), null, new ClassDispatchTable<>());
     }
 
     public <ER extends V> ClassMap(ER defaultValue) {
-        this(new HashMap<>(), defaultValue, new ClassMapper());
+        this(new HashMap<>(), defaultValue, new ClassDispatchTable<>());
     }
 
     private ClassMap(Map<Class<? extends T>, V> map, V defaultValue,
-            ClassMapper classMapper) {
+            ClassDispatchTable<V> table) {
 
         this.map = map;
         this.defaultValue = defaultValue;
-        this.classMapper = classMapper;
+        this.table = table;
     }
 
     public ClassMap<T, V> copy() {
-        return new ClassMap<>(new HashMap<>(this.map), this.defaultValue, this.classMapper);
+        return new ClassMap<>(new HashMap<>(this.map), this.defaultValue, new ClassDispatchTable<>(this.table));
     }
 
     /**
@@ -80,21 +82,31 @@ public class ClassMap<T, V> {
      */
     public <ET extends T, K extends ET> V put(Class<K> aClass,
             V value) {
-        classMapper.add(aClass);
+        table.put(aClass, value);
         return this.map.put(aClass, value);
     }
 
+    /**
+     * Prevents further changes to the mappings of this map. Lookups are
+     * thread-safe with or without freezing, but a frozen map can be shared
+     * without worrying about concurrent modifications.
+     *
+     * @return this map
+     */
+    public ClassMap<T, V> freeze() {
+        table.freeze();
+        return this;
+    }
+
     public <TK extends T> Optional<V> tryGet(Class<TK> key) {
         // Check for null key
         if (key == null) {
             throw new NullPointerException("Key cannot be null");
         }
 
-        // Map given class to a class supported by this instance
-        var mappedClass = classMapper.map(key);
+        var result = lookup(key);
 
-        if (mappedClass.isPresent()) {
-            var result = this.map.get(mappedClass.get());
+        if (result != NOT_FOUND) {
             // Allow null values to be stored and retrieved
             return Optional.ofNullable(result);
         }
@@ -114,17 +126,11 @@ public class ClassMap<T, V> {
             throw new NullPointerException("Key cannot be null");
         }
 
-        // Map given class to a class supported by this instance
-        var mappedClass = classMapper.map(key);
-
-        if (mappedClass.isPresent()) {
-            var mapped = mappedClass.get();
-            // If this instance has an explicit mapping (even if value is null), return it
-            if (this.map.containsKey(mapped)) {
-                return this.map.get(mapped);
-            }
-            // Mapping was found by the class mapper, but this map doesn't have the key
-            throw new NullPointerException("Expected map to contain " + mapped);
+        var result = lookup(key);
+
+        // If this instance has an explicit mapping (even if value is null), return it
+        if (result != NOT_FOUND) {
+            return result;
         }
 
         // Return default value if present
@@ -141,12 +147,17 @@ public class ClassMap<T, V> {
         return get((Class<TK>) key.getClass());
     }
 
+    @SuppressWarnings("unchecked")
+    private V lookup(Class<?> key) {
+        return table.getOrDefault(key, (V) NOT_FOUND);
+    }
+
     /**
      * Sets the default value, backed up by the same map.
      *
      */
     public ClassMap<T, V> setDefaultValue(V defaultValue) {
-        return new ClassMap<>(this.map, defaultValue, this.classMapper);
+        return new ClassMap<>(this.map, defaultValue, this.table);
     }
 
     public Set<Entry<Class<? extends T>, V>> entrySet() {
@@ -14,11 +14,7 @@
 package pt.up.fe.specs.util.classmap;
 
 import pt.up.fe.specs.util.exceptions.NotImplementedException;
-import pt.up.fe.specs.util.utilities.ClassMapper;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -30,22 +26,20 @@ import java.util.function.Consumer;
  */
 public class ConsumerClassMap<T> {
 
-    private final Map<Class<? extends T>, Consumer<? extends T>> map;
     private final boolean ignoreNotFound;
-    private final ClassMapper classMapper;
+    private final ClassDispatchTable<Consumer<? extends T>> table;
 
     public ConsumerClassMap() {
-        this(false, new ClassMapper());
+        this(false);
     }
 
-    private ConsumerClassMap(boolean ignoreNotFound, ClassMapper classMapper) {
-        this.map = new HashMap<>();
+    private ConsumerClassMap(boolean ignoreNotFound) {
+        this.table = new ClassDispatchTable<>();
         this.ignoreNotFound = ignoreNotFound;
-        this.classMapper = classMapper;
     }
 
     public static <T> ConsumerClassMap<T> newInstance(boolean ignoreNotFound) {
-        return new ConsumerClassMap<>(ignoreNotFound, new ClassMapper());
+        return new ConsumerClassMap<>(ignoreNotFound);
     }
 
     /**
@@ -63,29 +57,22 @@ public class ConsumerClassMap<T> {
      */
     public <VS extends T, KS extends VS> void put(Class<KS> aClass,
             Consumer<VS> value) {
-        this.map.put(aClass, value);
-        this.classMapper.add(aClass);
+        this.table.put(aClass, value);
     }
 
-    @SuppressWarnings("unchecked")
-    private <TK extends T> Consumer<T> get(Class<TK> key) {
-        // Map given class to a class supported by this instance
-        var mappedClass = classMapper.map(key);
-
-        if (mappedClass.isEmpty()) {
-            return null;
-        }
-
-        var function = this.map.get(mappedClass.get());
-
-        Objects.requireNonNull(function, () -> "There should be a mapping for " + mappedClass.get() + ", verify");
-
-        return (Consumer<T>) function;
+    /**
+     * Prevents further changes to the mappings of this map.
+     *
+     * @return this map
+     */
+    public ConsumerClassMap<T> freeze() {
+        table.freeze();
+        return this;
     }
 
     @SuppressWarnings("unchecked")
-    private <TK extends T> Consumer<T> get(TK key) {
-        return get((Class<TK>) key.getClass());
+    private Consumer<T> get(T key) {
+        return (Consumer<T>) table.getOrDefault(key.getClass(), null);
     }
 
     /**
@@ -13,15 +13,12 @@
 
 package pt.up.fe.specs.util.classmap;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
 import pt.up.fe.specs.util.Preconditions;
 import pt.up.fe.specs.util.exceptions.NotImplementedException;
-import pt.up.fe.specs.util.utilities.ClassMapper;
 
 /**
  * Maps a class T or subtype of T to a Function that accepts one argument T and
@@ -43,50 +40,43 @@ import pt.up.fe.specs.util.utilities.ClassMapper;
  */
 public class FunctionClassMap<T, R> {
 
-    private final Map<Class<? extends T>, Function<? extends T, R>> map;
+    private final ClassDispatchTable<Function<? extends T, R>> table;
 
     // Can be null
     private R defaultValue;
     // Can be null
     private Function<T, ? extends R> defaultFunction;
 
-    private final ClassMapper classMapper;
-
     public FunctionClassMap() {
-        this(new HashMap<>(), null, null, new ClassMapper());
+        this(new ClassDispatchTable<>(), null, null);
     }
 
     public <ER extends R> FunctionClassMap(ER defaultValue) {
-        this(new HashMap<>(), defaultValue, null, new ClassMapper());
+        this(new ClassDispatchTable<>(), defaultValue, null);
     }
 
     public <ER extends R> FunctionClassMap(Function<T, ER> defaultFunction) {
-        this(new HashMap<>(), null, defaultFunction, new ClassMapper());
+        this(new ClassDispatchTable<>(), null, defaultFunction);
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     public <ER extends R> FunctionClassMap(FunctionClassMap<T, ER> functionClassMap) {
-        this.map = new HashMap<>();
-        for (var keyPair : functionClassMap.map.entrySet()) {
-            this.map.put(keyPair.getKey(), (Function<T, R>) keyPair.getValue());
-        }
+        // Functions that return ER also return R
+        this.table = new ClassDispatchTable<>((ClassDispatchTable) functionClassMap.table);
 
         this.defaultValue = functionClassMap.defaultValue;
         this.defaultFunction = functionClassMap.defaultFunction;
-        this.classMapper = new ClassMapper(functionClassMap.classMapper);
     }
 
-    private <ER extends R> FunctionClassMap(Map<Class<? extends T>, Function<? extends T, R>> map, R defaultValue,
-            Function<T, ER> defaultFunction, ClassMapper classMapper) {
+    private <ER extends R> FunctionClassMap(ClassDispatchTable<Function<? extends T, R>> table, R defaultValue,
+            Function<T, ER> defaultFunction) {
 
         Preconditions.checkArgument(!(defaultFunction != null && defaultValue != null),
                 "Both defaults cannot be different than null at the same time");
 
-        this.map = map;
+        this.table = table;
         this.defaultValue = defaultValue;
         this.defaultFunction = defaultFunction;
-
-        this.classMapper = classMapper;
     }
 
     /**
@@ -104,30 +94,29 @@ public class FunctionClassMap<T, R> {
      */
     public <ET extends T, K extends ET> void put(Class<K> aClass,
             Function<ET, R> value) {
-        this.map.put(aClass, value);
-        this.classMapper.add(aClass);
+        this.table.put(aClass, value);
     }
 
-    @SuppressWarnings("unchecked")
-    private <TK extends T> Optional<Function<T, R>> get(Class<TK> key) {
-        // Map given class to a class supported by this instance
-        var mappedClass = classMapper.map(key);
-
-        if (mappedClass.isEmpty()) {
-            return Optional.empty();
-        }
-
-        var function = this.map.get(mappedClass.get());
-
-        Objects.requireNonNull(function, () -> "There should be a mapping for " + mappedClass.get() + ", verify");
-
-        return Optional.of((Function<T, R>) function);
+    /**
+     * Prevents adding more mappings. Should be called after setup, if the map is
+     * shared (e.g., between threads).
+     *
+     * @return this map
+     */
+    public FunctionClassMap<T, R> freeze() {
+        table.freeze();
+        return this;
     }
 
+    /**
+     * 
+     * @return the function associated with the class of the given key, or null if
+     *         no mapping could be found
+     */
     @SuppressWarnings("unchecked")
-    private <TK extends T> Optional<Function<T, R>> get(TK key) {
+    private Function<T, R> get(T key) {
         Objects.requireNonNull(key, () -> "Used a null key in " + FunctionClassMap.class.getSimpleName());
-        return get((Class<TK>) key.getClass());
+        return (Function<T, R>) table.getOrDefault(key.getClass(), null);
     }
 
     /**
@@ -136,11 +125,11 @@ public class FunctionClassMap<T, R> {
      *
      */
     public Optional<R> applyTry(T t) {
-        Optional<Function<T, R>> function = get(t);
+        Function<T, R> function = get(t);
 
         // Found function, apply it
-        if (function.isPresent()) {
-            return Optional.ofNullable(function.get().apply(t));
+        if (function != null) {
+            return Optional.ofNullable(function.apply(t));
         }
 
         // Try getting a default value
@@ -161,11 +150,11 @@ public class FunctionClassMap<T, R> {
      *
      */
     public R apply(T t) {
-        Optional<Function<T, R>> function = get(t);
+        Function<T, R> function = get(t);
 
         // Found function, apply it
-        if (function.isPresent()) {
-            return function.get().apply(t);
+        if (function != null) {
+            return function.apply(t);
         }
 
         // Try getting a default value
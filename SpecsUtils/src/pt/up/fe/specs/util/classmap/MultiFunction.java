@@ -13,16 +13,12 @@
 
 package pt.up.fe.specs.util.classmap;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import pt.up.fe.specs.util.Preconditions;
 import pt.up.fe.specs.util.exceptions.NotImplementedException;
-import pt.up.fe.specs.util.utilities.ClassMapper;
 
 /**
  * Maps a class T or subtype of T to a Function that accepts one argument T and
@@ -44,17 +40,16 @@ import pt.up.fe.specs.util.utilities.ClassMapper;
  */
 public class MultiFunction<T, R> {
 
-    private final Map<Class<? extends T>, BiFunction<? extends MultiFunction<T, R>, ? extends T, ? extends R>> map;
+    private final ClassDispatchTable<BiFunction<? extends MultiFunction<T, R>, ? extends T, ? extends R>> table;
 
     // Can be null
     private R defaultValue;
-    private final ClassMapper classMapper;
 
     // Can be null
     private BiFunction<MultiFunction<T, R>, T, R> defaultFunction;
 
     public MultiFunction() {
-        this(new HashMap<>(), null, null, new ClassMapper());
+        this(new ClassDispatchTable<>(), null, null);
     }
 
     public <ER extends R> MultiFunction(Function<T, ER> defaultFunction) {
@@ -63,21 +58,20 @@ public class MultiFunction<T, R> {
 
     public <EM extends MultiFunction<T, R>> MultiFunction(
             BiFunction<EM, T, R> defaultFunction) {
-        this(new HashMap<>(), null, defaultFunction, new ClassMapper());
+        this(new ClassDispatchTable<>(), null, defaultFunction);
     }
 
     @SuppressWarnings("unchecked")
     private <EM extends MultiFunction<T, R>> MultiFunction(
-            Map<Class<? extends T>, BiFunction<? extends MultiFunction<T, R>, ? extends T, ? extends R>> map,
-            R defaultValue, BiFunction<EM, T, R> defaultFunction, ClassMapper classMapper) {
+            ClassDispatchTable<BiFunction<? extends MultiFunction<T, R>, ? extends T, ? extends R>> table,
+            R defaultValue, BiFunction<EM, T, R> defaultFunction) {
 
         Preconditions.checkArgument(!(defaultFunction != null && defaultValue != null),
                 "Both defaults cannot be different than null at the same time");
 
-        this.map = map;
+        this.table = table;
         this.defaultValue = defaultValue;
         this.defaultFunction = (BiFunction<MultiFunction<T, R>, T, R>) defaultFunction;
-        this.classMapper = classMapper;
     }
 
     /**
@@ -95,8 +89,7 @@ public class MultiFunction<T, R> {
      */
     public <EM extends MultiFunction<T, R>, ET extends T, K extends ET> void put(Class<K> aClass,
             BiFunction<EM, ET, R> value) {
-        this.map.put(aClass, value);
-        this.classMapper.add(aClass);
+        this.table.put(aClass, value);
     }
 
     public <ET extends T, K extends ET> void put(Class<K> aClass,
@@ -106,25 +99,19 @@ public class MultiFunction<T, R> {
         put(aClass, biFunction);
     }
 
-    @SuppressWarnings("unchecked")
-    private <TK extends T> Optional<BiFunction<MultiFunction<T, R>, T, R>> get(Class<TK> key) {
-        // Map given class to a class supported by this instance
-        var mappedClass = classMapper.map(key);
-
-        if (mappedClass.isEmpty()) {
-            return Optional.empty();
-        }
-
-        var function = this.map.get(mappedClass.get());
-
-        Objects.requireNonNull(function, () -> "There should be a mapping for " + mappedClass.get() + ", verify");
-
-        return Optional.of((BiFunction<MultiFunction<T, R>, T, R>) function);
+    /**
+     * Prevents further changes to the mappings of this function.
+     *
+     * @return this function
+     */
+    public MultiFunction<T, R> freeze() {
+        table.freeze();
+        return this;
     }
 
     @SuppressWarnings("unchecked")
-    private <TK extends T> Optional<BiFunction<MultiFunction<T, R>, T, R>> get(TK key) {
-        return get((Class<TK>) key.getClass());
+    private BiFunction<MultiFunction<T, R>, T, R> get(T key) {
+        return (BiFunction<MultiFunction<T, R>, T, R>) table.getOrDefault(key.getClass(), null);
     }
 
     /**
@@ -133,11 +120,11 @@ public class MultiFunction<T, R> {
      *
      */
     public R apply(T t) {
-        Optional<BiFunction<MultiFunction<T, R>, T, R>> function = get(t);
+        BiFunction<MultiFunction<T, R>, T, R> function = get(t);
 
         // Found function, apply it
-        if (function.isPresent()) {
-            return function.get().apply(this, t);
+        if (function != null) {
+            return function.apply(this, t);
         }
 
         // Try getting a default value
@@ -0,0 +1,183 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.collections;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free queue for multiple producers and a single consumer, backed by a ring buffer.
+ *
+ * <p>
+ * Each slot has a sequence number that tells producers when the slot is free and the consumer when the slot has been
+ * published, so producers only contend on the CAS of the enqueue position and the consumer does not synchronize at
+ * all. {@link #offer(Object)} can be called from any thread, while {@link #poll()} and {@link #drainTo(Consumer, int)}
+ * must always be called from the same thread.
+ *
+ * @param <T> the type of the elements
+ */
+public class MpscRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong enqueuePosition;
+    // Only written by the consumer, volatile so that size() can be called from other threads
+    private volatile long dequeuePosition;
+
+    /**
+     * @param capacity the minimum number of elements the buffer can hold, rounded up to a power of two (at least 2,
+     *                 a single slot cannot tell a published element from a free slot of the next lap)
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity is too large: " + capacity);
+        }
+
+        int size = Integer.highestOneBit(Math.max(2, capacity));
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+
+        this.enqueuePosition = new AtomicLong();
+        this.dequeuePosition = 0;
+    }
+
+    /**
+     * Adds an element to the buffer, if there is space. Can be called from any thread.
+     *
+     * @param element the element to add, cannot be null
+     * @return true if the element was added, false if the buffer is full
+     */
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new NullPointerException("Elements cannot be null");
+        }
+
+        long position = enqueuePosition.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                // Slot is free, try to claim it
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                // Slot still holds an element that was not consumed
+                return false;
+            } else {
+                // Another producer claimed the slot
+                position = enqueuePosition.get();
+            }
+        }
+
+        elements.lazySet(index, element);
+        // Publishes the element to the consumer
+        sequences.lazySet(index, position + 1);
+
+        return true;
+    }
+
+    /**
+     * Removes the oldest element of the buffer. Must only be called by the consumer thread.
+     *
+     * @return the oldest element, or null if the buffer is empty
+     */
+    public T poll() {
+        long position = dequeuePosition;
+        int index = (int) (position & mask);
+
+        // Element has not been published yet
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+
+        T element = elements.get(index);
+        elements.lazySet(index, null);
+
+        // Frees the slot for the producers, one lap ahead
+        sequences.lazySet(index, position + mask + 1);
+        dequeuePosition = position + 1;
+
+        return element;
+    }
+
+    /**
+     * Removes up to the given number of elements, oldest first. Must only be called by the consumer thread.
+     *
+     * @param consumer    receives the removed elements
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        int count = 0;
+        while (count < maxElements) {
+            T element = poll();
+            if (element == null) {
+                break;
+            }
+
+            consumer.accept(element);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * The value is an estimate if there are producers or a consumer running concurrently.
+     *
+     * @return the number of elements in the buffer
+     */
+    public int size() {
+        long size = enqueuePosition.get() - dequeuePosition;
+
+        if (size < 0) {
+            return 0;
+        }
+
+        return (int) Math.min(size, capacity());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the maximum number of elements in the buffer
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
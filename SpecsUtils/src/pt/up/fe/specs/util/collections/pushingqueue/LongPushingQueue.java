@@ -0,0 +1,144 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.collections.pushingqueue;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.IntStream;
+
+/**
+ * "Pushing Queue" of long values, implemented with a circular array.
+ *
+ * <p>
+ * Works like {@link RingPushingQueue}, without boxing the values (e.g., for
+ * streams of hashes).
+ */
+public class LongPushingQueue {
+
+    private final long[] elements;
+
+    // Index of the head of the queue (element 0)
+    private int head;
+
+    private int currentSize;
+
+    /**
+     * Creates a PushingQueue with the specified size.
+     *
+     * @param capacity the size of the queue
+     */
+    public LongPushingQueue(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative: " + capacity);
+        }
+
+        this.elements = new long[capacity];
+        this.head = 0;
+        this.currentSize = 0;
+    }
+
+    /**
+     * Inserts an element at the head of the queue, pushing all other elements one
+     * position forward. If the queue is full, the last element is dropped.
+     *
+     * @param element an element to insert in the queue
+     */
+    public void insertElement(long element) {
+        if (elements.length == 0) {
+            return;
+        }
+
+        head = head == 0 ? elements.length - 1 : head - 1;
+        elements[head] = element;
+
+        if (currentSize < elements.length) {
+            currentSize++;
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this queue.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this queue
+     * @throws IndexOutOfBoundsException if the index is not lower than
+     *                                   {@link #currentSize()}
+     */
+    public long getElement(int index) {
+        Objects.checkIndex(index, currentSize);
+
+        return elementAt(index);
+    }
+
+    private long elementAt(int index) {
+        int position = head + index;
+        if (position >= elements.length) {
+            position -= elements.length;
+        }
+
+        return elements[position];
+    }
+
+    /**
+     * Returns the capacity of the queue.
+     *
+     * @return the capacity of the queue
+     */
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * 
+     * @return the number of inserted elements
+     */
+    public int currentSize() {
+        return currentSize;
+    }
+
+    /**
+     * Calls the action for each element, starting at the head of the queue.
+     */
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < currentSize; i++) {
+            action.accept(elementAt(i));
+        }
+    }
+
+    public LongStream stream() {
+        return IntStream.range(0, currentSize).mapToLong(this::elementAt);
+    }
+
+    /**
+     * 
+     * @return the elements of the queue, starting at the head
+     */
+    public long[] toArray() {
+        long[] array = new long[currentSize];
+
+        int firstPart = Math.min(currentSize, elements.length - head);
+        System.arraycopy(elements, head, array, 0, firstPart);
+        System.arraycopy(elements, 0, array, firstPart, currentSize - firstPart);
+
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
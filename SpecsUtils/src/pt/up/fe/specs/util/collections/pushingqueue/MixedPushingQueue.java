@@ -14,20 +14,22 @@
 package pt.up.fe.specs.util.collections.pushingqueue;
 
 import java.util.Iterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+/**
+ * "Pushing Queue" that chooses the best implementation for the given capacity.
+ *
+ * <p>
+ * Currently always uses a {@link RingPushingQueue}, which has constant-time
+ * insertion and access for any capacity.
+ */
 public class MixedPushingQueue<T> implements PushingQueue<T> {
 
-    private final static int LINKED_THRESHOLD = 40;
-
     private final PushingQueue<T> queue;
 
     public MixedPushingQueue(int capacity) {
-        if (capacity < MixedPushingQueue.LINKED_THRESHOLD) {
-            this.queue = new ArrayPushingQueue<>(capacity);
-        } else {
-            this.queue = new LinkedPushingQueue<>(capacity);
-        }
+        this.queue = new RingPushingQueue<>(capacity);
     }
 
     @Override
@@ -55,6 +57,11 @@ public class MixedPushingQueue<T> implements PushingQueue<T> {
         return this.queue.iterator();
     }
 
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        this.queue.forEach(action);
+    }
+
     @Override
     public Stream<T> stream() {
         return this.queue.stream();
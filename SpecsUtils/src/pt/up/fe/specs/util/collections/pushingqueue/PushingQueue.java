@@ -14,6 +14,7 @@
 package pt.up.fe.specs.util.collections.pushingqueue;
 
 import java.util.Iterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -63,6 +64,16 @@ public interface PushingQueue<T> {
 
     Iterator<T> iterator();
 
+    /**
+     * Calls the action for each inserted element, starting at the head of the
+     * queue.
+     *
+     * @param action the action to perform on each element
+     */
+    default void forEach(Consumer<? super T> action) {
+        iterator().forEachRemaining(action);
+    }
+
     Stream<T> stream();
 
     default String toString(Function<T, String> mapper) {
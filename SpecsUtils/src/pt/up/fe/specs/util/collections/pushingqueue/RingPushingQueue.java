@@ -0,0 +1,142 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.collections.pushingqueue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * "Pushing Queue" implementation with a circular array.
+ *
+ * <p>
+ * Inserting an element and accessing an element by index take constant time,
+ * and inserting does not allocate memory.
+ *
+ * <p>
+ * Iterators are not fail-fast: if the queue is modified during iteration, the
+ * iterator sees the elements in their new positions.
+ *
+ * @param <T> the type of the elements
+ */
+public class RingPushingQueue<T> implements PushingQueue<T> {
+
+    private final Object[] elements;
+
+    // Index of the head of the queue (element 0)
+    private int head;
+
+    private int currentSize;
+
+    /**
+     * Creates a PushingQueue with the specified size.
+     *
+     * @param capacity the size of the queue
+     */
+    public RingPushingQueue(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative: " + capacity);
+        }
+
+        this.elements = new Object[capacity];
+        this.head = 0;
+        this.currentSize = 0;
+    }
+
+    @Override
+    public void insertElement(T element) {
+        if (elements.length == 0) {
+            return;
+        }
+
+        // Move head back, overwriting the last element if the queue is full
+        head = head == 0 ? elements.length - 1 : head - 1;
+        elements[head] = element;
+
+        if (currentSize < elements.length) {
+            currentSize++;
+        }
+    }
+
+    @Override
+    public T getElement(int index) {
+        if (index < 0 || index >= currentSize) {
+            return null;
+        }
+
+        return elementAt(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        int position = head + index;
+        if (position >= elements.length) {
+            position -= elements.length;
+        }
+
+        return (T) elements[position];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public int currentSize() {
+        return currentSize;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < currentSize; i++) {
+            action.accept(elementAt(i));
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < currentSize;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return elementAt(index++);
+            }
+        };
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return IntStream.range(0, currentSize).mapToObj(this::elementAt);
+    }
+
+    @Override
+    public String toString() {
+        return toString(Object::toString);
+    }
+
+}
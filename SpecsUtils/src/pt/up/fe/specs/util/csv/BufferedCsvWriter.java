@@ -18,12 +18,21 @@ import java.util.List;
 
 import pt.up.fe.specs.util.SpecsIo;
 
-public class BufferedCsvWriter extends CsvWriter {
+/**
+ * CSV writer that writes each line to a file as it is added, instead of keeping the lines in memory.
+ *
+ * <p>
+ * The file is kept open between lines, and by default is flushed after each line, so that its contents can be read
+ * while lines are being added. Use {@link #setFlushEvery(int)} to flush in blocks, and {@link #close()} when done.
+ */
+public class BufferedCsvWriter extends CsvWriter implements AutoCloseable {
 
     private final File bufferFile;
 
     private boolean headerWritten;
     private int lineCounter;
+    private int flushEvery;
+    private CsvStreamWriter writer;
 
     public BufferedCsvWriter(File bufferFile, List<String> header) {
         super(header);
@@ -31,10 +40,34 @@ public class BufferedCsvWriter extends CsvWriter {
         this.bufferFile = bufferFile;
         this.headerWritten = false;
         this.lineCounter = 0;
+        this.flushEvery = 1;
+        this.writer = null;
         // Delete buffer
         SpecsIo.write(bufferFile, "");
     }
 
+    /**
+     * @param flushEvery number of lines between writes to the file, or 0 to only write when the internal block is full
+     *                   or when {@link #buildCsv()} or {@link #close()} are called
+     */
+    public BufferedCsvWriter setFlushEvery(int flushEvery) {
+        this.flushEvery = flushEvery;
+        if (writer != null) {
+            writer.setFlushEvery(flushEvery);
+        }
+
+        return this;
+    }
+
+    private CsvStreamWriter getWriter() {
+        if (writer == null) {
+            // Append, in case other writers have written to the same file in the meantime
+            writer = new CsvStreamWriter(bufferFile, true).setFlushEvery(flushEvery);
+        }
+
+        return writer;
+    }
+
     @Override
     public BufferedCsvWriter addLine(List<String> line) {
         // Write header
@@ -43,22 +76,34 @@ public class BufferedCsvWriter extends CsvWriter {
             // Increment line counter
             lineCounter++;
 
-            SpecsIo.append(this.bufferFile, buildHeader());
+            getWriter().writeRaw(buildHeader());
         }
 
         // Increment line counter
         lineCounter++;
 
         // Write line
-        SpecsIo.append(this.bufferFile, buildLine(line, lineCounter));
+        getWriter().writeRaw(buildLine(line, lineCounter));
 
         return this;
     }
 
     @Override
     public String buildCsv() {
+        if (writer != null) {
+            writer.flush();
+        }
+
         // Return the contents of the file that was written
         return SpecsIo.read(this.bufferFile);
     }
 
+    @Override
+    public void close() {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
 }
@@ -0,0 +1,382 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.csv;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streaming CSV parser, which tokenizes rows directly from a character buffer.
+ *
+ * <p>
+ * Supports RFC 4180 quoting: fields between double quotes can contain delimiters, line breaks and escaped quotes
+ * (""). Quotes that do not start a field are kept as regular characters. Lines can end with \n, \r\n or \r, and the
+ * delimiter can have more than one character.
+ *
+ * <p>
+ * If the first line is an Excel separator directive (e.g., 'sep=,'), it is consumed and its value replaces the
+ * delimiter.
+ *
+ * <p>
+ * Rows are returned as a {@link CsvRow} that is reused between calls, so that reading a file does not allocate per
+ * row.
+ */
+public class CsvParser implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char QUOTE = '"';
+    private static final String SEPARATOR_DIRECTIVE = "sep=";
+
+    private final Reader reader;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private boolean eof;
+
+    private String delimiter;
+    private char[] delimiterChars;
+
+    private final CsvRow row;
+    private long lineNumber;
+    private boolean started;
+
+    public CsvParser(Reader reader, String delimiter) {
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.position = 0;
+        this.limit = 0;
+        this.eof = false;
+
+        setDelimiter(delimiter);
+
+        this.row = new CsvRow();
+        this.lineNumber = 1;
+        this.started = false;
+    }
+
+    public static CsvParser newInstance(String csvContents, String delimiter) {
+        return new CsvParser(new StringReader(csvContents), delimiter);
+    }
+
+    public static CsvParser newInstance(File csvFile, String delimiter) {
+        try {
+            return new CsvParser(Files.newBufferedReader(csvFile.toPath(), StandardCharsets.UTF_8), delimiter);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not open CSV file '" + csvFile + "'", e);
+        }
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    public void setDelimiter(String delimiter) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            throw new IllegalArgumentException("Delimiter cannot be empty");
+        }
+
+        this.delimiter = delimiter;
+        this.delimiterChars = delimiter.toCharArray();
+    }
+
+    /**
+     * @return true if there is at least one more row to read
+     */
+    public boolean hasNext() {
+        start();
+        return available();
+    }
+
+    /**
+     * Reads the next row as the header, which allows accessing the fields of the following rows by column name.
+     *
+     * @return the column names, or an empty list if there are no more rows
+     */
+    public List<String> readHeader() {
+        CsvRow header = nextRow();
+        if (header == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> columns = header.toList();
+
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            indexes.putIfAbsent(columns.get(i), i);
+        }
+        row.setColumns(indexes);
+
+        return columns;
+    }
+
+    /**
+     * Reads the next row. The returned object is reused, and is only valid until the next call.
+     *
+     * @return the next row, or null if there are no more rows
+     */
+    public CsvRow nextRow() {
+        start();
+
+        if (!available()) {
+            return null;
+        }
+
+        row.reset(lineNumber);
+
+        while (true) {
+            int fieldStart = row.getLength();
+            int end = available() && buffer[position] == QUOTE ? readQuotedField() : readField();
+
+            row.endField(fieldStart);
+
+            if (end != ',') {
+                // End of line or end of input
+                break;
+            }
+        }
+
+        lineNumber++;
+        return row;
+    }
+
+    /**
+     * Calls the consumer for each remaining row. The row is only valid during the call.
+     */
+    public void forEachRow(Consumer<CsvRow> consumer) {
+        CsvRow current;
+        while ((current = nextRow()) != null) {
+            consumer.accept(current);
+        }
+    }
+
+    /**
+     * Reads characters until the end of the field.
+     *
+     * @return ',' if the field ended at a delimiter, '\n' if it ended at a line break or -1 at the end of the input
+     */
+    private int readField() {
+        char first = delimiterChars[0];
+
+        while (true) {
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == first || c == '\n' || c == '\r') {
+                    break;
+                }
+                position++;
+            }
+
+            row.append(buffer, start, position - start);
+
+            if (position == limit) {
+                if (!fill()) {
+                    return -1;
+                }
+                continue;
+            }
+
+            char c = buffer[position];
+            if (c == '\n' || c == '\r') {
+                consumeLineBreak();
+                return '\n';
+            }
+
+            if (matchesDelimiter()) {
+                position += delimiterChars.length;
+                return ',';
+            }
+
+            // First character of the delimiter, but not the whole delimiter
+            row.append(c);
+            position++;
+        }
+    }
+
+    /**
+     * Reads a field that starts with a quote. Characters after the closing quote are kept, until the end of the field.
+     */
+    private int readQuotedField() {
+        // Opening quote
+        position++;
+
+        while (true) {
+            int start = position;
+            while (position < limit && buffer[position] != QUOTE) {
+                if (buffer[position] == '\n') {
+                    lineNumber++;
+                }
+                position++;
+            }
+
+            row.append(buffer, start, position - start);
+
+            if (position == limit) {
+                if (!fill()) {
+                    // Unterminated quote, the field goes until the end of the input
+                    return -1;
+                }
+                continue;
+            }
+
+            // Quote, check if it is escaped
+            position++;
+            if (!ensureAvailable(1)) {
+                return -1;
+            }
+
+            if (buffer[position] == QUOTE) {
+                row.append(QUOTE);
+                position++;
+                continue;
+            }
+
+            // Closing quote
+            return readField();
+        }
+    }
+
+    private void consumeLineBreak() {
+        char c = buffer[position++];
+        if (c == '\r' && ensureAvailable(1) && buffer[position] == '\n') {
+            position++;
+        }
+    }
+
+    private boolean matchesDelimiter() {
+        int length = delimiterChars.length;
+        if (length == 1) {
+            return true;
+        }
+
+        if (!ensureAvailable(length)) {
+            return false;
+        }
+
+        for (int i = 1; i < length; i++) {
+            if (buffer[position + i] != delimiterChars[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Consumes the separator directive, if present in the first line.
+     */
+    private void start() {
+        if (started) {
+            return;
+        }
+
+        started = true;
+
+        if (!ensureAvailable(SEPARATOR_DIRECTIVE.length())) {
+            return;
+        }
+
+        for (int i = 0; i < SEPARATOR_DIRECTIVE.length(); i++) {
+            if (buffer[position + i] != SEPARATOR_DIRECTIVE.charAt(i)) {
+                return;
+            }
+        }
+
+        position += SEPARATOR_DIRECTIVE.length();
+
+        StringBuilder value = new StringBuilder();
+        while (available() && buffer[position] != '\n' && buffer[position] != '\r') {
+            value.append(buffer[position++]);
+        }
+
+        if (available()) {
+            consumeLineBreak();
+        }
+        lineNumber++;
+
+        // Whitespace delimiters (e.g., tab) are only kept if there is nothing else
+        String trimmed = value.toString().trim();
+        if (!trimmed.isEmpty()) {
+            setDelimiter(trimmed);
+        } else if (value.length() > 0) {
+            setDelimiter(value.toString());
+        }
+    }
+
+    private boolean available() {
+        return ensureAvailable(1);
+    }
+
+    /**
+     * @return true if there are at least the given number of characters in the buffer, after reading more if needed
+     */
+    private boolean ensureAvailable(int count) {
+        while (limit - position < count) {
+            if (!fill()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Moves the unread characters to the beginning of the buffer and reads more.
+     *
+     * @return false if the end of the input was reached
+     */
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+
+        try {
+            int read = reader.read(buffer, limit, buffer.length - limit);
+            if (read == -1) {
+                eof = true;
+                return false;
+            }
+
+            limit += read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read CSV", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close CSV reader", e);
+        }
+    }
+}
@@ -14,32 +14,33 @@
 package pt.up.fe.specs.util.csv;
 
 import java.io.File;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import pt.up.fe.specs.util.utilities.LineStream;
-
 /**
  * Reads CSV files.
  * 
+ * <p>
+ * Rows are read with a {@link CsvParser}, which supports quoted fields. For large files, {@link #nextRow()} avoids
+ * creating a list per row.
+ * 
  * @author JoaoBispo
  *
  */
 public class CsvReader implements AutoCloseable {
     private final static String DEFAULT_DELIMITER = ";";
 
-    private final LineStream csvLines;
+    private final CsvParser parser;
 
     private List<String> header;
-    private String delimiter;
 
     public CsvReader(File csvFile) {
         this(csvFile, DEFAULT_DELIMITER);
     }
 
     public CsvReader(File csvFile, String delimiter) {
-        this(LineStream.newInstance(csvFile), delimiter);
+        this(CsvParser.newInstance(csvFile, delimiter));
     }
 
     public CsvReader(String csvContents) {
@@ -47,12 +48,11 @@ public class CsvReader implements AutoCloseable {
     }
 
     public CsvReader(String csvContents, String delimiter) {
-        this(LineStream.newInstance(csvContents), delimiter);
+        this(CsvParser.newInstance(csvContents, delimiter));
     }
 
-    private CsvReader(LineStream csvLines, String delimiter) {
-        this.csvLines = csvLines;
-        this.delimiter = delimiter;
+    private CsvReader(CsvParser parser) {
+        this.parser = parser;
 
         initHeader();
     }
@@ -61,62 +61,79 @@ public class CsvReader implements AutoCloseable {
         return header;
     }
 
+    public String getDelimiter() {
+        return parser.getDelimiter();
+    }
+
     public boolean hasNext() {
-        return csvLines.hasNextLine();
+        return parser.hasNext();
     }
 
     public List<String> next() {
 
         // Header is parsed, return data
-        return parseInternal();
+        CsvRow row = parser.nextRow();
 
+        // If no more lines, return empty
+        if (row == null) {
+            return Collections.emptyList();
+        }
+
+        return toList(row);
     }
 
-    private void initHeader() {
-        // If header is not set, parse lines and ignore result until it is parsed
-        while (header == null) {
-            parseInternal();
+    /**
+     * Reads the next row without converting it to a list. Fields can also be accessed by the names in the header.
+     * 
+     * @return the next row, which is only valid until the next call, or null if there are no more rows
+     */
+    public CsvRow nextRow() {
+        return parser.nextRow();
+    }
 
-            if (!csvLines.hasNextLine()) {
-                throw new RuntimeException("Could not find a header in CSV file");
-            }
+    private void initHeader() {
+        // The separator directive ('sep=') is consumed by the parser
+        if (!parser.hasNext()) {
+            throw new RuntimeException("Could not find a header in CSV file");
         }
 
-    }
+        List<String> columns = parser.readHeader();
 
-    private List<String> parseInternal() {
-        // If no more lines, return empty
-        if (!csvLines.hasNextLine()) {
-            return Collections.emptyList();
+        // A header must be followed by at least one line
+        if (!parser.hasNext()) {
+            throw new RuntimeException("Could not find a header in CSV file");
         }
 
-        String csvLine = csvLines.nextLine();
-
-        return parse(csvLine);
+        header = dropTrailingEmpty(columns);
     }
 
-    private List<String> parse(String csvLine) {
-        // Parse separator ('sep=')
-        if (csvLine.startsWith("sep=")) {
-            this.delimiter = csvLine.substring("sep=".length()).trim();
-            return Collections.emptyList();
+    private static List<String> toList(CsvRow row) {
+        // Trailing empty fields are ignored, as in String.split
+        int size = row.size();
+        while (size > 1 && row.isEmpty(size - 1)) {
+            size--;
         }
 
-        // Parse line
-        List<String> elements = Arrays.asList(csvLine.split(delimiter));
-
-        // Check if header needs to be set
-        if (header == null) {
-            header = elements;
-            return elements;
+        List<String> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(row.get(i));
         }
 
         return elements;
     }
 
+    private static List<String> dropTrailingEmpty(List<String> elements) {
+        int size = elements.size();
+        while (size > 1 && elements.get(size - 1).isEmpty()) {
+            size--;
+        }
+
+        return size == elements.size() ? elements : new ArrayList<>(elements.subList(0, size));
+    }
+
     @Override
     public void close() {
-        csvLines.close();
+        parser.close();
     }
 
 }
@@ -0,0 +1,245 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.csv;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A row of a CSV file, as returned by {@link CsvParser}.
+ *
+ * <p>
+ * The parser reuses the same instance for every row, so a row is only valid until the next row is read. The characters
+ * of all fields are stored in a single buffer, and strings are only created when a field is requested, which allows
+ * reading numeric columns without allocating.
+ */
+public class CsvRow {
+
+    private static final int INITIAL_FIELDS = 16;
+
+    private char[] chars;
+    private int length;
+
+    private int[] starts;
+    private int[] ends;
+    private int numFields;
+
+    private long lineNumber;
+
+    // Maps column names to indexes, if the parser has read a header
+    private Map<String, Integer> columns;
+
+    CsvRow() {
+        this.chars = new char[256];
+        this.length = 0;
+        this.starts = new int[INITIAL_FIELDS];
+        this.ends = new int[INITIAL_FIELDS];
+        this.numFields = 0;
+        this.lineNumber = 0;
+        this.columns = Collections.emptyMap();
+    }
+
+    void reset(long lineNumber) {
+        this.length = 0;
+        this.numFields = 0;
+        this.lineNumber = lineNumber;
+    }
+
+    void setColumns(Map<String, Integer> columns) {
+        this.columns = columns;
+    }
+
+    void append(char c) {
+        if (length == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+
+        chars[length++] = c;
+    }
+
+    void append(char[] source, int offset, int count) {
+        if (length + count > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + count));
+        }
+
+        System.arraycopy(source, offset, chars, length, count);
+        length += count;
+    }
+
+    /**
+     * Ends the current field, which started at the given position of the buffer.
+     */
+    void endField(int start) {
+        if (numFields == starts.length) {
+            starts = Arrays.copyOf(starts, numFields * 2);
+            ends = Arrays.copyOf(ends, numFields * 2);
+        }
+
+        starts[numFields] = start;
+        ends[numFields] = length;
+        numFields++;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * @return the number of fields in this row
+     */
+    public int size() {
+        return numFields;
+    }
+
+    /**
+     * @return the line of the file where this row starts, starting at 1
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= numFields) {
+            throw new IndexOutOfBoundsException(
+                    "Field " + index + " does not exist in line " + lineNumber + ", which has " + numFields + " fields");
+        }
+
+        return index;
+    }
+
+    /**
+     * @return the index of the column with the given name in the header
+     */
+    public int getColumnIndex(String column) {
+        Integer index = columns.get(column);
+
+        if (index == null) {
+            throw new IllegalArgumentException("Column '" + column + "' not found in header " + columns.keySet());
+        }
+
+        return index;
+    }
+
+    public String get(int index) {
+        checkIndex(index);
+        return new String(chars, starts[index], ends[index] - starts[index]);
+    }
+
+    public String get(String column) {
+        return get(getColumnIndex(column));
+    }
+
+    /**
+     * Returns a view of the field, without copying it. The view is only valid until the next row is read.
+     */
+    public CharSequence getCharSequence(int index) {
+        checkIndex(index);
+        return CharBuffer.wrap(chars, starts[index], ends[index] - starts[index]);
+    }
+
+    public boolean isEmpty(int index) {
+        checkIndex(index);
+        return starts[index] == ends[index];
+    }
+
+    public int getInt(int index) {
+        long value = getLong(index);
+
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of int range in line " + lineNumber + ": " + value);
+        }
+
+        return (int) value;
+    }
+
+    public int getInt(String column) {
+        return getInt(getColumnIndex(column));
+    }
+
+    /**
+     * Parses the field directly from the row buffer, without creating a string. Fields with surrounding whitespace
+     * are also accepted.
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+
+        int start = starts[index];
+        int end = ends[index];
+
+        boolean negative = false;
+        int position = start;
+        if (position < end && (chars[position] == '-' || chars[position] == '+')) {
+            negative = chars[position] == '-';
+            position++;
+        }
+
+        // Accumulate as a negative number, which has a larger range
+        long value = 0;
+        boolean valid = position < end;
+        for (; valid && position < end; position++) {
+            int digit = chars[position] - '0';
+            if (digit < 0 || digit > 9 || value < Long.MIN_VALUE / 10) {
+                valid = false;
+                break;
+            }
+
+            value *= 10;
+            if (value < Long.MIN_VALUE + digit) {
+                valid = false;
+                break;
+            }
+            value -= digit;
+        }
+
+        if (!valid || (!negative && value == Long.MIN_VALUE)) {
+            // Falls back to the standard parser, which has the standard error messages
+            return Long.parseLong(get(index).trim());
+        }
+
+        return negative ? value : -value;
+    }
+
+    public long getLong(String column) {
+        return getLong(getColumnIndex(column));
+    }
+
+    public double getDouble(int index) {
+        return Double.parseDouble(get(index));
+    }
+
+    public double getDouble(String column) {
+        return getDouble(getColumnIndex(column));
+    }
+
+    /**
+     * @return a new list with the fields of this row
+     */
+    public List<String> toList() {
+        List<String> fields = new ArrayList<>(numFields);
+        for (int i = 0; i < numFields; i++) {
+            fields.add(get(i));
+        }
+
+        return fields;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.csv;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes CSV rows to a file, keeping the file open and writing in blocks.
+ *
+ * <p>
+ * Rows are accumulated in memory, and written when the block is full, when {@link #flush()} is called, or every
+ * 'flushEvery' rows, if set. Fields that contain the delimiter, quotes or line breaks are quoted.
+ */
+public class CsvStreamWriter implements AutoCloseable {
+
+    private static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private final String delimiter;
+    private final String newline;
+    private final int blockSize;
+    private final StringBuilder block;
+
+    private int flushEvery;
+    private long rowCount;
+    private boolean closed;
+
+    public CsvStreamWriter(File file, boolean append) {
+        this(file, append, CsvWriter.getDefaultDelimiter(), System.lineSeparator());
+    }
+
+    public CsvStreamWriter(File file, boolean append, String delimiter, String newline) {
+        this(open(file, append), delimiter, newline, DEFAULT_BLOCK_SIZE);
+    }
+
+    public CsvStreamWriter(Writer writer, String delimiter, String newline, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+
+        this.writer = writer;
+        this.delimiter = delimiter;
+        this.newline = newline;
+        this.blockSize = blockSize;
+        this.block = new StringBuilder(Math.min(blockSize, DEFAULT_BLOCK_SIZE) + 256);
+        this.flushEvery = 0;
+        this.rowCount = 0;
+        this.closed = false;
+    }
+
+    private static Writer open(File file, boolean append) {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+
+        StandardOpenOption mode = append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+
+        try {
+            return Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, mode);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open CSV file '" + file + "'", e);
+        }
+    }
+
+    /**
+     * Makes the writer flush after the given number of rows, so that the file can be read while it is being written.
+     *
+     * @param flushEvery number of rows between flushes, or 0 to only flush when the block is full
+     */
+    public CsvStreamWriter setFlushEvery(int flushEvery) {
+        if (flushEvery < 0) {
+            throw new IllegalArgumentException("Number of rows cannot be negative: " + flushEvery);
+        }
+
+        this.flushEvery = flushEvery;
+        return this;
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public CsvStreamWriter writeRow(String... fields) {
+        return writeRow(Arrays.asList(fields));
+    }
+
+    public CsvStreamWriter writeRow(List<String> fields) {
+        checkOpen();
+
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                block.append(delimiter);
+            }
+            appendField(block, fields.get(i), delimiter);
+        }
+        block.append(newline);
+
+        return rowWritten();
+    }
+
+    /**
+     * Writes text that is already formatted as one or more CSV rows, including the line break.
+     */
+    public CsvStreamWriter writeRaw(CharSequence rows) {
+        checkOpen();
+
+        block.append(rows);
+
+        return rowWritten();
+    }
+
+    private CsvStreamWriter rowWritten() {
+        rowCount++;
+
+        if (block.length() >= blockSize || (flushEvery > 0 && rowCount % flushEvery == 0)) {
+            flush();
+        }
+
+        return this;
+    }
+
+    /**
+     * Writes the accumulated rows to the file.
+     */
+    public void flush() {
+        checkOpen();
+
+        try {
+            writeBlock();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write CSV rows", e);
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (block.length() == 0) {
+            return;
+        }
+
+        writer.append(block);
+        block.setLength(0);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("CSV writer is closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try (Writer toClose = writer) {
+            writeBlock();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close CSV writer", e);
+        }
+    }
+
+    /**
+     * Appends a field, quoting it if it contains the delimiter, quotes or line breaks. Null fields are written as
+     * 'null'.
+     */
+    static void appendField(StringBuilder builder, String field, String delimiter) {
+        if (field == null) {
+            builder.append("null");
+            return;
+        }
+
+        if (!needsQuotes(field, delimiter)) {
+            builder.append(field);
+            return;
+        }
+
+        builder.append('"');
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '"') {
+                builder.append('"');
+            }
+            builder.append(c);
+        }
+        builder.append('"');
+    }
+
+    private static boolean needsQuotes(String field, String delimiter) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+
+        return !delimiter.isEmpty() && field.contains(delimiter);
+    }
+}
@@ -15,7 +15,6 @@ package pt.up.fe.specs.util.csv;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import pt.up.fe.specs.util.SpecsLogs;
 import pt.up.fe.specs.util.SpecsStrings;
@@ -142,18 +141,12 @@ public class CsvWriter {
         }
 
         // Header
-        csv.append(this.header.get(0));
-        for (int i = 1; i < this.header.size(); i++) {
-            csv.append(this.delimiter).append(this.header.get(i));
-        }
+        appendFields(csv, this.header);
 
         // Add processing fields
-        if (!extraFields.isEmpty()) {
-            String extraFieldsHeader = extraFields.stream()
-                    .map(CsvField::getHeader)
-                    .collect(Collectors.joining(delimiter, delimiter, ""));
-
-            csv.append(extraFieldsHeader);
+        for (CsvField field : extraFields) {
+            csv.append(this.delimiter);
+            CsvStreamWriter.appendField(csv, field.getHeader(), delimiter);
         }
 
         csv.append(this.newline);
@@ -163,27 +156,37 @@ public class CsvWriter {
 
     protected String buildLine(List<String> line, int lineNumber) {
         StringBuilder csv = new StringBuilder();
+        appendLine(csv, line, lineNumber);
+        return csv.toString();
+    }
 
-        String csvLine = line.stream()
-                .collect(Collectors.joining(delimiter));
-
-        csv.append(csvLine);
+    /**
+     * Appends a line to the builder. Fields that contain the delimiter, quotes or line breaks are quoted.
+     */
+    private void appendLine(StringBuilder csv, List<String> line, int lineNumber) {
+        appendFields(csv, line);
 
         // Check if there are fields to compute
         if (!extraFields.isEmpty()) {
             String lineNumberString = Integer.toString(lineNumber);
             String range = startColumn.get() + lineNumberString + ":" + endColumn.get() + lineNumberString;
 
-            String csvExtraFields = extraFields.stream()
-                    .map(field -> field.getField(range))
-                    .collect(Collectors.joining(delimiter, delimiter, ""));
-
-            csv.append(csvExtraFields);
+            for (CsvField field : extraFields) {
+                csv.append(delimiter);
+                CsvStreamWriter.appendField(csv, field.getField(range), delimiter);
+            }
         }
 
         csv.append(newline);
+    }
 
-        return csv.toString();
+    private void appendFields(StringBuilder csv, List<String> fields) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                csv.append(delimiter);
+            }
+            CsvStreamWriter.appendField(csv, fields.get(i), delimiter);
+        }
     }
 
     public String buildCsv() {
@@ -201,7 +204,7 @@ public class CsvWriter {
 
         // Lines
         for (List<String> line : this.lines) {
-            builder.append(buildLine(line, lineCounter));
+            appendLine(builder, line, lineCounter);
             lineCounter++;
         }
 
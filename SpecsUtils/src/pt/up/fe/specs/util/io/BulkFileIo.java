@@ -0,0 +1,193 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Bulk read and write of text files, based on NIO channels.
+ *
+ * <p>
+ * Files are read in a single pass into a buffer sized from the file length, and decoded at once. Files larger than
+ * {@link #MAPPED_THRESHOLD} are memory-mapped and decoded directly from the mapped region, avoiding an intermediate
+ * heap copy of the bytes. Malformed input is replaced, as done by {@link java.io.InputStreamReader}.
+ *
+ * <p>
+ * Methods in this class throw {@link IOException}, error handling is left to the callers (e.g.,
+ * {@link pt.up.fe.specs.util.SpecsIo}).
+ */
+public class BulkFileIo {
+
+    /**
+     * Files with at least this number of bytes are memory-mapped when read.
+     */
+    public static final long MAPPED_THRESHOLD = 64L * 1024 * 1024;
+
+    private static final OpenOption[] WRITE_OPTIONS = { StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING };
+
+    private static final OpenOption[] APPEND_OPTIONS = { StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND };
+
+    private BulkFileIo() {
+    }
+
+    /**
+     * Reads the contents of a file as a String, using UTF-8.
+     */
+    public static String read(Path file) throws IOException {
+        return read(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the contents of a file as a String.
+     */
+    public static String read(Path file, Charset charset) throws IOException {
+        return readCharSequence(file, charset, MAPPED_THRESHOLD).toString();
+    }
+
+    /**
+     * Reads the contents of a file as a CharSequence, using UTF-8.
+     *
+     * <p>
+     * For large files, returns a read-only view over the decoded characters instead of a String, which avoids copying
+     * the contents a second time. For smaller files, returns a String.
+     */
+    public static CharSequence readCharSequence(Path file) throws IOException {
+        return readCharSequence(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the contents of a file as a CharSequence.
+     *
+     * @see #readCharSequence(Path)
+     */
+    public static CharSequence readCharSequence(Path file, Charset charset) throws IOException {
+        return readCharSequence(file, charset, MAPPED_THRESHOLD);
+    }
+
+    static CharSequence readCharSequence(Path file, Charset charset, long mappedThreshold) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            if (size >= mappedThreshold) {
+                return decodeMapped(channel, size, charset).asReadOnlyBuffer();
+            }
+
+            return new String(readBytes(channel, (int) Math.min(size, Integer.MAX_VALUE - 8)), charset);
+        }
+    }
+
+    /**
+     * Reads the contents of a stream as a String. The stream is not closed.
+     */
+    public static String read(InputStream inputStream, Charset charset) throws IOException {
+        return new String(inputStream.readAllBytes(), charset);
+    }
+
+    /**
+     * Writes the contents to the file, overwriting what was previously there.
+     */
+    public static void write(Path file, CharSequence contents, Charset charset) throws IOException {
+        write(file, contents, charset, WRITE_OPTIONS);
+    }
+
+    /**
+     * Writes the contents at the end of the file.
+     */
+    public static void append(Path file, CharSequence contents, Charset charset) throws IOException {
+        write(file, contents, charset, APPEND_OPTIONS);
+    }
+
+    private static void write(Path file, CharSequence contents, Charset charset, OpenOption[] options)
+            throws IOException {
+
+        ByteBuffer bytes = contents instanceof String ? ByteBuffer.wrap(((String) contents).getBytes(charset))
+                : charset.encode(CharBuffer.wrap(contents));
+
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Reads the channel until the end, using the given size as a hint for the initial buffer.
+     */
+    private static byte[] readBytes(FileChannel channel, int sizeHint) throws IOException {
+        // Size can be zero for special files (e.g., /proc), use a small buffer in that case
+        byte[] bytes = new byte[Math.max(sizeHint, 8192)];
+        int length = 0;
+
+        while (true) {
+            int read = channel.read(ByteBuffer.wrap(bytes, length, bytes.length - length));
+
+            if (read < 0) {
+                break;
+            }
+
+            length += read;
+
+            // Buffer full, check if there is still data (e.g., file grew after size was obtained)
+            if (length == bytes.length) {
+                ByteBuffer probe = ByteBuffer.allocate(1);
+                if (channel.read(probe) < 0) {
+                    break;
+                }
+
+                bytes = Arrays.copyOf(bytes, growCapacity(bytes.length));
+                bytes[length++] = probe.get(0);
+            }
+        }
+
+        return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+    }
+
+    private static int growCapacity(int currentCapacity) {
+        long newCapacity = Math.max((long) currentCapacity * 2, 8192);
+
+        if (newCapacity > Integer.MAX_VALUE - 8) {
+            if (currentCapacity >= Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("File is too large to be read into memory");
+            }
+
+            return Integer.MAX_VALUE - 8;
+        }
+
+        return (int) newCapacity;
+    }
+
+    private static CharBuffer decodeMapped(FileChannel channel, long size, Charset charset) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("File is too large to be read into memory (" + size + " bytes)");
+        }
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+        // Charset.decode replaces malformed and unmappable input
+        return charset.decode(buffer);
+    }
+}
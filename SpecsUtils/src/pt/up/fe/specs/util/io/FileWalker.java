@@ -0,0 +1,449 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import pt.up.fe.specs.util.SpecsIo;
+import pt.up.fe.specs.util.SpecsLogs;
+
+/**
+ * Recursively collects the files inside a folder, based on NIO directory streams.
+ *
+ * <p>
+ * The attributes of each entry are read once. Files can be filtered by extension (case-insensitive), symbolic links
+ * can be ignored, and folders that test true for the cut-off predicate are not visited.
+ *
+ * <p>
+ * Three modes are available: sequential ({@link #getFiles(File)}), parallel over sub-folders
+ * ({@link #getFilesParallel(File)}), and lazy ({@link #stream(Path)}). The sequential and parallel modes return the
+ * files in the same order.
+ */
+public class FileWalker {
+
+    private final Set<String> extensions;
+    private final boolean followSymlinks;
+    private final Predicate<File> cutoffFolders;
+    private final LinkOption[] linkOptions;
+
+    /**
+     *
+     * @param extensions     the extensions of the files to collect, or an empty collection for all files
+     * @param followSymlinks whether to follow symlinks (both files and folders)
+     * @param cutoffFolders  folders which test true are not visited
+     */
+    public FileWalker(Collection<String> extensions, boolean followSymlinks, Predicate<File> cutoffFolders) {
+        this.extensions = extensions.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        this.followSymlinks = followSymlinks;
+        this.cutoffFolders = Objects.requireNonNull(cutoffFolders);
+        this.linkOptions = followSymlinks ? new LinkOption[0] : new LinkOption[] { LinkOption.NOFOLLOW_LINKS };
+    }
+
+    /**
+     * Collects the files sequentially, using {@link Files#walkFileTree}.
+     *
+     * @param path a file or a folder
+     * @return the files found, excluding folders
+     */
+    public List<File> getFiles(File path) {
+        Path start = path.toPath();
+
+        if (!exists(start)) {
+            return Collections.emptyList();
+        }
+
+        List<File> files = new ArrayList<>();
+
+        Set<FileVisitOption> options = followSymlinks ? EnumSet.of(FileVisitOption.FOLLOW_LINKS)
+                : EnumSet.noneOf(FileVisitOption.class);
+
+        try {
+            Files.walkFileTree(start, options, Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    return isCutoff(dir) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (accept(file, attrs)) {
+                        files.add(file.toFile());
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    logVisitFailed(file, exc);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+                    if (exc != null) {
+                        logVisitFailed(dir, exc);
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            SpecsLogs.debug(() -> "Could not walk path '" + path + "': " + e.getMessage());
+        }
+
+        return files;
+    }
+
+    /**
+     * Collects the files using the common fork-join pool, visiting sub-folders in parallel.
+     *
+     * @see #getFilesParallel(File, ForkJoinPool)
+     */
+    public List<File> getFilesParallel(File path) {
+        return getFilesParallel(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Collects the files using the given fork-join pool, visiting sub-folders in parallel. The files are returned in
+     * the same order as {@link #getFiles(File)}.
+     *
+     * @param path a file or a folder
+     * @return the files found, excluding folders
+     */
+    public List<File> getFilesParallel(File path, ForkJoinPool pool) {
+        Path start = path.toPath();
+
+        BasicFileAttributes attrs = readAttributes(start);
+        if (attrs == null) {
+            return Collections.emptyList();
+        }
+
+        if (!attrs.isDirectory()) {
+            return accept(start, attrs) ? List.of(path) : Collections.emptyList();
+        }
+
+        if (isCutoff(start)) {
+            return Collections.emptyList();
+        }
+
+        List<Path> files = pool.invoke(new FolderTask(start, attrs.fileKey(), null));
+
+        List<File> result = new ArrayList<>(files.size());
+        for (Path file : files) {
+            result.add(file.toFile());
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a lazy stream with the files found, which are produced as the folders are visited. The stream should be
+     * closed after use, to release open directory handles.
+     *
+     * @param path a file or a folder
+     * @return a stream of the files found, excluding folders
+     */
+    public Stream<Path> stream(Path path) {
+        LazyIterator iterator = new LazyIterator(path);
+
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    private boolean exists(Path path) {
+        if (followSymlinks ? Files.exists(path) : Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+            return true;
+        }
+
+        SpecsLogs.debug(() -> "Path '" + path + "' does not exist.");
+        return false;
+    }
+
+    /**
+     * @return the attributes of the path, or null if they could not be read (e.g., path does not exist)
+     */
+    private BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, linkOptions);
+        } catch (IOException e) {
+            SpecsLogs.debug(() -> "Path '" + path + "' does not exist.");
+            return null;
+        }
+    }
+
+    private boolean accept(Path file, BasicFileAttributes attrs) {
+        // Symlinks (when not followed), broken links and special files are ignored
+        if (!attrs.isRegularFile()) {
+            return false;
+        }
+
+        if (extensions.isEmpty()) {
+            return true;
+        }
+
+        String extension = SpecsIo.getExtension(file.getFileName().toString()).toLowerCase();
+        return extensions.contains(extension);
+    }
+
+    private boolean isCutoff(Path folder) {
+        return cutoffFolders.test(folder.toFile());
+    }
+
+    private static void logVisitFailed(Path path, IOException exc) {
+        if (exc instanceof FileSystemLoopException) {
+            SpecsLogs.debug(() -> "Ignoring symlink loop at '" + path + "'");
+            return;
+        }
+
+        SpecsLogs.debug(() -> "Could not list files of path '" + path.toAbsolutePath() + "'");
+    }
+
+    /**
+     * Linked list of the file keys of the folders in the current path, used to detect symlink loops.
+     */
+    private static class Ancestors {
+        private final Object fileKey;
+        private final Ancestors parent;
+
+        public Ancestors(Object fileKey, Ancestors parent) {
+            this.fileKey = fileKey;
+            this.parent = parent;
+        }
+
+        public static boolean contains(Ancestors ancestors, Object fileKey) {
+            if (fileKey == null) {
+                return false;
+            }
+
+            for (Ancestors current = ancestors; current != null; current = current.parent) {
+                if (fileKey.equals(current.fileKey)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private class FolderTask extends RecursiveTask<List<Path>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Path folder;
+        private final Ancestors ancestors;
+
+        public FolderTask(Path folder, Object fileKey, Ancestors ancestors) {
+            this.folder = folder;
+            this.ancestors = new Ancestors(fileKey, ancestors);
+        }
+
+        @Override
+        protected List<Path> compute() {
+            // Each element is either a Path or a task, to keep the order of the entries when merging
+            List<Object> entries = new ArrayList<>();
+
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(folder)) {
+                for (Path child : children) {
+                    BasicFileAttributes attrs = readAttributes(child);
+                    if (attrs == null) {
+                        continue;
+                    }
+
+                    if (attrs.isDirectory()) {
+                        if (Ancestors.contains(ancestors, attrs.fileKey())) {
+                            logVisitFailed(child, new FileSystemLoopException(child.toString()));
+                            continue;
+                        }
+
+                        if (isCutoff(child)) {
+                            continue;
+                        }
+
+                        FolderTask task = new FolderTask(child, attrs.fileKey(), ancestors);
+                        task.fork();
+                        entries.add(task);
+                        continue;
+                    }
+
+                    if (accept(child, attrs)) {
+                        entries.add(child);
+                    }
+                }
+            } catch (IOException e) {
+                logVisitFailed(folder, e);
+            } catch (DirectoryIteratorException e) {
+                logVisitFailed(folder, e.getCause());
+            }
+
+            List<Path> files = new ArrayList<>();
+            for (Object entry : entries) {
+                if (entry instanceof FolderTask) {
+                    files.addAll(((FolderTask) entry).join());
+                } else {
+                    files.add((Path) entry);
+                }
+            }
+
+            return files;
+        }
+    }
+
+    private class LazyIterator implements Iterator<Path> {
+
+        private final Deque<DirectoryStream<Path>> openStreams;
+        private final Deque<Iterator<Path>> iterators;
+        private Ancestors ancestors;
+        private Path next;
+
+        public LazyIterator(Path start) {
+            this.openStreams = new ArrayDeque<>();
+            this.iterators = new ArrayDeque<>();
+            this.ancestors = null;
+            this.next = null;
+
+            BasicFileAttributes attrs = readAttributes(start);
+            if (attrs == null) {
+                return;
+            }
+
+            if (!attrs.isDirectory()) {
+                next = accept(start, attrs) ? start : null;
+                return;
+            }
+
+            if (!isCutoff(start)) {
+                open(start, attrs.fileKey());
+            }
+        }
+
+        private void open(Path folder, Object fileKey) {
+            try {
+                DirectoryStream<Path> stream = Files.newDirectoryStream(folder);
+                openStreams.push(stream);
+                iterators.push(stream.iterator());
+                ancestors = new Ancestors(fileKey, ancestors);
+            } catch (IOException e) {
+                logVisitFailed(folder, e);
+            }
+        }
+
+        private void closeCurrent() {
+            iterators.pop();
+            ancestors = ancestors.parent;
+            try {
+                openStreams.pop().close();
+            } catch (IOException e) {
+                SpecsLogs.debug(() -> "Could not close directory stream: " + e.getMessage());
+            }
+        }
+
+        private void advance() {
+            while (next == null && !iterators.isEmpty()) {
+                Iterator<Path> current = iterators.peek();
+
+                Path child;
+                try {
+                    if (!current.hasNext()) {
+                        closeCurrent();
+                        continue;
+                    }
+
+                    child = current.next();
+                } catch (DirectoryIteratorException e) {
+                    SpecsLogs.debug(() -> "Could not list all files of folder: " + e.getCause().getMessage());
+                    closeCurrent();
+                    continue;
+                }
+
+                BasicFileAttributes attrs = readAttributes(child);
+                if (attrs == null) {
+                    continue;
+                }
+
+                if (attrs.isDirectory()) {
+                    if (Ancestors.contains(ancestors, attrs.fileKey())) {
+                        logVisitFailed(child, new FileSystemLoopException(child.toString()));
+                        continue;
+                    }
+
+                    if (!isCutoff(child)) {
+                        open(child, attrs.fileKey());
+                    }
+
+                    continue;
+                }
+
+                if (accept(child, attrs)) {
+                    next = child;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            advance();
+            return next != null;
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Path current = next;
+            next = null;
+            return current;
+        }
+
+        public void close() {
+            while (!iterators.isEmpty()) {
+                closeCurrent();
+            }
+        }
+    }
+}
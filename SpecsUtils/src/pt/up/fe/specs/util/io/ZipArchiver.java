@@ -0,0 +1,644 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.io;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import pt.up.fe.specs.util.SpecsIo;
+import pt.up.fe.specs.util.SpecsLogs;
+
+/**
+ * Creates and extracts zip archives, using several threads.
+ *
+ * <p>
+ * When creating an archive, the entries are compressed in parallel and written to a single file, in the given order.
+ * Files up to {@link #IN_MEMORY_LIMIT} bytes are compressed to memory by worker threads, larger files are streamed
+ * directly to the archive. The archive is first written to a temporary file, which replaces the destination file at
+ * the end.
+ *
+ * <p>
+ * Archives on disk are extracted in parallel through {@link ZipFile}, which gives random access to the entries.
+ * Archives read from a stream (e.g., a resource) are extracted sequentially.
+ *
+ * <p>
+ * Optionally, entries that are unchanged are skipped, by comparing their size and CRC. When creating an archive, the
+ * compressed data of files that are unchanged in the previous version of the archive is copied as it is. When
+ * extracting, files that already exist with the same contents are not written again.
+ *
+ * <p>
+ * Methods in this class throw {@link IOException}, error handling is left to the callers (e.g.,
+ * {@link pt.up.fe.specs.util.SpecsIo}).
+ */
+public class ZipArchiver {
+
+    /**
+     * Size of the buffers used to copy the contents of entries.
+     */
+    public static final int BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * Files with at most this number of bytes are compressed to memory, in parallel.
+     */
+    public static final long IN_MEMORY_LIMIT = 4L * 1024 * 1024;
+
+    // Maximum number of bytes of files being compressed to memory at the same time, approximately
+    private static final long MAX_PENDING_BYTES = 64L * 1024 * 1024;
+
+    // Files larger than this are streamed with space for 64-bit sizes, compressed data can be slightly larger
+    private static final long ZIP64_THRESHOLD = 0xF0000000L;
+
+    /**
+     * Receives the progress of an operation, after each entry is processed. Calls are not concurrent, but can come
+     * from different threads.
+     */
+    @FunctionalInterface
+    public interface Progress {
+
+        /**
+         *
+         * @param entry the name of the entry that was processed
+         * @param done  the number of entries processed so far
+         * @param total the total number of entries, or -1 if unknown
+         */
+        void update(String entry, int done, int total);
+    }
+
+    private final int numThreads;
+    private final boolean skipUnchanged;
+    private final Progress progress;
+
+    /**
+     * Uses as many threads as available processors, does not skip unchanged entries and does not report progress.
+     */
+    public ZipArchiver() {
+        this(Runtime.getRuntime().availableProcessors(), false, null);
+    }
+
+    /**
+     *
+     * @param numThreads    the number of threads that compress and extract entries
+     * @param skipUnchanged if true, entries with the same size and CRC as the existing ones are not compressed or
+     *                      written again
+     * @param progress      receives the progress of each operation, can be null
+     */
+    public ZipArchiver(int numThreads, boolean skipUnchanged, Progress progress) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("Number of threads must be at least 1, is " + numThreads);
+        }
+
+        this.numThreads = numThreads;
+        this.skipUnchanged = skipUnchanged;
+        this.progress = progress == null ? (entry, done, total) -> {
+        } : progress;
+    }
+
+    /**
+     * Compresses the given files and folders into a zip file. Uses basePath to calculate the name of the entries,
+     * files that are not inside basePath are ignored.
+     *
+     * <p>
+     * Folders are added as empty entries, their contents are not added.
+     */
+    public void zip(List<File> files, File basePath, File zipFile) throws IOException {
+        List<Source> sources = new ArrayList<>(files.size());
+        for (File file : files) {
+            Optional<String> name = SpecsIo.getRelativePath(file, basePath, true);
+
+            if (name.isEmpty() || name.get().isEmpty() || name.get().startsWith("../")) {
+                SpecsLogs.msgInfo("Entry '" + file.getAbsolutePath() + "' is not inside base path '"
+                        + basePath.getAbsolutePath() + "'");
+                continue;
+            }
+
+            sources.add(new Source(file, file.isDirectory() ? name.get() + "/" : name.get()));
+        }
+
+        Path target = zipFile.getAbsoluteFile().toPath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        ConcurrentLinkedQueue<Compressor> compressors = new ConcurrentLinkedQueue<>();
+
+        try (FileChannel previous = skipUnchanged && Files.isRegularFile(target) ? FileChannel.open(target) : null;
+                ZipWriter writer = new ZipWriter(temp)) {
+
+            ZipDirectory directory = readDirectory(previous, target);
+
+            Deque<Future<Prepared>> pending = new ArrayDeque<>();
+            long pendingBytes = 0;
+            int next = 0;
+
+            for (int done = 0; done < sources.size(); done++) {
+                // Keep the workers busy, while limiting the memory used by compressed entries
+                while (next < sources.size() && pending.size() < 2 * numThreads
+                        && (pending.isEmpty() || pendingBytes < MAX_PENDING_BYTES)) {
+                    Source source = sources.get(next++);
+                    pendingBytes += source.getMemorySize();
+                    pending.add(executor.submit(() -> prepare(source, directory, compressors)));
+                }
+
+                Prepared prepared = get(pending.poll());
+                pendingBytes -= prepared.source.getMemorySize();
+
+                write(prepared, writer, directory, compressors);
+                progress.update(prepared.source.name, done + 1, sources.size());
+            }
+
+            writer.finish();
+        } catch (IOException | RuntimeException | Error e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            executor.shutdownNow();
+            compressors.forEach(compressor -> compressor.deflater.end());
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Extracts a zip file to the given folder, in parallel.
+     *
+     * <p>
+     * Folders are created first, and then files are extracted by the worker threads.
+     */
+    public void extract(File zipFile, File folder) throws IOException {
+        Path root = folder.getAbsoluteFile().toPath().normalize();
+
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            List<? extends ZipEntry> entries = zip.stream().toList();
+            AtomicInteger done = new AtomicInteger();
+
+            List<ZipEntry> fileEntries = new ArrayList<>(entries.size());
+            List<Path> targets = new ArrayList<>(entries.size());
+            for (ZipEntry entry : entries) {
+                Path target = resolve(root, entry.getName());
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                    update(entry.getName(), done.incrementAndGet(), entries.size());
+                } else {
+                    fileEntries.add(entry);
+                    targets.add(target);
+                }
+            }
+
+            // Each worker takes the next entry that was not extracted yet
+            AtomicInteger nextEntry = new AtomicInteger();
+            Callable<Void> worker = () -> {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int index;
+                while ((index = nextEntry.getAndIncrement()) < fileEntries.size()) {
+                    ZipEntry entry = fileEntries.get(index);
+                    extract(zip, entry, targets.get(index), buffer);
+                    update(entry.getName(), done.incrementAndGet(), entries.size());
+                }
+                return null;
+            };
+
+            runWorkers(worker, Math.min(numThreads, fileEntries.size()));
+        }
+    }
+
+    /**
+     * Extracts a zip archive read from a stream to the given folder, sequentially. The stream is closed at the end.
+     */
+    public void extract(InputStream zipStream, File folder) throws IOException {
+        Path root = folder.getAbsoluteFile().toPath().normalize();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int done = 0;
+
+        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(zipStream, BUFFER_SIZE))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                Path target = resolve(root, entry.getName());
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                } else if (!skipUnchanged || !isUnchanged(target, entry.getSize(), entry.getCrc(), buffer)) {
+                    write(zis, target, buffer);
+                }
+
+                update(entry.getName(), ++done, -1);
+            }
+        }
+    }
+
+    private void extract(ZipFile zip, ZipEntry entry, Path target, byte[] buffer) throws IOException {
+        if (skipUnchanged && isUnchanged(target, entry.getSize(), entry.getCrc(), buffer)) {
+            return;
+        }
+
+        try (InputStream in = zip.getInputStream(entry)) {
+            write(in, target, buffer);
+        }
+    }
+
+    private void update(String entry, int done, int total) {
+        synchronized (progress) {
+            progress.update(entry, done, total);
+        }
+    }
+
+    private void runWorkers(Callable<Void> worker, int numWorkers) throws IOException {
+        if (numWorkers <= 1) {
+            call(worker);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(numWorkers);
+        try {
+            List<Future<Void>> futures = new ArrayList<>(numWorkers);
+            for (int i = 0; i < numWorkers; i++) {
+                futures.add(executor.submit(worker));
+            }
+
+            for (Future<Void> future : futures) {
+                get(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Resolves the name of an entry against the destination folder, rejecting entries that would be outside of it.
+     */
+    private static Path resolve(Path root, String name) throws ZipException {
+        Path target = root.resolve(name).normalize();
+
+        if (!target.startsWith(root)) {
+            throw new ZipException("Entry '" + name + "' is outside of the destination folder '" + root + "'");
+        }
+
+        return target;
+    }
+
+    private static void write(InputStream in, Path target, byte[] buffer) throws IOException {
+        Files.createDirectories(target.getParent());
+
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Checks if the given file exists with the given size and CRC.
+     */
+    private static boolean isUnchanged(Path file, long size, long crc, byte[] buffer) throws IOException {
+        if (size < 0 || crc < 0) {
+            return false;
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return false;
+        }
+
+        if (!attributes.isRegularFile() || attributes.size() != size) {
+            return false;
+        }
+
+        return crc(file, buffer) == crc;
+    }
+
+    private static long crc(Path file, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+
+        return crc.getValue();
+    }
+
+    private static ZipDirectory readDirectory(FileChannel previous, Path zipFile) {
+        if (previous == null) {
+            return null;
+        }
+
+        try {
+            return ZipDirectory.read(previous);
+        } catch (IOException e) {
+            SpecsLogs.debug(() -> "Could not read existing archive '" + zipFile + "', all entries will be compressed: "
+                    + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Runs in a worker thread. Compresses small files to memory, and finds which files are unchanged in the previous
+     * archive.
+     */
+    private static Prepared prepare(Source source, ZipDirectory directory,
+            ConcurrentLinkedQueue<Compressor> compressors) throws IOException {
+
+        if (source.isDirectory()) {
+            return new Prepared(source);
+        }
+
+        Compressor compressor = acquire(compressors);
+        try {
+            if (directory != null) {
+                ZipDirectory.Entry previous = directory.get(source.name);
+
+                if (previous != null && previous.isCopyable() && previous.size == source.size
+                        && crc(source.file.toPath(), compressor.buffer) == previous.crc) {
+                    return new Prepared(source, previous);
+                }
+            }
+
+            // Large files are compressed by the writer
+            if (source.size > IN_MEMORY_LIMIT) {
+                return new Prepared(source);
+            }
+
+            ByteBufferStream compressed = new ByteBufferStream((int) (source.size / 2) + 64);
+            ZipWriter.Entry entry = compressor.deflate(source, compressed);
+            return new Prepared(source, entry, compressed.toByteBuffer());
+        } finally {
+            compressors.add(compressor);
+        }
+    }
+
+    /**
+     * Runs in the calling thread, writes entries to the archive in order.
+     */
+    private static void write(Prepared prepared, ZipWriter writer, ZipDirectory directory,
+            ConcurrentLinkedQueue<Compressor> compressors) throws IOException {
+
+        Source source = prepared.source;
+
+        // Folder
+        if (source.isDirectory()) {
+            ZipWriter.Entry entry = new ZipWriter.Entry(source.name, ZipWriter.METHOD_STORED, source.lastModified);
+            writer.putEntry(entry, false);
+            writer.closeEntry();
+            return;
+        }
+
+        // Compressed in memory
+        if (prepared.compressed != null) {
+            writer.putEntry(prepared.entry, false);
+            writer.write(prepared.compressed);
+            writer.closeEntry();
+            return;
+        }
+
+        // Unchanged in the previous archive
+        if (prepared.previous != null) {
+            long dataOffset = directory.getDataOffset(prepared.previous);
+
+            if (dataOffset >= 0) {
+                ZipWriter.Entry entry = new ZipWriter.Entry(source.name, prepared.previous.method,
+                        source.lastModified);
+                entry.crc = prepared.previous.crc;
+                entry.size = prepared.previous.size;
+                entry.compressedSize = prepared.previous.compressedSize;
+
+                writer.putEntry(entry, false);
+                writer.transferFrom(directory.getChannel(), dataOffset, entry.compressedSize);
+                writer.closeEntry();
+                return;
+            }
+        }
+
+        // Large file, compressed directly to the archive
+        Compressor compressor = acquire(compressors);
+        try {
+            ZipWriter.Entry entry = new ZipWriter.Entry(source.name, ZipWriter.METHOD_DEFLATED, source.lastModified);
+            writer.putEntry(entry, source.size >= ZIP64_THRESHOLD);
+            compressor.deflate(source, writer.getOutputStream(), entry);
+            writer.closeEntry();
+        } finally {
+            compressors.add(compressor);
+        }
+    }
+
+    private static Compressor acquire(ConcurrentLinkedQueue<Compressor> compressors) {
+        Compressor compressor = compressors.poll();
+        return compressor != null ? compressor : new Compressor();
+    }
+
+    private static <T> T get(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for zip workers");
+        } catch (ExecutionException e) {
+            return rethrow(e.getCause());
+        }
+    }
+
+    private static <T> T call(Callable<T> callable) throws IOException {
+        try {
+            return callable.call();
+        } catch (Exception e) {
+            return rethrow(e);
+        }
+    }
+
+    private static <T> T rethrow(Throwable cause) throws IOException {
+        if (cause instanceof IOException ioException) {
+            throw ioException;
+        }
+
+        if (cause instanceof UncheckedIOException uncheckedException) {
+            throw uncheckedException.getCause();
+        }
+
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        throw new IOException(cause);
+    }
+
+    /**
+     * A file to add to the archive. The attributes are read once, before compression starts.
+     */
+    private static class Source {
+
+        private final File file;
+        private final String name;
+        private final long size;
+        private final long lastModified;
+
+        private Source(File file, String name) {
+            this.file = file;
+            this.name = name;
+            this.size = file.isDirectory() ? 0 : file.length();
+            this.lastModified = file.lastModified();
+        }
+
+        private boolean isDirectory() {
+            return name.endsWith("/");
+        }
+
+        private long getMemorySize() {
+            return size <= IN_MEMORY_LIMIT ? size : 0;
+        }
+    }
+
+    /**
+     * The result of preparing a source in a worker thread: compressed data, an unchanged entry of the previous
+     * archive, or nothing, if the source is a folder or is large.
+     */
+    private static class Prepared {
+
+        private final Source source;
+        private final ZipWriter.Entry entry;
+        private final ByteBuffer compressed;
+        private final ZipDirectory.Entry previous;
+
+        private Prepared(Source source, ZipWriter.Entry entry, ByteBuffer compressed, ZipDirectory.Entry previous) {
+            this.source = source;
+            this.entry = entry;
+            this.compressed = compressed;
+            this.previous = previous;
+        }
+
+        private Prepared(Source source) {
+            this(source, null, null, null);
+        }
+
+        private Prepared(Source source, ZipWriter.Entry entry, ByteBuffer compressed) {
+            this(source, entry, compressed, null);
+        }
+
+        private Prepared(Source source, ZipDirectory.Entry previous) {
+            this(source, null, null, previous);
+        }
+    }
+
+    /**
+     * A deflater and its buffers, reused between entries compressed by the same thread.
+     */
+    private static class Compressor {
+
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final byte[] output = new byte[BUFFER_SIZE];
+
+        /**
+         * Compresses the file to memory.
+         */
+        private ZipWriter.Entry deflate(Source source, OutputStream out) throws IOException {
+            ZipWriter.Entry entry = new ZipWriter.Entry(source.name, ZipWriter.METHOD_DEFLATED, source.lastModified);
+            deflate(source, out, entry);
+            return entry;
+        }
+
+        /**
+         * Compresses the file, setting the CRC and sizes of the entry.
+         */
+        private void deflate(Source source, OutputStream out, ZipWriter.Entry entry) throws IOException {
+            deflater.reset();
+            CRC32 crc = new CRC32();
+            long size = 0;
+
+            try (InputStream in = Files.newInputStream(source.file.toPath())) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    crc.update(buffer, 0, read);
+                    size += read;
+
+                    deflater.setInput(buffer, 0, read);
+                    while (!deflater.needsInput()) {
+                        drain(out);
+                    }
+                }
+            }
+
+            deflater.finish();
+            while (!deflater.finished()) {
+                drain(out);
+            }
+
+            entry.crc = crc.getValue();
+            entry.size = size;
+            entry.compressedSize = deflater.getBytesWritten();
+        }
+
+        private void drain(OutputStream out) throws IOException {
+            int compressed = deflater.deflate(output);
+            out.write(output, 0, compressed);
+        }
+    }
+
+    /**
+     * Output stream to memory, which gives access to its contents without copying them.
+     */
+    private static class ByteBufferStream extends ByteArrayOutputStream {
+
+        private ByteBufferStream(int size) {
+            super(size);
+        }
+
+        private ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipException;
+
+/**
+ * Reads the central directory of a zip archive, to find where the compressed data of each entry is.
+ *
+ * <p>
+ * Used to copy entries from an existing archive without decompressing them again.
+ */
+class ZipDirectory {
+
+    private static final int LOCAL_HEADER_SIG = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+    private static final int ZIP64_END_SIG = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+    private static final int END_SIG = 0x06054b50;
+
+    private static final int END_SIZE = 22;
+    private static final int MAX_COMMENT = 0xFFFF;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int FLAG_ENCRYPTED = 0x1;
+
+    /**
+     * An entry in the central directory.
+     */
+    static class Entry {
+
+        final int method;
+        final int flags;
+        final long crc;
+        final long compressedSize;
+        final long size;
+        final long headerOffset;
+
+        private Entry(int method, int flags, long crc, long compressedSize, long size, long headerOffset) {
+            this.method = method;
+            this.flags = flags;
+            this.crc = crc;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.headerOffset = headerOffset;
+        }
+
+        /**
+         * @return true if the compressed data of this entry can be copied to another archive as it is
+         */
+        boolean isCopyable() {
+            return (flags & FLAG_ENCRYPTED) == 0
+                    && (method == ZipWriter.METHOD_DEFLATED || method == ZipWriter.METHOD_STORED);
+        }
+    }
+
+    private final FileChannel channel;
+    private final Map<String, Entry> entries;
+
+    private ZipDirectory(FileChannel channel, Map<String, Entry> entries) {
+        this.channel = channel;
+        this.entries = entries;
+    }
+
+    /**
+     * Reads the central directory of the archive in the given channel. The channel is used later by
+     * {@link #getDataOffset(Entry)}, and is not closed by this class.
+     */
+    static ZipDirectory read(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < END_SIZE) {
+            throw new ZipException("Not a zip file");
+        }
+
+        // Find the end of central directory record, which is followed by a comment of variable length
+        int tailSize = (int) Math.min(fileSize, END_SIZE + MAX_COMMENT);
+        long tailOffset = fileSize - tailSize;
+        ByteBuffer tail = readAt(channel, tailOffset, tailSize);
+
+        int end = tailSize - END_SIZE;
+        while (end >= 0 && !(tail.getInt(end) == END_SIG && end + END_SIZE + getShort(tail, end + 20) == tailSize)) {
+            end--;
+        }
+
+        if (end < 0) {
+            throw new ZipException("Not a zip file");
+        }
+
+        long numEntries = getShort(tail, end + 10);
+        long directorySize = getInt(tail, end + 12);
+        long directoryOffset = getInt(tail, end + 16);
+
+        int locator = end - 20;
+        if (locator >= 0 && tail.getInt(locator) == ZIP64_LOCATOR_SIG) {
+            ByteBuffer zip64End = readAt(channel, tail.getLong(locator + 8), 56);
+            if (zip64End.getInt(0) != ZIP64_END_SIG) {
+                throw new ZipException("Invalid ZIP64 end of central directory");
+            }
+
+            numEntries = zip64End.getLong(32);
+            directorySize = zip64End.getLong(40);
+            directoryOffset = zip64End.getLong(48);
+        }
+
+        if (directorySize > Integer.MAX_VALUE || directoryOffset + directorySize > fileSize) {
+            throw new ZipException("Invalid central directory");
+        }
+
+        ByteBuffer directory = readAt(channel, directoryOffset, (int) directorySize);
+        Map<String, Entry> entries = new HashMap<>();
+
+        int position = 0;
+        for (long i = 0; i < numEntries; i++) {
+            if (position + 46 > directory.limit() || directory.getInt(position) != CENTRAL_HEADER_SIG) {
+                throw new ZipException("Invalid central directory header");
+            }
+
+            int flags = getShort(directory, position + 8);
+            int method = getShort(directory, position + 10);
+            long crc = getInt(directory, position + 16);
+            long compressedSize = getInt(directory, position + 20);
+            long size = getInt(directory, position + 24);
+            int nameLength = getShort(directory, position + 28);
+            int extraLength = getShort(directory, position + 30);
+            int commentLength = getShort(directory, position + 32);
+            long headerOffset = getInt(directory, position + 42);
+
+            int nameStart = position + 46;
+            int extraStart = nameStart + nameLength;
+            int next = extraStart + extraLength + commentLength;
+            if (next > directory.limit()) {
+                throw new ZipException("Invalid central directory header");
+            }
+
+            // Values that do not fit 32 bits are in the ZIP64 extra field, in this order
+            int extra = extraStart;
+            while (extra + 4 <= extraStart + extraLength) {
+                int id = getShort(directory, extra);
+                int length = getShort(directory, extra + 2);
+                if (id == ZIP64_EXTRA_ID) {
+                    int field = extra + 4;
+                    if (size == ZIP64_MAGIC) {
+                        size = directory.getLong(field);
+                        field += 8;
+                    }
+                    if (compressedSize == ZIP64_MAGIC) {
+                        compressedSize = directory.getLong(field);
+                        field += 8;
+                    }
+                    if (headerOffset == ZIP64_MAGIC) {
+                        headerOffset = directory.getLong(field);
+                    }
+                }
+                extra += 4 + length;
+            }
+
+            String name = new String(directory.array(), nameStart, nameLength, StandardCharsets.UTF_8);
+            entries.put(name, new Entry(method, flags, crc, compressedSize, size, headerOffset));
+
+            position = next;
+        }
+
+        return new ZipDirectory(channel, entries);
+    }
+
+    /**
+     *
+     * @return the channel of the archive
+     */
+    FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     *
+     * @return the entry with the given name, or null if there is none
+     */
+    Entry get(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * Reads the local header of the entry, which can have a different extra field than the central directory.
+     *
+     * @return the position of the compressed data of the entry, or -1 if the local header is not valid
+     */
+    long getDataOffset(Entry entry) throws IOException {
+        ByteBuffer header = readAt(channel, entry.headerOffset, 30);
+        if (header.getInt(0) != LOCAL_HEADER_SIG) {
+            return -1;
+        }
+
+        long dataOffset = entry.headerOffset + 30 + getShort(header, 26) + getShort(header, 28);
+        if (dataOffset + entry.compressedSize > channel.size()) {
+            return -1;
+        }
+
+        return dataOffset;
+    }
+
+    private static ByteBuffer readAt(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of zip file");
+            }
+        }
+
+        return buffer.flip();
+    }
+
+    private static int getShort(ByteBuffer buffer, int index) {
+        return Short.toUnsignedInt(buffer.getShort(index));
+    }
+
+    private static long getInt(ByteBuffer buffer, int index) {
+        return Integer.toUnsignedLong(buffer.getInt(index));
+    }
+}
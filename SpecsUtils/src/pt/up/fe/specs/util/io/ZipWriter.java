@@ -0,0 +1,334 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipException;
+
+/**
+ * Writes a zip archive to a file, with entries whose data is already compressed.
+ *
+ * <p>
+ * The CRC and the sizes of each entry are written in its local header, without data descriptors. When they are not
+ * known before the data is written, the header is patched afterwards. ZIP64 records are used when the number of
+ * entries, the sizes or the offsets do not fit the original format.
+ */
+class ZipWriter implements Closeable {
+
+    static final int METHOD_STORED = 0;
+    static final int METHOD_DEFLATED = 8;
+
+    private static final int LOCAL_HEADER_SIG = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+    private static final int ZIP64_END_SIG = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+    private static final int END_SIG = 0x06054b50;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+    private static final int VERSION = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final int FLAG_UTF8 = 0x800;
+    private static final int DOS_DIRECTORY = 0x10;
+
+    /**
+     * An entry of the archive. The CRC and sizes can be set after the entry is started, until it is closed.
+     */
+    static class Entry {
+
+        private final byte[] name;
+        private final int method;
+        private final int dosTime;
+        private final boolean directory;
+
+        long crc;
+        long compressedSize;
+        long size;
+
+        private long offset;
+        private boolean localZip64;
+
+        Entry(String name, int method, long lastModified) {
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+            this.method = method;
+            this.dosTime = dosTime(lastModified);
+            this.directory = name.endsWith("/");
+        }
+    }
+
+    private final FileChannel channel;
+    private final OutputStream stream;
+    private final List<Entry> entries;
+    private Entry current;
+
+    ZipWriter(Path zipFile) throws IOException {
+        this.channel = FileChannel.open(zipFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.stream = Channels.newOutputStream(channel);
+        this.entries = new ArrayList<>();
+        this.current = null;
+    }
+
+    /**
+     * Starts a new entry, writing its local header.
+     *
+     * @param entry        the entry to start
+     * @param reserveZip64 if true, the local header has space for 64-bit sizes, even if the current sizes of the entry
+     *                     do not need them
+     */
+    void putEntry(Entry entry, boolean reserveZip64) throws IOException {
+        if (current != null) {
+            throw new IllegalStateException("Entry is still open");
+        }
+
+        entry.offset = channel.position();
+        entry.localZip64 = reserveZip64 || isZip64(entry.size) || isZip64(entry.compressedSize);
+
+        ByteBuffer header = newBuffer(LOCAL_HEADER_SIZE + entry.name.length + (entry.localZip64 ? 20 : 0));
+        header.putInt(LOCAL_HEADER_SIG);
+        header.putShort((short) (entry.localZip64 ? VERSION_ZIP64 : VERSION));
+        header.putShort((short) FLAG_UTF8);
+        header.putShort((short) entry.method);
+        header.putInt(entry.dosTime);
+        putSizes(header, entry);
+        header.putShort((short) entry.name.length);
+        header.putShort((short) (entry.localZip64 ? 20 : 0));
+        header.put(entry.name);
+        if (entry.localZip64) {
+            header.putShort((short) ZIP64_EXTRA_ID);
+            header.putShort((short) 16);
+            header.putLong(entry.size);
+            header.putLong(entry.compressedSize);
+        }
+
+        writeFully(header.flip());
+        current = entry;
+    }
+
+    /**
+     * Stream that writes data of the current entry.
+     */
+    OutputStream getOutputStream() {
+        return stream;
+    }
+
+    /**
+     * Writes data of the current entry.
+     */
+    void write(ByteBuffer data) throws IOException {
+        writeFully(data);
+    }
+
+    /**
+     * Copies data of the current entry from another file, e.g. the compressed data of an entry in another archive.
+     */
+    void transferFrom(FileChannel source, long position, long count) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long n = source.transferTo(position + transferred, count - transferred, channel);
+            if (n <= 0) {
+                throw new ZipException("Could not copy " + count + " bytes from position " + position);
+            }
+            transferred += n;
+        }
+    }
+
+    /**
+     * Closes the current entry, updating the CRC and sizes in its local header.
+     */
+    void closeEntry() throws IOException {
+        Entry entry = current;
+        current = null;
+
+        if (!entry.localZip64 && (isZip64(entry.size) || isZip64(entry.compressedSize))) {
+            throw new ZipException("Entry '" + new String(entry.name, StandardCharsets.UTF_8)
+                    + "' is larger than 4GB, but its size was not known when the entry was started");
+        }
+
+        ByteBuffer sizes = newBuffer(12);
+        putSizes(sizes, entry);
+        writeFully(sizes.flip(), entry.offset + 14);
+
+        if (entry.localZip64) {
+            ByteBuffer extra = newBuffer(16);
+            extra.putLong(entry.size);
+            extra.putLong(entry.compressedSize);
+            writeFully(extra.flip(), entry.offset + LOCAL_HEADER_SIZE + entry.name.length + 4);
+        }
+
+        entries.add(entry);
+    }
+
+    /**
+     * Writes the central directory. No entries can be added after this method is called.
+     */
+    void finish() throws IOException {
+        if (current != null) {
+            throw new IllegalStateException("Entry is still open");
+        }
+
+        long directoryOffset = channel.position();
+
+        for (Entry entry : entries) {
+            int extraSize = (isZip64(entry.size) ? 8 : 0) + (isZip64(entry.compressedSize) ? 8 : 0)
+                    + (isZip64(entry.offset) ? 8 : 0);
+            int extraLength = extraSize == 0 ? 0 : extraSize + 4;
+
+            ByteBuffer header = newBuffer(CENTRAL_HEADER_SIZE + entry.name.length + extraLength);
+            int version = extraSize == 0 ? VERSION : VERSION_ZIP64;
+            header.putInt(CENTRAL_HEADER_SIG);
+            header.putShort((short) version);
+            header.putShort((short) version);
+            header.putShort((short) FLAG_UTF8);
+            header.putShort((short) entry.method);
+            header.putInt(entry.dosTime);
+            header.putInt((int) entry.crc);
+            header.putInt((int) Math.min(entry.compressedSize, ZIP64_MAGIC));
+            header.putInt((int) Math.min(entry.size, ZIP64_MAGIC));
+            header.putShort((short) entry.name.length);
+            header.putShort((short) extraLength);
+            // Comment length, disk number and internal attributes
+            header.putShort((short) 0);
+            header.putShort((short) 0);
+            header.putShort((short) 0);
+            header.putInt(entry.directory ? DOS_DIRECTORY : 0);
+            header.putInt((int) Math.min(entry.offset, ZIP64_MAGIC));
+            header.put(entry.name);
+
+            if (extraSize > 0) {
+                header.putShort((short) ZIP64_EXTRA_ID);
+                header.putShort((short) extraSize);
+                if (isZip64(entry.size)) {
+                    header.putLong(entry.size);
+                }
+                if (isZip64(entry.compressedSize)) {
+                    header.putLong(entry.compressedSize);
+                }
+                if (isZip64(entry.offset)) {
+                    header.putLong(entry.offset);
+                }
+            }
+
+            writeFully(header.flip());
+        }
+
+        long endOffset = channel.position();
+        long directorySize = endOffset - directoryOffset;
+        boolean zip64 = entries.size() >= ZIP64_MAGIC_COUNT || isZip64(directorySize) || isZip64(directoryOffset);
+
+        ByteBuffer end = newBuffer(56 + 20 + 22);
+        if (zip64) {
+            end.putInt(ZIP64_END_SIG);
+            end.putLong(44);
+            end.putShort((short) VERSION_ZIP64);
+            end.putShort((short) VERSION_ZIP64);
+            end.putInt(0);
+            end.putInt(0);
+            end.putLong(entries.size());
+            end.putLong(entries.size());
+            end.putLong(directorySize);
+            end.putLong(directoryOffset);
+
+            end.putInt(ZIP64_LOCATOR_SIG);
+            end.putInt(0);
+            end.putLong(endOffset);
+            end.putInt(1);
+        }
+
+        short numEntries = (short) Math.min(entries.size(), ZIP64_MAGIC_COUNT);
+        end.putInt(END_SIG);
+        end.putShort((short) 0);
+        end.putShort((short) 0);
+        end.putShort(numEntries);
+        end.putShort(numEntries);
+        end.putInt((int) Math.min(directorySize, ZIP64_MAGIC));
+        end.putInt((int) Math.min(directoryOffset, ZIP64_MAGIC));
+        end.putShort((short) 0);
+
+        writeFully(end.flip());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static void putSizes(ByteBuffer buffer, Entry entry) {
+        buffer.putInt((int) entry.crc);
+        if (entry.localZip64) {
+            buffer.putInt((int) ZIP64_MAGIC);
+            buffer.putInt((int) ZIP64_MAGIC);
+        } else {
+            buffer.putInt((int) entry.compressedSize);
+            buffer.putInt((int) entry.size);
+        }
+    }
+
+    private static boolean isZip64(long value) {
+        return value >= ZIP64_MAGIC;
+    }
+
+    private static ByteBuffer newBuffer(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Converts a time in milliseconds to the MS-DOS format used in zip headers, in the local time zone. Times outside
+     * of the range of the format (1980 to 2107) are clamped.
+     */
+    static int dosTime(long millis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+
+        if (time.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+
+        if (time.getYear() > 2107) {
+            return (127 << 25) | (12 << 21) | (31 << 16) | (23 << 11) | (59 << 5) | 29;
+        }
+
+        return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+                | time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+    }
+}
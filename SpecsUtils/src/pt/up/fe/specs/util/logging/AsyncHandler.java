@@ -0,0 +1,338 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import pt.up.fe.specs.util.collections.MpscRingBuffer;
+
+/**
+ * Handler that queues records in a bounded buffer and publishes them to other handlers in a background thread.
+ *
+ * <p>
+ * Threads that log only pay for adding the record to the buffer, instead of contending for the output stream. The
+ * background thread removes records in batches and publishes each batch to the delegate handlers with a single flush
+ * (see {@link BatchHandler}). Can be installed like any other handler, e.g.
+ * {@code SpecsLogs.addHandler(new AsyncHandler(SpecsLogs.buildStdOutHandler()))}.
+ *
+ * <p>
+ * When the buffer is full, the {@link OverflowPolicy} decides if the logging thread waits or if the record is dropped.
+ * Records still in the buffer are published when the handler is closed, or when the virtual machine shuts down.
+ *
+ * <p>
+ * Since records are published in another thread, formatters should not rely on the source class and method of the
+ * record being inferred from the stack.
+ */
+public class AsyncHandler extends Handler {
+
+    /**
+     * What to do with a record when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Waits until there is space in the buffer.
+         */
+        BLOCK,
+        /**
+         * Drops the record.
+         */
+        DROP,
+        /**
+         * Drops records with a level below {@link Level#WARNING}, waits for the others.
+         */
+        DROP_LOW_LEVELS;
+    }
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private static final long BLOCKED_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final List<Handler> delegates;
+    private final MpscRingBuffer<LogRecord> buffer;
+    private final OverflowPolicy policy;
+
+    private final Thread drainThread;
+    private final Thread shutdownHook;
+
+    private volatile boolean closed;
+    // True while the drain thread is parked, so that producers know they have to wake it
+    private volatile boolean idle;
+
+    private final AtomicLong enqueuedRecords;
+    private volatile long publishedRecords;
+    private final LongAdder droppedRecords;
+    private final AtomicLong maxQueueDepth;
+
+    public AsyncHandler(Handler delegate) {
+        this(List.of(delegate), DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param delegates the handlers that publish the records, in order
+     * @param capacity  the minimum number of records the buffer can hold
+     * @param policy    what to do when the buffer is full
+     */
+    public AsyncHandler(List<Handler> delegates, int capacity, OverflowPolicy policy) {
+        this.delegates = new ArrayList<>(delegates);
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.policy = policy;
+
+        this.closed = false;
+        this.idle = false;
+
+        this.enqueuedRecords = new AtomicLong();
+        this.publishedRecords = 0;
+        this.droppedRecords = new LongAdder();
+        this.maxQueueDepth = new AtomicLong();
+
+        this.drainThread = new Thread(this::drain, "specs-async-log");
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+
+        this.shutdownHook = new Thread(this::close, "specs-async-log-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || !isLoggable(record)) {
+            return;
+        }
+
+        // After closing, or when a delegate logs from the drain thread, publish directly
+        if (closed || Thread.currentThread() == drainThread) {
+            publishDirect(record);
+            return;
+        }
+
+        if (!buffer.offer(record) && !offerOnOverflow(record)) {
+            // Handler was closed while waiting for space
+            if (closed) {
+                publishDirect(record);
+            } else {
+                droppedRecords.increment();
+            }
+
+            return;
+        }
+
+        enqueuedRecords.incrementAndGet();
+        updateMaxQueueDepth();
+
+        if (idle) {
+            LockSupport.unpark(drainThread);
+        }
+    }
+
+    /**
+     * @return true if the record was eventually added to the buffer
+     */
+    private boolean offerOnOverflow(LogRecord record) {
+        switch (policy) {
+        case DROP:
+            return false;
+        case DROP_LOW_LEVELS:
+            if (record.getLevel().intValue() < Level.WARNING.intValue()) {
+                return false;
+            }
+            break;
+        case BLOCK:
+            break;
+        }
+
+        while (!buffer.offer(record)) {
+            if (closed) {
+                return false;
+            }
+
+            LockSupport.unpark(drainThread);
+            LockSupport.parkNanos(this, BLOCKED_WAIT_NANOS);
+        }
+
+        return true;
+    }
+
+    private void updateMaxQueueDepth() {
+        long depth = buffer.size();
+        long currentMax = maxQueueDepth.get();
+        while (depth > currentMax && !maxQueueDepth.compareAndSet(currentMax, depth)) {
+            currentMax = maxQueueDepth.get();
+        }
+    }
+
+    private void drain() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (true) {
+            buffer.drainTo(batch::add, MAX_BATCH_SIZE);
+
+            if (!batch.isEmpty()) {
+                publishBatch(batch);
+                publishedRecords += batch.size();
+                batch.clear();
+                continue;
+            }
+
+            if (closed && buffer.isEmpty()) {
+                return;
+            }
+
+            idle = true;
+            // Check again after announcing the thread is idle. A producer claims its slot before reading the flag,
+            // so either the buffer is not empty here, or the producer sees the flag and unparks this thread.
+            if (buffer.isEmpty()) {
+                if (!closed) {
+                    LockSupport.park(this);
+                }
+            } else {
+                // A producer claimed a slot but has not published the record yet
+                Thread.yield();
+            }
+            idle = false;
+        }
+    }
+
+    private void publishBatch(List<LogRecord> batch) {
+        for (Handler delegate : delegates) {
+            try {
+                if (delegate instanceof BatchHandler) {
+                    ((BatchHandler) delegate).publishBatch(batch);
+                    continue;
+                }
+
+                for (LogRecord record : batch) {
+                    delegate.publish(record);
+                }
+                delegate.flush();
+            } catch (RuntimeException e) {
+                reportError("Could not publish log records", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private void publishDirect(LogRecord record) {
+        for (Handler delegate : delegates) {
+            delegate.publish(record);
+            delegate.flush();
+        }
+    }
+
+    /**
+     * Waits until the records queued before this call have been published, and flushes the delegates.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() != drainThread) {
+            long target = enqueuedRecords.get();
+            while (publishedRecords < target && drainThread.isAlive()) {
+                LockSupport.unpark(drainThread);
+                LockSupport.parkNanos(this, BLOCKED_WAIT_NANOS);
+            }
+        }
+
+        for (Handler delegate : delegates) {
+            delegate.flush();
+        }
+    }
+
+    /**
+     * Publishes the records still in the buffer, stops the background thread and closes the delegates.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+        }
+
+        LockSupport.unpark(drainThread);
+        if (Thread.currentThread() != drainThread) {
+            try {
+                drainThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Records added by threads that checked the flag before it was set
+        List<LogRecord> remaining = new ArrayList<>();
+        buffer.drainTo(remaining::add, Integer.MAX_VALUE);
+        if (!remaining.isEmpty()) {
+            publishBatch(remaining);
+            publishedRecords += remaining.size();
+        }
+
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // Virtual machine is already shutting down
+        }
+
+        for (Handler delegate : delegates) {
+            delegate.close();
+        }
+    }
+
+    /**
+     * @return the number of records that were dropped because the buffer was full
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    /**
+     * @return the number of records that were published by the background thread
+     */
+    public long getPublishedRecords() {
+        return publishedRecords;
+    }
+
+    /**
+     * @return the current number of records waiting in the buffer
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * @return the largest number of records that were waiting in the buffer at the same time
+     */
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * @return the maximum number of records the buffer can hold
+     */
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return policy;
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.logging;
+
+import java.util.List;
+import java.util.logging.LogRecord;
+
+/**
+ * Handler that can publish several records at once, writing them to its output with a single flush.
+ */
+public interface BatchHandler {
+
+    /**
+     * Publishes the given records in order. Records that are not loggable by this handler are ignored, as in
+     * {@link java.util.logging.Handler#publish(LogRecord)}.
+     *
+     * @param records the records to publish
+     */
+    void publishBatch(List<LogRecord> records);
+}
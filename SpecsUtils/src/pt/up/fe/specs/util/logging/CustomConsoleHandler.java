@@ -16,10 +16,11 @@ package pt.up.fe.specs.util.logging;
 import java.io.FileDescriptor;
 import java.io.FileOutputStream;
 import java.io.PrintStream;
+import java.util.List;
 import java.util.logging.LogRecord;
 import java.util.logging.StreamHandler;
 
-public class CustomConsoleHandler extends StreamHandler {
+public class CustomConsoleHandler extends StreamHandler implements BatchHandler {
 
     /**
      * Create a <tt>ConsoleHandler</tt> for <tt>System.err</tt>.
@@ -59,6 +60,18 @@ public class CustomConsoleHandler extends StreamHandler {
         flush();
     }
 
+    /**
+     * Publishes all records before flushing the stream once.
+     */
+    @Override
+    public synchronized void publishBatch(List<LogRecord> records) {
+        for (LogRecord record : records) {
+            super.publish(record);
+        }
+
+        flush();
+    }
+
     /**
      * Override <tt>StreamHandler.close</tt> to do a flush but not to close the
      * output stream. That is, we do <b>not</b> close <tt>System.err</tt>.
@@ -15,6 +15,9 @@ package pt.up.fe.specs.util.logging;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
 
 @FunctionalInterface
 public interface EnumLogger<T extends Enum<T>> extends TagLogger<T> {
@@ -39,7 +42,20 @@ public interface EnumLogger<T extends Enum<T>> extends TagLogger<T> {
     }
 
     static <T extends Enum<T>> EnumLogger<T> newInstance(Class<T> enumClass) {
-        return () -> enumClass;
+        Map<Object, Logger> loggers = new ConcurrentHashMap<>();
+
+        return new EnumLogger<>() {
+
+            @Override
+            public Class<T> getEnumClass() {
+                return enumClass;
+            }
+
+            @Override
+            public Map<Object, Logger> getLoggerCache() {
+                return loggers;
+            }
+        };
     }
 
 }
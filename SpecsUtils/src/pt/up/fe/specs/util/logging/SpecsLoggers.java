@@ -13,7 +13,9 @@
 
 package pt.up.fe.specs.util.logging;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
@@ -27,6 +29,18 @@ public class SpecsLoggers {
 
     private static final Map<String, Logger> LOGGERS = new ConcurrentHashMap<>();
 
+    /**
+     * Loggers of each tag, for TagLogger instances that do not keep their own (see
+     * {@link TagLogger#getLoggerCache()}). Weakly keyed, since instances can be created per thread.
+     */
+    private static final Map<TagLogger<?>, Map<Object, Logger>> TAG_LOGGERS = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Key for the root logger of a TagLogger, since ConcurrentHashMap does not support null keys.
+     */
+    static final Object ROOT_TAG = new Object();
+
     static Logger getLogger(String loggerName) {
         // Handle null logger names
         if (loggerName == null) {
@@ -42,4 +56,8 @@ public class SpecsLoggers {
 
         return logger;
     }
+
+    static Map<Object, Logger> getTagLoggers(TagLogger<?> tagLogger) {
+        return TAG_LOGGERS.computeIfAbsent(tagLogger, key -> new ConcurrentHashMap<>());
+    }
 }
@@ -16,12 +16,16 @@ package pt.up.fe.specs.util.logging;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
 
 public class StringLogger implements TagLogger<String> {
 
     private final String baseName;
     private final Set<String> tags;
+    private final Map<Object, Logger> loggers;
 
     public StringLogger(String baseName) {
         this(baseName, Collections.emptySet());
@@ -30,6 +34,7 @@ public class StringLogger implements TagLogger<String> {
     public StringLogger(String baseName, Set<String> tags) {
         this.baseName = baseName;
         this.tags = new HashSet<>(tags != null ? tags : Collections.emptySet());
+        this.loggers = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -41,4 +46,9 @@ public class StringLogger implements TagLogger<String> {
     public String getBaseName() {
         return baseName;
     }
+
+    @Override
+    public Map<Object, Logger> getLoggerCache() {
+        return loggers;
+    }
 }
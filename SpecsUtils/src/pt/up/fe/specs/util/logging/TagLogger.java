@@ -14,6 +14,7 @@
 package pt.up.fe.specs.util.logging;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -48,25 +49,72 @@ public interface TagLogger<T> {
         return loggerName.toLowerCase();
     }
 
+    /**
+     * Loggers already resolved for each tag of this instance, with the root logger under a sentinel key.
+     * Implementations with state can return a map they own, to avoid the shared lookup by instance.
+     *
+     * @return a thread-safe map from tags to loggers
+     */
+    default Map<Object, Logger> getLoggerCache() {
+        return SpecsLoggers.getTagLoggers(this);
+    }
+
+    /**
+     * The logger of each tag is resolved once through {@link #getLoggerName(Object)} and then cached (see
+     * {@link #getLoggerCache()}).
+     */
     default Logger getLogger(T tag) {
-        return SpecsLoggers.getLogger(getLoggerName(tag));
+        Map<Object, Logger> loggers = getLoggerCache();
+        Object key = tag != null ? tag : SpecsLoggers.ROOT_TAG;
+
+        Logger logger = loggers.get(key);
+        if (logger == null) {
+            logger = SpecsLoggers.getLogger(getLoggerName(tag));
+            loggers.put(key, logger);
+        }
+
+        return logger;
     }
 
     default Logger getBaseLogger() {
         return SpecsLoggers.getLogger(getBaseName());
     }
 
+    /**
+     * @return true if a message of the given level and tag would be logged
+     */
+    default boolean isLoggable(Level level, T tag) {
+        return getLogger(tag).isLoggable(level);
+    }
+
     default void log(Level level, T tag, String message) {
         log(level, tag, message, LogSourceInfo.getLogSourceInfo(level));
     }
 
+    /**
+     * Only calls the supplier if a message of the given level and tag would be logged.
+     */
+    default void logLazy(Level level, T tag, Supplier<String> message) {
+        if (!isLoggable(level, tag)) {
+            return;
+        }
+
+        log(level, tag, message.get());
+    }
+
     default void log(Level level, T tag, String message, LogSourceInfo logSourceInfo) {
         log(level, tag, message, logSourceInfo, null);
     }
 
     default void log(Level level, T tag, String message, LogSourceInfo logSourceInfo, StackTraceElement[] stackTrace) {
         // Obtain logger
-        Logger logger = SpecsLoggers.getLogger(getLoggerName(tag));
+        Logger logger = getLogger(tag);
+
+        // Check level before building the message, which can capture the stack trace
+        if (!logger.isLoggable(level)) {
+            return;
+        }
+
         logger.log(level, SpecsLogging.parseMessage(tag, message, logSourceInfo, stackTrace));
     }
 
@@ -82,6 +130,14 @@ public interface TagLogger<T> {
         info(null, message);
     }
 
+    default void infoLazy(T tag, Supplier<String> message) {
+        logLazy(Level.INFO, tag, message);
+    }
+
+    default void infoLazy(Supplier<String> message) {
+        infoLazy(null, message);
+    }
+
     default void debug(String message) {
         debug(() -> message);
     }
@@ -108,6 +164,14 @@ public interface TagLogger<T> {
         warn(null, message);
     }
 
+    default void warnLazy(T tag, Supplier<String> message) {
+        logLazy(Level.WARNING, tag, message);
+    }
+
+    default void warnLazy(Supplier<String> message) {
+        warnLazy(null, message);
+    }
+
     /**
      * Adds a class to the ignore list when printing the stack trace, or the source
      * code location.
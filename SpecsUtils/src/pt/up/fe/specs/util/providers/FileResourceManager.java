@@ -166,4 +166,32 @@ public class FileResourceManager {
                 "Resource '" + resourceName + "' not available. Available resources: " + availableResources.keySet());
     }
 
+    /**
+     * Retrieves the file of the resource for the given enum value.
+     *
+     * @param resourceEnum the enum value representing the resource
+     * @return the file of the resource
+     */
+    public File getFile(Enum<?> resourceEnum) {
+        return getFile(resourceEnum.name());
+    }
+
+    /**
+     * Retrieves the file of the resource for the given resource name. Local
+     * resources are used directly, other resources are taken from the default
+     * {@link ResourceCache}, and only written if they are not there yet.
+     *
+     * @param resourceName the name of the resource
+     * @return the file of the resource
+     */
+    public File getFile(String resourceName) {
+        File localResource = localResources.get(resourceName);
+        if (localResource != null) {
+            SpecsLogs.debug(() -> "Using local resource '" + localResource.getAbsolutePath() + "'");
+            return localResource;
+        }
+
+        return ResourceCache.getDefault().get(get(resourceName));
+    }
+
 }
@@ -16,9 +16,7 @@ package pt.up.fe.specs.util.providers;
 import java.io.File;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.prefs.Preferences;
 
-import pt.up.fe.specs.util.SpecsLogs;
 import pt.up.fe.specs.util.SpecsSystem;
 import pt.up.fe.specs.util.exceptions.NotImplementedException;
 import pt.up.fe.specs.util.providers.impl.GenericFileResourceProvider;
@@ -140,19 +138,30 @@ public interface FileResourceProvider {
     String getFilename();
 
     /**
-     * Copies this resource to the destination folder. If the file already exists,
-     * uses method getVersion() to determine if the file should be overwritten or
-     * not.
+     * Identifies where the contents of this resource come from (e.g., a URL, or a
+     * file and its size and modification time). Together with the version, it is
+     * used to find the resource in a {@link ResourceCache}.
      * <p>
-     * If the file already exists but no versioning information is available in the
-     * system, the file is overwritten.
+     * By default, returns the name of the class and the filename of the resource.
+     *
+     * @return a string identifying the source of this resource
+     */
+    default String getSourceId() {
+        return getClass().getName() + ":" + getFilename();
+    }
+
+    /**
+     * Copies this resource to the destination folder. If the file already exists,
+     * and is a copy of the same version of the resource, it is not written again.
      * <p>
-     * The method will use the package of the class indicated in 'context' as the
-     * location to store the information about versioning. Keep in mind that calls
-     * using the same context will refer to the same local copy of the resource.
+     * Resources are first written to the default {@link ResourceCache}, which is
+     * keyed by version. The version of the copy is stored in a hidden file next to
+     * it, and a copy of a different version is overwritten. If the file already
+     * exists but no versioning information is available, the file is overwritten.
      *
      * @param folder  the destination folder
-     * @param context the class used to store versioning information
+     * @param context not used, kept for compatibility (versioning information was
+     *                previously stored in the preferences of this class)
      * @return a ResourceWriteData object containing information about the written
      *         file
      */
@@ -164,52 +173,18 @@ public interface FileResourceProvider {
      * Copies this resource to the destination folder with versioning information.
      *
      * @param folder               the destination folder
-     * @param context              the class used to store versioning information
-     * @param writeIfNoVersionInfo whether to write the file if no versioning
-     *                             information is available
+     * @param context              not used, kept for compatibility
+     * @param writeIfNoVersionInfo whether to write the file if it already exists,
+     *                             but no versioning information is available
      * @return a ResourceWriteData object containing information about the written
      *         file
      */
     default ResourceWriteData writeVersioned(File folder, Class<?> context, boolean writeIfNoVersionInfo) {
-        // Create file
-        String resourceOutput = getFilename();
-        File destination = new File(folder, resourceOutput);
-
-        Preferences prefs = Preferences.userNodeForPackage(context);
-        final String key = getClass().getSimpleName() + "." + getFilename();
-
-        final String NO_VERSION = "<NO VERSION>";
-        final String versionToDownload = version() != null ? version() : NO_VERSION;
-        final String storedVersion = prefs.get(key, null);
-
-        if (destination.exists() && versionToDownload.equals(storedVersion)) {
-            // File exists and version is the same, return existing file
-            return new ResourceWriteData(destination, false);
-        } else if (destination.exists() && (storedVersion == null || NO_VERSION.equals(storedVersion))) {
-            // File exists, no version info available
-            String message = "Resource '" + getFilename()
-                    + "' already exists, but no versioning information is available.";
-
-            if (writeIfNoVersionInfo) {
-                message += "Overwriting file '" + key + "' and storing information.";
-            }
-
-            SpecsLogs.msgInfo(message);
-
-            // Return existing file
-            if (!writeIfNoVersionInfo) {
-                return new ResourceWriteData(destination, false);
-            }
-        }
-
-        // Write file and store version info
-        File writtenFile = write(folder);
-
-        prefs.put(key, versionToDownload);
+        File destination = new File(folder, getFilename());
 
-        assert writtenFile.equals(destination);
+        boolean written = ResourceCache.getDefault().copy(this, destination, writeIfNoVersionInfo);
 
-        return new ResourceWriteData(writtenFile, true);
+        return new ResourceWriteData(destination, written);
     }
 
     /**
@@ -0,0 +1,378 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.providers;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+
+import pt.up.fe.specs.util.SpecsIo;
+import pt.up.fe.specs.util.SpecsLogs;
+import pt.up.fe.specs.util.lazy.Lazy;
+
+/**
+ * Cache of resources written to the file system, which can be shared by several processes and by different versions
+ * of the same tool.
+ *
+ * <p>
+ * Each resource is stored in its own folder, named after the version of the resource and a hash of the version and of
+ * the source of its contents (see {@link FileResourceProvider#getSourceId()}). A resource is written to a temporary
+ * folder, which is then renamed, so folders in the cache are either complete or absent, and finding a resource needs
+ * no locks or stored versioning information.
+ *
+ * <p>
+ * Resources without a version are written again the first time they are requested from each cache instance, since
+ * their source might not identify their contents.
+ *
+ * <p>
+ * Independent resources are written concurrently. When several threads ask for the same resource, only one of them
+ * writes it, and the others wait for it.
+ */
+public class ResourceCache {
+
+    private static final Lazy<ResourceCache> DEFAULT = Lazy
+            .newInstance(() -> new ResourceCache(SpecsIo.getTempFolder("specs_resources")));
+
+    private static final String NO_VERSION = "noversion";
+
+    private final File root;
+    private final ConcurrentMap<String, CompletableFuture<File>> pending;
+    // Resources without version that were already written by this instance
+    private final Set<String> refreshed;
+
+    /**
+     *
+     * @param root the folder of the cache, is created if it does not exist
+     */
+    public ResourceCache(File root) {
+        this.root = root;
+        this.pending = new ConcurrentHashMap<>();
+        this.refreshed = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     *
+     * @return the cache in the temporary folder of the system, shared by the processes of the current user
+     */
+    public static ResourceCache getDefault() {
+        return DEFAULT.get();
+    }
+
+    /**
+     *
+     * @return the folder of the cache
+     */
+    public File getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the file of the resource in the cache, writing it first if it is not in the cache yet.
+     *
+     * <p>
+     * The returned file must not be modified.
+     *
+     * @param resource the resource to get
+     * @return the file of the resource in the cache
+     */
+    public File get(FileResourceProvider resource) {
+        String key = getKey(resource);
+        File file = new File(new File(root, key), resource.getFilename());
+        boolean versioned = resource.version() != null;
+
+        // Most of the times, the resource is already in the cache
+        if (file.isFile() && (versioned || refreshed.contains(key))) {
+            return file;
+        }
+
+        CompletableFuture<File> writing = new CompletableFuture<>();
+        CompletableFuture<File> previous = pending.putIfAbsent(key, writing);
+
+        // Another thread is writing the resource
+        if (previous != null) {
+            try {
+                return previous.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            File written = write(resource, key, !versioned);
+            if (!versioned) {
+                refreshed.add(key);
+            }
+            writing.complete(written);
+            return written;
+        } catch (RuntimeException e) {
+            writing.completeExceptionally(e);
+            throw e;
+        } finally {
+            pending.remove(key, writing);
+        }
+    }
+
+    /**
+     * Copies a resource from the cache to the given file, unless the file is already a copy of the same version of
+     * the resource.
+     *
+     * <p>
+     * The version of a copy is stored in a hidden file next to it (see {@link #getVersionFile(File)}). A copy of the
+     * same version is kept even if it was modified, and a copy of a different version is overwritten. If the file
+     * exists but there is no version information, or the resource has no version, the file is overwritten only if
+     * 'overwrite' is true.
+     *
+     * @param resource    the resource to copy
+     * @param destination the file to write
+     * @param overwrite   if false, an existing file without version information is kept
+     * @return true if the file was written, false if it was kept
+     */
+    public boolean copy(FileResourceProvider resource, File destination, boolean overwrite) {
+        String key = getKey(resource);
+        File versionFile = getVersionFile(destination);
+
+        if (destination.isFile()) {
+            String copiedKey = readVersion(versionFile);
+            boolean versioned = resource.version() != null;
+
+            if (versioned && key.equals(copiedKey)) {
+                return false;
+            }
+
+            // File might have been written by the user
+            if (!versioned || copiedKey == null) {
+                if (!overwrite) {
+                    SpecsLogs.msgInfo("Resource '" + resource.getFilename() + "' already exists in '" + destination
+                            + "', but no versioning information is available. Keeping existing file.");
+                    return false;
+                }
+
+                SpecsLogs.debug(() -> "Resource '" + resource.getFilename() + "' already exists in '" + destination
+                        + "', but no versioning information is available. Overwriting file.");
+            }
+        }
+
+        File cached = get(resource);
+
+        Path target = destination.getAbsoluteFile().toPath();
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+
+            // Write to a temporary file first, so that other processes never see a partial copy
+            temp = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".tmp");
+            Files.copy(cached.toPath(), temp, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.COPY_ATTRIBUTES);
+            move(temp, target, true);
+
+            Files.writeString(versionFile.toPath(), key, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not copy resource '" + resource.getFilename() + "' to '" + destination
+                    + "'", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+
+        return true;
+    }
+
+    /**
+     *
+     * @param destination a copy of a resource
+     * @return the hidden file next to the copy which stores the key of the copied resource in the cache
+     */
+    public static File getVersionFile(File destination) {
+        return new File(destination.getAbsoluteFile().getParentFile(), "." + destination.getName() + ".version");
+    }
+
+    /**
+     * The name of the folder of a resource in the cache, formed by its version and a hash of the version and the
+     * source of the resource.
+     */
+    static String getKey(FileResourceProvider resource) {
+        String version = resource.version() != null ? resource.version() : NO_VERSION;
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(version.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(resource.getSourceId().getBytes(StandardCharsets.UTF_8));
+
+            // 128 bits are enough to avoid collisions
+            String hash = HexFormat.of().formatHex(digest.digest(), 0, 16);
+
+            return version.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Identifies a Java resource by the location of the resource and, when it is available, the size and CRC of the
+     * resource (for resources inside jars) or its size and modification time (for resources in folders).
+     *
+     * @param resource the path to a Java resource
+     * @return a string which changes when the contents of the resource change
+     */
+    static String getResourceSourceId(String resource) {
+        URL url = SpecsIo.class.getClassLoader().getResource(resource);
+
+        if (url == null) {
+            return "resource:" + resource;
+        }
+
+        try {
+            if ("jar".equals(url.getProtocol()) && url.openConnection() instanceof JarURLConnection connection) {
+                JarEntry entry = connection.getJarEntry();
+                return url + ":" + entry.getSize() + ":" + entry.getCrc();
+            }
+
+            if ("file".equals(url.getProtocol())) {
+                File file = new File(url.toURI());
+                return url + ":" + file.length() + ":" + file.lastModified();
+            }
+        } catch (Exception e) {
+            SpecsLogs.debug(() -> "Could not inspect resource '" + url + "': " + e.getMessage());
+        }
+
+        return url.toString();
+    }
+
+    /**
+     * Writes a resource to the cache. If 'replace' is true, a resource already in the cache is written again.
+     */
+    private File write(FileResourceProvider resource, String key, boolean replace) {
+        Path folder = root.toPath().resolve(key);
+        Path file = folder.resolve(resource.getFilename());
+
+        // Might have been written by another thread or process in the meantime
+        if (!replace && Files.isRegularFile(file)) {
+            return file.toFile();
+        }
+
+        Path temp = null;
+        try {
+            Files.createDirectories(root.toPath());
+            temp = Files.createTempDirectory(root.toPath(), "." + key + "-");
+
+            File written = resource.write(temp.toFile());
+            if (written == null || !written.isFile()) {
+                throw new RuntimeException("Resource was not written");
+            }
+
+            Path tempFile = temp.resolve(resource.getFilename());
+            if (!written.toPath().equals(tempFile)) {
+                Files.copy(written.toPath(), tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            try {
+                move(temp, folder, false);
+            } catch (IOException e) {
+                // Fails if another process wrote the same resource first
+                if (!Files.isRegularFile(file)) {
+                    throw e;
+                }
+
+                if (replace) {
+                    move(tempFile, file, true);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new RuntimeException("Could not write resource '" + resource.getFilename() + "' to cache '" + root
+                    + "'", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+
+        if (!Files.isRegularFile(file)) {
+            throw new RuntimeException("Could not write resource '" + resource.getFilename() + "' to cache '" + root
+                    + "'");
+        }
+
+        return file.toFile();
+    }
+
+    /**
+     *
+     * @return the contents of the version file, or null if it could not be read
+     */
+    private static String readVersion(File versionFile) {
+        if (!versionFile.isFile()) {
+            return null;
+        }
+
+        try {
+            return Files.readString(versionFile.toPath(), StandardCharsets.UTF_8).strip();
+        } catch (IOException e) {
+            SpecsLogs.debug(() -> "Could not read version file '" + versionFile + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void move(Path source, Path target, boolean replace) throws IOException {
+        try {
+            if (replace) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (AtomicMoveNotSupportedException e) {
+            SpecsLogs.debug(() -> "Atomic move not supported for '" + target + "': " + e.getMessage());
+
+            if (replace) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.move(source, target);
+            }
+        }
+    }
+
+    /**
+     * Deletes a temporary file, or a temporary folder and the files inside it, if they still exist.
+     */
+    private static void deleteQuietly(Path path) {
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+
+        try {
+            if (Files.isDirectory(path)) {
+                try (var files = Files.list(path)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            SpecsLogs.debug(() -> "Could not delete temporary '" + path + "': " + e.getMessage());
+        }
+    }
+}
@@ -288,6 +288,17 @@ public interface ResourceProvider extends FileResourceProvider {
         return getResourceName();
     }
 
+    /**
+     * Identifies the resource by its location and, when available, its size and
+     * CRC (inside jars) or its size and modification time (inside folders).
+     *
+     * @return a string identifying the source of this resource
+     */
+    @Override
+    default String getSourceId() {
+        return ResourceCache.getResourceSourceId(getResource());
+    }
+
     /**
      * Converts this resource to an InputStream.
      *
@@ -133,6 +133,16 @@ public interface WebResourceProvider extends FileResourceProvider {
         return resourcePath.substring(slashIndex + 1);
     }
 
+    /**
+     * Identifies the web resource by its URL.
+     *
+     * @return the full URL string
+     */
+    @Override
+    default String getSourceId() {
+        return getUrlString();
+    }
+
     /**
      * Downloads the web resource to the specified folder.
      * Ignores usePath, always writes the file to the destination folder.
@@ -78,6 +78,11 @@ public class GenericFileResourceProvider implements FileResourceProvider {
         return getFile().getName();
     }
 
+    @Override
+    public String getSourceId() {
+        return existingFile.getAbsolutePath() + ":" + existingFile.length() + ":" + existingFile.lastModified();
+    }
+
     public File getFile() {
         return existingFile;
         // return versionedFile.get();
@@ -0,0 +1,208 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.system;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Functions that consume the output streams of a process, for use with
+ * {@link pt.up.fe.specs.util.SpecsSystem#runProcess(java.util.List, File, Function, Function)} and similar methods.
+ *
+ * <p>
+ * Unlike {@link StreamToString}, which keeps the whole output in memory, these sinks keep a bounded amount of output,
+ * or none at all:
+ * <ul>
+ * <li>{@link #tail(int, OutputType)} keeps the last characters of the output;
+ * <li>{@link #spillToTempFile()} writes the output to a file, which can be memory-mapped afterwards;
+ * <li>{@link #transferTo(OutputStream)} copies the bytes to another stream, without decoding them;
+ * <li>{@link #lines(Consumer)} gives each line to a callback as soon as it is read.
+ * </ul>
+ *
+ * <p>
+ * Sinks that return a String can be used to create a {@link ProcessOutputAsString}.
+ */
+public class OutputSinks {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private OutputSinks() {
+    }
+
+    /**
+     * Keeps the last characters of the stream.
+     *
+     * @param maxChars  the maximum number of characters to keep
+     * @param printType if not null, also prints the output to this type of output, in chunks instead of lines
+     * @return a sink that returns the last 'maxChars' characters of the stream
+     */
+    public static Function<InputStream, String> tail(int maxChars, OutputType printType) {
+        if (maxChars < 0) {
+            throw new IllegalArgumentException("Maximum number of characters must be non-negative: " + maxChars);
+        }
+
+        return inputStream -> {
+            char[] ring = new char[maxChars];
+            // Position where the next character is written
+            int next = 0;
+            long total = 0;
+
+            char[] buffer = new char[BUFFER_SIZE];
+            try (Reader reader = new InputStreamReader(inputStream, Charset.defaultCharset())) {
+                int numChars;
+                while ((numChars = reader.read(buffer)) != -1) {
+                    if (printType != null) {
+                        printType.print(new String(buffer, 0, numChars));
+                    }
+
+                    total += numChars;
+
+                    if (maxChars == 0) {
+                        continue;
+                    }
+
+                    // Only the last maxChars of the buffer can end up in the ring
+                    int start = Math.max(0, numChars - maxChars);
+                    int remaining = numChars - start;
+                    while (remaining > 0) {
+                        int length = Math.min(remaining, maxChars - next);
+                        System.arraycopy(buffer, start, ring, next, length);
+                        start += length;
+                        remaining -= length;
+                        next = (next + length) % maxChars;
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read stream", e);
+            }
+
+            if (total < maxChars) {
+                return new String(ring, 0, (int) total);
+            }
+
+            // Ring is full, oldest character is at 'next'
+            return new StringBuilder(maxChars)
+                    .append(ring, next, maxChars - next)
+                    .append(ring, 0, next)
+                    .toString();
+        };
+    }
+
+    /**
+     * Writes the stream to a temporary file, which is deleted when the returned output is closed.
+     *
+     * @return a sink that returns the file with the output
+     */
+    public static Function<InputStream, SpilledOutput> spillToTempFile() {
+        return inputStream -> {
+            File file;
+            try {
+                file = File.createTempFile("process_output_", ".txt");
+            } catch (IOException e) {
+                throw new RuntimeException("Could not create temporary file for process output", e);
+            }
+
+            try {
+                SpilledOutput output = spillTo(file).apply(inputStream);
+                return new SpilledOutput(file, output.getSize(), Charset.defaultCharset(), true);
+            } catch (RuntimeException e) {
+                file.delete();
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Writes the stream to the given file, replacing its contents.
+     *
+     * @return a sink that returns the file with the output
+     */
+    public static Function<InputStream, SpilledOutput> spillTo(File file) {
+        return inputStream -> {
+            try (inputStream) {
+                long size = Files.copy(inputStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                return new SpilledOutput(file, size, Charset.defaultCharset());
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write process output to file '" + file + "'", e);
+            }
+        };
+    }
+
+    /**
+     * Copies the bytes of the stream to the given output stream, which is flushed but not closed.
+     *
+     * @return a sink that returns the number of bytes copied
+     */
+    public static Function<InputStream, Long> transferTo(OutputStream outputStream) {
+        return inputStream -> {
+            try (inputStream) {
+                long numBytes = inputStream.transferTo(outputStream);
+                outputStream.flush();
+                return numBytes;
+            } catch (IOException e) {
+                throw new RuntimeException("Could not transfer process output", e);
+            }
+        };
+    }
+
+    /**
+     * Copies the bytes of the stream to the given file, replacing its contents.
+     *
+     * @return a sink that returns the number of bytes copied
+     */
+    public static Function<InputStream, Long> transferTo(File file) {
+        return inputStream -> {
+            try (OutputStream outputStream = new FileOutputStream(file)) {
+                return transferTo(outputStream).apply(inputStream);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not open file '" + file + "'", e);
+            }
+        };
+    }
+
+    /**
+     * Gives each line of the stream to the given callback, without storing them.
+     *
+     * @return a sink that returns the number of lines read
+     */
+    public static Function<InputStream, Long> lines(Consumer<String> lineConsumer) {
+        return inputStream -> {
+            long numLines = 0;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(inputStream, Charset.defaultCharset()))) {
+
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineConsumer.accept(line);
+                    numLines++;
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read stream", e);
+            }
+
+            return numLines;
+        };
+    }
+}
@@ -0,0 +1,428 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.system;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import pt.up.fe.specs.util.SpecsLogs;
+import pt.up.fe.specs.util.SpecsStrings;
+import pt.up.fe.specs.util.SpecsSystem;
+import pt.up.fe.specs.util.utilities.ProgressCounter;
+
+/**
+ * Launches external processes and collects their output.
+ *
+ * <p>
+ * {@link #newInstance()} returns a launcher with a low fixed cost per process,
+ * meant for running many short processes: the command is executed directly,
+ * without a shell, the garbage collector is not called before launching, and
+ * the output streams are read by threads of a shared pool.
+ *
+ * <p>
+ * {@link #legacy()} returns a launcher with the behavior of
+ * {@link SpecsSystem#runProcess(ProcessBuilder, Function, Function)}: on Linux
+ * the command runs inside a login shell ('bash -l -c'), on Windows inside 'cmd
+ * /c' (unless it is a file in the working directory), and the garbage collector
+ * is called before each launch.
+ *
+ * <p>
+ * Instances are immutable, the setters return a new instance.
+ */
+public class ProcessLauncher {
+
+    // Threads that read and write the streams of processes, shared by all launchers
+    private static final ExecutorService SHARED_PUMP_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "process-pump");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final boolean callGc;
+    private final boolean useShell;
+    private final boolean alwaysDestroy;
+    private final ExecutorService pumpExecutor;
+
+    private ProcessLauncher(boolean callGc, boolean useShell, boolean alwaysDestroy, ExecutorService pumpExecutor) {
+        this.callGc = callGc;
+        this.useShell = useShell;
+        this.alwaysDestroy = alwaysDestroy;
+        this.pumpExecutor = pumpExecutor;
+    }
+
+    /**
+     * 
+     * @return a launcher that executes commands directly, without calling the
+     *         garbage collector
+     */
+    public static ProcessLauncher newInstance() {
+        return new ProcessLauncher(false, false, false, SHARED_PUMP_EXECUTOR);
+    }
+
+    /**
+     * 
+     * @return a launcher with the same behavior as SpecsSystem.runProcess
+     */
+    public static ProcessLauncher legacy() {
+        return new ProcessLauncher(true, true, true, SHARED_PUMP_EXECUTOR);
+    }
+
+    /**
+     * Calling the garbage collector before starting a process can reduce the
+     * memory needed to fork the VM, at the cost of a full collection per process.
+     */
+    public ProcessLauncher setCallGc(boolean callGc) {
+        return new ProcessLauncher(callGc, useShell, alwaysDestroy, pumpExecutor);
+    }
+
+    /**
+     * If true, runs the command inside a shell ('bash -l -c' on Linux, 'cmd /c' on
+     * Windows).
+     */
+    public ProcessLauncher setUseShell(boolean useShell) {
+        return new ProcessLauncher(callGc, useShell, alwaysDestroy, pumpExecutor);
+    }
+
+    /**
+     * Sets the executor that reads the output streams of the processes (e.g., an
+     * executor of virtual threads). The executor is not shut down by the
+     * launcher.
+     */
+    public ProcessLauncher setPumpExecutor(ExecutorService pumpExecutor) {
+        return new ProcessLauncher(callGc, useShell, alwaysDestroy, pumpExecutor);
+    }
+
+    public boolean isCallGc() {
+        return callGc;
+    }
+
+    public boolean isUseShell() {
+        return useShell;
+    }
+
+    /**
+     * Launches the given command in the given working directory.
+     */
+    public ProcessOutputAsString run(List<String> command, File workingDir, boolean storeOutput,
+            boolean printOutput) {
+
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.directory(workingDir);
+
+        Function<InputStream, String> stdout = new StreamToString(printOutput, storeOutput, OutputType.StdOut);
+        Function<InputStream, String> stderr = new StreamToString(printOutput, storeOutput, OutputType.StdErr);
+
+        ProcessOutput<String, String> output = run(builder, stdout, stderr, null, null);
+        return new ProcessOutputAsString(output.getReturnValue(), output.getStdOut(), output.getStdErr());
+    }
+
+    /**
+     * Launches the process characterized by 'builder', and waits for it to end.
+     *
+     * <p>
+     * If the process cannot be started, throws an exception.
+     *
+     * @param builder         the process to launch
+     * @param outputProcessor reads the standard output of the process
+     * @param errorProcessor  reads the standard error of the process
+     * @param input           writes to the standard input of the process, can be
+     *                        null
+     * @param timeoutNanos    maximum time the process can run, can be null
+     * @return the output of the process
+     */
+    public <O, E> ProcessOutput<O, E> run(ProcessBuilder builder,
+            Function<InputStream, O> outputProcessor, Function<InputStream, E> errorProcessor,
+            Consumer<OutputStream> input, Long timeoutNanos) {
+
+        // The command in the builder might need processing (e.g., Windows system
+        // commands)
+        if (useShell) {
+            processCommand(builder);
+        }
+
+        SpecsLogs.debug(() -> "Launching Process: " + String.join(" ", builder.command()));
+
+        Process process;
+        try {
+            if (callGc) {
+                // Experiment: Calling Garbage Collector before starting process in order to
+                // reduce memory required to fork VM
+                // http://www.bryanmarty.com/2012/01/14/forking-jvm/
+                long totalMemBefore = Runtime.getRuntime().totalMemory();
+                System.gc();
+                long totalMemAfter = Runtime.getRuntime().totalMemory();
+                SpecsLogs.msgLib("Preparing to run process, memory before -> after GC: "
+                        + SpecsStrings.parseSize(totalMemBefore) + " -> " + SpecsStrings.parseSize(totalMemAfter));
+            }
+
+            process = builder.start();
+
+        } catch (IOException e) {
+            throw new RuntimeException("Could not start process", e);
+        }
+
+        InputStream inputStream = process.getInputStream();
+        Future<O> outputFuture = pumpExecutor.submit(() -> outputProcessor.apply(inputStream));
+
+        InputStream errorStream = process.getErrorStream();
+        Future<E> errorFuture = pumpExecutor.submit(() -> errorProcessor.apply(errorStream));
+
+        if (input != null) {
+            OutputStream inStream = process.getOutputStream();
+            pumpExecutor.submit(() -> input.accept(inStream));
+        }
+
+        return executeProcess(process, timeoutNanos, outputFuture, errorFuture);
+    }
+
+    /**
+     * Launches several processes, running at most 'maxParallel' at the same time.
+     *
+     * <p>
+     * Returns immediately, each future completes when the corresponding process
+     * ends. If a process cannot be started, its future completes exceptionally.
+     *
+     * @return a future for the output of each builder, in the same order as the
+     *         builders
+     */
+    public <O, E> List<CompletableFuture<ProcessOutput<O, E>>> runAsync(List<ProcessBuilder> builders,
+            int maxParallel, Function<InputStream, O> outputProcessor, Function<InputStream, E> errorProcessor,
+            Long timeoutNanos) {
+
+        if (maxParallel < 1) {
+            throw new IllegalArgumentException("Maximum number of parallel processes must be positive: "
+                    + maxParallel);
+        }
+
+        // Each thread waits for one process at a time, which bounds the number of running processes
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxParallel, Math.max(1, builders.size())),
+                SpecsSystem.getDaemonThreadFactory());
+
+        List<CompletableFuture<ProcessOutput<O, E>>> futures = new ArrayList<>(builders.size());
+        for (ProcessBuilder builder : builders) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> run(builder, outputProcessor, errorProcessor, null, timeoutNanos), executor));
+        }
+
+        // Threads end after running the submitted processes
+        executor.shutdown();
+
+        return futures;
+    }
+
+    /**
+     * Launches several processes, running at most 'maxParallel' at the same time,
+     * and waits for all of them to end.
+     *
+     * <p>
+     * The results are given to 'onCompletion' in the calling thread, in the order
+     * the processes end, together with the index of the corresponding builder. If
+     * a process cannot be started, throws an exception after the other processes
+     * have ended.
+     */
+    public <O, E> void runBatch(List<ProcessBuilder> builders, int maxParallel,
+            Function<InputStream, O> outputProcessor, Function<InputStream, E> errorProcessor, Long timeoutNanos,
+            BiConsumer<Integer, ProcessOutput<O, E>> onCompletion) {
+
+        var futures = runAsync(builders, maxParallel, outputProcessor, errorProcessor, timeoutNanos);
+
+        BlockingQueue<Integer> completed = new LinkedBlockingQueue<>();
+        for (int i = 0; i < futures.size(); i++) {
+            int index = i;
+            futures.get(i).whenComplete((output, exception) -> completed.add(index));
+        }
+
+        RuntimeException firstException = null;
+        for (int i = 0; i < futures.size(); i++) {
+            int index;
+            try {
+                index = completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for processes", e);
+            }
+
+            try {
+                onCompletion.accept(index, futures.get(index).join());
+            } catch (RuntimeException e) {
+                if (firstException == null) {
+                    firstException = e;
+                }
+            }
+        }
+
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    /**
+     * Performs several fixes on the builder command (e.g., adapts command for
+     * Windows platforms)
+     *
+     */
+    private static void processCommand(ProcessBuilder builder) {
+        // Do nothing if no command
+        if (builder.command().isEmpty()) {
+            return;
+        }
+
+        if (SpecsSystem.isWindows()) {
+            // Check if command is a file that exists in the working folder
+            File workingDir = builder.directory();
+            File command = new File(workingDir, builder.command().get(0));
+
+            // If command is a file that exists, do nothing
+            if (command.isFile()) {
+                return;
+            }
+
+            // Update command
+            List<String> newCommand = new ArrayList<>(builder.command().size() + 2);
+            newCommand.add("cmd");
+            newCommand.add("/c");
+            newCommand.addAll(builder.command());
+
+            builder.command(newCommand);
+        } else if (SpecsSystem.isLinux()) {
+            // Update command
+            List<String> newCommand = new ArrayList<>(4);
+            newCommand.add("bash");
+            // Same user
+            newCommand.add("-l");
+            // Command
+            newCommand.add("-c");
+            newCommand.add(builder.command().stream()
+                    .map(arg -> arg.replace(" ", "\\ "))
+                    .collect(Collectors.joining(" ")));
+
+            builder.command(newCommand);
+        }
+
+    }
+
+    private <O, E> ProcessOutput<O, E> executeProcess(Process process,
+            Long timeoutNanos, Future<O> outputFuture, Future<E> errorFuture) {
+
+        boolean timedOut = false;
+
+        // Read streams before the process ends
+        O output = null;
+        E error = null;
+
+        // wait forever, or just for a while
+        try {
+            if (timeoutNanos == null) {
+                process.waitFor();
+                SpecsLogs.debug(() -> "Process ended on its own");
+
+            } else {
+                SpecsLogs.debug(() -> "Launched process with a timeout of " + timeoutNanos + "ns");
+                timedOut = !process.waitFor(timeoutNanos, TimeUnit.NANOSECONDS);
+                boolean timedOutFinal = timedOut;
+                SpecsLogs.debug(() -> "Process timed out? " + timedOutFinal);
+            }
+
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+            destroyProcess(process);
+            throw new RuntimeException("Could not finish process with command '"
+                    + process.info().commandLine().orElse("<NOT AVAILABLE>") + "'");
+        }
+
+        // If the process timed out, kill it so that the output streams are closed
+        if (timedOut && !alwaysDestroy) {
+            destroyProcess(process);
+        }
+
+        Exception outputException = null;
+        try {
+            output = outputFuture.get(1, TimeUnit.MINUTES);
+            error = errorFuture.get(1, TimeUnit.MINUTES);
+
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Thread interrupted while waiting for output/error streams");
+
+        } catch (Exception e) {
+            SpecsLogs.info("Exception while waiting for output/error streams: " + e.getMessage());
+            outputException = e;
+        }
+
+        int returnValue = timedOut ? -1 : process.exitValue();
+        if (timedOut) {
+            SpecsLogs.info("Process timed out after " + SpecsStrings.parseTime(timeoutNanos));
+        }
+
+        // Looking for descendants has a cost, only done when the process did not end normally
+        if (alwaysDestroy) {
+            destroyProcess(process);
+        }
+
+        return new ProcessOutput<>(returnValue, output, error, outputException);
+    }
+
+    private static void destroyProcess(Process process) {
+
+        // TODO: a breakpoint is necessary before process destruction, or else the
+        // "insts"
+        // linestream is closed
+
+        // Get descendants of the process
+        List<ProcessHandle> processDescendants = process.descendants().collect(Collectors.toList());
+        SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Killing process...");
+        process.destroyForcibly();
+        destroyDescendants(processDescendants);
+    }
+
+    private static void destroyDescendants(List<ProcessHandle> processDescendants) {
+
+        // Destroy descendants
+        ProgressCounter counter = new ProgressCounter(processDescendants.size());
+        SpecsLogs.debug("Found " + processDescendants.size() + " descendants processes");
+        for (ProcessHandle handle : processDescendants) {
+            SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Killing descendant process... " + counter.next());
+
+            handle.destroyForcibly();
+            SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Waiting killing...");
+            try {
+                handle.onExit().get(1, TimeUnit.SECONDS);
+                SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Destroyed");
+
+            } catch (TimeoutException t) {
+                SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Timeout while destroying descendant process!");
+
+            } catch (Exception e) {
+                SpecsLogs.debug(() -> "SpecsSystem.executeProcess: Could not destroy descendant process!");
+            }
+        }
+    }
+}
@@ -19,6 +19,26 @@ public class ProcessOutputAsString extends ProcessOutput<String, String> {
         super(returnValue, stdOut, stdErr);
     }
 
+    public ProcessOutputAsString(int returnValue, String stdOut, String stdErr, Exception outputException) {
+        super(returnValue, stdOut, stdErr, outputException);
+    }
+
+    /**
+     * Creates a ProcessOutputAsString from the result of running a process with sinks that return strings (e.g.,
+     * {@link OutputSinks#tail(int, OutputType)}).
+     *
+     * @param output the output of a process
+     * @return a ProcessOutputAsString with the same values
+     */
+    public static ProcessOutputAsString of(ProcessOutput<String, String> output) {
+        if (output instanceof ProcessOutputAsString) {
+            return (ProcessOutputAsString) output;
+        }
+
+        return new ProcessOutputAsString(output.getReturnValue(), output.getStdOut(), output.getStdErr(),
+                output.getOutputException().orElse(null));
+    }
+
     /**
      * Returns the contents of the standard output, followed by the contents of the
      * standard error.
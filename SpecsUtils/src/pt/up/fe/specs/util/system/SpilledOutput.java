@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.system;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+import pt.up.fe.specs.util.io.BulkFileIo;
+
+/**
+ * Output of a stream that was written to a file instead of being kept in memory (see
+ * {@link OutputSinks#spillToTempFile()}).
+ * <p>
+ * Outputs written to temporary files own them: {@link #close()} deletes the file, so they should be used in a
+ * try-with-resources block. Closing an output written to a file given by the caller leaves the file in place.
+ */
+public class SpilledOutput implements AutoCloseable {
+
+    private final File file;
+    private final long size;
+    private final Charset charset;
+    private final boolean temporary;
+
+    public SpilledOutput(File file, long size, Charset charset) {
+        this(file, size, charset, false);
+    }
+
+    SpilledOutput(File file, long size, Charset charset, boolean temporary) {
+        this.file = file;
+        this.size = size;
+        this.charset = charset;
+        this.temporary = temporary;
+    }
+
+    /**
+     * @return the file with the contents of the stream
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return the number of bytes in the file
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Maps the file to memory, without reading it to the heap.
+     *
+     * @return a read-only view of the bytes of the file
+     */
+    public MappedByteBuffer map() {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Output is too large to be mapped in a single buffer: " + size + " bytes");
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not map output file '" + file + "'", e);
+        }
+    }
+
+    /**
+     * Decodes the contents of the file. Large files are decoded from a memory-mapped view.
+     *
+     * @return the contents of the file
+     */
+    public CharSequence getContents() {
+        try {
+            return BulkFileIo.readCharSequence(file.toPath(), charset);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read output file '" + file + "'", e);
+        }
+    }
+
+    /**
+     * Deletes the file.
+     *
+     * @return true if the file was deleted
+     */
+    public boolean delete() {
+        return file.delete();
+    }
+
+    /**
+     * @return true if the file is temporary and is deleted when this output is closed
+     */
+    public boolean isTemporary() {
+        return temporary;
+    }
+
+    /**
+     * Deletes the file if it is temporary. Buffers returned by {@link #map()} remain valid after closing.
+     */
+    @Override
+    public void close() {
+        if (temporary) {
+            delete();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpilledOutput [file=" + file + ", size=" + size + "]";
+    }
+}
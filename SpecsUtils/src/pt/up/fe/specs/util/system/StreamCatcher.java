@@ -17,6 +17,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.function.Function;
 
 import pt.up.fe.specs.util.SpecsLogs;
 
@@ -57,6 +58,7 @@ public class StreamCatcher implements Runnable {
     private final OutputType type;
     private final boolean storeOutput;
     private final boolean printOutput;
+    private final Function<InputStream, String> sink;
 
     private StringBuilder printBuffer;
     private final StringBuilder builder;
@@ -67,6 +69,25 @@ public class StreamCatcher implements Runnable {
         this.type = type;
         this.storeOutput = storeOutput;
         this.printOutput = printOutput;
+        this.sink = null;
+
+        this.printBuffer = new StringBuilder();
+        this.builder = new StringBuilder();
+    }
+
+    /**
+     * Creates a catcher that gives the stream to the given sink (e.g., {@link OutputSinks#tail(int,
+     * pt.up.fe.specs.util.system.OutputType)}), instead of storing it line by line.
+     *
+     * @param inputStream the stream to catch
+     * @param sink        consumes the stream, its result is returned by {@link #getOutput()}
+     */
+    public StreamCatcher(InputStream inputStream, Function<InputStream, String> sink) {
+        this.inputStream = inputStream;
+        this.type = null;
+        this.storeOutput = true;
+        this.printOutput = false;
+        this.sink = sink;
 
         this.printBuffer = new StringBuilder();
         this.builder = new StringBuilder();
@@ -74,6 +95,18 @@ public class StreamCatcher implements Runnable {
 
     @Override
     public void run() {
+        if (this.sink != null) {
+            try {
+                String output = this.sink.apply(this.inputStream);
+                if (output != null) {
+                    this.builder.append(output);
+                }
+            } catch (RuntimeException e) {
+                SpecsLogs.warn("Exception during program execution:" + e.getMessage());
+            }
+
+            return;
+        }
 
         BufferedReader reader = new BufferedReader(new InputStreamReader(this.inputStream));
 
@@ -13,11 +13,15 @@
 
 package pt.up.fe.specs.util.treenode;
 
+import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 import pt.up.fe.specs.util.SpecsLogs;
 
@@ -29,6 +33,10 @@ public abstract class ATreeNode<K extends ATreeNode<K>> implements TreeNode<K> {
 
     private final List<K> children;
     protected K parent;
+    private TreeNodeTypeIndex<K> typeIndex;
+    // True if the root of the tree of this node has a type index, avoids looking for the root on every change when
+    // no index is used
+    private boolean inIndexedTree;
 
     public ATreeNode(Collection<? extends K> children) {
         this.children = initChildren(children);
@@ -77,7 +85,49 @@ public abstract class ATreeNode<K extends ATreeNode<K>> implements TreeNode<K> {
 
     @Override
     public List<K> getChildrenMutable() {
-        return this.children;
+        if (!inIndexedTree) {
+            return this.children;
+        }
+
+        // Changes to the list must invalidate the type index
+        return new IndexedChildrenList();
+    }
+
+    /**
+     * View of the children of this node that invalidates the type index of the tree when modified.
+     */
+    private class IndexedChildrenList extends AbstractList<K> implements RandomAccess {
+
+        @Override
+        public K get(int index) {
+            return children.get(index);
+        }
+
+        @Override
+        public int size() {
+            return children.size();
+        }
+
+        @Override
+        public K set(int index, K element) {
+            invalidateTypeIndex();
+            return children.set(index, element);
+        }
+
+        @Override
+        public void add(int index, K element) {
+            invalidateTypeIndex();
+            children.add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public K remove(int index) {
+            invalidateTypeIndex();
+            K removed = children.remove(index);
+            modCount++;
+            return removed;
+        }
     }
 
     /*
@@ -155,7 +205,19 @@ public abstract class ATreeNode<K extends ATreeNode<K>> implements TreeNode<K> {
             throw new RuntimeException("Parent should be null.");
         }
 
+        invalidateTypeIndex();
+
+        // Child stops being a root, its own index is no longer updated
+        ATreeNode<K> child = childToken;
+        if (child.typeIndex != null) {
+            child.typeIndex.invalidate();
+        }
+
         childToken.parent = getThis();
+
+        if (child.inIndexedTree != inIndexedTree) {
+            child.setInIndexedTree(inIndexedTree);
+        }
     }
 
     @Override
@@ -183,7 +245,127 @@ public abstract class ATreeNode<K extends ATreeNode<K>> implements TreeNode<K> {
             throw new RuntimeException("Should have a parent.");
         }
 
+        invalidateTypeIndex();
+
         this.parent = null;
+
+        // Node becomes a root, its tree is indexed only if it has its own index
+        boolean hasIndex = typeIndex != null;
+        if (inIndexedTree != hasIndex) {
+            setInIndexedTree(hasIndex);
+        }
+    }
+
+    /**
+     * Enables a type index for the tree of this node, which speeds up queries such as
+     * {@link #getDescendants(Class)}. The index is built on the first query, and rebuilt on the first query after the
+     * tree changes, so it is only worth it for trees that are queried more often than they are modified.
+     *
+     * <p>
+     * Can only be called on the root of a tree. If the node later becomes the child of another node, the index is
+     * ignored until the node is a root again.
+     *
+     * @return the index of this tree
+     */
+    public TreeNodeTypeIndex<K> enableTypeIndex() {
+        if (hasParent()) {
+            throw new RuntimeException("Type index can only be enabled on the root of a tree");
+        }
+
+        if (typeIndex == null) {
+            typeIndex = new TreeNodeTypeIndex<>(getThis());
+            setInIndexedTree(true);
+        }
+
+        return typeIndex;
+    }
+
+    /**
+     * Removes the type index of this node, if present.
+     */
+    public void disableTypeIndex() {
+        if (typeIndex == null) {
+            return;
+        }
+
+        typeIndex = null;
+
+        // If attached, the tree of this node is indexed according to its root
+        if (!hasParent()) {
+            setInIndexedTree(false);
+        }
+    }
+
+    public boolean hasTypeIndex() {
+        return typeIndex != null;
+    }
+
+    @Override
+    public TreeNodeTypeIndex<K> getTypeIndex() {
+        if (!inIndexedTree) {
+            return null;
+        }
+
+        ATreeNode<K> root = findRoot();
+        return root != null ? root.typeIndex : null;
+    }
+
+    /**
+     * Invalidates the type index of the tree this node belongs to, if present.
+     */
+    private void invalidateTypeIndex() {
+        if (!inIndexedTree) {
+            return;
+        }
+
+        ATreeNode<K> root = findRoot();
+        if (root != null && root.typeIndex != null) {
+            root.typeIndex.invalidate();
+        }
+    }
+
+    /**
+     * Sets whether the nodes of the subtree of this node belong to a tree with a type index.
+     */
+    private void setInIndexedTree(boolean inIndexedTree) {
+        Deque<ATreeNode<K>> nodes = new ArrayDeque<>();
+        nodes.push(this);
+
+        while (!nodes.isEmpty()) {
+            ATreeNode<K> node = nodes.pop();
+            node.inIndexedTree = inIndexedTree;
+
+            for (K child : node.children) {
+                nodes.push(child);
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the root of the tree, or null if the parent chain has a cycle (e.g., tree in an inconsistent state
+     *         during a transformation)
+     */
+    private ATreeNode<K> findRoot() {
+        ATreeNode<K> node = this;
+        // Advances at half the speed, if the nodes meet there is a cycle
+        ATreeNode<K> slowNode = this;
+        boolean advanceSlow = false;
+
+        while (node.parent != null) {
+            node = node.parent;
+
+            if (advanceSlow) {
+                slowNode = slowNode.parent;
+                if (slowNode == node) {
+                    return null;
+                }
+            }
+
+            advanceSlow = !advanceSlow;
+        }
+
+        return node;
     }
 
     /*
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.treenode;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Depth-first, post-order iterator over a tree, which uses an explicit stack instead of recursion. A node is returned
+ * after all its descendants.
+ *
+ * @param <K> the type of the nodes
+ */
+public class PostOrderIterator<K extends TreeNode<K>> implements Iterator<K> {
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private final K root;
+    private final boolean includeSelf;
+
+    private Object[] nodes;
+    // Children of each node in the stack, fetched once per node
+    private Object[] children;
+    // Index of the next child to visit, for each node in the stack
+    private int[] childIndexes;
+    // Index of the top of the stack, -1 if empty
+    private int top;
+    private K next;
+
+    /**
+     *
+     * @param node        the root of the tree to iterate
+     * @param includeSelf if true, the given node is the last element returned, otherwise only its descendants are
+     *                    returned
+     */
+    public PostOrderIterator(K node, boolean includeSelf) {
+        this.root = node;
+        this.includeSelf = includeSelf;
+        this.nodes = new Object[INITIAL_DEPTH];
+        this.children = new Object[INITIAL_DEPTH];
+        this.childIndexes = new int[INITIAL_DEPTH];
+        this.top = -1;
+
+        push(node);
+        this.next = findNext();
+    }
+
+    private void push(K node) {
+        top++;
+        if (top == nodes.length) {
+            nodes = Arrays.copyOf(nodes, nodes.length * 2);
+            children = Arrays.copyOf(children, children.length * 2);
+            childIndexes = Arrays.copyOf(childIndexes, childIndexes.length * 2);
+        }
+
+        nodes[top] = node;
+        children[top] = node.getChildren();
+        childIndexes[top] = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K findNext() {
+        while (top >= 0) {
+            K node = (K) nodes[top];
+            List<K> nodeChildren = (List<K>) children[top];
+
+            // Descend into the next unvisited child
+            int childIndex = childIndexes[top];
+            if (childIndex < nodeChildren.size()) {
+                childIndexes[top]++;
+                push(nodeChildren.get(childIndex));
+                continue;
+            }
+
+            // All children visited, return node
+            nodes[top] = null;
+            children[top] = null;
+            top--;
+
+            if (node == root && !includeSelf) {
+                return null;
+            }
+
+            return node;
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public K next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+
+        K current = next;
+        next = findNext();
+        return current;
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.treenode;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Depth-first, pre-order iterator over a tree, which uses an explicit stack instead of recursion.
+ *
+ * <p>
+ * Each level of the stack keeps a list of sibling nodes and the range that still needs to be visited, which allows
+ * splitting the remaining nodes by subtree (see {@link TreeNodeSpliterator}).
+ *
+ * @param <K> the type of the nodes
+ */
+public class PreOrderIterator<K extends TreeNode<K>> implements Iterator<K> {
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private List<K>[] siblings;
+    private int[] indexes;
+    private int[] ends;
+    // Index of the top of the stack, -1 if empty
+    private int top;
+
+    /**
+     *
+     * @param node        the root of the tree to iterate
+     * @param includeSelf if true, the given node is the first element returned, otherwise only its descendants are
+     *                    returned
+     */
+    public PreOrderIterator(K node, boolean includeSelf) {
+        this(INITIAL_DEPTH);
+
+        List<K> firstLevel = includeSelf ? List.of(node) : node.getChildren();
+        push(firstLevel, 0, firstLevel.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private PreOrderIterator(int capacity) {
+        this.siblings = new List[capacity];
+        this.indexes = new int[capacity];
+        this.ends = new int[capacity];
+        this.top = -1;
+    }
+
+    private void push(List<K> nodes, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+
+        top++;
+        if (top == siblings.length) {
+            int newCapacity = siblings.length * 2;
+            siblings = Arrays.copyOf(siblings, newCapacity);
+            indexes = Arrays.copyOf(indexes, newCapacity);
+            ends = Arrays.copyOf(ends, newCapacity);
+        }
+
+        siblings[top] = nodes;
+        indexes[top] = start;
+        ends[top] = end;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return top >= 0;
+    }
+
+    @Override
+    public K next() {
+        if (top < 0) {
+            throw new NoSuchElementException();
+        }
+
+        K node = siblings[top].get(indexes[top]++);
+
+        // Remove level if all siblings have been visited
+        if (indexes[top] == ends[top]) {
+            siblings[top] = null;
+            top--;
+        }
+
+        // Children are visited next
+        List<K> children = node.getChildren();
+        push(children, 0, children.size());
+
+        return node;
+    }
+
+    /**
+     * Splits the nodes that remain to be visited in two. This iterator keeps the second half of the siblings at the
+     * lowest level of the stack that has at least two nodes left, and the returned iterator visits everything that
+     * comes before them.
+     *
+     * @return an iterator over a prefix of the remaining nodes, or null if the nodes cannot be split
+     */
+    PreOrderIterator<K> splitPrefix() {
+        // Find the level closest to the root with at least two nodes, which splits the largest subtrees
+        int level = 0;
+        while (level <= top && ends[level] - indexes[level] < 2) {
+            level++;
+        }
+
+        if (level > top) {
+            return null;
+        }
+
+        int mid = (indexes[level] + ends[level]) >>> 1;
+
+        // Prefix: the first half of the split level and all levels above it
+        PreOrderIterator<K> prefix = new PreOrderIterator<>(Math.max(INITIAL_DEPTH, top - level + 1));
+        prefix.push(siblings[level], indexes[level], mid);
+        for (int i = level + 1; i <= top; i++) {
+            prefix.push(siblings[i], indexes[i], ends[i]);
+        }
+
+        // Suffix: the levels below the split level and the second half of the split level
+        Arrays.fill(siblings, level + 1, top + 1, null);
+        indexes[level] = mid;
+        top = level;
+
+        return prefix;
+    }
+}
@@ -26,6 +26,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import pt.up.fe.specs.util.SpecsCollections;
 import pt.up.fe.specs.util.SpecsLogs;
@@ -71,13 +72,41 @@ public interface TreeNode<K extends TreeNode<K>> {
         return getChildren().stream();
     }
 
+    /**
+     *
+     * @return a stream with all descendants, in pre-order. The stream supports parallel processing
+     */
+    @SuppressWarnings("unchecked")
     default Stream<K> getDescendantsStream() {
-        return getChildrenStream().flatMap(TreeNode::getDescendantsAndSelfStream);
+        return StreamSupport.stream(new TreeNodeSpliterator<>((K) this, false), false);
     }
 
+    /**
+     *
+     * @return a stream with this node followed by all descendants, in pre-order. The stream supports parallel
+     *         processing
+     */
     @SuppressWarnings("unchecked")
     default Stream<K> getDescendantsAndSelfStream() {
-        return Stream.concat(Stream.of((K) this), getDescendantsStream());
+        return StreamSupport.stream(new TreeNodeSpliterator<>((K) this, true), false);
+    }
+
+    /**
+     *
+     * @return an iterator over all descendants, in pre-order
+     */
+    @SuppressWarnings("unchecked")
+    default Iterator<K> getDescendantsIterator() {
+        return new PreOrderIterator<>((K) this, false);
+    }
+
+    /**
+     *
+     * @return an iterator over all descendants, in post-order (i.e., a node is returned after its descendants)
+     */
+    @SuppressWarnings("unchecked")
+    default Iterator<K> getDescendantsPostOrderIterator() {
+        return new PostOrderIterator<>((K) this, false);
     }
 
     default Stream<K> getAscendantsStream() {
@@ -102,10 +131,24 @@ public interface TreeNode<K extends TreeNode<K>> {
      *
      * @return all descendants that are an instance of the given class
      */
+    @SuppressWarnings("unchecked")
     default <N extends K> List<N> getDescendants(Class<N> targetType) {
-        return getDescendantsStream().filter(targetType::isInstance)
-                .map(targetType::cast)
-                .collect(Collectors.toList());
+        TreeNodeTypeIndex<K> typeIndex = getTypeIndex();
+        if (typeIndex != null) {
+            return typeIndex.getDescendants((K) this, targetType);
+        }
+
+        List<N> descendants = new ArrayList<>();
+
+        Iterator<K> iterator = getDescendantsIterator();
+        while (iterator.hasNext()) {
+            K node = iterator.next();
+            if (targetType.isInstance(node)) {
+                descendants.add(targetType.cast(node));
+            }
+        }
+
+        return descendants;
     }
 
     /**
@@ -113,7 +156,26 @@ public interface TreeNode<K extends TreeNode<K>> {
      * @return list with all descendants
      */
     default List<K> getDescendants() {
-        return getDescendantsStream().collect(Collectors.toList());
+        List<K> descendants = new ArrayList<>();
+        getDescendantsIterator().forEachRemaining(descendants::add);
+        return descendants;
+    }
+
+    /**
+     * Stops at the first descendant found, without visiting the rest of the tree.
+     *
+     * @return the first descendant, in pre-order, that is an instance of the given class
+     */
+    default <N extends K> Optional<N> getFirstDescendant(Class<N> targetType) {
+        Iterator<K> iterator = getDescendantsIterator();
+        while (iterator.hasNext()) {
+            K node = iterator.next();
+            if (targetType.isInstance(node)) {
+                return Optional.of(targetType.cast(node));
+            }
+        }
+
+        return Optional.empty();
     }
 
     /**
@@ -127,15 +189,23 @@ public interface TreeNode<K extends TreeNode<K>> {
     }
 
     default <N extends K> List<N> getDescendantsAndSelf(Class<N> targetType) {
-        return getDescendantsAndSelfStream().filter(targetType::isInstance)
-                .map(targetType::cast)
-                .collect(Collectors.toList());
+        List<N> nodes = new ArrayList<>();
+
+        if (targetType.isInstance(this)) {
+            nodes.add(targetType.cast(this));
+        }
+
+        nodes.addAll(getDescendants(targetType));
+
+        return nodes;
     }
 
     default <N extends K> Optional<N> getFirstDescendantsAndSelf(Class<N> targetType) {
-        return getDescendantsAndSelfStream().filter(targetType::isInstance)
-                .map(targetType::cast)
-                .findFirst();
+        if (targetType.isInstance(this)) {
+            return Optional.of(targetType.cast(this));
+        }
+
+        return getFirstDescendant(targetType);
     }
 
     default <N extends K> List<N> getAscendantsAndSelf(Class<N> targetType) {
@@ -355,14 +425,16 @@ public interface TreeNode<K extends TreeNode<K>> {
             return Optional.empty();
         }
 
-        // Check if parent is of the given type
-        K parent = getParent();
+        K ancestor = getParent();
+        while (ancestor != null) {
+            if (type.isInstance(ancestor)) {
+                return Optional.of(type.cast(ancestor));
+            }
 
-        if (type.isInstance(parent)) {
-            return Optional.of(type.cast(parent));
+            ancestor = ancestor.getParent();
         }
 
-        return parent.getAncestorTry(type);
+        return Optional.empty();
     }
 
     /**
@@ -370,6 +442,13 @@ public interface TreeNode<K extends TreeNode<K>> {
      */
     public K getRoot();
 
+    /**
+     * @return the type index of the tree this node belongs to, or null if the tree is not indexed
+     */
+    default TreeNodeTypeIndex<K> getTypeIndex() {
+        return null;
+    }
+
     default boolean hasParent() {
         return getParent() != null;
     }
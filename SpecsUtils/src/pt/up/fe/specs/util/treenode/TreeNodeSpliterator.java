@@ -0,0 +1,80 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.treenode;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the nodes of a tree in pre-order, which supports parallel processing by splitting the remaining
+ * nodes by subtree.
+ *
+ * @param <K> the type of the nodes
+ */
+public class TreeNodeSpliterator<K extends TreeNode<K>> implements Spliterator<K> {
+
+    private final PreOrderIterator<K> iterator;
+
+    /**
+     *
+     * @param node        the root of the tree
+     * @param includeSelf if true, the given node is also included
+     */
+    public TreeNodeSpliterator(K node, boolean includeSelf) {
+        this(new PreOrderIterator<>(node, includeSelf));
+    }
+
+    private TreeNodeSpliterator(PreOrderIterator<K> iterator) {
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super K> action) {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super K> action) {
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+        }
+    }
+
+    @Override
+    public Spliterator<K> trySplit() {
+        PreOrderIterator<K> prefix = iterator.splitPrefix();
+
+        if (prefix == null) {
+            return null;
+        }
+
+        return new TreeNodeSpliterator<>(prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+        // Size of the tree is not known without visiting it
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.treenode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the nodes of a tree by type, which speeds up repeated queries such as
+ * {@link TreeNode#getDescendants(Class)} on large trees that do not change often.
+ *
+ * <p>
+ * The index is built lazily on the first query, and invalidated when the tree is modified (see
+ * {@link ATreeNode#enableTypeIndex()}). For each queried type, it keeps the positions in pre-order of the nodes that
+ * are an instance of that type, so the descendants of any node in the tree can be found with a binary search over the
+ * range of its subtree.
+ *
+ * <p>
+ * Queries can be made concurrently by several threads, as long as the tree is not modified at the same time. The
+ * index is built under a lock and published as an immutable snapshot, and the positions of each type are cached in a
+ * concurrent map. {@link #build()} can be called before sharing the tree between threads, so that the index is not
+ * built by the first of them.
+ *
+ * @param <K> the type of the nodes
+ */
+public class TreeNodeTypeIndex<K extends TreeNode<K>> {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final K root;
+
+    // Null when the index is stale
+    private volatile Snapshot<K> snapshot;
+    private int numRebuilds;
+
+    /**
+     * The nodes of the tree at the time the index was built.
+     */
+    private static class Snapshot<K> {
+        // Nodes of the tree, in pre-order
+        private final List<K> nodes;
+        // For each node in pre-order, the position after the last node of its subtree
+        private final int[] subtreeEnds;
+        private final Map<K, Integer> positions;
+        // Lazily filled, maps a type to the positions of its instances
+        private final Map<Class<?>, int[]> typePositions;
+
+        private Snapshot(List<K> nodes, int[] subtreeEnds, Map<K, Integer> positions) {
+            this.nodes = nodes;
+            this.subtreeEnds = subtreeEnds;
+            this.positions = positions;
+            this.typePositions = new ConcurrentHashMap<>();
+        }
+
+        private int[] getPositions(Class<?> type) {
+            return typePositions.computeIfAbsent(type, this::findPositions);
+        }
+
+        private int[] findPositions(Class<?> type) {
+            int[] buffer = new int[16];
+            int size = 0;
+            for (int i = 0; i < nodes.size(); i++) {
+                if (!type.isInstance(nodes.get(i))) {
+                    continue;
+                }
+
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+
+                buffer[size++] = i;
+            }
+
+            return size == 0 ? EMPTY : Arrays.copyOf(buffer, size);
+        }
+    }
+
+    public TreeNodeTypeIndex(K root) {
+        this.root = root;
+        this.snapshot = null;
+        this.numRebuilds = 0;
+    }
+
+    /**
+     * Marks the index as stale, it will be rebuilt on the next query.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    public boolean isValid() {
+        return snapshot != null;
+    }
+
+    /**
+     *
+     * @return the number of times the index has been built
+     */
+    public synchronized int getNumRebuilds() {
+        return numRebuilds;
+    }
+
+    /**
+     *
+     * @return the descendants of the given node that are an instance of the given type, in pre-order
+     */
+    public <N extends K> List<N> getDescendants(K node, Class<N> type) {
+        Snapshot<K> index = getSnapshot();
+
+        Integer position = index.positions.get(node);
+        if (position == null) {
+            throw new RuntimeException("Node is not part of the indexed tree: " + node.toNodeString());
+        }
+
+        int[] instances = index.getPositions(type);
+
+        // Descendants are in the range ]position, subtreeEnd[
+        int start = lowerBound(instances, position + 1);
+        int end = lowerBound(instances, index.subtreeEnds[position]);
+
+        List<N> descendants = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            descendants.add(type.cast(index.nodes.get(instances[i])));
+        }
+
+        return descendants;
+    }
+
+    /**
+     *
+     * @return true if the tree contains at least one node that is an instance of the given type
+     */
+    public boolean contains(Class<? extends K> type) {
+        return getSnapshot().getPositions(type).length > 0;
+    }
+
+    /**
+     * Builds the index if it is stale.
+     */
+    public void build() {
+        getSnapshot();
+    }
+
+    private Snapshot<K> getSnapshot() {
+        Snapshot<K> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (current == null) {
+                current = newSnapshot();
+                snapshot = current;
+                numRebuilds++;
+            }
+
+            return current;
+        }
+    }
+
+    private Snapshot<K> newSnapshot() {
+        List<K> nodes = new ArrayList<>();
+        Map<K, Integer> positions = new IdentityHashMap<>();
+        int[] subtreeEnds = new int[16];
+
+        // Iterative depth-first traversal, the stack keeps the position of each node and the next child to visit
+        int[] stackPositions = new int[16];
+        int[] stackChildren = new int[16];
+        // Children of the nodes in the stack, fetched once per node
+        List<List<K>> stackLists = new ArrayList<>();
+        int top = 0;
+
+        positions.put(root, 0);
+        nodes.add(root);
+        stackLists.add(root.getChildren());
+
+        while (top >= 0) {
+            int position = stackPositions[top];
+            List<K> children = stackLists.get(top);
+            int childIndex = stackChildren[top];
+
+            if (childIndex < children.size()) {
+                stackChildren[top]++;
+
+                K child = children.get(childIndex);
+                int childPosition = nodes.size();
+                nodes.add(child);
+                positions.put(child, childPosition);
+
+                top++;
+                if (top == stackPositions.length) {
+                    stackPositions = Arrays.copyOf(stackPositions, top * 2);
+                    stackChildren = Arrays.copyOf(stackChildren, top * 2);
+                }
+                if (top == stackLists.size()) {
+                    stackLists.add(null);
+                }
+
+                stackPositions[top] = childPosition;
+                stackChildren[top] = 0;
+                stackLists.set(top, child.getChildren());
+                continue;
+            }
+
+            // All descendants visited
+            if (position >= subtreeEnds.length) {
+                subtreeEnds = Arrays.copyOf(subtreeEnds, Math.max(position + 1, subtreeEnds.length * 2));
+            }
+            subtreeEnds[position] = nodes.size();
+            stackLists.set(top, null);
+            top--;
+        }
+
+        return new Snapshot<>(nodes, subtreeEnds, positions);
+    }
+
+    /**
+     *
+     * @return the index of the first element in the sorted array that is greater or equal than the given value
+     */
+    private static int lowerBound(int[] values, int value) {
+        int low = 0;
+        int high = values.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+}
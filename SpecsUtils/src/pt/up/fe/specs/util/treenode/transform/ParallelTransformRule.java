@@ -0,0 +1,52 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.treenode.transform;
+
+import pt.up.fe.specs.util.treenode.TreeNode;
+import pt.up.fe.specs.util.treenode.transform.util.TraversalStrategy;
+
+/**
+ * Marks a {@link TransformRule} whose transformations can be collected in parallel, by visiting different subtrees in
+ * different threads.
+ *
+ * <p>
+ * Implementations must allow {@link #apply(TreeNode, TransformQueue)} to be called concurrently on different nodes,
+ * i.e., the method only reads the tree and does not keep mutable state outside of the given queue. The
+ * transformations are returned in the same order as in a sequential traversal (see
+ * {@link TraversalStrategy#getTransformations(TreeNode, TransformRule)}).
+ *
+ * <p>
+ * Queries such as {@link TreeNode#getDescendants(Class)} can be used on trees with a type index, which is built
+ * before the traversal starts and is safe to read concurrently.
+ *
+ * @param <K>
+ * @param <T>
+ */
+public interface ParallelTransformRule<K extends TreeNode<K>, T extends TransformResult> extends TransformRule<K, T> {
+
+    /**
+     * Default value for {@link #getParallelThreshold()}.
+     */
+    int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    /**
+     * Trees with less nodes than this value are traversed sequentially, since the cost of the parallel traversal
+     * would not be offset.
+     *
+     * @return the minimum number of nodes of a tree for the traversal to be parallel
+     */
+    default int getParallelThreshold() {
+        return DEFAULT_PARALLEL_THRESHOLD;
+    }
+}
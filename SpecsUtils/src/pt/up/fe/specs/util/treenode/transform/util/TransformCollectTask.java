@@ -0,0 +1,145 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.treenode.transform.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+import pt.up.fe.specs.util.SpecsLogs;
+import pt.up.fe.specs.util.treenode.TreeNode;
+import pt.up.fe.specs.util.treenode.transform.TransformQueue;
+import pt.up.fe.specs.util.treenode.transform.TransformResult;
+import pt.up.fe.specs.util.treenode.transform.TransformRule;
+
+/**
+ * Collects the transformations of a subtree, visiting children in forked tasks while there are idle threads.
+ *
+ * <p>
+ * Each task stores its transformations in local queues. Forking a child closes the current local queue, so that the
+ * transformations can be merged in traversal order with {@link #collectInto(TransformQueue)}.
+ *
+ * @param <K>
+ * @param <T>
+ */
+class TransformCollectTask<K extends TreeNode<K>, T extends TransformResult> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    // Children are visited in the current task when there are already this many forked tasks waiting to be stolen
+    private static final int MAX_SURPLUS_TASKS = 3;
+
+    private final TraversalStrategy strategy;
+    private final K node;
+    private final TransformRule<K, T> rule;
+    private final String queueId;
+
+    // Each element is either a TransformQueue or a forked task, in traversal order
+    private final List<Object> parts;
+    private TransformQueue<K> current;
+
+    public TransformCollectTask(TraversalStrategy strategy, K node, TransformRule<K, T> rule, String queueId) {
+        this.strategy = strategy;
+        this.node = node;
+        this.rule = rule;
+        this.queueId = queueId;
+        this.parts = new ArrayList<>();
+        this.current = null;
+    }
+
+    @Override
+    protected void compute() {
+        current = new TransformQueue<>(queueId);
+
+        visit(node);
+        closeQueue();
+
+        // Join in reverse order, the last forked tasks are the most likely to be still in the local queue
+        for (int i = parts.size() - 1; i >= 0; i--) {
+            if (parts.get(i) instanceof TransformCollectTask<?, ?> task) {
+                task.join();
+            }
+        }
+    }
+
+    /**
+     * Appends the transformations collected by this task and its sub-tasks to the given queue, in traversal order.
+     * Should only be called after the task has completed.
+     */
+    @SuppressWarnings("unchecked")
+    public void collectInto(TransformQueue<K> queue) {
+        for (Object part : parts) {
+            if (part instanceof TransformCollectTask) {
+                ((TransformCollectTask<K, T>) part).collectInto(queue);
+            } else {
+                queue.getTransforms().addAll(((TransformQueue<K>) part).getTransforms());
+            }
+        }
+    }
+
+    private void visit(K node) {
+        switch (strategy) {
+            case POST_ORDER:
+                visitChildren(node);
+                rule.apply(node, current);
+                return;
+            case PRE_ORDER:
+                T result = rule.apply(node, current);
+
+                // Check if children should be visited
+                if (result.visitChildren()) {
+                    visitChildren(node);
+                }
+                return;
+            default:
+                SpecsLogs.warn("Case not defined:" + strategy);
+                return;
+        }
+    }
+
+    private void visitChildren(K node) {
+        if (!node.hasChildren()) {
+            return;
+        }
+
+        for (K child : node.getChildren()) {
+            // Leaves are not worth a task
+            if (child.hasChildren() && getSurplusQueuedTaskCount() < MAX_SURPLUS_TASKS) {
+                fork(child);
+            } else {
+                visit(child);
+            }
+        }
+    }
+
+    private void fork(K child) {
+        closeQueue();
+
+        var task = new TransformCollectTask<>(strategy, child, rule, queueId);
+        task.fork();
+        parts.add(task);
+    }
+
+    /**
+     * Stores the current queue, if it has transformations, and starts a new one.
+     */
+    private void closeQueue() {
+        if (current.getTransforms().isEmpty()) {
+            return;
+        }
+
+        parts.add(current);
+        current = new TransformQueue<>(queueId);
+    }
+}
@@ -13,8 +13,13 @@
 
 package pt.up.fe.specs.util.treenode.transform.util;
 
+import java.util.concurrent.ForkJoinPool;
+
 import pt.up.fe.specs.util.SpecsLogs;
+import pt.up.fe.specs.util.treenode.PreOrderIterator;
 import pt.up.fe.specs.util.treenode.TreeNode;
+import pt.up.fe.specs.util.treenode.TreeNodeTypeIndex;
+import pt.up.fe.specs.util.treenode.transform.ParallelTransformRule;
 import pt.up.fe.specs.util.treenode.transform.TransformQueue;
 import pt.up.fe.specs.util.treenode.transform.TransformResult;
 import pt.up.fe.specs.util.treenode.transform.TransformRule;
@@ -38,9 +43,17 @@ public enum TraversalStrategy {
         getTransformations(node, rule).apply();
     }
 
+    /**
+     * Traverses the tree and collects the transformations of the rule. If the rule is a
+     * {@link ParallelTransformRule}, the tree is traversed in parallel using the common fork-join pool.
+     */
     public <K extends TreeNode<K>, T extends TransformResult> TransformQueue<K> getTransformations(K node,
             TransformRule<K, T> rule) {
 
+        if (rule instanceof ParallelTransformRule) {
+            return getTransformationsParallel(node, (ParallelTransformRule<K, T>) rule, ForkJoinPool.commonPool());
+        }
+
         // Create instruction queue
         TransformQueue<K> queue = new TransformQueue<>(rule.getClass().getSimpleName());
 
@@ -50,6 +63,52 @@ public enum TraversalStrategy {
         return queue;
     }
 
+    /**
+     * Collects the transformations of the rule using the given fork-join pool, visiting subtrees in parallel. The
+     * transformations are in the same order as in a sequential traversal.
+     *
+     * <p>
+     * Trees with less nodes than {@link ParallelTransformRule#getParallelThreshold()} are traversed sequentially. If
+     * the tree has a type index, it is built before the traversal starts, so that the rule only reads it.
+     */
+    public <K extends TreeNode<K>, T extends TransformResult> TransformQueue<K> getTransformationsParallel(K node,
+            ParallelTransformRule<K, T> rule, ForkJoinPool pool) {
+
+        TransformQueue<K> queue = new TransformQueue<>(rule.getClass().getSimpleName());
+
+        if (!hasAtLeast(node, rule.getParallelThreshold())) {
+            traverseTree(node, rule, queue);
+            return queue;
+        }
+
+        // Build a stale index before forking, instead of in the first task that queries it
+        TreeNodeTypeIndex<K> typeIndex = node.getTypeIndex();
+        if (typeIndex != null) {
+            typeIndex.build();
+        }
+
+        TransformCollectTask<K, T> task = new TransformCollectTask<>(this, node, rule, queue.getId());
+        pool.invoke(task);
+        task.collectInto(queue);
+
+        return queue;
+    }
+
+    /**
+     * Counts the nodes of the tree, stopping as soon as the given number is reached.
+     */
+    private static <K extends TreeNode<K>> boolean hasAtLeast(K node, int numNodes) {
+        var iterator = new PreOrderIterator<>(node, true);
+
+        int count = 0;
+        while (count < numNodes && iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+
+        return count >= numNodes;
+    }
+
     private <K extends TreeNode<K>, T extends TransformResult> void traverseTree(K node, TransformRule<K, T> rule,
             TransformQueue<K> queue) {
         switch (this) {
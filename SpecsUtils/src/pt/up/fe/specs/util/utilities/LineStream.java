@@ -33,8 +33,8 @@ import java.util.stream.StreamSupport;
 
 import pt.up.fe.specs.util.SpecsIo;
 import pt.up.fe.specs.util.SpecsLogs;
-import pt.up.fe.specs.util.collections.pushingqueue.ArrayPushingQueue;
 import pt.up.fe.specs.util.collections.pushingqueue.PushingQueue;
+import pt.up.fe.specs.util.collections.pushingqueue.RingPushingQueue;
 import pt.up.fe.specs.util.providers.ResourceProvider;
 
 /**
@@ -349,7 +349,7 @@ public class LineStream implements AutoCloseable {
             SpecsLogs.debug(() -> "LineStream.enableLastLines(): already enabled, erasing previous information");
         }
 
-        this.lastLines = new ArrayPushingQueue<>(numLastLines);
+        this.lastLines = new RingPushingQueue<>(numLastLines);
     }
 
     public void disableLastLines() {
@@ -15,7 +15,6 @@ package pt.up.fe.specs.util.utilities;
 
 import java.util.Arrays;
 import java.util.BitSet;
-import java.util.Iterator;
 import java.util.Objects;
 
 import pt.up.fe.specs.util.collections.pushingqueue.MixedPushingQueue;
@@ -79,15 +78,10 @@ public class PatternDetector {
 
         // Compare first element with all other elements and store result on
         // match queues
-        Iterator<Integer> iterator = this.queue2.iterator();
-
-        // Ignore first element of the queue
-        iterator.next();
-
         for (int i = 0; i < this.maxPatternSize; i++) {
 
-            // Check if there is a match (null-safe)
-            Integer other = iterator.next();
+            // Check if there is a match (null-safe), ignoring first element of the queue
+            Integer other = this.queue2.getElement(i + 1);
             if (Objects.equals(hashValue, other)) {
                 // We have a match.
                 // Shift match queue to the left
@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Element;
+
+/**
+ * An element found by a {@link XmlStreamReader}, as seen when its start tag is read.
+ *
+ * <p>
+ * The same instance is reused for every element, and is only valid during the call to the consumer.
+ */
+public class XmlStreamElement {
+
+    private final XmlStreamReader streamReader;
+
+    private String name;
+    private String[] names;
+    private int depth;
+    private XmlElement materialized;
+
+    XmlStreamElement(XmlStreamReader streamReader) {
+        this.streamReader = streamReader;
+        clear();
+    }
+
+    void reset(String name, String[] names, int depth) {
+        this.name = name;
+        this.names = names;
+        this.depth = depth;
+        this.materialized = null;
+    }
+
+    void clear() {
+        this.name = null;
+        this.names = null;
+        this.depth = 0;
+        this.materialized = null;
+    }
+
+    boolean isMaterialized() {
+        return materialized != null;
+    }
+
+    private void checkValid() {
+        if (name == null) {
+            throw new IllegalStateException("Stream element can only be used while its consumer is called");
+        }
+    }
+
+    public String getName() {
+        checkValid();
+        return name;
+    }
+
+    /**
+     * @return the depth of the element, where the root element has depth 1
+     */
+    public int getDepth() {
+        checkValid();
+        return depth;
+    }
+
+    /**
+     * @return the absolute path of the element (e.g., '/root/child')
+     */
+    public String getPath() {
+        checkValid();
+
+        StringBuilder path = new StringBuilder();
+        for (int i = 1; i <= depth; i++) {
+            path.append('/').append(names[i]);
+        }
+
+        return path.toString();
+    }
+
+    /**
+     * 
+     * @return the value of the attribute with the given name, or empty string if no attribute with that name is
+     *         present
+     */
+    public String getAttribute(String name) {
+        checkValid();
+
+        if (materialized != null) {
+            return materialized.getAttribute(name);
+        }
+
+        XMLStreamReader reader = streamReader.getReader();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (XmlStreamReader.getAttributeName(reader, i).equals(name)) {
+                return reader.getAttributeValue(i);
+            }
+        }
+
+        return "";
+    }
+
+    public String getAttribute(String name, String defaultValue) {
+        var value = getAttribute(name);
+        return value.isEmpty() ? defaultValue : value;
+    }
+
+    public List<String> getAttributes() {
+        checkValid();
+
+        if (materialized != null) {
+            return materialized.getAttributes();
+        }
+
+        XMLStreamReader reader = streamReader.getReader();
+        List<String> attributes = new ArrayList<>(reader.getAttributeCount());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.add(XmlStreamReader.getAttributeName(reader, i));
+        }
+
+        return attributes;
+    }
+
+    /**
+     * Reads the subtree of this element into a DOM element. The elements inside the subtree are not reported to the
+     * subscriptions of the reader.
+     * 
+     * @return the element and its descendants
+     */
+    public XmlElement toXmlElement() {
+        checkValid();
+
+        if (materialized == null) {
+            try {
+                materialized = new XmlElement(streamReader.readSubtree());
+            } catch (XMLStreamException e) {
+                throw new RuntimeException("Could not read element '" + name + "'", e);
+            }
+        }
+
+        return materialized;
+    }
+
+    /**
+     * Reads the subtree of this element, as in {@link #toXmlElement()}.
+     * 
+     * @return the text of the element and its descendants
+     */
+    public String getText() {
+        return toXmlElement().getNode().getTextContent();
+    }
+
+    @Override
+    public String toString() {
+        return name == null ? "<invalid>" : getPath();
+    }
+}
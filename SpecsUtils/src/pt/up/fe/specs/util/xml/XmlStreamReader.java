@@ -0,0 +1,333 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package pt.up.fe.specs.util.xml;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import pt.up.fe.specs.util.SpecsXml;
+
+/**
+ * Reads an XML document as a stream of elements, without building the DOM of the whole document.
+ *
+ * <p>
+ * Consumers are subscribed to element names (e.g., 'function') or to absolute paths (e.g., '/report/function'), and
+ * are called when the start of a matching element is read, with a {@link XmlStreamElement} that gives access to its
+ * name and attributes. The subtree of the element is only built if the consumer requests it, through
+ * {@link XmlStreamElement#toXmlElement()} or {@link XmlStreamElement#getText()}. In that case, the subtree is read
+ * during the request, and subscriptions are not called for the elements inside it.
+ *
+ * <p>
+ * As in the DOM-based {@link XmlDocument}, the parser is not namespace-aware, and names include the prefix.
+ *
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * try (XmlStreamReader reader = XmlStreamReader.newInstance(file)) {
+ *     reader.onPath("/report/function", function -&gt; names.add(function.getAttribute("name")));
+ *     reader.onElement("error", error -&gt; errors.add(error.getText()));
+ *     reader.read();
+ * }
+ * </pre>
+ */
+public class XmlStreamReader implements AutoCloseable {
+
+    // Factories are expensive to create and are not guaranteed to be thread-safe
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY = ThreadLocal.withInitial(() -> {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    });
+
+    private final XMLStreamReader reader;
+    private final AutoCloseable source;
+
+    private final Map<String, List<Consumer<XmlStreamElement>>> nameSubscriptions;
+    private final PathNode pathSubscriptions;
+
+    private final XmlStreamElement current;
+    // Document that owns the materialized elements
+    private Document document;
+    private boolean stopped;
+
+    private XmlStreamReader(XMLStreamReader reader, AutoCloseable source) {
+        this.reader = reader;
+        this.source = source;
+        this.nameSubscriptions = new HashMap<>();
+        this.pathSubscriptions = new PathNode();
+        this.current = new XmlStreamElement(this);
+        this.document = null;
+        this.stopped = false;
+    }
+
+    public static XmlStreamReader newInstance(File file) {
+        if (file == null) {
+            throw new RuntimeException("XML file cannot be null");
+        }
+
+        InputStream inputStream;
+        try {
+            inputStream = Files.newInputStream(file.toPath());
+        } catch (IOException e) {
+            throw new RuntimeException("Could not open XML file: " + file, e);
+        }
+
+        try {
+            return new XmlStreamReader(INPUT_FACTORY.get().createXMLStreamReader(inputStream), inputStream);
+        } catch (XMLStreamException e) {
+            try {
+                inputStream.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new RuntimeException("Could not parse XML file: " + file, e);
+        }
+    }
+
+    /**
+     * The stream is closed when the reader is closed.
+     */
+    public static XmlStreamReader newInstance(InputStream inputStream) {
+        if (inputStream == null) {
+            throw new RuntimeException("XML input stream cannot be null");
+        }
+
+        try {
+            return new XmlStreamReader(INPUT_FACTORY.get().createXMLStreamReader(inputStream), inputStream);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Could not parse XML from input stream", e);
+        }
+    }
+
+    public static XmlStreamReader newInstance(String contents) {
+        if (contents == null) {
+            throw new NullPointerException("XML contents cannot be null");
+        }
+
+        StringReader stringReader = new StringReader(contents);
+        try {
+            return new XmlStreamReader(INPUT_FACTORY.get().createXMLStreamReader(stringReader), stringReader::close);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Could not parse XML contents (string)", e);
+        }
+    }
+
+    /**
+     * Calls the consumer for every element with the given name, at any depth.
+     */
+    public XmlStreamReader onElement(String name, Consumer<XmlStreamElement> consumer) {
+        nameSubscriptions.computeIfAbsent(name, key -> new ArrayList<>()).add(consumer);
+        return this;
+    }
+
+    /**
+     * Calls the consumer for every element with the given absolute path, e.g., '/root/child'.
+     */
+    public XmlStreamReader onPath(String path, Consumer<XmlStreamElement> consumer) {
+        if (path == null || !path.startsWith("/") || path.length() == 1) {
+            throw new IllegalArgumentException("Expected an absolute path to an element (e.g., '/root/child'): " + path);
+        }
+
+        PathNode node = pathSubscriptions;
+        for (String name : path.substring(1).split("/")) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty element name in path '" + path + "'");
+            }
+            node = node.children.computeIfAbsent(name, key -> new PathNode());
+        }
+
+        node.consumers.add(consumer);
+        return this;
+    }
+
+    /**
+     * Stops reading the document. Can be called from a consumer, to avoid reading the rest of a large document.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Reads the document until its end, or until {@link #stop()} is called, calling the subscribed consumers.
+     */
+    public void read() {
+        // Path subscriptions that can still match, for each depth. Null if none can match.
+        PathNode[] pathNodes = new PathNode[16];
+        pathNodes[0] = pathSubscriptions;
+        String[] names = new String[16];
+        int depth = 0;
+
+        try {
+            while (!stopped && reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                    continue;
+                }
+
+                if (event != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                String name = reader.getLocalName();
+
+                if (depth + 1 == pathNodes.length) {
+                    pathNodes = Arrays.copyOf(pathNodes, pathNodes.length * 2);
+                    names = Arrays.copyOf(names, names.length * 2);
+                }
+
+                PathNode parentNode = pathNodes[depth];
+                PathNode node = parentNode == null ? null : parentNode.children.get(name);
+
+                depth++;
+                pathNodes[depth] = node;
+                names[depth] = name;
+
+                List<Consumer<XmlStreamElement>> byName = nameSubscriptions.get(name);
+                boolean hasPathConsumers = node != null && !node.consumers.isEmpty();
+
+                if (byName == null && !hasPathConsumers) {
+                    continue;
+                }
+
+                current.reset(name, names, depth);
+
+                if (hasPathConsumers) {
+                    notify(node.consumers);
+                }
+
+                if (byName != null) {
+                    notify(byName);
+                }
+
+                // If the subtree was read, the end of the element was consumed
+                if (current.isMaterialized()) {
+                    depth--;
+                }
+
+                current.clear();
+            }
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Could not parse XML", e);
+        }
+    }
+
+    private void notify(List<Consumer<XmlStreamElement>> consumers) {
+        for (int i = 0; i < consumers.size(); i++) {
+            consumers.get(i).accept(current);
+        }
+    }
+
+    XMLStreamReader getReader() {
+        return reader;
+    }
+
+    /**
+     * Reads the element at the current position of the reader, until its end.
+     */
+    Element readSubtree() throws XMLStreamException {
+        if (document == null) {
+            document = SpecsXml.getDocumentBuilder().newDocument();
+        }
+
+        Element root = createElement();
+        Node parent = root;
+
+        while (parent != null) {
+            switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                parent = parent.appendChild(createElement());
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                parent = parent == root ? null : parent.getParentNode();
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.SPACE:
+                parent.appendChild(document.createTextNode(reader.getText()));
+                break;
+            case XMLStreamConstants.CDATA:
+                parent.appendChild(document.createCDATASection(reader.getText()));
+                break;
+            case XMLStreamConstants.COMMENT:
+                parent.appendChild(document.createComment(reader.getText()));
+                break;
+            default:
+                break;
+            }
+        }
+
+        return root;
+    }
+
+    private Element createElement() {
+        Element element = document.createElement(reader.getLocalName());
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.setAttribute(getAttributeName(reader, i), reader.getAttributeValue(i));
+        }
+
+        return element;
+    }
+
+    /**
+     * @return the name of the attribute, including the prefix
+     */
+    static String getAttributeName(XMLStreamReader reader, int index) {
+        String name = reader.getAttributeLocalName(index);
+        String prefix = reader.getAttributePrefix(index);
+
+        if (prefix == null || prefix.isEmpty() || name.startsWith(prefix + ":")) {
+            return name;
+        }
+
+        return prefix + ":" + name;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+            source.close();
+        } catch (Exception e) {
+            throw new RuntimeException("Could not close XML reader", e);
+        }
+    }
+
+    private static class PathNode {
+        private final Map<String, PathNode> children = new HashMap<>();
+        private final List<Consumer<XmlStreamElement>> consumers = new ArrayList<>();
+    }
+}
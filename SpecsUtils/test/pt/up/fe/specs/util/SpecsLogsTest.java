@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -291,6 +292,47 @@ public class SpecsLogsTest {
                 SpecsLogs.getRootLogger().setLevel(originalLevel);
             }
         }
+
+        @Test
+        @DisplayName("Lazy variants should not evaluate messages when level is disabled")
+        void testLazyVariants_DisabledLevel() {
+            // Arrange
+            Logger logger = SpecsLogs.getLogger();
+            Level originalLevel = logger.getLevel();
+            AtomicInteger calls = new AtomicInteger();
+            Supplier<String> message = () -> "message " + calls.incrementAndGet();
+
+            try {
+                logger.setLevel(Level.OFF);
+
+                // Execute
+                SpecsLogs.infoLazy(message);
+                SpecsLogs.warnLazy(message);
+                SpecsLogs.msgLibLazy(message);
+                SpecsLogs.warn("Warning with exception", new RuntimeException("Test exception"));
+
+                // Verify
+                assertThat(SpecsLogs.isLoggable(Level.SEVERE)).isFalse();
+                assertThat(calls).hasValue(0);
+            } finally {
+                logger.setLevel(originalLevel);
+            }
+        }
+
+        @Test
+        @DisplayName("Lazy variants should evaluate messages when level is enabled")
+        void testLazyVariants_EnabledLevel() {
+            // Arrange
+            AtomicInteger calls = new AtomicInteger();
+
+            // Execute
+            SpecsLogs.infoLazy(() -> "message " + calls.incrementAndGet());
+            SpecsLogs.warnLazy(() -> "message " + calls.incrementAndGet());
+
+            // Verify
+            assertThat(SpecsLogs.isLoggable(Level.WARNING)).isTrue();
+            assertThat(calls).hasValue(2);
+        }
     }
 
     @Nested
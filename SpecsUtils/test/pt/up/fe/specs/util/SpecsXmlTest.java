@@ -60,6 +60,30 @@ class SpecsXmlTest {
     @DisplayName("Document Parsing Tests")
     class DocumentParsingTests {
 
+        @Test
+        @DisplayName("getDocumentBuilder should reuse the builder of the current thread")
+        void testDocumentBuilderPerThread() throws Exception {
+            var builder = SpecsXml.getDocumentBuilder();
+            assertThat(SpecsXml.getDocumentBuilder()).isSameAs(builder);
+
+            var otherThreadBuilder = new java.util.concurrent.atomic.AtomicReference<Object>();
+            Thread thread = new Thread(() -> otherThreadBuilder.set(SpecsXml.getDocumentBuilder()));
+            thread.start();
+            thread.join();
+
+            assertThat(otherThreadBuilder.get()).isNotNull().isNotSameAs(builder);
+        }
+
+        @Test
+        @DisplayName("getXmlRoot should parse documents after a parsing error")
+        void testGetXmlRootAfterError() {
+            assertThatThrownBy(() -> SpecsXml.getXmlRoot("<root><unclosed></root>"))
+                    .isInstanceOf(RuntimeException.class);
+
+            Document doc = SpecsXml.getXmlRoot(SAMPLE_XML);
+            assertThat(doc.getDocumentElement().getNodeName()).isEqualTo("root");
+        }
+
         @Test
         @DisplayName("getXmlRoot should parse XML string")
         void testGetXmlRootFromString() {
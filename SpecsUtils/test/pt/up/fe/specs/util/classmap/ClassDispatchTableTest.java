@@ -0,0 +1,183 @@
+package pt.up.fe.specs.util.classmap;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import pt.up.fe.specs.util.utilities.ClassMapper;
+
+/**
+ * Test suite for ClassDispatchTable.
+ *
+ * Tests hierarchy resolution (checking it agrees with ClassMapper), null values, freezing and concurrent lookups.
+ */
+@DisplayName("ClassDispatchTable Tests")
+class ClassDispatchTableTest {
+
+    private ClassDispatchTable<String> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new ClassDispatchTable<>();
+    }
+
+    @Nested
+    @DisplayName("Resolution Tests")
+    class ResolutionTests {
+
+        @Test
+        @DisplayName("Should resolve exact class, superclass and interfaces")
+        void testHierarchy() {
+            table.put(Number.class, "number");
+            table.put(Collection.class, "collection");
+
+            assertThat(table.getOrDefault(Number.class, "missing")).isEqualTo("number");
+            assertThat(table.getOrDefault(Integer.class, "missing")).isEqualTo("number");
+            assertThat(table.getOrDefault(ArrayList.class, "missing")).isEqualTo("collection");
+            assertThat(table.getOrDefault(String.class, "missing")).isEqualTo("missing");
+
+            assertThat(table.contains(Integer.class)).isTrue();
+            assertThat(table.contains(String.class)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should resolve the same classes as ClassMapper")
+        void testSameAsClassMapper() {
+            List<Class<?>> keys = List.of(Serializable.class, Number.class, Comparable.class, List.class,
+                    CharSequence.class);
+            List<Class<?>> queries = List.of(Integer.class, Double.class, String.class, StringBuilder.class,
+                    ArrayList.class, Object.class, Number.class, Thread.class);
+
+            ClassMapper mapper = new ClassMapper();
+            ClassDispatchTable<Class<?>> classTable = new ClassDispatchTable<>();
+            for (Class<?> key : keys) {
+                mapper.add(key);
+                classTable.put(key, key);
+            }
+
+            for (Class<?> query : queries) {
+                assertThat(classTable.getOrDefault(query, null)).as(query.getName())
+                        .isEqualTo(mapper.map(query).orElse(null));
+            }
+        }
+
+        @Test
+        @DisplayName("Should update resolved classes after put")
+        void testPutInvalidatesCache() {
+            table.put(Number.class, "number");
+            assertThat(table.getOrDefault(Integer.class, null)).isEqualTo("number");
+
+            assertThat(table.put(Integer.class, "integer")).isTrue();
+            assertThat(table.getOrDefault(Integer.class, null)).isEqualTo("integer");
+
+            assertThat(table.put(Integer.class, "other")).isFalse();
+            assertThat(table.getOrDefault(Integer.class, null)).isEqualTo("other");
+        }
+
+        @Test
+        @DisplayName("Should distinguish null values from missing mappings")
+        void testNullValues() {
+            table.put(Integer.class, null);
+
+            assertThat(table.getOrDefault(Integer.class, "missing")).isNull();
+            assertThat(table.contains(Integer.class)).isTrue();
+            assertThat(table.getOrDefault(Double.class, "missing")).isEqualTo("missing");
+        }
+
+        @Test
+        @DisplayName("Should reject null classes")
+        void testNullClass() {
+            assertThatThrownBy(() -> table.put(null, "value"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Copy and Freeze Tests")
+    class CopyAndFreezeTests {
+
+        @Test
+        @DisplayName("Copies should be independent")
+        void testCopy() {
+            table.put(Number.class, "number");
+            ClassDispatchTable<String> copy = new ClassDispatchTable<>(table);
+
+            copy.put(Integer.class, "integer");
+            table.put(Double.class, "double");
+
+            assertThat(table.getOrDefault(Integer.class, null)).isEqualTo("number");
+            assertThat(copy.getOrDefault(Integer.class, null)).isEqualTo("integer");
+            assertThat(copy.getOrDefault(Double.class, null)).isEqualTo("number");
+        }
+
+        @Test
+        @DisplayName("Frozen table should reject new mappings")
+        void testFreeze() {
+            table.put(Number.class, "number");
+            table.freeze();
+
+            assertThat(table.isFrozen()).isTrue();
+            assertThatThrownBy(() -> table.put(Integer.class, "integer"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("frozen");
+            assertThat(table.getOrDefault(Integer.class, null)).isEqualTo("number");
+
+            assertThat(new ClassDispatchTable<>(table).isFrozen()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should resolve classes concurrently while mappings are added")
+        void testConcurrentLookups() throws Exception {
+            table.put(Number.class, "number");
+
+            int numThreads = 4;
+            ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+
+            try {
+                for (int i = 0; i < numThreads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        for (int j = 0; j < 10_000; j++) {
+                            String value = table.getOrDefault(Integer.class, null);
+                            if (!"number".equals(value) && !"integer".equals(value)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }));
+                }
+
+                start.countDown();
+                table.put(Integer.class, "integer");
+
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(table.getOrDefault(Integer.class, null)).isEqualTo("integer");
+        }
+    }
+}
@@ -228,14 +228,49 @@ public class ClassMapTest {
             // Modifications to original should not affect copy
             numberMap.put(Float.class, "float");
             assertThatThrownBy(() -> copy.get(Float.class))
-                    .isInstanceOf(NullPointerException.class)
-                    .hasMessageContaining("Expected map to contain");
+                    .isInstanceOf(NotImplementedException.class);
 
             // Modifications to copy should not affect original
             copy.put(Long.class, "long");
             assertThatThrownBy(() -> numberMap.get(Long.class))
-                    .isInstanceOf(NullPointerException.class)
-                    .hasMessageContaining("Expected map to contain");
+                    .isInstanceOf(NotImplementedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Freeze Operations")
+    class FreezeOperations {
+
+        @Test
+        @DisplayName("Should keep mappings after freezing")
+        void testFreezeKeepsMappings() {
+            numberMap.put(Number.class, "number");
+
+            assertThat(numberMap.freeze()).isSameAs(numberMap);
+            assertThat(numberMap.get(Integer.class)).isEqualTo("number");
+        }
+
+        @Test
+        @DisplayName("Should not allow new mappings after freezing")
+        void testFreezePreventsPut() {
+            numberMap.put(Number.class, "number");
+            numberMap.freeze();
+
+            assertThatThrownBy(() -> numberMap.put(Integer.class, "integer"))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(numberMap.keySet()).containsExactly(Number.class);
+        }
+
+        @Test
+        @DisplayName("Copy of frozen map should be modifiable")
+        void testCopyOfFrozenMap() {
+            numberMap.put(Number.class, "number");
+            ClassMap<Number, String> copy = numberMap.freeze().copy();
+
+            copy.put(Integer.class, "integer");
+
+            assertThat(copy.get(Integer.class)).isEqualTo("integer");
+            assertThat(numberMap.get(Integer.class)).isEqualTo("number");
         }
     }
 
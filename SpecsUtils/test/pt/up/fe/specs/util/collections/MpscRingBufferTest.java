@@ -0,0 +1,167 @@
+package pt.up.fe.specs.util.collections;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for MpscRingBuffer.
+ */
+@DisplayName("MpscRingBuffer Tests")
+class MpscRingBufferTest {
+
+    @Nested
+    @DisplayName("Single Thread Tests")
+    class SingleThreadTests {
+
+        @Test
+        @DisplayName("Should round capacity up to a power of two")
+        void testCapacity() {
+            assertThat(new MpscRingBuffer<>(1).capacity()).isEqualTo(2);
+            assertThat(new MpscRingBuffer<>(5).capacity()).isEqualTo(8);
+            assertThat(new MpscRingBuffer<>(16).capacity()).isEqualTo(16);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid capacities")
+        void testInvalidCapacity() {
+            assertThatThrownBy(() -> new MpscRingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new MpscRingBuffer<>(-4)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should return elements in insertion order")
+        void testOrder() {
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+            assertThat(buffer.offer(1)).isTrue();
+            assertThat(buffer.offer(2)).isTrue();
+            assertThat(buffer.size()).isEqualTo(2);
+
+            assertThat(buffer.poll()).isEqualTo(1);
+            assertThat(buffer.poll()).isEqualTo(2);
+            assertThat(buffer.poll()).isNull();
+            assertThat(buffer.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should refuse elements when full and accept them again after polling")
+        void testFull() {
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+
+            assertThat(buffer.offer(1)).isTrue();
+            assertThat(buffer.offer(2)).isTrue();
+            assertThat(buffer.offer(3)).isFalse();
+            assertThat(buffer.size()).isEqualTo(2);
+
+            assertThat(buffer.poll()).isEqualTo(1);
+            assertThat(buffer.offer(3)).isTrue();
+            assertThat(buffer.poll()).isEqualTo(2);
+            assertThat(buffer.poll()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should wrap around many times")
+        void testWrapAround() {
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+            for (int i = 0; i < 1000; i++) {
+                assertThat(buffer.offer(i)).isTrue();
+                assertThat(buffer.poll()).isEqualTo(i);
+            }
+        }
+
+        @Test
+        @DisplayName("Should drain up to the maximum number of elements")
+        void testDrainTo() {
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+            for (int i = 0; i < 6; i++) {
+                buffer.offer(i);
+            }
+
+            List<Integer> drained = new ArrayList<>();
+
+            assertThat(buffer.drainTo(drained::add, 4)).isEqualTo(4);
+            assertThat(drained).containsExactly(0, 1, 2, 3);
+            assertThat(buffer.drainTo(drained::add, 4)).isEqualTo(2);
+            assertThat(buffer.drainTo(drained::add, 4)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject null elements")
+        void testNull() {
+            assertThatThrownBy(() -> new MpscRingBuffer<>(2).offer(null)).isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should deliver every element from several producers exactly once")
+        void testProducers() throws InterruptedException {
+            int numProducers = 4;
+            int perProducer = 10_000;
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(64);
+
+            ExecutorService executor = Executors.newFixedThreadPool(numProducers);
+            CountDownLatch start = new CountDownLatch(1);
+            for (int p = 0; p < numProducers; p++) {
+                int producer = p;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        Integer value = producer * perProducer + i;
+                        while (!buffer.offer(value)) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+
+            Set<Integer> received = new HashSet<>();
+            int[] lastPerProducer = new int[numProducers];
+            Arrays.fill(lastPerProducer, -1);
+            boolean ordered = true;
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received.size() < numProducers * perProducer && System.nanoTime() < deadline) {
+                Integer value = buffer.poll();
+                if (value == null) {
+                    Thread.yield();
+                    continue;
+                }
+
+                received.add(value);
+
+                // Elements of the same producer keep their order
+                int producer = value / perProducer;
+                ordered &= value > lastPerProducer[producer];
+                lastPerProducer[producer] = value;
+            }
+
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(received).hasSize(numProducers * perProducer);
+            assertThat(ordered).isTrue();
+            assertThat(buffer.isEmpty()).isTrue();
+        }
+    }
+}
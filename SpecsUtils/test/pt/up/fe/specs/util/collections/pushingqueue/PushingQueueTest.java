@@ -1022,4 +1022,131 @@ class PushingQueueTest {
             assertThat(arrayFiltered).isEqualTo(linkedFiltered).isEqualTo(mixedFiltered);
         }
     }
+
+    @Nested
+    @DisplayName("RingPushingQueue Implementation Tests")
+    class RingPushingQueueTests {
+
+        @Test
+        @DisplayName("Should behave like ArrayPushingQueue after wrapping around")
+        void testSameAsArray() {
+            for (int capacity = 0; capacity < 8; capacity++) {
+                ArrayPushingQueue<Integer> arrayQueue = new ArrayPushingQueue<>(capacity);
+                RingPushingQueue<Integer> ringQueue = new RingPushingQueue<>(capacity);
+
+                for (int i = 0; i < 20; i++) {
+                    arrayQueue.insertElement(i);
+                    ringQueue.insertElement(i);
+
+                    assertThat(ringQueue.currentSize()).isEqualTo(arrayQueue.currentSize());
+                    assertThat(ringQueue.stream().collect(Collectors.toList()))
+                            .isEqualTo(arrayQueue.stream().collect(Collectors.toList()));
+                    assertThat(ringQueue.toString()).isEqualTo(arrayQueue.toString());
+
+                    for (int j = -1; j <= capacity; j++) {
+                        assertThat(ringQueue.getElement(j)).isEqualTo(arrayQueue.getElement(j));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should iterate from head to tail")
+        void testIterationOrder() {
+            RingPushingQueue<String> ringQueue = new RingPushingQueue<>(3);
+            ringQueue.insertElement("A");
+            ringQueue.insertElement("B");
+            ringQueue.insertElement("C");
+            ringQueue.insertElement("D");
+
+            List<String> iterated = new ArrayList<>();
+            ringQueue.iterator().forEachRemaining(iterated::add);
+
+            List<String> visited = new ArrayList<>();
+            ringQueue.forEach(visited::add);
+
+            assertThat(iterated).containsExactly("D", "C", "B");
+            assertThat(visited).containsExactly("D", "C", "B");
+        }
+
+        @Test
+        @DisplayName("Iterator should throw after last element")
+        void testIteratorEnd() {
+            RingPushingQueue<String> ringQueue = new RingPushingQueue<>(2);
+            ringQueue.insertElement("A");
+
+            Iterator<String> iterator = ringQueue.iterator();
+            iterator.next();
+
+            assertThatThrownBy(iterator::next).isInstanceOf(java.util.NoSuchElementException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject negative capacity")
+        void testNegativeCapacity() {
+            assertThatThrownBy(() -> new RingPushingQueue<>(-1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive Queue Tests")
+    class PrimitiveQueueTests {
+
+        @Test
+        @DisplayName("IntPushingQueue should keep the last inserted values")
+        void testIntQueue() {
+            IntPushingQueue intQueue = new IntPushingQueue(3);
+            for (int i = 1; i <= 5; i++) {
+                intQueue.insertElement(i);
+            }
+
+            assertThat(intQueue.size()).isEqualTo(3);
+            assertThat(intQueue.currentSize()).isEqualTo(3);
+            assertThat(intQueue.getElement(0)).isEqualTo(5);
+            assertThat(intQueue.getElement(2)).isEqualTo(3);
+            assertThat(intQueue.toArray()).containsExactly(5, 4, 3);
+            assertThat(intQueue.stream().toArray()).containsExactly(5, 4, 3);
+            assertThat(intQueue.toString()).isEqualTo("[5, 4, 3]");
+
+            List<Integer> visited = new ArrayList<>();
+            intQueue.forEach(visited::add);
+            assertThat(visited).containsExactly(5, 4, 3);
+        }
+
+        @Test
+        @DisplayName("IntPushingQueue should check indexes")
+        void testIntQueueIndexes() {
+            IntPushingQueue intQueue = new IntPushingQueue(3);
+            intQueue.insertElement(1);
+
+            assertThat(intQueue.toArray()).containsExactly(1);
+            assertThatThrownBy(() -> intQueue.getElement(1)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> intQueue.getElement(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("LongPushingQueue should keep the last inserted values")
+        void testLongQueue() {
+            LongPushingQueue longQueue = new LongPushingQueue(2);
+            longQueue.insertElement(10L);
+            longQueue.insertElement(20L);
+            longQueue.insertElement(Long.MAX_VALUE);
+
+            assertThat(longQueue.getElement(0)).isEqualTo(Long.MAX_VALUE);
+            assertThat(longQueue.toArray()).containsExactly(Long.MAX_VALUE, 20L);
+            assertThat(longQueue.stream().sum()).isEqualTo(Long.MAX_VALUE + 20L);
+        }
+
+        @Test
+        @DisplayName("Zero capacity queues should stay empty")
+        void testZeroCapacity() {
+            IntPushingQueue intQueue = new IntPushingQueue(0);
+            LongPushingQueue longQueue = new LongPushingQueue(0);
+            intQueue.insertElement(1);
+            longQueue.insertElement(1L);
+
+            assertThat(intQueue.toArray()).isEmpty();
+            assertThat(longQueue.toArray()).isEmpty();
+        }
+    }
 }
@@ -0,0 +1,239 @@
+package pt.up.fe.specs.util.csv;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for CsvParser.
+ * 
+ * Tests tokenization of unquoted and quoted fields, line endings, separator directives and reading across buffer
+ * boundaries.
+ */
+@DisplayName("CsvParser Tests")
+class CsvParserTest {
+
+    private static List<List<String>> readAll(String csv, String delimiter) {
+        List<List<String>> rows = new ArrayList<>();
+        try (CsvParser parser = CsvParser.newInstance(csv, delimiter)) {
+            parser.forEachRow(row -> rows.add(row.toList()));
+        }
+        return rows;
+    }
+
+    @Nested
+    @DisplayName("Unquoted Fields")
+    class UnquotedFields {
+
+        @Test
+        @DisplayName("Should split rows and fields")
+        void testSimple() {
+            assertThat(readAll("a;b;c\n1;2;3", ";"))
+                    .containsExactly(List.of("a", "b", "c"), List.of("1", "2", "3"));
+        }
+
+        @Test
+        @DisplayName("Should keep empty fields")
+        void testEmptyFields() {
+            assertThat(readAll(";a;;\n", ";")).containsExactly(List.of("", "a", "", ""));
+        }
+
+        @Test
+        @DisplayName("Should support all line endings")
+        void testLineEndings() {
+            assertThat(readAll("a\nb\r\nc\rd\r\n", ";"))
+                    .containsExactly(List.of("a"), List.of("b"), List.of("c"), List.of("d"));
+        }
+
+        @Test
+        @DisplayName("Should return empty rows for empty lines")
+        void testEmptyLines() {
+            assertThat(readAll("a\n\nb", ";")).containsExactly(List.of("a"), List.of(""), List.of("b"));
+        }
+
+        @Test
+        @DisplayName("Should not interpret delimiter as a regular expression")
+        void testRegexCharacters() {
+            assertThat(readAll("a|b.c|d", "|")).containsExactly(List.of("a", "b.c", "d"));
+            assertThat(readAll("a.b", ".")).containsExactly(List.of("a", "b"));
+        }
+
+        @Test
+        @DisplayName("Should support delimiters with more than one character")
+        void testMultiCharDelimiter() {
+            assertThat(readAll("a::b:c::::d", "::")).containsExactly(List.of("a", "b:c", "", "d"));
+        }
+
+        @Test
+        @DisplayName("Should keep quotes that do not start a field")
+        void testInnerQuotes() {
+            assertThat(readAll("a\"b;c\"", ";")).containsExactly(List.of("a\"b", "c\""));
+        }
+
+        @Test
+        @DisplayName("Should return no rows for empty input")
+        void testEmptyInput() {
+            try (CsvParser parser = CsvParser.newInstance("", ";")) {
+                assertThat(parser.hasNext()).isFalse();
+                assertThat(parser.nextRow()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject empty delimiter")
+        void testEmptyDelimiter() {
+            assertThatThrownBy(() -> CsvParser.newInstance("a", ""))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quoted Fields")
+    class QuotedFields {
+
+        @Test
+        @DisplayName("Should read delimiters and line breaks inside quotes")
+        void testQuoted() {
+            assertThat(readAll("\"a;b\";\"line1\nline2\"\nc;d", ";"))
+                    .containsExactly(List.of("a;b", "line1\nline2"), List.of("c", "d"));
+        }
+
+        @Test
+        @DisplayName("Should unescape double quotes")
+        void testEscapedQuotes() {
+            assertThat(readAll("\"say \"\"hi\"\"\";\"\"\"\"", ";"))
+                    .containsExactly(List.of("say \"hi\"", "\""));
+        }
+
+        @Test
+        @DisplayName("Should read empty quoted fields")
+        void testEmptyQuoted() {
+            assertThat(readAll("\"\";x;\"\"", ";")).containsExactly(List.of("", "x", ""));
+        }
+
+        @Test
+        @DisplayName("Should keep characters after the closing quote")
+        void testTextAfterQuote() {
+            assertThat(readAll("\"a\"b;c", ";")).containsExactly(List.of("ab", "c"));
+        }
+
+        @Test
+        @DisplayName("Should read unterminated quote until the end of the input")
+        void testUnterminated() {
+            assertThat(readAll("\"a;b\nc", ";")).containsExactly(List.of("a;b\nc"));
+        }
+
+        @Test
+        @DisplayName("Should count lines inside quoted fields")
+        void testLineNumbers() {
+            try (CsvParser parser = CsvParser.newInstance("h\n\"a\nb\"\nc", ";")) {
+                assertThat(parser.nextRow().getLineNumber()).isEqualTo(1);
+                assertThat(parser.nextRow().getLineNumber()).isEqualTo(2);
+                assertThat(parser.nextRow().getLineNumber()).isEqualTo(4);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Separator Directive")
+    class SeparatorDirective {
+
+        @Test
+        @DisplayName("Should use delimiter of directive")
+        void testDirective() {
+            try (CsvParser parser = CsvParser.newInstance("sep=,\na,b\n", ";")) {
+                assertThat(parser.nextRow().toList()).containsExactly("a", "b");
+                assertThat(parser.getDelimiter()).isEqualTo(",");
+            }
+        }
+
+        @Test
+        @DisplayName("Should support whitespace delimiters in directive")
+        void testWhitespaceDirective() {
+            assertThat(readAll("sep=\t\na\tb", ";")).containsExactly(List.of("a", "b"));
+            assertThat(readAll("sep= \na b", ";")).containsExactly(List.of("a", "b"));
+        }
+
+        @Test
+        @DisplayName("Should only consider directive in the first line")
+        void testDirectiveNotFirst() {
+            assertThat(readAll("a\nsep=,", ";")).containsExactly(List.of("a"), List.of("sep=,"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Header and Large Inputs")
+    class HeaderAndLargeInputs {
+
+        @Test
+        @DisplayName("Should access fields by column name after reading the header")
+        void testHeader() {
+            try (CsvParser parser = CsvParser.newInstance("name;age\nJohn;25", ";")) {
+                assertThat(parser.readHeader()).containsExactly("name", "age");
+
+                CsvRow row = parser.nextRow();
+                assertThat(row.get("name")).isEqualTo("John");
+                assertThat(row.getInt("age")).isEqualTo(25);
+                assertThat(parser.hasNext()).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("Should read fields that cross buffer boundaries")
+        void testLargeFields() {
+            String large = "x".repeat(200_000);
+            String csv = large + ";\"" + large + "\"\"" + large + "\"\n" + "end";
+
+            List<List<String>> rows = readAll(csv, ";");
+
+            assertThat(rows).hasSize(2);
+            assertThat(rows.get(0).get(0)).isEqualTo(large);
+            assertThat(rows.get(0).get(1)).isEqualTo(large + "\"" + large);
+            assertThat(rows.get(1)).containsExactly("end");
+        }
+
+        @Test
+        @DisplayName("Should read many rows from a file")
+        void testFile(@TempDir File tempDir) throws IOException {
+            File csvFile = new File(tempDir, "large.csv");
+            StringBuilder csv = new StringBuilder("id;value\n");
+            for (int i = 0; i < 50_000; i++) {
+                csv.append(i).append(";v").append(i).append("\n");
+            }
+            Files.writeString(csvFile.toPath(), csv, StandardCharsets.UTF_8);
+
+            try (CsvParser parser = CsvParser.newInstance(csvFile, ";")) {
+                parser.readHeader();
+
+                long sum = 0;
+                int count = 0;
+                CsvRow row;
+                while ((row = parser.nextRow()) != null) {
+                    sum += row.getLong("id");
+                    assertThat(row.get(1)).isEqualTo("v" + count);
+                    count++;
+                }
+
+                assertThat(count).isEqualTo(50_000);
+                assertThat(sum).isEqualTo(49_999L * 50_000 / 2);
+            }
+        }
+
+        @Test
+        @DisplayName("Should fail for missing file")
+        void testMissingFile(@TempDir File tempDir) {
+            assertThatThrownBy(() -> CsvParser.newInstance(new File(tempDir, "missing.csv"), ";"))
+                    .isInstanceOf(RuntimeException.class);
+        }
+    }
+}
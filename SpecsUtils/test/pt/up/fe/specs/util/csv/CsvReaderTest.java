@@ -153,13 +153,9 @@ class CsvReaderTest {
             String csvContent = "sep=\t\nname\tage\tcity\nJohn\t25\tNYC";
 
             try (CsvReader reader = new CsvReader(csvContent)) {
-                // Tab character also causes issues in regex split - splits into individual
-                // characters
-                List<String> header = reader.getHeader();
-                // Due to regex interpretation issues, we get individual characters
-                assertThat(header).hasSize(13); // Each character becomes a separate field
-                assertThat(header.get(0)).isEqualTo("n");
-                assertThat(header.get(4)).isEqualTo("\t");
+                assertThat(reader.getDelimiter()).isEqualTo("\t");
+                assertThat(reader.getHeader()).containsExactly("name", "age", "city");
+                assertThat(reader.next()).containsExactly("John", "25", "NYC");
             }
         }
 
@@ -169,12 +165,9 @@ class CsvReaderTest {
             String csvContent = "sep=|\nname|age|city\nJohn|25|NYC";
 
             try (CsvReader reader = new CsvReader(csvContent)) {
-                // Pipe character has special regex meaning, causes split into individual
-                // characters
-                List<String> header = reader.getHeader();
-                assertThat(header).hasSize(13); // Each character becomes a separate field
-                assertThat(header.get(0)).isEqualTo("n");
-                assertThat(header.get(4)).isEqualTo("|");
+                // Delimiter is not a regular expression
+                assertThat(reader.getHeader()).containsExactly("name", "age", "city");
+                assertThat(reader.next()).containsExactly("John", "25", "NYC");
             }
         }
 
@@ -185,16 +178,9 @@ class CsvReaderTest {
             String csvContent = "sep=" + separator + "\nname" + separator + "age\nJohn" + separator + "25";
 
             try (CsvReader reader = new CsvReader(csvContent)) {
-                // Only test separators that don't have special regex meaning
-                if (separator.equals(" ")) {
-                    // Space causes split on each character
-                    List<String> header = reader.getHeader();
-                    assertThat(header).hasSizeGreaterThan(2); // Individual characters
-                } else {
-                    // Comma and colon should work correctly
-                    assertThat(reader.getHeader()).containsExactly("name", "age");
-                    assertThat(reader.hasNext()).isTrue();
-                }
+                assertThat(reader.getHeader()).containsExactly("name", "age");
+                assertThat(reader.hasNext()).isTrue();
+                assertThat(reader.next()).containsExactly("John", "25");
             }
         }
     }
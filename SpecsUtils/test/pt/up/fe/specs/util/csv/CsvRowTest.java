@@ -0,0 +1,100 @@
+package pt.up.fe.specs.util.csv;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for CsvRow.
+ * 
+ * Tests field access and the typed accessors.
+ */
+@DisplayName("CsvRow Tests")
+class CsvRowTest {
+
+    private static CsvRow row(String csv) {
+        CsvParser parser = CsvParser.newInstance(csv, ";");
+        return parser.nextRow();
+    }
+
+    @Nested
+    @DisplayName("Field Access")
+    class FieldAccess {
+
+        @Test
+        @DisplayName("Should return fields as strings and char sequences")
+        void testGet() {
+            CsvRow row = row("a;;ccc");
+
+            assertThat(row.size()).isEqualTo(3);
+            assertThat(row.get(0)).isEqualTo("a");
+            assertThat(row.isEmpty(1)).isTrue();
+            assertThat(row.getCharSequence(2).toString()).isEqualTo("ccc");
+            assertThat(row.toList()).containsExactly("a", "", "ccc");
+        }
+
+        @Test
+        @DisplayName("Should fail for invalid indexes and columns")
+        void testInvalid() {
+            CsvRow row = row("a;b");
+
+            assertThatThrownBy(() -> row.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> row.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> row.get("missing")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should be reused by the parser")
+        void testReuse() {
+            try (CsvParser parser = CsvParser.newInstance("a;b;c\nd", ";")) {
+                CsvRow first = parser.nextRow();
+                CsvRow second = parser.nextRow();
+
+                assertThat(second).isSameAs(first);
+                assertThat(second.toList()).containsExactly("d");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Typed Accessors")
+    class TypedAccessors {
+
+        @Test
+        @DisplayName("Should parse integer and long fields")
+        void testIntegers() {
+            CsvRow row = row("42;-7;+3;9223372036854775807;-9223372036854775808; 12 ");
+
+            assertThat(row.getInt(0)).isEqualTo(42);
+            assertThat(row.getInt(1)).isEqualTo(-7);
+            assertThat(row.getLong(2)).isEqualTo(3);
+            assertThat(row.getLong(3)).isEqualTo(Long.MAX_VALUE);
+            assertThat(row.getLong(4)).isEqualTo(Long.MIN_VALUE);
+            assertThat(row.getInt(5)).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("Should fail for invalid or out of range numbers")
+        void testInvalidNumbers() {
+            CsvRow row = row("abc;;9223372036854775808;3000000000;-");
+
+            assertThatThrownBy(() -> row.getInt(0)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> row.getLong(1)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> row.getLong(2)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> row.getInt(3)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> row.getLong(4)).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        @DisplayName("Should parse double fields")
+        void testDoubles() {
+            CsvRow row = row("1.5;-2e3;NaN");
+
+            assertThat(row.getDouble(0)).isEqualTo(1.5);
+            assertThat(row.getDouble(1)).isEqualTo(-2000.0);
+            assertThat(row.getDouble(2)).isNaN();
+        }
+    }
+}
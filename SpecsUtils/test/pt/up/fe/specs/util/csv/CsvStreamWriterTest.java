@@ -0,0 +1,129 @@
+package pt.up.fe.specs.util.csv;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for CsvStreamWriter.
+ * 
+ * Tests field quoting, block flushing and append mode.
+ */
+@DisplayName("CsvStreamWriter Tests")
+class CsvStreamWriterTest {
+
+    @Nested
+    @DisplayName("Quoting")
+    class Quoting {
+
+        @Test
+        @DisplayName("Should quote fields only when needed")
+        void testQuoting() {
+            StringWriter output = new StringWriter();
+            try (CsvStreamWriter writer = new CsvStreamWriter(output, ";", "\n", 1024)) {
+                writer.writeRow("plain", "a;b", "say \"hi\"", "two\nlines", null);
+            }
+
+            assertThat(output.toString()).isEqualTo("plain;\"a;b\";\"say \"\"hi\"\"\";\"two\nlines\";null\n");
+        }
+
+        @Test
+        @DisplayName("Should be read back by the parser")
+        void testRoundTrip() {
+            List<String> fields = Arrays.asList("a;b", "\"", "", "x\r\ny", "last");
+
+            StringWriter output = new StringWriter();
+            try (CsvStreamWriter writer = new CsvStreamWriter(output, ";", "\r\n", 1024)) {
+                writer.writeRow(fields);
+                writer.writeRow(fields);
+            }
+
+            List<List<String>> rows = new ArrayList<>();
+            try (CsvParser parser = CsvParser.newInstance(output.toString(), ";")) {
+                parser.forEachRow(row -> rows.add(row.toList()));
+            }
+
+            assertThat(rows).containsExactly(fields, fields);
+        }
+    }
+
+    @Nested
+    @DisplayName("Flushing")
+    class Flushing {
+
+        @Test
+        @DisplayName("Should only write when the block is full")
+        void testBlock() {
+            StringWriter output = new StringWriter();
+            try (CsvStreamWriter writer = new CsvStreamWriter(output, ";", "\n", 8)) {
+                writer.writeRow("a", "b");
+                assertThat(output.toString()).isEmpty();
+
+                writer.writeRow("cc", "dd");
+                assertThat(output.toString()).isEqualTo("a;b\ncc;dd\n");
+                assertThat(writer.getRowCount()).isEqualTo(2);
+            }
+        }
+
+        @Test
+        @DisplayName("Should flush after the given number of rows")
+        void testFlushEvery() {
+            StringWriter output = new StringWriter();
+            try (CsvStreamWriter writer = new CsvStreamWriter(output, ";", "\n", 1024).setFlushEvery(2)) {
+                writer.writeRow("1");
+                assertThat(output.toString()).isEmpty();
+
+                writer.writeRow("2");
+                assertThat(output.toString()).isEqualTo("1\n2\n");
+            }
+        }
+
+        @Test
+        @DisplayName("Should write remaining rows on close and reject writes afterwards")
+        void testClose() {
+            StringWriter output = new StringWriter();
+            CsvStreamWriter writer = new CsvStreamWriter(output, ";", "\n", 1024);
+            writer.writeRaw("raw\n");
+            writer.close();
+            writer.close();
+
+            assertThat(output.toString()).isEqualTo("raw\n");
+            assertThatThrownBy(() -> writer.writeRow("x")).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("File Output")
+    class FileOutput {
+
+        @Test
+        @DisplayName("Should append or truncate existing files")
+        void testAppend(@TempDir File tempDir) throws IOException {
+            File csvFile = new File(tempDir, "sub/out.csv");
+
+            try (CsvStreamWriter writer = new CsvStreamWriter(csvFile, false, ";", "\n")) {
+                writer.writeRow("a", "b");
+            }
+            try (CsvStreamWriter writer = new CsvStreamWriter(csvFile, true, ";", "\n")) {
+                writer.writeRow("c", "d");
+            }
+            assertThat(Files.readString(csvFile.toPath())).isEqualTo("a;b\nc;d\n");
+
+            try (CsvStreamWriter writer = new CsvStreamWriter(csvFile, false, ";", "\n")) {
+                writer.writeRow("e");
+            }
+            assertThat(Files.readString(csvFile.toPath())).isEqualTo("e\n");
+        }
+    }
+}
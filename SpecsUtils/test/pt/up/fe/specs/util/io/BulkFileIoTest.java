@@ -0,0 +1,149 @@
+package pt.up.fe.specs.util.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for BulkFileIo.
+ *
+ * Tests bulk reading (heap and memory-mapped modes), writing and appending of text files.
+ */
+@DisplayName("BulkFileIo Tests")
+class BulkFileIoTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should read file contents")
+        void testRead() throws IOException {
+            Path file = tempDir.resolve("file.txt");
+            Files.writeString(file, "line 1\nline 2\r\nçãõ 🚀");
+
+            assertThat(BulkFileIo.read(file)).isEqualTo("line 1\nline 2\r\nçãõ 🚀");
+        }
+
+        @Test
+        @DisplayName("Should read empty file")
+        void testReadEmpty() throws IOException {
+            Path file = Files.createFile(tempDir.resolve("empty.txt"));
+
+            assertThat(BulkFileIo.read(file)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should read file larger than the default buffer")
+        void testReadLarge() throws IOException {
+            Path file = tempDir.resolve("large.txt");
+            String contents = "0123456789".repeat(100_000);
+            Files.writeString(file, contents);
+
+            assertThat(BulkFileIo.read(file)).isEqualTo(contents);
+        }
+
+        @Test
+        @DisplayName("Should replace malformed input instead of failing")
+        void testReadMalformed() throws IOException {
+            Path file = tempDir.resolve("malformed.txt");
+            Files.write(file, new byte[] { 'a', (byte) 0xC3, 'b' });
+
+            assertThat(BulkFileIo.read(file)).isEqualTo("a�b");
+        }
+
+        @Test
+        @DisplayName("Should throw on missing file")
+        void testReadMissing() {
+            assertThatThrownBy(() -> BulkFileIo.read(tempDir.resolve("missing.txt")))
+                    .isInstanceOf(NoSuchFileException.class);
+        }
+
+        @Test
+        @DisplayName("Should read stream contents")
+        void testReadStream() throws IOException {
+            var stream = new ByteArrayInputStream("stream contents".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(BulkFileIo.read(stream, StandardCharsets.UTF_8)).isEqualTo("stream contents");
+        }
+    }
+
+    @Nested
+    @DisplayName("CharSequence Tests")
+    class CharSequenceTests {
+
+        @Test
+        @DisplayName("Should return String for small files")
+        void testSmallFile() throws IOException {
+            Path file = tempDir.resolve("small.txt");
+            Files.writeString(file, "small");
+
+            assertThat(BulkFileIo.readCharSequence(file)).isInstanceOf(String.class).hasToString("small");
+        }
+
+        @Test
+        @DisplayName("Should return read-only mapped view when above threshold")
+        void testMappedFile() throws IOException {
+            Path file = tempDir.resolve("mapped.txt");
+            Files.writeString(file, "mapped çontents");
+
+            CharSequence contents = BulkFileIo.readCharSequence(file, StandardCharsets.UTF_8, 1);
+
+            assertThat(contents).isInstanceOf(CharBuffer.class);
+            assertThat(((CharBuffer) contents).isReadOnly()).isTrue();
+            assertThat(contents.toString()).isEqualTo("mapped çontents");
+            assertThat(contents.charAt(7)).isEqualTo('ç');
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should overwrite existing contents")
+        void testWrite() throws IOException {
+            Path file = tempDir.resolve("write.txt");
+            Files.writeString(file, "previous contents that are longer");
+
+            BulkFileIo.write(file, "new", StandardCharsets.UTF_8);
+
+            assertThat(Files.readString(file)).isEqualTo("new");
+        }
+
+        @Test
+        @DisplayName("Should append to existing contents")
+        void testAppend() throws IOException {
+            Path file = tempDir.resolve("append.txt");
+
+            BulkFileIo.append(file, "first", StandardCharsets.UTF_8);
+            BulkFileIo.append(file, "-second", StandardCharsets.UTF_8);
+
+            assertThat(Files.readString(file)).isEqualTo("first-second");
+        }
+
+        @Test
+        @DisplayName("Should write non-String CharSequences")
+        void testWriteCharSequence() throws IOException {
+            Path file = tempDir.resolve("builder.txt");
+
+            BulkFileIo.write(file, new StringBuilder("built ").append("ção"), StandardCharsets.UTF_8);
+
+            assertThat(Files.readString(file)).isEqualTo("built ção");
+        }
+    }
+}
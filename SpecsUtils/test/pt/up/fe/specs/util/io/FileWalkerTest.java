@@ -0,0 +1,198 @@
+package pt.up.fe.specs.util.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for FileWalker.
+ *
+ * Tests the sequential, parallel and lazy traversal modes, checking extension filtering, symlink handling and
+ * cut-off folders behave the same in all of them.
+ */
+@DisplayName("FileWalker Tests")
+class FileWalkerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(tempDir.resolve("a/b/c"));
+        Files.createDirectories(tempDir.resolve("skip/inner"));
+        Files.writeString(tempDir.resolve("root.txt"), "");
+        Files.writeString(tempDir.resolve("a/one.TXT"), "");
+        Files.writeString(tempDir.resolve("a/two.java"), "");
+        Files.writeString(tempDir.resolve("a/b/three.txt"), "");
+        Files.writeString(tempDir.resolve("a/b/c/four.c"), "");
+        Files.writeString(tempDir.resolve("skip/inner/five.txt"), "");
+    }
+
+    private static List<String> names(List<File> files) {
+        return files.stream().map(File::getName).sorted().collect(Collectors.toList());
+    }
+
+    private static List<String> names(Stream<Path> files) {
+        try (files) {
+            return files.map(path -> path.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Filtering Tests")
+    class FilteringTests {
+
+        @Test
+        @DisplayName("Should find all files when no extensions are given")
+        void testAllFiles() {
+            FileWalker walker = new FileWalker(Collections.emptySet(), true, folder -> false);
+
+            List<String> expected = List.of("five.txt", "four.c", "one.TXT", "root.txt", "three.txt", "two.java");
+
+            assertThat(names(walker.getFiles(tempDir.toFile()))).isEqualTo(expected);
+            assertThat(names(walker.getFilesParallel(tempDir.toFile()))).isEqualTo(expected);
+            assertThat(names(walker.stream(tempDir))).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should filter extensions ignoring case")
+        void testExtensions() {
+            FileWalker walker = new FileWalker(List.of("txt"), true, folder -> false);
+
+            List<String> expected = List.of("five.txt", "one.TXT", "root.txt", "three.txt");
+
+            assertThat(names(walker.getFiles(tempDir.toFile()))).isEqualTo(expected);
+            assertThat(names(walker.getFilesParallel(tempDir.toFile()))).isEqualTo(expected);
+            assertThat(names(walker.stream(tempDir))).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should not visit cut-off folders")
+        void testCutoff() {
+            FileWalker walker = new FileWalker(List.of("txt"), true, folder -> folder.getName().equals("skip"));
+
+            List<String> expected = List.of("one.TXT", "root.txt", "three.txt");
+
+            assertThat(names(walker.getFiles(tempDir.toFile()))).isEqualTo(expected);
+            assertThat(names(walker.getFilesParallel(tempDir.toFile()))).isEqualTo(expected);
+            assertThat(names(walker.stream(tempDir))).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should return single file when path is a file")
+        void testSingleFile() {
+            FileWalker walker = new FileWalker(List.of("txt"), true, folder -> false);
+            File file = tempDir.resolve("root.txt").toFile();
+
+            assertThat(walker.getFiles(file)).containsExactly(file);
+            assertThat(walker.getFilesParallel(file)).containsExactly(file);
+            assertThat(names(walker.stream(file.toPath()))).containsExactly("root.txt");
+        }
+
+        @Test
+        @DisplayName("Should return empty for non-existent path")
+        void testNonExistent() {
+            FileWalker walker = new FileWalker(Collections.emptySet(), true, folder -> false);
+            File missing = tempDir.resolve("missing").toFile();
+
+            assertThat(walker.getFiles(missing)).isEmpty();
+            assertThat(walker.getFilesParallel(missing)).isEmpty();
+            assertThat(names(walker.stream(missing.toPath()))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Order Tests")
+    class OrderTests {
+
+        @Test
+        @DisplayName("Parallel mode should return files in the same order as sequential mode")
+        void testParallelOrder() throws IOException {
+            for (int i = 0; i < 20; i++) {
+                Path folder = Files.createDirectories(tempDir.resolve("wide/folder" + i));
+                for (int j = 0; j < 5; j++) {
+                    Files.writeString(folder.resolve("file" + j + ".txt"), "");
+                }
+            }
+
+            FileWalker walker = new FileWalker(Collections.emptySet(), true, folder -> false);
+
+            assertThat(walker.getFilesParallel(tempDir.toFile())).isEqualTo(walker.getFiles(tempDir.toFile()));
+        }
+
+        @Test
+        @DisplayName("Stream should be lazy")
+        void testLazyStream() {
+            FileWalker walker = new FileWalker(Collections.emptySet(), true, folder -> false);
+
+            try (Stream<Path> files = walker.stream(tempDir)) {
+                assertThat(files.findFirst()).isPresent();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Symlink Tests")
+    class SymlinkTests {
+
+        @Test
+        @DisplayName("Should follow or ignore symlinks as configured")
+        void testSymlinks() throws IOException {
+            Path linkedFolder = Files.createDirectories(tempDir.resolve("outside"));
+            Files.writeString(linkedFolder.resolve("linked.txt"), "");
+
+            Path root = Files.createDirectories(tempDir.resolve("root"));
+            Files.writeString(root.resolve("regular.txt"), "");
+            try {
+                Files.createSymbolicLink(root.resolve("link"), linkedFolder);
+            } catch (UnsupportedOperationException | IOException e) {
+                // Symlinks not supported in this file system
+                return;
+            }
+
+            FileWalker follow = new FileWalker(Collections.emptySet(), true, folder -> false);
+            FileWalker noFollow = new FileWalker(Collections.emptySet(), false, folder -> false);
+
+            assertThat(names(follow.getFiles(root.toFile()))).containsExactly("linked.txt", "regular.txt");
+            assertThat(names(follow.getFilesParallel(root.toFile()))).containsExactly("linked.txt", "regular.txt");
+            assertThat(names(follow.stream(root))).containsExactly("linked.txt", "regular.txt");
+
+            assertThat(names(noFollow.getFiles(root.toFile()))).containsExactly("regular.txt");
+            assertThat(names(noFollow.getFilesParallel(root.toFile()))).containsExactly("regular.txt");
+            assertThat(names(noFollow.stream(root))).containsExactly("regular.txt");
+        }
+
+        @Test
+        @DisplayName("Should not loop on cyclic symlinks")
+        void testSymlinkLoop() throws IOException {
+            Path root = Files.createDirectories(tempDir.resolve("cycle/inner"));
+            Files.writeString(root.resolve("file.txt"), "");
+            try {
+                Files.createSymbolicLink(root.resolve("back"), tempDir.resolve("cycle"));
+            } catch (UnsupportedOperationException | IOException e) {
+                // Symlinks not supported in this file system
+                return;
+            }
+
+            FileWalker walker = new FileWalker(Collections.emptySet(), true, folder -> false);
+            File start = tempDir.resolve("cycle").toFile();
+
+            assertThat(names(walker.getFiles(start))).containsExactly("file.txt");
+            assertThat(names(walker.getFilesParallel(start))).containsExactly("file.txt");
+            assertThat(names(walker.stream(start.toPath()))).containsExactly("file.txt");
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package pt.up.fe.specs.util.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for ZipArchiver.
+ *
+ * Archives created by ZipArchiver are checked against {@link ZipFile}, and extraction is checked in both the parallel
+ * (file) and sequential (stream) modes.
+ */
+@DisplayName("ZipArchiver Tests")
+class ZipArchiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path source;
+    private List<File> files;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        source = tempDir.resolve("source");
+        Files.createDirectories(source.resolve("a/b"));
+        Files.createDirectories(source.resolve("empty"));
+
+        Files.writeString(source.resolve("root.txt"), "root");
+        Files.writeString(source.resolve("a/one.txt"), "one ".repeat(1000));
+        Files.writeString(source.resolve("a/b/two.txt"), "");
+        Files.writeString(source.resolve("a/b/unicode-ção.txt"), "ção");
+
+        // Larger than the in-memory limit, compressed while writing the archive
+        byte[] large = new byte[(int) ZipArchiver.IN_MEMORY_LIMIT + 12345];
+        new Random(42).nextBytes(large);
+        Files.write(source.resolve("a/large.bin"), large);
+
+        files = new ArrayList<>();
+        for (String name : List.of("root.txt", "a/one.txt", "a/large.bin", "a/b/two.txt", "a/b/unicode-ção.txt",
+                "empty")) {
+            files.add(source.resolve(name).toFile());
+        }
+    }
+
+    private File zip(ZipArchiver archiver) throws IOException {
+        File zipFile = tempDir.resolve("archive.zip").toFile();
+        archiver.zip(files, source.toFile(), zipFile);
+        return zipFile;
+    }
+
+    private static void assertSameFiles(Path expected, Path actual) throws IOException {
+        for (String name : List.of("root.txt", "a/one.txt", "a/large.bin", "a/b/two.txt",
+                "a/b/unicode-ção.txt")) {
+            assertThat(Files.readAllBytes(actual.resolve(name))).as(name)
+                    .isEqualTo(Files.readAllBytes(expected.resolve(name)));
+        }
+        assertThat(actual.resolve("empty")).isDirectory();
+    }
+
+    private static long crc(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return crc.getValue();
+    }
+
+    @Nested
+    @DisplayName("Zip Tests")
+    class ZipTests {
+
+        @Test
+        @DisplayName("Should write entries in the given order, readable by ZipFile")
+        void testZip() throws IOException {
+            File zipFile = zip(new ZipArchiver(4, false, null));
+
+            try (ZipFile zip = new ZipFile(zipFile)) {
+                List<String> names = zip.stream().map(ZipEntry::getName).toList();
+                assertThat(names).containsExactly("root.txt", "a/one.txt", "a/large.bin", "a/b/two.txt",
+                        "a/b/unicode-ção.txt", "empty/");
+
+                for (ZipEntry entry : zip.stream().filter(entry -> !entry.isDirectory()).toList()) {
+                    Path file = source.resolve(entry.getName());
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        assertThat(in.readAllBytes()).as(entry.getName()).isEqualTo(Files.readAllBytes(file));
+                    }
+                    assertThat(entry.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+                    assertThat(entry.getCrc()).isEqualTo(crc(file));
+                }
+
+                assertThat(zip.getEntry("a/one.txt").getCompressedSize()).isLessThan(4000);
+            }
+        }
+
+        @Test
+        @DisplayName("Should produce the same archive with one or several threads")
+        void testDeterministic() throws IOException {
+            byte[] parallel = Files.readAllBytes(zip(new ZipArchiver(4, false, null)).toPath());
+            byte[] sequential = Files.readAllBytes(zip(new ZipArchiver(1, false, null)).toPath());
+
+            assertThat(parallel).isEqualTo(sequential);
+        }
+
+        @Test
+        @DisplayName("Should ignore files outside of the base path")
+        void testOutsideBasePath() throws IOException {
+            Path outside = tempDir.resolve("outside.txt");
+            Files.writeString(outside, "outside");
+            files.add(outside.toFile());
+
+            try (ZipFile zip = new ZipFile(zip(new ZipArchiver()))) {
+                assertThat(zip.size()).isEqualTo(6);
+                assertThat(zip.stream().map(ZipEntry::getName)).noneMatch(name -> name.contains("outside"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should report the progress of each entry")
+        void testProgress() throws IOException {
+            List<String> updates = new ArrayList<>();
+            zip(new ZipArchiver(2, false, (entry, done, total) -> updates.add(entry + ":" + done + "/" + total)));
+
+            assertThat(updates).containsExactly("root.txt:1/6", "a/one.txt:2/6", "a/large.bin:3/6", "a/b/two.txt:4/6",
+                    "a/b/unicode-ção.txt:5/6", "empty/:6/6");
+        }
+
+        @Test
+        @DisplayName("Should copy unchanged entries from the previous archive")
+        void testSkipUnchanged() throws IOException {
+            // Previous archive with stored entries, copied entries keep the method
+            File zipFile = tempDir.resolve("archive.zip").toFile();
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(zipFile.toPath()))) {
+                for (String name : List.of("root.txt", "a/one.txt")) {
+                    byte[] bytes = Files.readAllBytes(source.resolve(name));
+                    ZipEntry entry = new ZipEntry(name);
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(bytes.length);
+                    entry.setCrc(crc(source.resolve(name)));
+                    zip.putNextEntry(entry);
+                    zip.write(bytes);
+                    zip.closeEntry();
+                }
+            }
+
+            Files.writeString(source.resolve("a/one.txt"), "changed");
+            zip(new ZipArchiver(2, true, null));
+
+            try (ZipFile zip = new ZipFile(zipFile)) {
+                assertThat(zip.size()).isEqualTo(6);
+                assertThat(zip.getEntry("root.txt").getMethod()).isEqualTo(ZipEntry.STORED);
+                assertThat(zip.getEntry("a/one.txt").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+            }
+
+            Path extracted = Files.createDirectories(tempDir.resolve("extracted"));
+            new ZipArchiver().extract(zipFile, extracted.toFile());
+            assertSameFiles(source, extracted);
+        }
+
+        @Test
+        @DisplayName("Should compress all entries if the previous archive is not valid")
+        void testSkipUnchangedInvalidArchive() throws IOException {
+            Files.writeString(tempDir.resolve("archive.zip"), "not a zip file");
+
+            File zipFile = zip(new ZipArchiver(2, true, null));
+
+            Path extracted = Files.createDirectories(tempDir.resolve("extracted"));
+            new ZipArchiver().extract(zipFile, extracted.toFile());
+            assertSameFiles(source, extracted);
+        }
+    }
+
+    @Nested
+    @DisplayName("Extract Tests")
+    class ExtractTests {
+
+        @Test
+        @DisplayName("Should extract archives in parallel")
+        void testExtractFile() throws IOException {
+            File zipFile = zip(new ZipArchiver());
+            Path extracted = Files.createDirectories(tempDir.resolve("extracted"));
+
+            List<Integer> done = new ArrayList<>();
+            new ZipArchiver(4, false, (entry, count, total) -> {
+                assertThat(total).isEqualTo(6);
+                done.add(count);
+            }).extract(zipFile, extracted.toFile());
+
+            assertSameFiles(source, extracted);
+            assertThat(done).containsExactly(1, 2, 3, 4, 5, 6);
+        }
+
+        @Test
+        @DisplayName("Should extract archives from streams")
+        void testExtractStream() throws IOException {
+            File zipFile = zip(new ZipArchiver());
+            Path extracted = Files.createDirectories(tempDir.resolve("extracted"));
+
+            try (InputStream in = new FileInputStream(zipFile)) {
+                new ZipArchiver().extract(in, extracted.toFile());
+            }
+
+            assertSameFiles(source, extracted);
+        }
+
+        @Test
+        @DisplayName("Should not write files that are unchanged")
+        void testSkipUnchanged() throws IOException {
+            File zipFile = zip(new ZipArchiver());
+            Path extracted = Files.createDirectories(tempDir.resolve("extracted"));
+            new ZipArchiver().extract(zipFile, extracted.toFile());
+
+            FileTime old = FileTime.fromMillis(1_000_000_000_000L);
+            Files.setLastModifiedTime(extracted.resolve("root.txt"), old);
+            Files.setLastModifiedTime(extracted.resolve("a/one.txt"), old);
+            Files.writeString(extracted.resolve("a/one.txt"), "local change");
+            Files.setLastModifiedTime(extracted.resolve("a/one.txt"), old);
+
+            new ZipArchiver(2, true, null).extract(zipFile, extracted.toFile());
+
+            assertSameFiles(source, extracted);
+            assertThat(Files.getLastModifiedTime(extracted.resolve("root.txt"))).isEqualTo(old);
+            assertThat(Files.getLastModifiedTime(extracted.resolve("a/one.txt"))).isNotEqualTo(old);
+        }
+
+        @Test
+        @DisplayName("Should reject entries outside of the destination folder")
+        void testOutsideFolder() throws IOException {
+            File zipFile = tempDir.resolve("evil.zip").toFile();
+            try (OutputStream out = Files.newOutputStream(zipFile.toPath());
+                    ZipOutputStream zip = new ZipOutputStream(out)) {
+                zip.putNextEntry(new ZipEntry("../evil.txt"));
+                zip.write("evil".getBytes());
+                zip.closeEntry();
+            }
+
+            Path extracted = Files.createDirectories(tempDir.resolve("extracted"));
+
+            assertThatThrownBy(() -> new ZipArchiver().extract(zipFile, extracted.toFile()))
+                    .isInstanceOf(ZipException.class)
+                    .hasMessageContaining("outside of the destination folder");
+            assertThatThrownBy(() -> {
+                try (InputStream in = new FileInputStream(zipFile)) {
+                    new ZipArchiver().extract(in, extracted.toFile());
+                }
+            }).isInstanceOf(ZipException.class);
+            assertThat(tempDir.resolve("evil.txt")).doesNotExist();
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package pt.up.fe.specs.util.logging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import pt.up.fe.specs.util.SpecsLogs;
+import pt.up.fe.specs.util.logging.AsyncHandler.OverflowPolicy;
+
+/**
+ * Test suite for AsyncHandler.
+ */
+@DisplayName("AsyncHandler Tests")
+class AsyncHandlerTest {
+
+    /**
+     * Stores the messages it receives, and the size of each batch.
+     */
+    static class RecordingHandler extends Handler implements BatchHandler {
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> batches = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean closed = false;
+
+        @Override
+        public void publish(LogRecord record) {
+            if (isLoggable(record)) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void publishBatch(List<LogRecord> records) {
+            batches.add(records.size());
+            records.forEach(this::publish);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    /**
+     * Blocks in the first publish until released.
+     */
+    static class BlockingHandler extends RecordingHandler {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.publish(record);
+        }
+
+        @Override
+        public void publishBatch(List<LogRecord> records) {
+            records.forEach(this::publish);
+        }
+    }
+
+    private static LogRecord record(Level level, String message) {
+        return new LogRecord(level, message);
+    }
+
+    @Nested
+    @DisplayName("Publishing Tests")
+    class PublishingTests {
+
+        @Test
+        @DisplayName("Should publish records in order after flush")
+        void testOrder() {
+            RecordingHandler delegate = new RecordingHandler();
+            AsyncHandler handler = new AsyncHandler(delegate);
+            try {
+                for (int i = 0; i < 1000; i++) {
+                    handler.publish(record(Level.INFO, "message " + i));
+                }
+
+                handler.flush();
+
+                assertThat(delegate.messages).hasSize(1000);
+                assertThat(delegate.messages.get(0)).isEqualTo("message 0");
+                assertThat(delegate.messages.get(999)).isEqualTo("message 999");
+                assertThat(handler.getPublishedRecords()).isEqualTo(1000);
+                assertThat(handler.getDroppedRecords()).isZero();
+            } finally {
+                handler.close();
+            }
+        }
+
+        @Test
+        @DisplayName("Idle background thread should be woken up by new records")
+        void testWakeUp() throws InterruptedException {
+            RecordingHandler delegate = new RecordingHandler();
+            AsyncHandler handler = new AsyncHandler(delegate);
+            try {
+                for (int i = 0; i < 5; i++) {
+                    // Let the background thread become idle
+                    Thread.sleep(20);
+
+                    handler.publish(record(Level.INFO, "message " + i));
+
+                    // Not using flush(), which also wakes up the background thread
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                    while (delegate.messages.size() <= i && System.nanoTime() < deadline) {
+                        Thread.sleep(1);
+                    }
+
+                    assertThat(delegate.messages).hasSize(i + 1);
+                }
+            } finally {
+                handler.close();
+            }
+        }
+
+        @Test
+        @DisplayName("Should publish pending records and close delegates on close")
+        void testClose() {
+            RecordingHandler delegate = new RecordingHandler();
+            AsyncHandler handler = new AsyncHandler(delegate);
+
+            for (int i = 0; i < 100; i++) {
+                handler.publish(record(Level.INFO, "message " + i));
+            }
+
+            handler.close();
+
+            assertThat(delegate.messages).hasSize(100);
+            assertThat(delegate.closed).isTrue();
+
+            // Records published after closing go directly to the delegates
+            handler.publish(record(Level.INFO, "late"));
+            assertThat(delegate.messages).last().isEqualTo("late");
+
+            assertThatCode(handler::close).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Should respect level of the handler and of the delegates")
+        void testLevels() {
+            RecordingHandler delegate = new RecordingHandler();
+            delegate.setLevel(Level.WARNING);
+            AsyncHandler handler = new AsyncHandler(delegate);
+            try {
+                handler.publish(record(Level.INFO, "info"));
+                handler.publish(record(Level.WARNING, "warning"));
+                handler.setLevel(Level.SEVERE);
+                handler.publish(record(Level.WARNING, "ignored"));
+                handler.publish(null);
+
+                handler.flush();
+
+                assertThat(delegate.messages).containsExactly("warning");
+            } finally {
+                handler.close();
+            }
+        }
+
+        @Test
+        @DisplayName("Should publish records of several threads in batches")
+        void testConcurrentProducers() throws InterruptedException {
+            RecordingHandler delegate = new RecordingHandler();
+            AsyncHandler handler = new AsyncHandler(List.of(delegate), 64, OverflowPolicy.BLOCK);
+
+            int numThreads = 4;
+            int perThread = 5_000;
+            ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+            try {
+                for (int t = 0; t < numThreads; t++) {
+                    int thread = t;
+                    executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            handler.publish(record(Level.INFO, thread + ":" + i));
+                        }
+                    });
+                }
+
+                executor.shutdown();
+                assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+                handler.flush();
+
+                assertThat(delegate.messages).hasSize(numThreads * perThread).doesNotHaveDuplicates();
+                assertThat(delegate.batches.stream().mapToInt(Integer::intValue).sum())
+                        .isEqualTo(numThreads * perThread);
+                assertThat(handler.getDroppedRecords()).isZero();
+                assertThat(handler.getMaxQueueDepth()).isLessThanOrEqualTo(handler.getCapacity());
+            } finally {
+                handler.close();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Overflow Tests")
+    class OverflowTests {
+
+        @Test
+        @DisplayName("DROP should drop records when the buffer is full")
+        void testDrop() throws InterruptedException {
+            BlockingHandler delegate = new BlockingHandler();
+            AsyncHandler handler = new AsyncHandler(List.of(delegate), 2, OverflowPolicy.DROP);
+            try {
+                // First record is taken by the background thread, which blocks
+                handler.publish(record(Level.INFO, "first"));
+                assertThat(delegate.entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+                handler.publish(record(Level.INFO, "second"));
+                handler.publish(record(Level.INFO, "third"));
+                assertThat(handler.getQueueDepth()).isEqualTo(2);
+
+                handler.publish(record(Level.SEVERE, "dropped"));
+                assertThat(handler.getDroppedRecords()).isEqualTo(1);
+
+                delegate.release.countDown();
+                handler.flush();
+
+                assertThat(delegate.messages).containsExactly("first", "second", "third");
+            } finally {
+                delegate.release.countDown();
+                handler.close();
+            }
+        }
+
+        @Test
+        @DisplayName("DROP_LOW_LEVELS should only drop records below warning")
+        void testDropLowLevels() throws InterruptedException {
+            BlockingHandler delegate = new BlockingHandler();
+            AsyncHandler handler = new AsyncHandler(List.of(delegate), 2, OverflowPolicy.DROP_LOW_LEVELS);
+            try {
+                handler.publish(record(Level.INFO, "first"));
+                assertThat(delegate.entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+                handler.publish(record(Level.INFO, "second"));
+                handler.publish(record(Level.INFO, "third"));
+                handler.publish(record(Level.INFO, "dropped"));
+                assertThat(handler.getDroppedRecords()).isEqualTo(1);
+
+                // Warnings wait for space
+                Thread producer = new Thread(() -> handler.publish(record(Level.WARNING, "warning")));
+                producer.start();
+
+                delegate.release.countDown();
+                producer.join(TimeUnit.SECONDS.toMillis(10));
+                handler.flush();
+
+                assertThat(delegate.messages).containsExactly("first", "second", "third", "warning");
+                assertThat(handler.getDroppedRecords()).isEqualTo(1);
+            } finally {
+                delegate.release.countDown();
+                handler.close();
+            }
+        }
+
+        @Test
+        @DisplayName("BLOCK should not drop records")
+        void testBlock() {
+            RecordingHandler delegate = new RecordingHandler();
+            AsyncHandler handler = new AsyncHandler(List.of(delegate), 1, OverflowPolicy.BLOCK);
+            try {
+                for (int i = 0; i < 500; i++) {
+                    handler.publish(record(Level.FINE, "message " + i));
+                }
+
+                handler.flush();
+
+                assertThat(delegate.messages).hasSize(500);
+                assertThat(handler.getDroppedRecords()).isZero();
+                assertThat(handler.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+            } finally {
+                handler.close();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Handler Tests")
+    class BatchHandlerTests {
+
+        @Test
+        @DisplayName("Should publish to handlers that do not support batches")
+        void testNonBatchHandler() {
+            StringHandler stringHandler = new StringHandler();
+            AsyncHandler handler = new AsyncHandler(stringHandler);
+            try {
+                handler.publish(record(Level.INFO, "a"));
+                handler.publish(record(Level.INFO, "b"));
+                handler.flush();
+
+                assertThat(stringHandler.getString()).isEqualTo("ab");
+            } finally {
+                handler.close();
+            }
+        }
+
+        @Test
+        @DisplayName("SpecsLogs should build an async console handler")
+        void testAsyncConsoleHandler() {
+            AsyncHandler handler = SpecsLogs.buildAsyncConsoleHandler();
+            try {
+                assertThat(handler.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+                assertThat(handler.getCapacity()).isEqualTo(AsyncHandler.DEFAULT_CAPACITY);
+            } finally {
+                handler.close();
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -691,4 +692,97 @@ class TagLoggerTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("Level Gating Tests")
+    class LevelGatingTests {
+
+        @Test
+        @DisplayName("Should return the same cached logger as the logger name lookup")
+        void testCachedLogger() {
+            TestTagLogger tagLogger = new TestTagLogger("gating.cache", Arrays.asList(TestTag.values()));
+
+            Logger logger = tagLogger.getLogger(TestTag.PARSER);
+
+            assertThat(tagLogger.getLogger(TestTag.PARSER)).isSameAs(logger);
+            assertThat(logger).isSameAs(Logger.getLogger(tagLogger.getLoggerName(TestTag.PARSER)));
+            assertThat(tagLogger.getLogger(null).getName()).isEqualTo("gating.cache.$root");
+        }
+
+        @Test
+        @DisplayName("Should resolve cached loggers through overridden logger names")
+        void testOverriddenLoggerName() {
+            AtomicInteger calls = new AtomicInteger();
+            TestTagLogger tagLogger = new TestTagLogger("gating.override", Arrays.asList(TestTag.values())) {
+                @Override
+                public String getLoggerName(TestTag tag) {
+                    calls.incrementAndGet();
+                    return "custom.override." + (tag != null ? tag.name() : "ROOT");
+                }
+            };
+
+            assertThat(tagLogger.getLogger(TestTag.PARSER).getName()).isEqualTo("custom.override.PARSER");
+            assertThat(tagLogger.getLogger(null).getName()).isEqualTo("custom.override.ROOT");
+
+            tagLogger.setLevel(TestTag.PARSER, Level.SEVERE);
+            assertThat(tagLogger.isLoggable(Level.INFO, TestTag.PARSER)).isFalse();
+            assertThat(tagLogger.isLoggable(Level.SEVERE, TestTag.PARSER)).isTrue();
+
+            // Names are only built on the first lookup of each tag
+            assertThat(calls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should not call suppliers of disabled levels")
+        void testSupplierNotCalled() {
+            TestTagLogger tagLogger = new TestTagLogger("gating.disabled", Arrays.asList(TestTag.values()));
+            tagLogger.setLevel(TestTag.PARSER, Level.SEVERE);
+
+            AtomicInteger calls = new AtomicInteger();
+            Supplier<String> message = () -> "message " + calls.incrementAndGet();
+
+            tagLogger.infoLazy(TestTag.PARSER, message);
+            tagLogger.warnLazy(TestTag.PARSER, message);
+            tagLogger.logLazy(Level.FINE, TestTag.PARSER, message);
+
+            assertThat(tagLogger.isLoggable(Level.WARNING, TestTag.PARSER)).isFalse();
+            assertThat(calls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Should call suppliers of enabled levels once")
+        void testSupplierCalled() {
+            TestTagLogger tagLogger = new TestTagLogger("gating.enabled", Arrays.asList(TestTag.values()));
+            tagLogger.setLevel(TestTag.ANALYZER, Level.ALL);
+            tagLogger.getLogger(TestTag.ANALYZER).setUseParentHandlers(false);
+
+            AtomicInteger calls = new AtomicInteger();
+
+            tagLogger.infoLazy(TestTag.ANALYZER, () -> "message " + calls.incrementAndGet());
+            tagLogger.warnLazy(TestTag.ANALYZER, () -> "message " + calls.incrementAndGet());
+
+            assertThat(tagLogger.isLoggable(Level.INFO, TestTag.ANALYZER)).isTrue();
+            assertThat(calls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should not publish records of disabled levels")
+        void testDisabledNotPublished() {
+            TestTagLogger tagLogger = new TestTagLogger("gating.publish", Arrays.asList(TestTag.values()));
+            Logger logger = tagLogger.getLogger(TestTag.GENERATOR);
+            logger.setUseParentHandlers(false);
+
+            StringHandler handler = new StringHandler();
+            logger.addHandler(handler);
+            try {
+                logger.setLevel(Level.WARNING);
+                tagLogger.info(TestTag.GENERATOR, "hidden");
+                tagLogger.warn(TestTag.GENERATOR, "shown");
+
+                assertThat(handler.getString()).contains("shown").doesNotContain("hidden");
+            } finally {
+                logger.removeHandler(handler);
+            }
+        }
+    }
 }
@@ -0,0 +1,282 @@
+package pt.up.fe.specs.util.providers;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for ResourceCache.
+ *
+ * Uses resources that count how many times they are written, to check that each version of a resource is written to
+ * the cache only once.
+ */
+@DisplayName("ResourceCache Tests")
+class ResourceCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ResourceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResourceCache(tempDir.resolve("cache").toFile());
+    }
+
+    /**
+     * Resource which writes a file with the given contents, and counts the number of writes.
+     */
+    private static class CountingResource implements FileResourceProvider {
+
+        private final String contents;
+        private final String version;
+        private final AtomicInteger writes;
+
+        private CountingResource(String contents, String version) {
+            this.contents = contents;
+            this.version = version;
+            this.writes = new AtomicInteger();
+        }
+
+        @Override
+        public File write(File folder) {
+            writes.incrementAndGet();
+
+            if (contents == null) {
+                throw new RuntimeException("Could not get resource");
+            }
+
+            File file = new File(folder, getFilename());
+            try {
+                Files.writeString(file.toPath(), contents);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return file;
+        }
+
+        @Override
+        public String version() {
+            return version;
+        }
+
+        @Override
+        public String getFilename() {
+            return "resource.txt";
+        }
+
+        @Override
+        public String getSourceId() {
+            return "counting:" + contents;
+        }
+    }
+
+    private List<Path> cacheFolders() throws IOException {
+        try (var folders = Files.list(cache.getRoot().toPath())) {
+            return folders.toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Tests")
+    class GetTests {
+
+        @Test
+        @DisplayName("Should write a resource only once")
+        void testGet() throws IOException {
+            CountingResource resource = new CountingResource("contents", "1.0");
+
+            File file = cache.get(resource);
+            File again = cache.get(resource);
+
+            assertThat(file).hasContent("contents");
+            assertThat(again).isEqualTo(file);
+            assertThat(resource.writes).hasValue(1);
+
+            // No temporary folders are left behind
+            assertThat(cacheFolders()).hasSize(1);
+            assertThat(file.getParentFile().getName()).startsWith("1.0-");
+        }
+
+        @Test
+        @DisplayName("Should find resources written by other instances")
+        void testShared() {
+            cache.get(new CountingResource("contents", "1.0"));
+
+            CountingResource resource = new CountingResource("contents", "1.0");
+            File file = new ResourceCache(cache.getRoot()).get(resource);
+
+            assertThat(file).hasContent("contents");
+            assertThat(resource.writes).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Should keep different versions and sources side by side")
+        void testVersions() throws IOException {
+            File version1 = cache.get(new CountingResource("contents", "1.0"));
+            File version2 = cache.get(new CountingResource("contents", "2.0"));
+            File otherSource = cache.get(new CountingResource("other", "1.0"));
+            File noVersion = cache.get(new CountingResource("contents", null));
+
+            assertThat(List.of(version1, version2, otherSource, noVersion)).doesNotHaveDuplicates();
+            assertThat(cacheFolders()).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("Should write resources without version again in each instance")
+        void testNoVersion() {
+            CountingResource resource = new CountingResource("contents", null);
+
+            File file = cache.get(resource);
+            cache.get(resource);
+            assertThat(resource.writes).hasValue(1);
+
+            File again = new ResourceCache(cache.getRoot()).get(resource);
+            assertThat(again).isEqualTo(file).hasContent("contents");
+            assertThat(resource.writes).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should write a resource once when requested by several threads")
+        void testConcurrent() throws Exception {
+            CountingResource resource = new CountingResource("contents", "1.0");
+            int numThreads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+
+            ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+            try {
+                List<Future<File>> files = new ArrayList<>();
+                for (int i = 0; i < numThreads; i++) {
+                    files.add(executor.submit(() -> {
+                        start.await();
+                        return cache.get(resource);
+                    }));
+                }
+                start.countDown();
+
+                for (Future<File> file : files) {
+                    assertThat(file.get()).hasContent("contents");
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertThat(resource.writes).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Should not leave incomplete resources when writing fails")
+        void testFailure() throws IOException {
+            CountingResource resource = new CountingResource(null, "1.0");
+
+            assertThatThrownBy(() -> cache.get(resource))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("resource.txt");
+
+            assertThat(cacheFolders()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should identify Java resources by their contents")
+        void testResourceSourceId() {
+            String sourceId = ResourceCache.getResourceSourceId("a.txt");
+
+            assertThat(sourceId).contains("a.txt");
+            assertThat(sourceId).isNotEqualTo(ResourceCache.getResourceSourceId("b.txt"));
+            assertThat(ResourceCache.getResourceSourceId("does/not/exist.txt"))
+                    .isEqualTo("resource:does/not/exist.txt");
+        }
+    }
+
+    @Nested
+    @DisplayName("Copy Tests")
+    class CopyTests {
+
+        @Test
+        @DisplayName("Should copy a resource only if the destination is not a copy of it")
+        void testCopy() {
+            CountingResource resource = new CountingResource("contents", "1.0");
+            File destination = tempDir.resolve("destination/resource.txt").toFile();
+
+            assertThat(cache.copy(resource, destination, true)).isTrue();
+            assertThat(destination).hasContent("contents");
+            assertThat(cache.copy(resource, destination, true)).isFalse();
+
+            // New version is copied
+            assertThat(cache.copy(new CountingResource("new contents", "2.0"), destination, true)).isTrue();
+            assertThat(destination).hasContent("new contents");
+        }
+
+        @Test
+        @DisplayName("Should keep files that are not copies of the resource, if asked to")
+        void testCopyExisting() throws IOException {
+            CountingResource resource = new CountingResource("contents", "1.0");
+            File destination = tempDir.resolve("resource.txt").toFile();
+            Files.writeString(destination.toPath(), "existing contents");
+
+            assertThat(cache.copy(resource, destination, false)).isFalse();
+            assertThat(destination).hasContent("existing contents");
+
+            assertThat(cache.copy(resource, destination, true)).isTrue();
+            assertThat(destination).hasContent("contents");
+        }
+
+        @Test
+        @DisplayName("Should keep edited copies of the same version")
+        void testCopyEdited() throws IOException {
+            CountingResource resource = new CountingResource("contents", "1.0");
+            File destination = tempDir.resolve("resource.txt").toFile();
+
+            assertThat(cache.copy(resource, destination, true)).isTrue();
+            Files.writeString(destination.toPath(), "edited contents");
+
+            assertThat(cache.copy(resource, destination, true)).isFalse();
+            assertThat(destination).hasContent("edited contents");
+        }
+
+        @Test
+        @DisplayName("Should overwrite copies of other versions")
+        void testCopyNewVersion() throws IOException {
+            File destination = tempDir.resolve("resource.txt").toFile();
+
+            assertThat(cache.copy(new CountingResource("contents", "1.0"), destination, false)).isTrue();
+            Files.writeString(destination.toPath(), "edited contents");
+
+            assertThat(cache.copy(new CountingResource("new contents", "2.0"), destination, false)).isTrue();
+            assertThat(destination).hasContent("new contents");
+            assertThat(ResourceCache.getVersionFile(destination)).content().startsWith("2.0-");
+        }
+
+        @Test
+        @DisplayName("Should only overwrite copies of resources without version if asked to")
+        void testCopyNoVersion() throws IOException {
+            CountingResource resource = new CountingResource("contents", null);
+            File destination = tempDir.resolve("resource.txt").toFile();
+
+            assertThat(cache.copy(resource, destination, false)).isTrue();
+            Files.writeString(destination.toPath(), "edited contents");
+
+            assertThat(cache.copy(resource, destination, false)).isFalse();
+            assertThat(destination).hasContent("edited contents");
+
+            assertThat(cache.copy(resource, destination, true)).isTrue();
+            assertThat(destination).hasContent("contents");
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package pt.up.fe.specs.util.system;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import pt.up.fe.specs.util.SpecsSystem;
+
+/**
+ * Test suite for OutputSinks and SpilledOutput.
+ */
+@DisplayName("OutputSinks Tests")
+class OutputSinksTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(Charset.defaultCharset()));
+    }
+
+    private static String repeat(int numLines) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < numLines; i++) {
+            builder.append("line ").append(i).append("\n");
+        }
+        return builder.toString();
+    }
+
+    @Nested
+    @DisplayName("Tail Tests")
+    class TailTests {
+
+        @Test
+        @DisplayName("Should return everything when output is smaller than the tail")
+        void testSmallOutput() {
+            assertThat(OutputSinks.tail(100, null).apply(input("hello\nworld\n"))).isEqualTo("hello\nworld\n");
+        }
+
+        @Test
+        @DisplayName("Should keep only the last characters")
+        void testTail() {
+            String content = repeat(10_000);
+
+            assertThat(OutputSinks.tail(1000, null).apply(input(content)))
+                    .isEqualTo(content.substring(content.length() - 1000));
+        }
+
+        @Test
+        @DisplayName("Should keep the last characters for sizes that do not align with the read buffer")
+        void testUnalignedSizes() {
+            String content = repeat(5_000);
+
+            for (int maxChars : new int[] { 1, 7, 8191, 8192, 8193, 20_000 }) {
+                assertThat(OutputSinks.tail(maxChars, null).apply(input(content)))
+                        .isEqualTo(content.substring(content.length() - maxChars));
+            }
+        }
+
+        @Test
+        @DisplayName("Should return empty string for zero characters")
+        void testZero() {
+            assertThat(OutputSinks.tail(0, null).apply(input("content"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject negative sizes")
+        void testNegative() {
+            assertThatThrownBy(() -> OutputSinks.tail(-1, null)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should print the whole output while keeping the tail")
+        void testPrint() {
+            PrintStream originalOut = System.out;
+            ByteArrayOutputStream captured = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(captured));
+            try {
+                String content = repeat(100);
+                assertThat(OutputSinks.tail(10, OutputType.StdOut).apply(input(content))).hasSize(10);
+                System.out.flush();
+                assertThat(captured.toString()).isEqualTo(content);
+            } finally {
+                System.setOut(originalOut);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Spill Tests")
+    class SpillTests {
+
+        @Test
+        @DisplayName("Should write the output to the given file")
+        void testSpillTo() throws IOException {
+            File file = tempDir.resolve("out.txt").toFile();
+            String content = repeat(1000);
+
+            SpilledOutput output = OutputSinks.spillTo(file).apply(input(content));
+
+            assertThat(output.getFile()).isEqualTo(file);
+            assertThat(output.getSize()).isEqualTo(content.length());
+            assertThat(Files.readString(file.toPath())).isEqualTo(content);
+            assertThat(output.getContents().toString()).isEqualTo(content);
+        }
+
+        @Test
+        @DisplayName("Should map the spilled file")
+        void testMap() {
+            SpilledOutput output = OutputSinks.spillTo(tempDir.resolve("out.txt").toFile()).apply(input("abc"));
+
+            MappedByteBuffer buffer = output.map();
+
+            assertThat(buffer.remaining()).isEqualTo(3);
+            assertThat(buffer.get(0)).isEqualTo((byte) 'a');
+            assertThat(buffer.isReadOnly()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should spill to a temporary file")
+        void testTempFile() {
+            File file;
+            try (SpilledOutput output = OutputSinks.spillToTempFile().apply(input("temp"))) {
+                file = output.getFile();
+                assertThat(output.isTemporary()).isTrue();
+                assertThat(file).exists();
+                assertThat(output.getContents().toString()).isEqualTo("temp");
+            }
+
+            assertThat(file).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Should keep caller files when closed")
+        void testCloseKeepsFile() {
+            File file = tempDir.resolve("kept.txt").toFile();
+
+            try (SpilledOutput output = OutputSinks.spillTo(file).apply(input("kept"))) {
+                assertThat(output.isTemporary()).isFalse();
+            }
+
+            assertThat(file).exists();
+        }
+    }
+
+    @Nested
+    @DisplayName("Transfer Tests")
+    class TransferTests {
+
+        @Test
+        @DisplayName("Should copy bytes to an output stream")
+        void testTransferToStream() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            long numBytes = OutputSinks.transferTo(out).apply(input("bytes"));
+
+            assertThat(numBytes).isEqualTo(5);
+            assertThat(out.toString()).isEqualTo("bytes");
+        }
+
+        @Test
+        @DisplayName("Should copy bytes to a file")
+        void testTransferToFile() throws IOException {
+            File file = tempDir.resolve("transfer.txt").toFile();
+
+            long numBytes = OutputSinks.transferTo(file).apply(input("file content"));
+
+            assertThat(numBytes).isEqualTo(12);
+            assertThat(Files.readString(file.toPath())).isEqualTo("file content");
+        }
+    }
+
+    @Nested
+    @DisplayName("Lines Tests")
+    class LinesTests {
+
+        @Test
+        @DisplayName("Should give each line to the callback")
+        void testLines() {
+            List<String> lines = new ArrayList<>();
+
+            long numLines = OutputSinks.lines(lines::add).apply(input("a\nb\r\nc"));
+
+            assertThat(numLines).isEqualTo(3);
+            assertThat(lines).containsExactly("a", "b", "c");
+        }
+
+        @Test
+        @DisplayName("Should not call the callback for empty streams")
+        void testEmpty() {
+            List<String> lines = new ArrayList<>();
+
+            assertThat(OutputSinks.lines(lines::add).apply(input(""))).isZero();
+            assertThat(lines).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Process Tests")
+    class ProcessTests {
+
+        @Test
+        @EnabledOnOs({ OS.LINUX, OS.MAC })
+        @DisplayName("Should be usable as process output functions")
+        void testRunProcess() {
+            List<String> command = List.of("echo", "hello");
+
+            List<String> lines = new ArrayList<>();
+            ProcessOutput<Long, String> output = SpecsSystem.runProcess(command,
+                    tempDir.toFile(), OutputSinks.lines(lines::add), OutputSinks.tail(100, null));
+
+            assertThat(output.getReturnValue()).isZero();
+            assertThat(output.getStdOut()).isEqualTo(1);
+            assertThat(lines).containsExactly("hello");
+            assertThat(output.getStdErr()).isEmpty();
+        }
+    }
+}
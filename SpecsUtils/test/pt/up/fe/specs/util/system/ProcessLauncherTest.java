@@ -0,0 +1,226 @@
+package pt.up.fe.specs.util.system;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for ProcessLauncher.
+ *
+ * Tests the direct and shell launch modes, timeouts and the batch API. Uses Unix commands, so most tests only run on
+ * Linux and Mac.
+ */
+@DisplayName("ProcessLauncher Tests")
+@EnabledOnOs({ OS.LINUX, OS.MAC })
+class ProcessLauncherTest {
+
+    @TempDir
+    File tempDir;
+
+    private static final Function<InputStream, String> READ_ALL = stream -> {
+        try {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    };
+
+    private ProcessBuilder builder(String... command) {
+        return new ProcessBuilder(command).directory(tempDir);
+    }
+
+    @Nested
+    @DisplayName("Configuration Tests")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("Fast launcher should not call GC nor use a shell")
+        void testFastDefaults() {
+            ProcessLauncher launcher = ProcessLauncher.newInstance();
+
+            assertThat(launcher.isCallGc()).isFalse();
+            assertThat(launcher.isUseShell()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Legacy launcher should call GC and use a shell")
+        void testLegacyDefaults() {
+            ProcessLauncher launcher = ProcessLauncher.legacy();
+
+            assertThat(launcher.isCallGc()).isTrue();
+            assertThat(launcher.isUseShell()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Setters should return new instances")
+        void testSettersAreImmutable() {
+            ProcessLauncher launcher = ProcessLauncher.newInstance();
+            ProcessLauncher withGc = launcher.setCallGc(true);
+
+            assertThat(withGc).isNotSameAs(launcher);
+            assertThat(withGc.isCallGc()).isTrue();
+            assertThat(launcher.isCallGc()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Launch Tests")
+    class LaunchTests {
+
+        @Test
+        @DisplayName("Should run command directly and capture output")
+        void testRun() {
+            ProcessOutputAsString output = ProcessLauncher.newInstance()
+                    .run(List.of("echo", "hello world"), tempDir, true, false);
+
+            assertThat(output.getReturnValue()).isZero();
+            assertThat(output.getStdOut().trim()).isEqualTo("hello world");
+        }
+
+        @Test
+        @DisplayName("Should not expand arguments when running directly")
+        void testNoShellExpansion() {
+            ProcessOutput<String, String> output = ProcessLauncher.newInstance()
+                    .run(builder("echo", "$HOME"), READ_ALL, READ_ALL, null, null);
+
+            assertThat(output.getStdOut().trim()).isEqualTo("$HOME");
+        }
+
+        @Test
+        @DisplayName("Should write to standard input")
+        void testInput() {
+            ProcessOutput<String, String> output = ProcessLauncher.newInstance()
+                    .run(builder("cat"), READ_ALL, READ_ALL, stream -> {
+                        try (stream) {
+                            stream.write("from stdin".getBytes(StandardCharsets.UTF_8));
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }, null);
+
+            assertThat(output.getStdOut()).isEqualTo("from stdin");
+        }
+
+        @Test
+        @DisplayName("Should return exit code and standard error")
+        void testError() {
+            ProcessOutput<String, String> output = ProcessLauncher.newInstance()
+                    .run(builder("sh", "-c", "echo oops >&2; exit 3"), READ_ALL, READ_ALL, null, null);
+
+            assertThat(output.getReturnValue()).isEqualTo(3);
+            assertThat(output.getStdErr().trim()).isEqualTo("oops");
+        }
+
+        @Test
+        @DisplayName("Should kill process after timeout")
+        void testTimeout() {
+            long start = System.nanoTime();
+
+            ProcessOutput<String, String> output = ProcessLauncher.newInstance()
+                    .run(builder("sleep", "30"), READ_ALL, READ_ALL, null, TimeUnit.MILLISECONDS.toNanos(200));
+
+            assertThat(output.getReturnValue()).isEqualTo(-1);
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(20));
+        }
+
+        @Test
+        @DisplayName("Should throw if process cannot be started")
+        void testMissingCommand() {
+            assertThatThrownBy(() -> ProcessLauncher.newInstance()
+                    .run(builder("this-command-does-not-exist-123"), READ_ALL, READ_ALL, null, null))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Could not start process");
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Tests")
+    class BatchTests {
+
+        @Test
+        @DisplayName("Should return futures in the order of the builders")
+        void testRunAsync() {
+            List<ProcessBuilder> builders = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                builders.add(builder("echo", "process" + i));
+            }
+
+            var futures = ProcessLauncher.newInstance().runAsync(builders, 3, READ_ALL, READ_ALL, null);
+
+            for (int i = 0; i < 10; i++) {
+                assertThat(futures.get(i).join().getStdOut().trim()).isEqualTo("process" + i);
+            }
+        }
+
+        @Test
+        @DisplayName("Should report processes as they complete")
+        void testRunBatchCompletionOrder() {
+            List<ProcessBuilder> builders = List.of(builder("sh", "-c", "sleep 1; echo slow"),
+                    builder("echo", "fast"));
+
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            List<String> outputs = new ArrayList<>();
+            ProcessLauncher.newInstance().runBatch(builders, 2, READ_ALL, READ_ALL, null, (index, output) -> {
+                order.add(index);
+                outputs.add(output.getStdOut().trim());
+            });
+
+            assertThat(order).containsExactly(1, 0);
+            assertThat(outputs).containsExactly("fast", "slow");
+        }
+
+        @Test
+        @DisplayName("Should limit the number of parallel processes")
+        void testMaxParallel() {
+            List<ProcessBuilder> builders = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                builders.add(builder("sleep", "0.3"));
+            }
+
+            long start = System.nanoTime();
+            ProcessLauncher.newInstance().runBatch(builders, 1, READ_ALL, READ_ALL, null, (index, output) -> {
+            });
+            long elapsed = System.nanoTime() - start;
+
+            // Processes run one at a time
+            assertThat(elapsed).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1200));
+        }
+
+        @Test
+        @DisplayName("Failed launches should complete futures exceptionally")
+        void testFailedLaunch() {
+            var futures = ProcessLauncher.newInstance().runAsync(
+                    List.of(builder("this-command-does-not-exist-123"), builder("echo", "ok")), 2, READ_ALL,
+                    READ_ALL, null);
+
+            assertThatThrownBy(futures.get(0)::join).isInstanceOf(CompletionException.class);
+            assertThat(futures.get(1).join().getStdOut().trim()).isEqualTo("ok");
+
+            CompletableFuture.allOf(futures.get(1)).join();
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive parallelism")
+        void testInvalidParallelism() {
+            assertThatThrownBy(() -> ProcessLauncher.newInstance().runAsync(List.of(), 0, READ_ALL, READ_ALL, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -499,4 +499,32 @@ public class ProcessOutputAsStringTest {
             assertThat(actual).isEqualTo(expected);
         }
     }
+
+    @Nested
+    @DisplayName("Conversion Tests")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should create instance from a generic process output")
+        void testOf() {
+            Exception exception = new RuntimeException("error");
+            ProcessOutput<String, String> generic = new ProcessOutput<>(2, "out", "err", exception);
+
+            ProcessOutputAsString output = ProcessOutputAsString.of(generic);
+
+            assertThat(output.getReturnValue()).isEqualTo(2);
+            assertThat(output.getStdOut()).isEqualTo("out");
+            assertThat(output.getStdErr()).isEqualTo("err");
+            assertThat(output.getOutputException()).contains(exception);
+            assertThat(output.getOutput()).isEqualTo("out\nerr");
+        }
+
+        @Test
+        @DisplayName("Should return the same instance if already a ProcessOutputAsString")
+        void testOfSameInstance() {
+            ProcessOutputAsString output = new ProcessOutputAsString(0, "out", "err");
+
+            assertThat(ProcessOutputAsString.of(output)).isSameAs(output);
+        }
+    }
 }
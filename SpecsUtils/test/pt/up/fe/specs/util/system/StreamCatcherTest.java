@@ -531,4 +531,32 @@ public class StreamCatcherTest {
             assertThat(output).contains("Small line 999");
         }
     }
+
+    @Nested
+    @DisplayName("Sink Tests")
+    class SinkTests {
+
+        @Test
+        @DisplayName("Should return the result of the sink as output")
+        void testSinkOutput() {
+            StreamCatcher catcher = new StreamCatcher(createInputStream("line1\nline2\nline3\n"),
+                    OutputSinks.tail(6, null));
+
+            catcher.run();
+
+            assertThat(catcher.getOutput()).isEqualTo("line3\n");
+            assertThat(capturedOut.toString()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should not propagate exceptions thrown by the sink")
+        void testSinkException() {
+            StreamCatcher catcher = new StreamCatcher(createInputStream("content"), in -> {
+                throw new RuntimeException("sink failed");
+            });
+
+            assertThatCode(catcher::run).doesNotThrowAnyException();
+            assertThat(catcher.getOutput()).isEmpty();
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package pt.up.fe.specs.util.treenode;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for PostOrderIterator.
+ */
+@DisplayName("PostOrderIterator Tests")
+class PostOrderIteratorTest {
+
+    private TestTreeNode root;
+
+    @BeforeEach
+    void setUp() {
+        root = new TestTreeNode("root", Arrays.asList(
+                new TestTreeNode("a", Arrays.asList(new TestTreeNode("a1"), new TestTreeNode("a2"))),
+                new TestTreeNode("b"),
+                new TestTreeNode("c", List.of(new TestTreeNode("c1")))));
+    }
+
+    private static List<String> names(Iterator<TestTreeNode> iterator) {
+        List<String> names = new ArrayList<>();
+        iterator.forEachRemaining(node -> names.add(node.toContentString()));
+        return names;
+    }
+
+    @Test
+    @DisplayName("Should visit descendants in post-order")
+    void testDescendants() {
+        assertThat(names(new PostOrderIterator<>(root, false)))
+                .containsExactly("a1", "a2", "a", "b", "c1", "c");
+    }
+
+    @Test
+    @DisplayName("Should visit self last when included")
+    void testDescendantsAndSelf() {
+        assertThat(names(new PostOrderIterator<>(root, true)))
+                .containsExactly("a1", "a2", "a", "b", "c1", "c", "root");
+    }
+
+    @Test
+    @DisplayName("TreeNode should expose post-order iterator")
+    void testTreeNodeMethod() {
+        assertThat(names(root.getDescendantsPostOrderIterator()))
+                .containsExactly("a1", "a2", "a", "b", "c1", "c");
+    }
+
+    @Test
+    @DisplayName("Should be empty for leaf without self")
+    void testLeaf() {
+        var iterator = new PostOrderIterator<>(new TestTreeNode("leaf"), false);
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    private static class TestTreeNode extends ATreeNode<TestTreeNode> {
+        private final String name;
+
+        public TestTreeNode(String name) {
+            this(name, Collections.emptyList());
+        }
+
+        public TestTreeNode(String name, Collection<? extends TestTreeNode> children) {
+            super(children);
+            this.name = name;
+        }
+
+        @Override
+        public String toContentString() {
+            return name;
+        }
+
+        @Override
+        protected TestTreeNode copyPrivate() {
+            return new TestTreeNode(name);
+        }
+    }
+}
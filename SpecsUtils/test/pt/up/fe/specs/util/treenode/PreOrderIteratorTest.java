@@ -0,0 +1,162 @@
+package pt.up.fe.specs.util.treenode;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for PreOrderIterator.
+ *
+ * Tests pre-order traversal with and without the root, deep trees and splitting of the remaining nodes.
+ */
+@DisplayName("PreOrderIterator Tests")
+class PreOrderIteratorTest {
+
+    private TestTreeNode root;
+
+    @BeforeEach
+    void setUp() {
+        // root
+        // ├── a
+        // │   ├── a1
+        // │   └── a2
+        // ├── b
+        // └── c
+        //     └── c1
+        root = new TestTreeNode("root", Arrays.asList(
+                new TestTreeNode("a", Arrays.asList(new TestTreeNode("a1"), new TestTreeNode("a2"))),
+                new TestTreeNode("b"),
+                new TestTreeNode("c", List.of(new TestTreeNode("c1")))));
+    }
+
+    private static List<String> names(PreOrderIterator<TestTreeNode> iterator) {
+        List<String> names = new ArrayList<>();
+        iterator.forEachRemaining(node -> names.add(node.toContentString()));
+        return names;
+    }
+
+    @Nested
+    @DisplayName("Traversal Tests")
+    class TraversalTests {
+
+        @Test
+        @DisplayName("Should visit descendants in pre-order")
+        void testDescendants() {
+            assertThat(names(new PreOrderIterator<>(root, false)))
+                    .containsExactly("a", "a1", "a2", "b", "c", "c1");
+        }
+
+        @Test
+        @DisplayName("Should visit self first when included")
+        void testDescendantsAndSelf() {
+            assertThat(names(new PreOrderIterator<>(root, true)))
+                    .containsExactly("root", "a", "a1", "a2", "b", "c", "c1");
+        }
+
+        @Test
+        @DisplayName("Should be empty for leaf without self")
+        void testLeaf() {
+            var iterator = new PreOrderIterator<>(new TestTreeNode("leaf"), false);
+
+            assertThat(iterator.hasNext()).isFalse();
+            assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        @DisplayName("Should handle very deep trees without recursion")
+        void testDeepTree() {
+            TestTreeNode deepRoot = new TestTreeNode("0");
+            TestTreeNode current = deepRoot;
+            for (int i = 1; i < 100_000; i++) {
+                TestTreeNode child = new TestTreeNode(Integer.toString(i));
+                current.addChild(child);
+                current = child;
+            }
+
+            var iterator = new PreOrderIterator<>(deepRoot, true);
+            int count = 0;
+            while (iterator.hasNext()) {
+                assertThat(iterator.next().toContentString()).isEqualTo(Integer.toString(count));
+                count++;
+            }
+
+            assertThat(count).isEqualTo(100_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Split Tests")
+    class SplitTests {
+
+        @Test
+        @DisplayName("Prefix and remaining iterators should cover all nodes in order")
+        void testSplit() {
+            var iterator = new PreOrderIterator<>(root, false);
+
+            var prefix = iterator.splitPrefix();
+
+            assertThat(prefix).isNotNull();
+
+            List<String> all = new ArrayList<>(names(prefix));
+            all.addAll(names(iterator));
+
+            assertThat(all).containsExactly("a", "a1", "a2", "b", "c", "c1");
+        }
+
+        @Test
+        @DisplayName("Should split after partial iteration")
+        void testSplitAfterNext() {
+            var iterator = new PreOrderIterator<>(root, true);
+            iterator.next();
+            iterator.next();
+
+            var prefix = iterator.splitPrefix();
+
+            List<String> all = new ArrayList<>(names(prefix));
+            all.addAll(names(iterator));
+
+            assertThat(all).containsExactly("a1", "a2", "b", "c", "c1");
+        }
+
+        @Test
+        @DisplayName("Should not split single path")
+        void testNoSplit() {
+            TestTreeNode chain = new TestTreeNode("x", List.of(new TestTreeNode("y")));
+
+            assertThat(new PreOrderIterator<>(chain, true).splitPrefix()).isNull();
+        }
+    }
+
+    private static class TestTreeNode extends ATreeNode<TestTreeNode> {
+        private final String name;
+
+        public TestTreeNode(String name) {
+            this(name, Collections.emptyList());
+        }
+
+        public TestTreeNode(String name, Collection<? extends TestTreeNode> children) {
+            super(children);
+            this.name = name;
+        }
+
+        @Override
+        public String toContentString() {
+            return name;
+        }
+
+        @Override
+        protected TestTreeNode copyPrivate() {
+            return new TestTreeNode(name);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package pt.up.fe.specs.util.treenode;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for TreeNodeSpliterator and the stream methods of TreeNode that use it.
+ */
+@DisplayName("TreeNodeSpliterator Tests")
+class TreeNodeSpliteratorTest {
+
+    private TestTreeNode root;
+
+    @BeforeEach
+    void setUp() {
+        // Wide tree with 10 children, each with 100 leaves
+        root = new TestTreeNode("root");
+        for (int i = 0; i < 10; i++) {
+            TestTreeNode child = new TestTreeNode("c" + i);
+            for (int j = 0; j < 100; j++) {
+                child.addChild(new LeafNode("c" + i + "_" + j));
+            }
+            root.addChild(child);
+        }
+    }
+
+    @Test
+    @DisplayName("Sequential stream should match pre-order iterator")
+    void testSequential() {
+        List<TestTreeNode> expected = root.getDescendants();
+
+        List<TestTreeNode> actual = StreamSupport.stream(new TreeNodeSpliterator<>(root, false), false)
+                .collect(Collectors.toList());
+
+        assertThat(actual).hasSize(1010).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Parallel stream should keep encounter order")
+    void testParallel() {
+        List<TestTreeNode> expected = root.getDescendants();
+
+        List<TestTreeNode> actual = root.getDescendantsStream().parallel().collect(Collectors.toList());
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Split should divide the tree by subtree")
+    void testSplit() {
+        Spliterator<TestTreeNode> suffix = new TreeNodeSpliterator<>(root, true);
+        Spliterator<TestTreeNode> prefix = suffix.trySplit();
+
+        // Only the root is at the first level, nothing to split yet
+        assertThat(prefix).isNull();
+
+        suffix.tryAdvance(node -> assertThat(node).isSameAs(root));
+        prefix = suffix.trySplit();
+
+        assertThat(prefix).isNotNull();
+        assertThat(StreamSupport.stream(prefix, false).count()
+                + StreamSupport.stream(suffix, false).count()).isEqualTo(1010);
+    }
+
+    @Test
+    @DisplayName("Type-filtered queries should use early stop")
+    void testTypeFiltered() {
+        assertThat(root.getDescendants(LeafNode.class)).hasSize(1000);
+        assertThat(root.getFirstDescendant(LeafNode.class)).get()
+                .extracting(TestTreeNode::toContentString).isEqualTo("c0_0");
+        assertThat(root.getFirstDescendantsAndSelf(TestTreeNode.class)).contains(root);
+        assertThat(root.getDescendantsAndSelf(LeafNode.class)).hasSize(1000);
+        assertThat(new LeafNode("x").getFirstDescendant(LeafNode.class)).isEmpty();
+    }
+
+    private static class TestTreeNode extends ATreeNode<TestTreeNode> {
+        private final String name;
+
+        public TestTreeNode(String name) {
+            this(name, Collections.emptyList());
+        }
+
+        public TestTreeNode(String name, Collection<? extends TestTreeNode> children) {
+            super(children);
+            this.name = name;
+        }
+
+        @Override
+        public String toContentString() {
+            return name;
+        }
+
+        @Override
+        protected TestTreeNode copyPrivate() {
+            return new TestTreeNode(name);
+        }
+    }
+
+    private static class LeafNode extends TestTreeNode {
+        public LeafNode(String name) {
+            super(name);
+        }
+    }
+}
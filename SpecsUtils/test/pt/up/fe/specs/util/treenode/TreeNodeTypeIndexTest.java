@@ -0,0 +1,255 @@
+package pt.up.fe.specs.util.treenode;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for TreeNodeTypeIndex and its integration with ATreeNode.
+ *
+ * Checks that indexed queries return the same results as the unindexed ones, and that the index is invalidated by
+ * the mutation methods of ATreeNode.
+ */
+@DisplayName("TreeNodeTypeIndex Tests")
+class TreeNodeTypeIndexTest {
+
+    private TestTreeNode root;
+    private TestTreeNode a;
+    private TestTreeNode b;
+
+    @BeforeEach
+    void setUp() {
+        // root
+        // ├── a
+        // │   ├── leaf1 (LeafNode)
+        // │   └── inner (InnerNode)
+        // │       └── leaf2 (LeafNode)
+        // └── b
+        //     └── leaf3 (LeafNode)
+        a = new TestTreeNode("a", Arrays.asList(new LeafNode("leaf1"),
+                new InnerNode("inner", List.of(new LeafNode("leaf2")))));
+        b = new TestTreeNode("b", List.of(new LeafNode("leaf3")));
+        root = new TestTreeNode("root", Arrays.asList(a, b));
+    }
+
+    private static List<String> names(List<? extends TestTreeNode> nodes) {
+        return nodes.stream().map(TestTreeNode::toContentString).toList();
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Indexed queries should match unindexed queries")
+        void testSameResults() {
+            List<String> fromRoot = names(root.getDescendants(LeafNode.class));
+            List<String> fromA = names(a.getDescendants(LeafNode.class));
+            List<String> all = names(root.getDescendants(TestTreeNode.class));
+
+            TreeNodeTypeIndex<TestTreeNode> index = root.enableTypeIndex();
+
+            assertThat(names(root.getDescendants(LeafNode.class))).isEqualTo(fromRoot)
+                    .containsExactly("leaf1", "leaf2", "leaf3");
+            assertThat(names(a.getDescendants(LeafNode.class))).isEqualTo(fromA)
+                    .containsExactly("leaf1", "leaf2");
+            assertThat(names(root.getDescendants(TestTreeNode.class))).isEqualTo(all);
+            assertThat(b.getChild(0).getDescendants(LeafNode.class)).isEmpty();
+            assertThat(index.getNumRebuilds()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should find ancestors with index")
+        void testAncestor() {
+            root.enableTypeIndex();
+            root.getDescendants(LeafNode.class);
+
+            TestTreeNode leaf2 = a.getChild(1).getChild(0);
+
+            assertThat(leaf2.getAncestorTry(InnerNode.class)).isPresent();
+            assertThat(leaf2.getAncestorTry(OtherNode.class)).isEmpty();
+            assertThat(b.getChild(0).getAncestorTry(InnerNode.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Concurrent queries should build the index once")
+        void testConcurrentQueries() {
+            TreeNodeTypeIndex<TestTreeNode> index = root.enableTypeIndex();
+
+            List<List<String>> results = IntStream.range(0, 64).parallel()
+                    .mapToObj(i -> names(i % 2 == 0 ? root.getDescendants(LeafNode.class)
+                            : a.getDescendants(LeafNode.class)))
+                    .toList();
+
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i)).isEqualTo(i % 2 == 0 ? List.of("leaf1", "leaf2", "leaf3")
+                        : List.of("leaf1", "leaf2"));
+            }
+            assertThat(index.getNumRebuilds()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should only be enabled on roots")
+        void testEnableOnChild() {
+            assertThatThrownBy(() -> a.enableTypeIndex()).isInstanceOf(RuntimeException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Adding and removing children should invalidate the index")
+        void testAddRemove() {
+            TreeNodeTypeIndex<TestTreeNode> index = root.enableTypeIndex();
+            assertThat(root.getDescendants(LeafNode.class)).hasSize(3);
+            assertThat(index.isValid()).isTrue();
+
+            a.getChild(1).addChild(new LeafNode("leaf4"));
+            assertThat(index.isValid()).isFalse();
+            assertThat(names(root.getDescendants(LeafNode.class)))
+                    .containsExactly("leaf1", "leaf2", "leaf4", "leaf3");
+
+            b.removeChild(0);
+            assertThat(names(root.getDescendants(LeafNode.class))).containsExactly("leaf1", "leaf2", "leaf4");
+        }
+
+        @Test
+        @DisplayName("Set, detach and setChildren should invalidate the index")
+        void testSetDetach() {
+            root.enableTypeIndex();
+            root.getDescendants(LeafNode.class);
+
+            b.setChild(0, new LeafNode("leaf5"));
+            assertThat(names(root.getDescendants(LeafNode.class))).containsExactly("leaf1", "leaf2", "leaf5");
+
+            a.detach();
+            assertThat(names(root.getDescendants(LeafNode.class))).containsExactly("leaf5");
+
+            b.setChildren(List.of(new LeafNode("leaf6"), new LeafNode("leaf7")));
+            assertThat(names(root.getDescendants(LeafNode.class))).containsExactly("leaf6", "leaf7");
+        }
+
+        @Test
+        @DisplayName("Children iterator changes should invalidate the index")
+        void testChildrenIterator() {
+            root.enableTypeIndex();
+            root.getDescendants(LeafNode.class);
+
+            ChildrenIterator<TestTreeNode> iterator = a.getChildrenIterator();
+            iterator.next();
+            iterator.remove();
+
+            assertThat(names(root.getDescendants(LeafNode.class))).containsExactly("leaf2", "leaf3");
+        }
+
+        @Test
+        @DisplayName("Changes to the mutable children list should invalidate the index")
+        void testChildrenMutable() {
+            TreeNodeTypeIndex<TestTreeNode> index = root.enableTypeIndex();
+            root.getDescendants(LeafNode.class);
+
+            b.getChildrenMutable().remove(0);
+            assertThat(index.isValid()).isFalse();
+            assertThat(names(root.getDescendants(LeafNode.class))).containsExactly("leaf1", "leaf2");
+        }
+
+        @Test
+        @DisplayName("Nodes should only use the index while attached to the indexed tree")
+        void testAttachDetach() {
+            TreeNodeTypeIndex<TestTreeNode> index = root.enableTypeIndex();
+
+            TestTreeNode subtree = new TestTreeNode("sub", List.of(new LeafNode("subleaf")));
+            assertThat(subtree.getChild(0).getTypeIndex()).isNull();
+
+            root.addChild(subtree);
+            assertThat(subtree.getChild(0).getTypeIndex()).isSameAs(index);
+
+            a.detach();
+            assertThat(a.getTypeIndex()).isNull();
+            assertThat(a.getChild(1).getChild(0).getTypeIndex()).isNull();
+            assertThat(names(a.getDescendants(LeafNode.class))).containsExactly("leaf1", "leaf2");
+        }
+
+        @Test
+        @DisplayName("Index of a subtree should be ignored while it is attached")
+        void testAttachedIndex() {
+            TestTreeNode subtree = new TestTreeNode("sub", List.of(new LeafNode("subleaf")));
+            subtree.enableTypeIndex();
+            assertThat(subtree.getDescendants(LeafNode.class)).hasSize(1);
+
+            root.addChild(subtree);
+            assertThat(subtree.getTypeIndex()).isSameAs(root.getTypeIndex());
+            subtree.addChild(new LeafNode("subleaf2"));
+            assertThat(names(root.getDescendants(LeafNode.class)))
+                    .containsExactly("leaf1", "leaf2", "leaf3", "subleaf", "subleaf2");
+
+            subtree.detach();
+            assertThat(subtree.getChild(1).getTypeIndex()).isNotNull().isNotSameAs(root.getTypeIndex());
+            assertThat(names(subtree.getDescendants(LeafNode.class))).containsExactly("subleaf", "subleaf2");
+        }
+
+        @Test
+        @DisplayName("Disabling the index should fall back to tree walks")
+        void testDisable() {
+            root.enableTypeIndex();
+            root.disableTypeIndex();
+
+            assertThat(root.hasTypeIndex()).isFalse();
+            assertThat(root.getTypeIndex()).isNull();
+            assertThat(a.getChild(0).getTypeIndex()).isNull();
+            assertThat(root.getDescendants(LeafNode.class)).hasSize(3);
+        }
+    }
+
+    private static class TestTreeNode extends ATreeNode<TestTreeNode> {
+        private final String name;
+
+        public TestTreeNode(String name) {
+            this(name, Collections.emptyList());
+        }
+
+        public TestTreeNode(String name, Collection<? extends TestTreeNode> children) {
+            super(children);
+            this.name = name;
+        }
+
+        @Override
+        public String toContentString() {
+            return name;
+        }
+
+        @Override
+        protected TestTreeNode copyPrivate() {
+            return new TestTreeNode(name);
+        }
+    }
+
+    private static class LeafNode extends TestTreeNode {
+        public LeafNode(String name) {
+            super(name);
+        }
+    }
+
+    private static class InnerNode extends TestTreeNode {
+        public InnerNode(String name, Collection<? extends TestTreeNode> children) {
+            super(name, children);
+        }
+    }
+
+    private static class OtherNode extends TestTreeNode {
+        public OtherNode(String name) {
+            super(name);
+        }
+    }
+}
@@ -6,12 +6,18 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import pt.up.fe.specs.util.treenode.ATreeNode;
+import pt.up.fe.specs.util.treenode.TreeNodeTypeIndex;
+import pt.up.fe.specs.util.treenode.transform.NodeTransform;
+import pt.up.fe.specs.util.treenode.transform.ParallelTransformRule;
 import pt.up.fe.specs.util.treenode.transform.TransformQueue;
 import pt.up.fe.specs.util.treenode.transform.TransformResult;
 import pt.up.fe.specs.util.treenode.transform.TransformRule;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -594,4 +600,202 @@ class TraversalStrategyTest {
                     .doesNotThrowAnyException();
         }
     }
+
+    /**
+     * Stateless rule that deletes nodes multiple of 3 and, in pre-order, does not visit the children of nodes multiple
+     * of 7.
+     */
+    private static class ParallelDeleteRule implements ParallelTransformRule<TestTreeNode, TestTransformResult> {
+        private final TraversalStrategy strategy;
+        private final int threshold;
+
+        public ParallelDeleteRule(TraversalStrategy strategy, int threshold) {
+            this.strategy = strategy;
+            this.threshold = threshold;
+        }
+
+        @Override
+        public TestTransformResult apply(TestTreeNode node, TransformQueue<TestTreeNode> queue) {
+            int value = Integer.parseInt(node.toContentString());
+
+            if (value % 3 == 0) {
+                queue.delete(node);
+            }
+
+            return new TestTransformResult(value % 7 != 0);
+        }
+
+        @Override
+        public TraversalStrategy getTraversalStrategy() {
+            return strategy;
+        }
+
+        @Override
+        public int getParallelThreshold() {
+            return threshold;
+        }
+    }
+
+    /**
+     * Stateless rule that uses the type index, deletes nodes whose number of descendants is a multiple of 3.
+     */
+    private static class ParallelDescendantsRule
+            implements ParallelTransformRule<TestTreeNode, TestTransformResult> {
+        private final int threshold;
+
+        public ParallelDescendantsRule(int threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public TestTransformResult apply(TestTreeNode node, TransformQueue<TestTreeNode> queue) {
+            if (node.getDescendants(TestTreeNode.class).size() % 3 == 0) {
+                queue.delete(node);
+            }
+
+            return new TestTransformResult(true);
+        }
+
+        @Override
+        public TraversalStrategy getTraversalStrategy() {
+            return TraversalStrategy.PRE_ORDER;
+        }
+
+        @Override
+        public int getParallelThreshold() {
+            return threshold;
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Traversal Tests")
+    class ParallelTraversalTests {
+
+        private TestTreeNode createRandomTree(int numNodes) {
+            Random random = new Random(42);
+            List<TestTreeNode> nodes = new ArrayList<>();
+            nodes.add(new TestTreeNode("1"));
+
+            for (int i = 2; i <= numNodes; i++) {
+                TestTreeNode node = new TestTreeNode(Integer.toString(i));
+                // Prefer recent nodes as parents, to build deeper trees
+                int parent = Math.max(0, nodes.size() - 1 - random.nextInt(Math.min(nodes.size(), 50)));
+                nodes.get(parent).addChild(node);
+                nodes.add(node);
+            }
+
+            return nodes.get(0);
+        }
+
+        private List<String> describe(TransformQueue<TestTreeNode> queue) {
+            return queue.getTransforms().stream()
+                    .map(transform -> transform.getType() + ":" + transform.getOperands().get(0).toContentString())
+                    .collect(Collectors.toList());
+        }
+
+        private List<String> sequential(TraversalStrategy strategy, TestTreeNode tree) {
+            TransformQueue<TestTreeNode> queue = new TransformQueue<>("sequential");
+            List<TestTreeNode> nodes = strategy == TraversalStrategy.PRE_ORDER ? preOrder(tree) : postOrder(tree);
+            nodes.stream()
+                    .filter(node -> Integer.parseInt(node.toContentString()) % 3 == 0)
+                    .forEach(queue::delete);
+            return describe(queue);
+        }
+
+        private List<TestTreeNode> preOrder(TestTreeNode node) {
+            List<TestTreeNode> nodes = new ArrayList<>();
+            nodes.add(node);
+            if (Integer.parseInt(node.toContentString()) % 7 != 0) {
+                node.getChildren().forEach(child -> nodes.addAll(preOrder(child)));
+            }
+            return nodes;
+        }
+
+        private List<TestTreeNode> postOrder(TestTreeNode node) {
+            List<TestTreeNode> nodes = new ArrayList<>();
+            node.getChildren().forEach(child -> nodes.addAll(postOrder(child)));
+            nodes.add(node);
+            return nodes;
+        }
+
+        @Test
+        @DisplayName("Should collect transformations in traversal order")
+        void testParallelOrder() {
+            TestTreeNode tree = createRandomTree(20_000);
+            ForkJoinPool pool = new ForkJoinPool(4);
+
+            try {
+                for (TraversalStrategy strategy : TraversalStrategy.values()) {
+                    ParallelDeleteRule rule = new ParallelDeleteRule(strategy, 1);
+
+                    TransformQueue<TestTreeNode> queue = strategy.getTransformationsParallel(tree, rule, pool);
+
+                    assertThat(queue.getId()).isEqualTo("ParallelDeleteRule");
+                    assertThat(describe(queue)).isEqualTo(sequential(strategy, tree));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should use parallel traversal for marked rules")
+        void testMarkedRule() {
+            TestTreeNode tree = createRandomTree(5_000);
+
+            for (TraversalStrategy strategy : TraversalStrategy.values()) {
+                ParallelDeleteRule rule = new ParallelDeleteRule(strategy, 100);
+
+                List<NodeTransform<TestTreeNode>> transforms = strategy.getTransformations(tree, rule).getTransforms();
+
+                assertThat(transforms).hasSize(sequential(strategy, tree).size());
+            }
+        }
+
+        @Test
+        @DisplayName("Should query an indexed tree from parallel rules")
+        void testIndexedTree() {
+            TestTreeNode tree = createRandomTree(20_000);
+            TreeNodeTypeIndex<TestTreeNode> index = tree.enableTypeIndex();
+            ForkJoinPool pool = new ForkJoinPool(4);
+
+            try {
+                TransformQueue<TestTreeNode> parallel = TraversalStrategy.PRE_ORDER.getTransformationsParallel(tree,
+                        new ParallelDescendantsRule(1), pool);
+
+                assertThat(index.getNumRebuilds()).isEqualTo(1);
+
+                TransformQueue<TestTreeNode> sequential = TraversalStrategy.PRE_ORDER.getTransformations(tree,
+                        new ParallelDescendantsRule(Integer.MAX_VALUE));
+
+                assertThat(describe(parallel)).isNotEmpty().isEqualTo(describe(sequential));
+                assertThat(index.getNumRebuilds()).isEqualTo(1);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should traverse small trees sequentially")
+        void testBelowThreshold() {
+            TestTreeNode tree = createRandomTree(10);
+            ParallelDeleteRule rule = new ParallelDeleteRule(TraversalStrategy.POST_ORDER, 11);
+
+            TransformQueue<TestTreeNode> queue = TraversalStrategy.POST_ORDER.getTransformations(tree, rule);
+
+            assertThat(describe(queue)).isEqualTo(sequential(TraversalStrategy.POST_ORDER, tree));
+        }
+
+        @Test
+        @DisplayName("Should not modify the tree while collecting")
+        void testParallelDoesNotExecute() {
+            TestTreeNode tree = createRandomTree(1_000);
+            ParallelDeleteRule rule = new ParallelDeleteRule(TraversalStrategy.POST_ORDER, 1);
+
+            long numNodes = tree.getDescendantsAndSelfStream().count();
+            TraversalStrategy.POST_ORDER.getTransformations(tree, rule);
+
+            assertThat(tree.getDescendantsAndSelfStream().count()).isEqualTo(numNodes);
+        }
+    }
 }
@@ -0,0 +1,260 @@
+package pt.up.fe.specs.util.xml;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for {@link XmlStreamReader} and {@link XmlStreamElement}.
+ * 
+ * Tests name and path subscriptions, lazy materialization of subtrees and early termination.
+ */
+@DisplayName("XmlStreamReader Tests")
+class XmlStreamReaderTest {
+
+    private static final String REPORT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <report tool="gprof">
+                <function name="main" calls="1">
+                    <callee name="foo"/>
+                    <error>bad <b>thing</b></error>
+                </function>
+                <function name="foo" calls="10"/>
+                <summary>
+                    <function name="total"/>
+                    <error><![CDATA[a < b]]></error>
+                </summary>
+            </report>
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Subscriptions")
+    class Subscriptions {
+
+        @Test
+        @DisplayName("Should notify element names at any depth")
+        void testOnElement() {
+            List<String> names = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                reader.onElement("function", function -> names.add(function.getAttribute("name")));
+                reader.read();
+            }
+
+            assertThat(names).containsExactly("main", "foo", "total");
+        }
+
+        @Test
+        @DisplayName("Should notify absolute paths")
+        void testOnPath() {
+            List<String> paths = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                reader.onPath("/report/function", function -> paths.add(function.getPath()));
+                reader.onPath("/report", report -> paths.add(report.getAttribute("tool")));
+                reader.read();
+            }
+
+            assertThat(paths).containsExactly("gprof", "/report/function", "/report/function");
+        }
+
+        @Test
+        @DisplayName("Should expose element information")
+        void testElementInformation() {
+            List<String> info = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                reader.onElement("callee", callee -> {
+                    info.add(callee.getName());
+                    info.add(Integer.toString(callee.getDepth()));
+                    info.add(callee.getAttributes().toString());
+                    info.add(callee.getAttribute("missing", "default"));
+                });
+                reader.read();
+            }
+
+            assertThat(info).containsExactly("callee", "3", "[name]", "default");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid paths")
+        void testInvalidPath() {
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                assertThatThrownBy(() -> reader.onPath("report", element -> {
+                })).isInstanceOf(IllegalArgumentException.class);
+                assertThatThrownBy(() -> reader.onPath("/report//function", element -> {
+                })).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+
+        @Test
+        @DisplayName("Should not allow using the element after the consumer returns")
+        void testElementOutsideConsumer() {
+            List<XmlStreamElement> elements = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                reader.onPath("/report", elements::add);
+                reader.read();
+            }
+
+            assertThatThrownBy(() -> elements.get(0).getName()).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Materialization")
+    class Materialization {
+
+        @Test
+        @DisplayName("Should read text of the subtree")
+        void testGetText() {
+            List<String> errors = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                reader.onElement("error", error -> errors.add(error.getText()));
+                reader.read();
+            }
+
+            assertThat(errors).containsExactly("bad thing", "a < b");
+        }
+
+        @Test
+        @DisplayName("Should build DOM element and skip subscriptions inside it")
+        void testToXmlElement() {
+            List<XmlElement> functions = new ArrayList<>();
+            List<String> callees = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                reader.onPath("/report/function", function -> functions.add(function.toXmlElement()));
+                reader.onElement("callee", callee -> callees.add(callee.getAttribute("name")));
+                reader.read();
+            }
+
+            assertThat(functions).hasSize(2);
+            assertThat(functions.get(0).getName()).isEqualTo("function");
+            assertThat(functions.get(0).getAttribute("calls")).isEqualTo("1");
+            assertThat(functions.get(0).getElementByName("callee").getAttribute("name")).isEqualTo("foo");
+            assertThat(functions.get(1).getAttribute("name")).isEqualTo("foo");
+
+            // Callee was inside a materialized function
+            assertThat(callees).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should share the materialized element between consumers")
+        void testSharedMaterialization() {
+            List<String> results = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                reader.onPath("/report/summary", summary -> results.add(summary.getText().strip()));
+                reader.onElement("summary",
+                        summary -> results.add(summary.toXmlElement().getElementsByName("function").size() + ""));
+                reader.read();
+            }
+
+            assertThat(results).containsExactly("a < b", "1");
+        }
+
+        @Test
+        @DisplayName("Should continue after a materialized element")
+        void testDepthAfterMaterialization() {
+            List<String> paths = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                reader.onPath("/report/function", function -> function.toXmlElement());
+                reader.onPath("/report/summary/function", function -> paths.add(function.getPath()));
+                reader.read();
+            }
+
+            assertThat(paths).containsExactly("/report/summary/function");
+        }
+    }
+
+    @Nested
+    @DisplayName("Reading")
+    class Reading {
+
+        @Test
+        @DisplayName("Should stop reading when requested")
+        void testStop() {
+            List<String> names = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(REPORT)) {
+                reader.onElement("function", function -> {
+                    names.add(function.getAttribute("name"));
+                    reader.stop();
+                });
+                reader.read();
+            }
+
+            assertThat(names).containsExactly("main");
+        }
+
+        @Test
+        @DisplayName("Should read from files and streams")
+        void testSources() throws IOException {
+            File file = tempDir.resolve("report.xml").toFile();
+            Files.writeString(file.toPath(), REPORT);
+
+            List<String> names = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(file)) {
+                reader.onPath("/report/function", function -> names.add(function.getAttribute("name")));
+                reader.read();
+            }
+
+            var stream = new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8));
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(stream)) {
+                reader.onPath("/report/function", function -> names.add(function.getAttribute("name")));
+                reader.read();
+            }
+
+            assertThat(names).containsExactly("main", "foo", "main", "foo");
+        }
+
+        @Test
+        @DisplayName("Should keep prefixes in names")
+        void testPrefixes() {
+            String xml = "<a:root xmlns:a=\"urn:a\"><a:item a:id=\"1\"/></a:root>";
+            List<String> info = new ArrayList<>();
+
+            try (XmlStreamReader reader = XmlStreamReader.newInstance(xml)) {
+                reader.onPath("/a:root/a:item", item -> {
+                    info.add(item.getName());
+                    info.add(item.getAttribute("a:id"));
+                });
+                reader.read();
+            }
+
+            assertThat(info).containsExactly("a:item", "1");
+        }
+
+        @Test
+        @DisplayName("Should fail for malformed documents and missing files")
+        void testErrors() {
+            try (XmlStreamReader reader = XmlStreamReader.newInstance("<root><unclosed></root>")) {
+                assertThatThrownBy(reader::read).isInstanceOf(RuntimeException.class);
+            }
+
+            assertThatThrownBy(() -> XmlStreamReader.newInstance(tempDir.resolve("missing.xml").toFile()))
+                    .isInstanceOf(RuntimeException.class);
+            assertThatThrownBy(() -> XmlStreamReader.newInstance((String) null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.DataStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.suikasoft.jOptions.Datakey.DataKey;
+import org.suikasoft.jOptions.Datakey.KeyFactory;
+import org.suikasoft.jOptions.Interfaces.DataStore;
+import org.suikasoft.jOptions.storedefinition.StoreDefinition;
+import org.suikasoft.jOptions.storedefinition.StoreDefinitionBuilder;
+
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Compares the memory footprint and the get/set throughput of {@link CompactDataStore} and {@link SimpleDataStore},
+ * using stores similar to the ones of AST nodes (a few keys set, the others with default values).
+ */
+public class CompactDataStoreSnippet {
+
+    private static final int NUM_KEYS = 12;
+    private static final int NUM_STORES = 1_000_000;
+
+    @Test
+    public void test() {
+        List<DataKey<Integer>> keys = new ArrayList<>();
+        for (int i = 0; i < NUM_KEYS; i++) {
+            keys.add(KeyFactory.integer("key" + i, i));
+        }
+
+        StoreDefinition definition = new StoreDefinitionBuilder("Snippet")
+                .addKeys(keys.toArray(new DataKey<?>[0]))
+                .setCompact(true)
+                .build();
+
+        System.out.println("COMPACT MEMORY (bytes per store):"
+                + measureMemory(def -> new CompactDataStore(def), definition, keys));
+        System.out.println("SIMPLE MEMORY (bytes per store):"
+                + measureMemory(def -> new SimpleDataStore(def), definition, keys));
+
+        for (int i = 0; i < 3; i++) {
+            long compactTime = measureThroughput(new CompactDataStore(definition), keys);
+            long simpleTime = measureThroughput(new SimpleDataStore(definition), keys);
+
+            System.out.println("COMPACT TIME:" + SpecsStrings.parseTime(compactTime));
+            System.out.println("SIMPLE TIME:" + SpecsStrings.parseTime(simpleTime));
+        }
+    }
+
+    private static long measureMemory(Function<StoreDefinition, DataStore> factory, StoreDefinition definition,
+            List<DataKey<Integer>> keys) {
+
+        long before = usedMemory();
+
+        DataStore[] stores = new DataStore[NUM_STORES];
+        for (int i = 0; i < NUM_STORES; i++) {
+            DataStore store = factory.apply(definition);
+            // Set a third of the keys, read the others
+            for (int j = 0; j < keys.size(); j++) {
+                if (j % 3 == 0) {
+                    store.set(keys.get(j), i);
+                } else {
+                    store.get(keys.get(j));
+                }
+            }
+            stores[i] = store;
+        }
+
+        long after = usedMemory();
+
+        // Keep the stores alive until memory is measured
+        if (stores[NUM_STORES - 1] == null) {
+            System.out.println();
+        }
+
+        return (after - before) / NUM_STORES;
+    }
+
+    private static long measureThroughput(DataStore store, List<DataKey<Integer>> keys) {
+        long tic = System.nanoTime();
+
+        long sum = 0;
+        for (int i = 0; i < 10_000_000; i++) {
+            DataKey<Integer> key = keys.get(i % NUM_KEYS);
+            if (i % 4 == 0) {
+                store.set(key, i);
+            }
+            sum += store.get(key);
+        }
+
+        long time = System.nanoTime() - tic;
+
+        // Use the result, so that the loop is not optimized away
+        if (sum == 42) {
+            System.out.println();
+        }
+
+        return time;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.DataStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.suikasoft.jOptions.Datakey.DataKey;
+import org.suikasoft.jOptions.Datakey.KeyFactory;
+import org.suikasoft.jOptions.Interfaces.DataStore;
+import org.suikasoft.jOptions.storedefinition.StoreDefinition;
+
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Compares the throughput of {@link ListDataStore} and {@link SimpleDataStore} when stores are created, written and
+ * read from several threads at the same time.
+ */
+public class ListDataStoreSnippet {
+
+    private static final int NUM_KEYS = 32;
+    private static final int STORES_PER_THREAD = 20_000;
+
+    @Test
+    public void test() throws Exception {
+        List<DataKey<Integer>> keys = new ArrayList<>();
+        for (int i = 0; i < NUM_KEYS; i++) {
+            keys.add(KeyFactory.integer("key" + i));
+        }
+        StoreDefinition definition = StoreDefinition.newInstance("Snippet", keys.toArray(new DataKey<?>[0]));
+
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int numThreads = 1; numThreads <= maxThreads; numThreads *= 2) {
+            // Warm up
+            measure(numThreads, () -> new ListDataStore(definition), keys);
+            measure(numThreads, () -> new SimpleDataStore(definition), keys);
+
+            long listTime = measure(numThreads, () -> new ListDataStore(definition), keys);
+            long simpleTime = measure(numThreads, () -> new SimpleDataStore(definition), keys);
+
+            System.out.println("Threads: " + numThreads);
+            System.out.println("LIST TIME:" + SpecsStrings.parseTime(listTime));
+            System.out.println("SIMPLE TIME:" + SpecsStrings.parseTime(simpleTime));
+        }
+    }
+
+    private static long measure(int numThreads, Supplier<DataStore> storeFactory,
+            List<DataKey<Integer>> keys) throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            long tic = System.nanoTime();
+
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    long sum = 0;
+                    for (int j = 0; j < STORES_PER_THREAD; j++) {
+                        DataStore store = storeFactory.get();
+                        for (DataKey<Integer> key : keys) {
+                            store.set(key, j);
+                        }
+                        for (DataKey<Integer> key : keys) {
+                            sum += store.get(key);
+                        }
+                    }
+                    return sum;
+                }));
+            }
+
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+
+            long time = System.nanoTime() - tic;
+
+            // Use the result, so that the loops are not optimized away
+            if (total == 42) {
+                System.out.println();
+            }
+
+            return time;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
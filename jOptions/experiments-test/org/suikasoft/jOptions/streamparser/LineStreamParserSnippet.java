@@ -0,0 +1,79 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.streamparser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.suikasoft.jOptions.DataStore.ADataClass;
+
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Compares sequential and pipelined parsing of a large dump, where most records belong to an independent worker.
+ */
+public class LineStreamParserSnippet {
+
+    private static class DumpData extends ADataClass<DumpData> {
+    }
+
+    @Test
+    public void test() {
+        StringBuilder dump = new StringBuilder();
+        for (int i = 0; i < 500_000; i++) {
+            dump.append("NODE\n").append("id_").append(i).append(" 0x").append(Integer.toHexString(i))
+                    .append(" <line:").append(i).append(", col:12> 'int' lvalue\n");
+        }
+        byte[] input = dump.toString().getBytes(StandardCharsets.UTF_8);
+
+        int numThreads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i < 3; i++) {
+            AtomicLong sequentialSum = new AtomicLong();
+            long tic = System.nanoTime();
+            newParser(sequentialSum).parse(new ByteArrayInputStream(input), null, false, false);
+            long sequentialTime = System.nanoTime() - tic;
+
+            AtomicLong pipelinedSum = new AtomicLong();
+            tic = System.nanoTime();
+            newParser(pipelinedSum).parse(new ByteArrayInputStream(input), null, false, false, numThreads);
+            long pipelinedTime = System.nanoTime() - tic;
+
+            System.out.println("SEQUENTIAL (" + sequentialSum + "):" + SpecsStrings.parseTime(sequentialTime));
+            System.out.println("PIPELINED " + numThreads + " threads (" + pipelinedSum + "):"
+                    + SpecsStrings.parseTime(pipelinedTime));
+        }
+    }
+
+    private static LineStreamParser<DumpData> newParser(AtomicLong sum) {
+        Map<String, LineStreamWorker<DumpData>> workers = new HashMap<>();
+        workers.put("NODE", IndependentLineStreamWorker.<DumpData, Long> newInstance("NODE", 1,
+                LineStreamParserSnippet::parseNode, (value, data) -> sum.addAndGet(value)));
+
+        return LineStreamParser.newInstance(new DumpData(), workers);
+    }
+
+    private static long parseNode(List<String> record) {
+        String[] parts = record.get(0).split(" ");
+        long value = Long.decode(parts[1]);
+        String location = parts[2];
+        value += Integer.parseInt(location.substring(location.indexOf(':') + 1, location.indexOf(',')));
+        return value;
+    }
+}
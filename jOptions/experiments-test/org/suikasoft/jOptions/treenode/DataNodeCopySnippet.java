@@ -0,0 +1,114 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.treenode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.suikasoft.jOptions.Datakey.DataKey;
+import org.suikasoft.jOptions.Datakey.KeyFactory;
+import org.suikasoft.jOptions.Interfaces.DataStore;
+
+import pt.up.fe.specs.util.SpecsStrings;
+
+/**
+ * Measures the time and memory of copying a large DataNode tree and changing a key in every copied node, which is the
+ * usual pattern of transformation passes.
+ */
+public class DataNodeCopySnippet {
+
+    private static final int NUM_NODES = 500_000;
+    private static final int CHILDREN_PER_NODE = 4;
+
+    public static class SnippetNode extends DataNode<SnippetNode> {
+
+        public static final DataKey<String> NAME = KeyFactory.string("name", "");
+        public static final DataKey<Integer> ID = KeyFactory.integer("id");
+        public static final DataKey<String> TYPE = KeyFactory.string("type", "");
+        public static final DataKey<Boolean> IS_CONST = KeyFactory.bool("isConst");
+
+        public SnippetNode(DataStore data, Collection<? extends SnippetNode> children) {
+            super(data, children);
+        }
+
+        @Override
+        protected SnippetNode getThis() {
+            return this;
+        }
+
+        @Override
+        protected Class<SnippetNode> getBaseClass() {
+            return SnippetNode.class;
+        }
+    }
+
+    @Test
+    public void test() {
+        SnippetNode root = buildTree();
+
+        for (int i = 0; i < 3; i++) {
+            long memoryBefore = usedMemory();
+            long tic = System.nanoTime();
+
+            SnippetNode copy = root.copy();
+            copy.getDescendantsAndSelfStream().forEach(node -> node.set(SnippetNode.ID, node.get(SnippetNode.ID) + 1));
+
+            long time = System.nanoTime() - tic;
+            long memory = usedMemory() - memoryBefore;
+
+            System.out.println("COPY TIME:" + SpecsStrings.parseTime(time));
+            System.out.println("COPY MEMORY (MB):" + memory / (1024 * 1024));
+
+            // Keep the copy alive until memory is measured
+            if (copy.getNumChildren() < 0) {
+                System.out.println();
+            }
+        }
+    }
+
+    private static SnippetNode buildTree() {
+        List<SnippetNode> level = new ArrayList<>();
+        for (int i = 0; i < NUM_NODES; i++) {
+            SnippetNode node = DataNode.newInstance(SnippetNode.class, Collections.emptyList());
+            node.set(SnippetNode.ID, i);
+            node.set(SnippetNode.NAME, "node" + i);
+            level.add(node);
+        }
+
+        // Group nodes until there is a single root
+        while (level.size() > 1) {
+            List<SnippetNode> nextLevel = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += CHILDREN_PER_NODE) {
+                List<SnippetNode> children = level.subList(i, Math.min(i + CHILDREN_PER_NODE, level.size()));
+                SnippetNode parent = DataNode.newInstance(SnippetNode.class, new ArrayList<>(children));
+                parent.set(SnippetNode.ID, nextLevel.size());
+                nextLevel.add(parent);
+            }
+            level = nextLevel;
+        }
+
+        return level.get(0);
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
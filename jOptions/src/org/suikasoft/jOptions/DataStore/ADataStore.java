@@ -36,7 +36,9 @@ import org.suikasoft.jOptions.storedefinition.StoreDefinition;
 public abstract class ADataStore implements DataStore {
 
     private final String name;
-    private final Map<String, Object> values;
+    private Map<String, Object> values;
+    // If true, the map of values is shared with a shallow copy and must be copied before being modified
+    private boolean sharedValues;
     private StoreDefinition definition;
     private AppPersistence persistence;
     private File configFile;
@@ -61,10 +63,39 @@ public abstract class ADataStore implements DataStore {
 
         this.name = name;
         this.values = values;
+        this.sharedValues = false;
         strict = false;
         this.definition = definition;
     }
 
+    /**
+     * Constructs an ADataStore that shares the values of the given DataStore until
+     * one of them is modified.
+     *
+     * @param dataStore the source DataStore
+     */
+    protected ADataStore(ADataStore dataStore) {
+        this(dataStore.name, dataStore.values, dataStore.definition);
+
+        this.sharedValues = true;
+        dataStore.sharedValues = true;
+    }
+
+    /**
+     * Returns the map of values, copying it first if it is shared with another
+     * DataStore.
+     *
+     * @return the map of values, which can be modified
+     */
+    private Map<String, Object> getValuesForWrite() {
+        if (sharedValues) {
+            values = new HashMap<>(values);
+            sharedValues = false;
+        }
+
+        return values;
+    }
+
     /**
      * Constructs an ADataStore with the given name and another DataStore as source.
      *
@@ -174,7 +205,7 @@ public abstract class ADataStore implements DataStore {
 
     @Override
     public Optional<Object> setRaw(String key, Object value) {
-        return Optional.ofNullable(values.put(key, value));
+        return Optional.ofNullable(getValuesForWrite().put(key, value));
     }
 
     @Override
@@ -186,7 +217,7 @@ public abstract class ADataStore implements DataStore {
             return Optional.empty();
         }
 
-        if (values.remove(key.getName()) == null) {
+        if (getValuesForWrite().remove(key.getName()) == null) {
             throw new RuntimeException("There was no value mapping for key '" + key + "'");
         }
 
@@ -222,7 +253,7 @@ public abstract class ADataStore implements DataStore {
             }
 
             value = defaultValue.get();
-            values.put(key.getName(), value);
+            getValuesForWrite().put(key.getName(), value);
         }
 
         // Check if key has custom getter
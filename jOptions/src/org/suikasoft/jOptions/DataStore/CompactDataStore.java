@@ -0,0 +1,353 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.DataStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import org.suikasoft.jOptions.Datakey.CustomGetter;
+import org.suikasoft.jOptions.Datakey.DataKey;
+import org.suikasoft.jOptions.Interfaces.DataStore;
+import org.suikasoft.jOptions.storedefinition.StoreDefinition;
+import org.suikasoft.jOptions.storedefinition.StoreDefinitionIndexes;
+
+/**
+ * Closed DataStore that keeps its values in a dense array, indexed by the
+ * position of the key in the StoreDefinition.
+ *
+ * <p>
+ * Intended for definitions with many instances (e.g., the nodes of a large
+ * tree). Per instance, it only needs the array of values and the definition,
+ * and information about the keys is computed once per definition and shared.
+ * Compared with the other implementations:
+ * <ul>
+ * <li>Default values are not written back to the store. Mutating a default
+ * value returned by {@link #get(DataKey)} does not change the store, use
+ * {@link #set(DataKey, Object)} instead;
+ * <li>Keys of the definition that have no custom getter or setter skip those
+ * checks;
+ * <li>Values of keys that are not part of the definition are ignored when set.
+ * </ul>
+ *
+ * <p>
+ * Selected by {@link DataStore#newInstance(StoreDefinition, boolean)} for closed
+ * stores of definitions where {@link StoreDefinition#isCompact()} is true.
+ */
+public class CompactDataStore implements DataStore, ShallowCopyable {
+
+    private final StoreDefinition definition;
+    private final Layout layout;
+    private Object[] values;
+    // If true, the array of values is shared with a shallow copy and must be copied before being modified
+    private boolean sharedValues;
+    private boolean strict;
+
+    /**
+     * Constructs a CompactDataStore with the given StoreDefinition.
+     *
+     * @param definition the StoreDefinition defining the keys
+     */
+    public CompactDataStore(StoreDefinition definition) {
+        this.definition = definition;
+        this.layout = Layout.of(definition);
+        this.values = new Object[layout.keys.length];
+        this.sharedValues = false;
+        this.strict = false;
+    }
+
+    /**
+     * Constructs a CompactDataStore that shares the values of the given store until
+     * one of them is modified.
+     *
+     * @param dataStore the source CompactDataStore
+     */
+    private CompactDataStore(CompactDataStore dataStore) {
+        this.definition = dataStore.definition;
+        this.layout = dataStore.layout;
+        this.values = dataStore.values;
+        this.sharedValues = true;
+        dataStore.sharedValues = true;
+        this.strict = false;
+    }
+
+    /**
+     * Returns the array of values, copying it first if it is shared with another
+     * store.
+     *
+     * @return the array of values, which can be modified
+     */
+    private Object[] getValuesForWrite() {
+        if (sharedValues) {
+            values = values.clone();
+            sharedValues = false;
+        }
+
+        return values;
+    }
+
+    @Override
+    public DataStore shallowCopy() {
+        return new CompactDataStore(this);
+    }
+
+    @Override
+    public <T, E extends T> DataStore set(DataKey<T> key, E value) {
+        Objects.requireNonNull(value, () -> "Tried to set a null value with key '" + key + "'. Use .remove() instead");
+
+        if (!layout.indexes.hasIndex(key)) {
+            return this;
+        }
+
+        int index = layout.indexes.getIndex(key);
+
+        Object realValue = value;
+        boolean verify;
+        Class<?> valueClass;
+        if (layout.isPlain(index, key)) {
+            verify = layout.verifyValueClass[index];
+            valueClass = layout.valueClasses[index];
+        } else {
+            // Check if key has custom setter
+            Optional<CustomGetter<T>> setter = key.getCustomSetter();
+            if (setter.isPresent()) {
+                realValue = setter.get().get(value, this);
+            }
+            verify = key.verifyValueClass();
+            valueClass = key.getValueClass();
+        }
+
+        // Stop if value is not compatible with class of key
+        if (verify && !valueClass.isInstance(realValue)) {
+            throw new RuntimeException("Tried to add a value of type '" + realValue.getClass()
+                    + "', with a key that supports '" + valueClass + "'");
+        }
+
+        getValuesForWrite()[index] = realValue;
+
+        return this;
+    }
+
+    @Override
+    public Optional<Object> setRaw(String key, Object value) {
+        // Do not set key
+        if (!layout.indexes.hasIndex(key)) {
+            return Optional.empty();
+        }
+
+        int index = layout.indexes.getIndex(key);
+        Object previousValue = values[index];
+        getValuesForWrite()[index] = value;
+
+        return Optional.ofNullable(previousValue);
+    }
+
+    @Override
+    public <T> T get(DataKey<T> key) {
+        int index = layout.indexes.getIndex(key);
+        boolean plain = layout.isPlain(index, key);
+
+        Object valueRaw = values[index];
+        T value;
+
+        if (valueRaw == null) {
+            if (strict) {
+                throw new RuntimeException(
+                        "No value present in DataStore '" + getName() + "' " + " for key '" + key.getName() + "'");
+            }
+
+            // Default values are not stored
+            value = key.getDefault()
+                    .orElseThrow(() -> new RuntimeException(
+                            "No default value for key '" + key.getName() + "' in this object: " + this));
+        } else {
+            try {
+                value = plain ? layout.<T> getValueClass(index).cast(valueRaw) : key.getValueClass().cast(valueRaw);
+            } catch (Exception e) {
+                throw new RuntimeException("Could not retrieve value from key " + key, e);
+            }
+        }
+
+        if (plain) {
+            return value;
+        }
+
+        // Check if key has custom getter
+        Optional<CustomGetter<T>> getter = key.getCustomGetter();
+        if (getter.isPresent()) {
+            return getter.get().get(value, this);
+        }
+
+        return value;
+    }
+
+    @Override
+    public Object get(String id) {
+        if (!layout.indexes.hasIndex(id)) {
+            return null;
+        }
+
+        return values[layout.indexes.getIndex(id)];
+    }
+
+    @Override
+    public <T> Optional<T> remove(DataKey<T> key) {
+        Optional<T> value = getTry(key);
+
+        // If not present, there was already no value there
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+
+        getValuesForWrite()[layout.indexes.getIndex(key)] = null;
+
+        return value;
+    }
+
+    @Override
+    public <T> boolean hasValue(DataKey<T> key) {
+        // If it does not have key, does not have value
+        if (!layout.indexes.hasIndex(key)) {
+            return false;
+        }
+
+        return values[layout.indexes.getIndex(key)] != null;
+    }
+
+    @Override
+    public Collection<String> getKeysWithValues() {
+        List<String> keysWithValues = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                keysWithValues.add(layout.keys[i].getName());
+            }
+        }
+
+        return keysWithValues;
+    }
+
+    @Override
+    public void setStrict(boolean value) {
+        this.strict = value;
+    }
+
+    @Override
+    public Optional<StoreDefinition> getStoreDefinitionTry() {
+        return Optional.of(definition);
+    }
+
+    /**
+     * @throws RuntimeException always, the StoreDefinition cannot be changed after
+     *                          instantiation
+     */
+    @Override
+    public void setStoreDefinition(StoreDefinition definition) {
+        throw new RuntimeException(
+                "This implementation does not support setting the StoreDefinition after instantiation");
+    }
+
+    @Override
+    public String getName() {
+        return definition.getName();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((getName() == null) ? 0 : getName().hashCode());
+        result = prime * result + Arrays.hashCode(values);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        CompactDataStore other = (CompactDataStore) obj;
+        return Objects.equals(getName(), other.getName()) && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public String toString() {
+        return toInlinedString();
+    }
+
+    /**
+     * Information about the keys of a StoreDefinition, shared by all stores of that
+     * definition.
+     */
+    private static class Layout {
+
+        // Weak keys, so that definitions that are no longer used can be collected. Layouts must not refer to their
+        // definition, otherwise the entries would never be cleared
+        private static final Map<StoreDefinition, Layout> LAYOUTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+        private final StoreDefinitionIndexes indexes;
+        private final DataKey<?>[] keys;
+        private final Class<?>[] valueClasses;
+        private final boolean[] verifyValueClass;
+        // True if the key has neither custom getter nor custom setter
+        private final boolean[] plain;
+
+        private Layout(StoreDefinition definition) {
+            this.indexes = definition.getIndexes();
+
+            List<DataKey<?>> definitionKeys = definition.getKeys();
+            this.keys = definitionKeys.toArray(new DataKey<?>[0]);
+            this.valueClasses = new Class<?>[keys.length];
+            this.verifyValueClass = new boolean[keys.length];
+            this.plain = new boolean[keys.length];
+
+            for (int i = 0; i < keys.length; i++) {
+                valueClasses[i] = keys[i].getValueClass();
+                verifyValueClass[i] = keys[i].verifyValueClass();
+                plain[i] = keys[i].getCustomGetter().isEmpty() && keys[i].getCustomSetter().isEmpty();
+            }
+        }
+
+        private static Layout of(StoreDefinition definition) {
+            return LAYOUTS.computeIfAbsent(definition, Layout::new);
+        }
+
+        /**
+         * The information of the given index can only be used if the key is the same
+         * instance as the one in the definition, other keys with the same name can
+         * have different getters and setters.
+         */
+        private boolean isPlain(int index, DataKey<?> key) {
+            return plain[index] && keys[index] == key;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Class<T> getValueClass(int index) {
+            return (Class<T>) valueClasses[index];
+        }
+    }
+}
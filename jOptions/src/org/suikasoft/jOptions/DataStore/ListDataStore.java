@@ -25,17 +25,19 @@ import java.util.*;
  * Implementation of DataStore that uses a List to store the data.
  *
  * <p>
- * This implementation requires a StoreDefinition and stores values in a list
- * indexed by the definition.
+ * This implementation requires a StoreDefinition and stores values in an array
+ * indexed by the definition. Instances can be created concurrently from
+ * several threads, the indexes of a definition are computed once and shared.
  *
  * @author JoaoBispo
  */
-public class ListDataStore implements DataStore {
-
-    private static final Map<StoreDefinition, StoreDefinitionIndexes> KEY_TO_INDEXES = new HashMap<>();
+public class ListDataStore implements DataStore, ShallowCopyable {
 
     private final StoreDefinition keys;
-    private final List<Object> values;
+    private final StoreDefinitionIndexes indexes;
+    private Object[] values;
+    // If true, the array of values is shared with a shallow copy and must be copied before being modified
+    private boolean sharedValues;
 
     private boolean strict;
 
@@ -46,25 +48,32 @@ public class ListDataStore implements DataStore {
      */
     public ListDataStore(StoreDefinition keys) {
         this.keys = keys;
-        this.values = new ArrayList<>(keys.getKeys().size());
+        this.indexes = keys.getIndexes();
+        this.values = new Object[indexes.size()];
+        this.sharedValues = false;
 
         this.strict = false;
     }
 
     /**
-     * Ensures the internal list has enough size to accommodate the given index.
+     * Constructs a ListDataStore that shares the values of the given store until
+     * one of them is modified.
      *
-     * @param index the index to ensure size for
+     * @param dataStore the source ListDataStore
      */
-    private void ensureSize(int index) {
-        if (index < values.size()) {
-            return;
-        }
+    private ListDataStore(ListDataStore dataStore) {
+        this.keys = dataStore.keys;
+        this.indexes = dataStore.indexes;
+        this.values = dataStore.values;
+        this.sharedValues = true;
+        dataStore.sharedValues = true;
 
-        int missingElements = index - values.size() + 1;
-        for (int i = 0; i < missingElements; i++) {
-            this.values.add(null);
-        }
+        this.strict = false;
+    }
+
+    @Override
+    public DataStore shallowCopy() {
+        return new ListDataStore(this);
     }
 
     /**
@@ -74,8 +83,7 @@ public class ListDataStore implements DataStore {
      * @return the value at the given index
      */
     private Object get(int index) {
-        ensureSize(index);
-        return values.get(index);
+        return values[index];
     }
 
     /**
@@ -86,8 +94,14 @@ public class ListDataStore implements DataStore {
      * @return the previous value at the given index
      */
     private Object set(int index, Object value) {
-        ensureSize(index);
-        return values.set(index, value);
+        if (sharedValues) {
+            values = values.clone();
+            sharedValues = false;
+        }
+
+        Object previousValue = values[index];
+        values[index] = value;
+        return previousValue;
     }
 
     @Override
@@ -95,7 +109,7 @@ public class ListDataStore implements DataStore {
         final int prime = 31;
         int result = 1;
         result = prime * result + ((keys.getName() == null) ? 0 : keys.getName().hashCode());
-        result = prime * result + ((values == null) ? 0 : values.hashCode());
+        result = prime * result + Arrays.hashCode(values);
         return result;
     }
 
@@ -113,11 +127,7 @@ public class ListDataStore implements DataStore {
                 return false;
         } else if (!keys.getName().equals(other.keys.getName()))
             return false;
-        if (values == null) {
-            return other.values == null;
-        } else {
-            return values.equals(other.values);
-        }
+        return Arrays.equals(values, other.values);
     }
 
     /**
@@ -155,7 +165,7 @@ public class ListDataStore implements DataStore {
     @Override
     public Optional<Object> setRaw(String key, Object value) {
         // Do not set key
-        if (!keys.hasKey(key)) {
+        if (!indexes.hasIndex(key)) {
             return Optional.empty();
         }
 
@@ -215,7 +225,8 @@ public class ListDataStore implements DataStore {
      */
     @Override
     public <T> T get(DataKey<T> key) {
-        Object valueRaw = get(toIndex(key));
+        int index = toIndex(key);
+        Object valueRaw = get(index);
         if (strict && valueRaw == null) {
             throw new RuntimeException(
                     "No value present in DataStore '" + getName() + "' " + " for key '" + key.getName() + "'");
@@ -238,7 +249,7 @@ public class ListDataStore implements DataStore {
             value = defaultValue.orElse(null);
 
             // Storing value, in case it is a mutable value (e.g., a list)
-            setRaw(key.getName(), value);
+            set(index, value);
         }
 
         // Check if key has custom getter
@@ -282,7 +293,7 @@ public class ListDataStore implements DataStore {
     @Override
     public <T> boolean hasValue(DataKey<T> key) {
         // If it does not have key, does not have value
-        if (!getStoreDefinition().hasKey(key.getName())) {
+        if (!indexes.hasIndex(key)) {
             return false;
         }
 
@@ -313,7 +324,7 @@ public class ListDataStore implements DataStore {
      * @return the index of the DataKey
      */
     private int toIndex(DataKey<?> key) {
-        return toIndex(key.getName());
+        return indexes.getIndex(key);
     }
 
     /**
@@ -323,25 +334,9 @@ public class ListDataStore implements DataStore {
      * @return the index of the key name
      */
     private int toIndex(String key) {
-        StoreDefinitionIndexes indexes = getIndexes();
-
         return indexes.getIndex(key);
     }
 
-    /**
-     * Retrieves the StoreDefinitionIndexes for the current StoreDefinition.
-     *
-     * @return the StoreDefinitionIndexes
-     */
-    private StoreDefinitionIndexes getIndexes() {
-        StoreDefinitionIndexes indexes = KEY_TO_INDEXES.get(keys);
-        if (indexes == null) {
-            indexes = new StoreDefinitionIndexes(keys);
-            KEY_TO_INDEXES.put(keys, indexes);
-        }
-        return indexes;
-    }
-
     /**
      * Retrieves the value associated with the given key name.
      *
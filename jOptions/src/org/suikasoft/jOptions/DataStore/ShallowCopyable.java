@@ -0,0 +1,35 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.DataStore;
+
+import org.suikasoft.jOptions.Interfaces.DataStore;
+
+/**
+ * DataStore that supports cheap shallow copies.
+ */
+public interface ShallowCopyable {
+
+    /**
+     * Creates a shallow copy of this DataStore, where the values are the same
+     * objects as in this DataStore.
+     *
+     * <p>
+     * Both DataStores share the storage of the values until one of them is
+     * modified (copy-on-write), which makes copies that only change a few values
+     * cheap.
+     *
+     * @return a shallow copy of this DataStore
+     */
+    DataStore shallowCopy();
+}
@@ -23,7 +23,7 @@ import org.suikasoft.jOptions.storedefinition.StoreDefinition;
  * This class provides a basic DataStore backed by a map, supporting
  * construction from a name, another DataStore, or a StoreDefinition.
  */
-public class SimpleDataStore extends ADataStore {
+public class SimpleDataStore extends ADataStore implements ShallowCopyable {
 
     /**
      * Constructs a SimpleDataStore with the given name.
@@ -54,4 +54,19 @@ public class SimpleDataStore extends ADataStore {
         super(storeDefinition);
     }
 
+    /**
+     * Constructs a SimpleDataStore that shares the values of the given store until
+     * one of them is modified.
+     *
+     * @param dataStore the source DataStore
+     */
+    private SimpleDataStore(SimpleDataStore dataStore) {
+        super(dataStore);
+    }
+
+    @Override
+    public DataStore shallowCopy() {
+        return new SimpleDataStore(this);
+    }
+
 }
@@ -15,6 +15,7 @@ package org.suikasoft.jOptions.Datakey;
 
 import java.io.Serializable;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -46,6 +47,11 @@ public abstract class ADataKey<T> implements DataKey<T> {
     private transient final CustomGetter<T> customSetter;
     private transient final DataKeyExtraData extraData;
 
+    private static final AtomicInteger NEXT_KEY_ID = new AtomicInteger(1);
+
+    // Identifies this instance in the current JVM, 0 until first used
+    private transient volatile int keyId;
+
     /**
      * Constructs an instance of {@code ADataKey} with the specified parameters.
      *
@@ -91,6 +97,31 @@ public abstract class ADataKey<T> implements DataKey<T> {
         this(id, defaultValue, null, null, null, null, null, null, null, null);
     }
 
+    /**
+     * Returns a small positive number which identifies this key instance in the current JVM, assigned the first time
+     * this method is called. Ids are dense, so they can be used as indexes of arrays.
+     *
+     * <p>
+     * Used by {@link org.suikasoft.jOptions.storedefinition.StoreDefinitionIndexes} so that resolving the index of a
+     * key usually does not need a map lookup.
+     *
+     * @return the id of this key
+     */
+    public int getKeyId() {
+        int currentId = keyId;
+        if (currentId != 0) {
+            return currentId;
+        }
+
+        synchronized (this) {
+            if (keyId == 0) {
+                keyId = NEXT_KEY_ID.getAndIncrement();
+            }
+
+            return keyId;
+        }
+    }
+
     /**
      * Returns the name of this key.
      *
@@ -22,6 +22,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.suikasoft.jOptions.DataStore.CompactDataStore;
 import org.suikasoft.jOptions.DataStore.DataClass;
 import org.suikasoft.jOptions.DataStore.DataClassUtils;
 import org.suikasoft.jOptions.DataStore.DataStoreContainer;
@@ -372,11 +373,13 @@ public interface DataStore extends DataClass<DataStore> {
      * @param storeDefinition the StoreDefinition
      * @param closed          if true, no other keys besides the ones defined in the
      *                        StoreDefinition can be added
-     * @return a new DataStore instance
+     * @return a new DataStore instance, a {@link CompactDataStore} if closed and
+     *         the definition is compact
      */
     public static DataStore newInstance(StoreDefinition storeDefinition, boolean closed) {
         if (closed) {
-            return new ListDataStore(storeDefinition);
+            return storeDefinition.isCompact() ? new CompactDataStore(storeDefinition)
+                    : new ListDataStore(storeDefinition);
         } else {
             return new SimpleDataStore(storeDefinition);
         }
@@ -31,7 +31,10 @@ public abstract class AStoreDefinition implements StoreDefinition {
     private final String appName;
     private final List<StoreSection> sections;
     private final DataStore defaultData;
-    private final Map<String, DataKey<?>> keyMap = new HashMap<>();
+    private final boolean compact;
+    // Lazily initialized, volatile so that they are safely published when stores are created from several threads
+    private volatile Map<String, DataKey<?>> keyMap;
+    private volatile StoreDefinitionIndexes indexes;
 
     /**
      * Creates a new store definition with the given name and options.
@@ -52,18 +55,51 @@ public abstract class AStoreDefinition implements StoreDefinition {
      * @param defaultData the default data
      */
     protected AStoreDefinition(String appName, List<StoreSection> sections, DataStore defaultData) {
+        this(appName, sections, defaultData, false);
+    }
+
+    /**
+     * Creates a new store definition with the given name, sections, and default
+     * data.
+     *
+     * @param appName     the name of the store
+     * @param sections    the sections
+     * @param defaultData the default data
+     * @param compact     if true, closed stores of this definition use a compact
+     *                    implementation
+     */
+    protected AStoreDefinition(String appName, List<StoreSection> sections, DataStore defaultData,
+            boolean compact) {
         check(sections);
         this.appName = appName;
         this.sections = new ArrayList<>(sections);
         this.defaultData = defaultData;
+        this.compact = compact;
     }
 
     @Override
     public Map<String, DataKey<?>> getKeyMap() {
-        if (keyMap.isEmpty()) {
-            keyMap.putAll(StoreDefinition.super.getKeyMap());
+        Map<String, DataKey<?>> map = keyMap;
+        if (map == null) {
+            map = new HashMap<>(StoreDefinition.super.getKeyMap());
+            keyMap = map;
+        }
+        return map;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return compact;
+    }
+
+    @Override
+    public StoreDefinitionIndexes getIndexes() {
+        StoreDefinitionIndexes currentIndexes = indexes;
+        if (currentIndexes == null) {
+            currentIndexes = new StoreDefinitionIndexes(this);
+            indexes = currentIndexes;
         }
-        return keyMap;
+        return currentIndexes;
     }
 
     /**
@@ -45,6 +45,20 @@ public class GenericStoreDefinition extends AStoreDefinition {
         super(appName, sections, defaultValues);
     }
 
+    /**
+     * Creates a new store definition with the given name, sections, and default
+     * values.
+     *
+     * @param appName       the name of the store
+     * @param sections      the sections
+     * @param defaultValues the default values
+     * @param compact       if true, closed stores of this definition use a compact
+     *                      implementation
+     */
+    GenericStoreDefinition(String appName, List<StoreSection> sections, DataStore defaultValues, boolean compact) {
+        super(appName, sections, defaultValues, compact);
+    }
+
     @Override
     public String toString() {
         return getName() + " -> " + getKeys();
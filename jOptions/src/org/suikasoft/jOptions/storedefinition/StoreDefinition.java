@@ -166,6 +166,28 @@ public interface StoreDefinition {
         throw new NotImplementedException(getClass());
     }
 
+    /**
+     * Checks if closed DataStores of this definition should use the compact, array-based implementation.
+     *
+     * @return true if {@link DataStore#newInstance(StoreDefinition, boolean)} returns a
+     *         {@link org.suikasoft.jOptions.DataStore.CompactDataStore} for closed stores, false otherwise
+     */
+    default boolean isCompact() {
+        return false;
+    }
+
+    /**
+     * Returns the indexes of the keys of this definition, in the order returned by {@link #getKeys()}.
+     *
+     * <p>
+     * This method is thread-safe. The default implementation uses a cache shared by all definitions.
+     *
+     * @return the indexes of the keys
+     */
+    default StoreDefinitionIndexes getIndexes() {
+        return StoreDefinitionIndexes.getCached(this);
+    }
+
     /**
      * Checks if the store definition contains a key with the given name.
      *
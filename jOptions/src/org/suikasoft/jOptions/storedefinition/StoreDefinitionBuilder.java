@@ -41,6 +41,8 @@ public class StoreDefinitionBuilder {
     private final Set<String> addedKeys;
     /** Default data for the store definition. */
     private DataStore defaultData;
+    /** If closed stores of the definition use the compact implementation. */
+    private boolean compact;
 
     /**
      * Creates a new builder for the given application name.
@@ -53,6 +55,7 @@ public class StoreDefinitionBuilder {
         currentSection = null;
         addedKeys = new HashSet<>();
         defaultData = null;
+        compact = false;
     }
 
     /**
@@ -141,6 +144,18 @@ public class StoreDefinitionBuilder {
         return this;
     }
 
+    /**
+     * Sets if closed stores of the definition should use the compact, array-based
+     * implementation (see {@link StoreDefinition#isCompact()}).
+     *
+     * @param compact true to use the compact implementation
+     * @return this builder
+     */
+    public StoreDefinitionBuilder setCompact(boolean compact) {
+        this.compact = compact;
+        return this;
+    }
+
     /**
      * Builds the store definition.
      *
@@ -152,7 +167,7 @@ public class StoreDefinitionBuilder {
             sections.add(currentSection.build());
         }
 
-        return new GenericStoreDefinition(appName, sections, defaultData);
+        return new GenericStoreDefinition(appName, sections, defaultData, compact);
     }
 
     /**
@@ -13,19 +13,35 @@
 
 package org.suikasoft.jOptions.storedefinition;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
+import org.suikasoft.jOptions.Datakey.ADataKey;
 import org.suikasoft.jOptions.Datakey.DataKey;
 
 /**
  * Maps keys of a {@link StoreDefinition} to an index.
+ *
+ * <p>
+ * Instances can be shared between threads. The indexes of keys that extend {@link ADataKey} are also cached in an
+ * array indexed by the id of the key (see {@link ADataKey#getKeyId()}), so looking up the same key repeatedly only
+ * needs an array read.
  */
 public class StoreDefinitionIndexes {
 
+    // Weak keys, so that definitions that are no longer used can be collected
+    private static final Map<StoreDefinition, StoreDefinitionIndexes> CACHE = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
     private final Map<String, Integer> keysToIndexes;
 
+    // Index plus one of the keys looked up so far, by key id, 0 if unknown
+    private volatile int[] keyIdIndexes;
+
     /**
      * Builds the index map for the given store definition.
      *
@@ -37,6 +53,28 @@ public class StoreDefinitionIndexes {
         for (int i = 0; i < keys.size(); i++) {
             keysToIndexes.put(keys.get(i).getName(), i);
         }
+        this.keyIdIndexes = new int[0];
+    }
+
+    /**
+     * Returns the indexes of the given store definition, which are created once per definition and cached.
+     *
+     * <p>
+     * This method is thread-safe.
+     *
+     * @param definition the store definition
+     * @return the indexes of the definition
+     */
+    public static StoreDefinitionIndexes getCached(StoreDefinition definition) {
+        return CACHE.computeIfAbsent(definition, StoreDefinitionIndexes::new);
+    }
+
+    /**
+     *
+     * @return the number of keys in the index map
+     */
+    public int size() {
+        return keysToIndexes.size();
     }
 
     /**
@@ -47,7 +85,35 @@ public class StoreDefinitionIndexes {
      * @throws RuntimeException if the key is not present
      */
     public int getIndex(DataKey<?> key) {
-        return getIndex(key.getName());
+        if (!(key instanceof ADataKey<?> denseKey)) {
+            return getIndex(key.getName());
+        }
+
+        int keyId = denseKey.getKeyId();
+        int index = getCachedIndex(keyId);
+        if (index < 0) {
+            index = getIndex(key.getName());
+            setCachedIndex(keyId, index);
+        }
+
+        return index;
+    }
+
+    private int getCachedIndex(int keyId) {
+        int[] indexes = keyIdIndexes;
+        return keyId < indexes.length ? indexes[keyId] - 1 : -1;
+    }
+
+    private synchronized void setCachedIndex(int keyId, int index) {
+        int[] indexes = keyIdIndexes;
+        if (keyId >= indexes.length) {
+            indexes = Arrays.copyOf(indexes, Math.max(keyId + 1, indexes.length * 2));
+        }
+
+        indexes[keyId] = index + 1;
+
+        // Publishes the update, other threads that do not see it yet just look up the name again
+        keyIdIndexes = indexes;
     }
 
     /**
@@ -72,6 +138,10 @@ public class StoreDefinitionIndexes {
      * @return true if present, false otherwise
      */
     public boolean hasIndex(DataKey<?> key) {
+        if (key instanceof ADataKey<?> denseKey && getCachedIndex(denseKey.getKeyId()) >= 0) {
+            return true;
+        }
+
         return hasIndex(key.getName());
     }
 
@@ -43,6 +43,10 @@ public class StoreDefinitions {
      * Collects all public static DataKey fields and builds a StoreDefinition with
      * those fields.
      *
+     * <p>
+     * If the class implements {@link UsesCompactDataStore}, the definition is
+     * compact.
+     *
      * @param aClass the class to extract DataKeys from
      * @return a StoreDefinition with the DataKeys from the class
      */
@@ -64,7 +68,8 @@ public class StoreDefinitions {
         if (aClass == null) {
             throw new RuntimeException("Class cannot be null");
         }
-        StoreDefinitionBuilder builder = new StoreDefinitionBuilder(aClass.getSimpleName());
+        StoreDefinitionBuilder builder = new StoreDefinitionBuilder(aClass.getSimpleName())
+                .setCompact(UsesCompactDataStore.class.isAssignableFrom(aClass));
         for (Field field : aClass.getFields()) {
             if (!DataKey.class.isAssignableFrom(field.getType())) {
                 continue;
@@ -0,0 +1,28 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.storedefinition;
+
+/**
+ * Marker interface for classes whose {@link StoreDefinition}, as built by
+ * {@link StoreDefinitions#fromInterface(Class)}, is compact.
+ *
+ * <p>
+ * Closed DataStores of compact definitions are
+ * {@link org.suikasoft.jOptions.DataStore.CompactDataStore} instances, which is
+ * useful for classes with many instances, such as the nodes of a large
+ * {@link org.suikasoft.jOptions.treenode.DataNode} tree.
+ */
+public interface UsesCompactDataStore {
+
+}
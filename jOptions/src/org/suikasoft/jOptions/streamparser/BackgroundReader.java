@@ -0,0 +1,123 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.streamparser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reader that reads and decodes another Reader in a separate thread, so that reading the input overlaps with
+ * processing it.
+ *
+ * <p>
+ * The decoded characters are passed in chunks through a bounded queue, which limits how far the reading thread can get
+ * ahead of the consumer.
+ */
+class BackgroundReader extends Reader {
+
+    // Marks the end of the input
+    private static final CharBuffer END = CharBuffer.allocate(0);
+
+    private final BlockingQueue<CharBuffer> chunks;
+    private final Thread thread;
+
+    private volatile IOException error;
+    private volatile boolean closed;
+    private CharBuffer current;
+
+    /**
+     *
+     * @param source    the reader that will be read in the background
+     * @param chunkSize the number of chars in each chunk
+     * @param maxChunks the maximum number of chunks that can be waiting to be consumed
+     */
+    public BackgroundReader(Reader source, int chunkSize, int maxChunks) {
+        this.chunks = new ArrayBlockingQueue<>(maxChunks);
+        this.error = null;
+        this.closed = false;
+        this.current = null;
+
+        this.thread = new Thread(() -> readAll(source, chunkSize), "LineStreamParser-reader");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void readAll(Reader source, int chunkSize) {
+        try (source) {
+            while (!closed) {
+                char[] buffer = new char[chunkSize];
+                int numChars = source.read(buffer);
+                if (numChars < 0) {
+                    break;
+                }
+
+                chunks.put(CharBuffer.wrap(buffer, 0, numChars));
+            }
+        } catch (IOException e) {
+            error = e;
+        } catch (InterruptedException e) {
+            // Closed by the consumer
+            return;
+        }
+
+        try {
+            chunks.put(END);
+        } catch (InterruptedException e) {
+            // Closed by the consumer
+        }
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        if (current == null || !current.hasRemaining()) {
+            if (current == END) {
+                return -1;
+            }
+
+            try {
+                current = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for input", e);
+            }
+
+            if (current == END) {
+                if (error != null) {
+                    throw error;
+                }
+
+                return -1;
+            }
+        }
+
+        int numChars = Math.min(len, current.remaining());
+        current.get(cbuf, off, numChars);
+
+        return numChars;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+        chunks.clear();
+    }
+}
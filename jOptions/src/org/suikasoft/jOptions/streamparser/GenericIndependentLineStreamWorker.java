@@ -0,0 +1,88 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.streamparser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.suikasoft.jOptions.DataStore.DataClass;
+
+import pt.up.fe.specs.util.utilities.LineStream;
+
+/**
+ * Default implementation of {@link IndependentLineStreamWorker}, for records with a fixed number of lines.
+ *
+ * @param <T> the type of DataClass
+ * @param <R> the type of the result of parsing a record
+ */
+class GenericIndependentLineStreamWorker<T extends DataClass<T>, R> implements IndependentLineStreamWorker<T, R> {
+
+    private final String id;
+    private final int numLines;
+    private final Function<List<String>, R> parse;
+    private final BiConsumer<R, T> merge;
+
+    /**
+     * Creates a new worker.
+     *
+     * @param id       the worker id
+     * @param numLines the number of lines of each record, not counting the id
+     * @param parse    parses the lines of a record
+     * @param merge    adds the result of a record to the data
+     */
+    public GenericIndependentLineStreamWorker(String id, int numLines, Function<List<String>, R> parse,
+            BiConsumer<R, T> merge) {
+
+        if (numLines < 0) {
+            throw new IllegalArgumentException("Number of lines must be non-negative: " + numLines);
+        }
+
+        this.id = id;
+        this.numLines = numLines;
+        this.parse = parse;
+        this.merge = merge;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void init(T data) {
+        // Nothing to initialize
+    }
+
+    @Override
+    public List<String> readRecord(LineStream lineStream) {
+        List<String> record = new ArrayList<>(numLines);
+        for (int i = 0; i < numLines && lineStream.hasNextLine(); i++) {
+            record.add(lineStream.nextLine());
+        }
+
+        return record;
+    }
+
+    @Override
+    public R parse(List<String> record) {
+        return parse.apply(record);
+    }
+
+    @Override
+    public void merge(R result, T data) {
+        merge.accept(result, data);
+    }
+}
@@ -13,12 +13,25 @@
 
 package org.suikasoft.jOptions.streamparser;
 
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 
 import org.suikasoft.jOptions.DataStore.DataClass;
 
+import pt.up.fe.specs.util.SpecsLogs;
+import pt.up.fe.specs.util.SpecsSystem;
 import pt.up.fe.specs.util.utilities.LineStream;
 
 /**
@@ -28,12 +41,23 @@ import pt.up.fe.specs.util.utilities.LineStream;
  */
 class GenericLineStreamParser<T extends DataClass<T>> implements LineStreamParser<T> {
 
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_CHUNKS = 16;
+
+    // Maximum number of records waiting to be merged, per thread
+    private static final int PENDING_PER_THREAD = 64;
+
     private final T data;
     private final Map<String, LineStreamWorker<T>> workers;
     private LineStream currentLineStream;
     private Predicate<String> lineIgnore;
     private int numExceptions;
 
+    // Only set while parsing with a pipeline
+    private ExecutorService executor;
+    private int maxPending;
+    private final Deque<PendingRecord<T, ?>> pending;
+
     /**
      * Creates a new parser with the given input data and workers.
      *
@@ -47,6 +71,9 @@ class GenericLineStreamParser<T extends DataClass<T>> implements LineStreamParse
         currentLineStream = null;
         lineIgnore = null;
         numExceptions = 0;
+        executor = null;
+        maxPending = 0;
+        pending = new ArrayDeque<>();
     }
 
     /**
@@ -97,6 +124,17 @@ class GenericLineStreamParser<T extends DataClass<T>> implements LineStreamParse
             if (worker == null) {
                 return false;
             }
+
+            if (executor != null && worker instanceof IndependentLineStreamWorker<T, ?> independentWorker) {
+                submit(id, independentWorker, lineStream);
+                return true;
+            }
+
+            // Other workers can read the data, merge the records that came before
+            if (executor != null) {
+                mergePending(0);
+            }
+
             worker.apply(lineStream, data);
             return true;
         } catch (Exception e) {
@@ -105,6 +143,60 @@ class GenericLineStreamParser<T extends DataClass<T>> implements LineStreamParse
         }
     }
 
+    /**
+     * Parses the input stream with a pipeline: a background thread reads the input, and the records of independent
+     * workers are parsed in a thread pool and merged in the order they appear in the input.
+     */
+    @Override
+    public String parse(InputStream inputStream, File dumpFile, boolean printLinesNotParsed,
+            boolean storeLinesNotParsed, int numThreads) {
+
+        if (numThreads <= 1) {
+            return parse(inputStream, dumpFile, printLinesNotParsed, storeLinesNotParsed);
+        }
+
+        var reader = new BackgroundReader(new InputStreamReader(inputStream), CHUNK_SIZE, MAX_CHUNKS);
+
+        executor = Executors.newFixedThreadPool(numThreads, SpecsSystem.getDaemonThreadFactory());
+        maxPending = numThreads * PENDING_PER_THREAD;
+
+        try (LineStream lines = LineStream.newInstance(reader, Optional.empty())) {
+            return parse(lines, dumpFile, printLinesNotParsed, storeLinesNotParsed);
+        } finally {
+            try {
+                mergePending(0);
+            } finally {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+    private <R> void submit(String id, IndependentLineStreamWorker<T, R> worker, LineStream lineStream) {
+        // Lines are read in this thread, to keep the order of the stream
+        List<String> record = worker.readRecord(lineStream);
+        Future<R> result = executor.submit(() -> worker.parse(record));
+        pending.add(new PendingRecord<>(id, worker, result));
+
+        // Bound the number of records in memory
+        mergePending(maxPending);
+    }
+
+    /**
+     * Merges the oldest pending records, until there are at most the given number of pending records.
+     */
+    private void mergePending(int maxRecords) {
+        while (pending.size() > maxRecords) {
+            PendingRecord<T, ?> record = pending.poll();
+            try {
+                record.merge(data);
+            } catch (Exception e) {
+                numExceptions++;
+                SpecsLogs.warn("Problems while parsing '" + record.id() + "'", e);
+            }
+        }
+    }
+
     /**
      * Returns the collection of worker IDs.
      *
@@ -156,4 +248,22 @@ class GenericLineStreamParser<T extends DataClass<T>> implements LineStreamParse
         this.lineIgnore = ignorePredicate;
     }
 
+    private record PendingRecord<T extends DataClass<T>, R>(String id, IndependentLineStreamWorker<T, R> worker,
+            Future<R> result) {
+
+        void merge(T data) throws InterruptedException {
+            R value;
+            try {
+                value = result.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+
+                throw new RuntimeException(e.getCause());
+            }
+
+            worker.merge(value, data);
+        }
+    }
 }
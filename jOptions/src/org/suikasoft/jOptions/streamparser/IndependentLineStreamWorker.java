@@ -0,0 +1,88 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.streamparser;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.suikasoft.jOptions.DataStore.DataClass;
+
+import pt.up.fe.specs.util.utilities.LineStream;
+
+/**
+ * Worker whose records can be parsed independently of the data and of other records, which allows a pipelined
+ * {@link LineStreamParser} to parse them in parallel.
+ *
+ * <p>
+ * Applying the worker is split in three steps:
+ * <ol>
+ * <li>{@link #readRecord(LineStream)} reads the lines of the record, in the thread that reads the input;
+ * <li>{@link #parse(List)} parses the lines, possibly in another thread and concurrently with other records, and must
+ * not access shared state;
+ * <li>{@link #merge(Object, DataClass)} adds the result to the data. Results of independent workers are merged in the
+ * order of the input, and before any other worker is applied to a later record.
+ * </ol>
+ *
+ * @param <T> the type of DataClass
+ * @param <R> the type of the result of parsing a record
+ */
+public interface IndependentLineStreamWorker<T extends DataClass<T>, R> extends LineStreamWorker<T> {
+
+    /**
+     * Creates a new independent worker whose records have a fixed number of lines after the id.
+     *
+     * @param id       the worker id
+     * @param numLines the number of lines of each record, not counting the id
+     * @param parse    parses the lines of a record
+     * @param merge    adds the result of a record to the data
+     * @return a new IndependentLineStreamWorker
+     */
+    static <T extends DataClass<T>, R> IndependentLineStreamWorker<T, R> newInstance(String id, int numLines,
+            Function<List<String>, R> parse, BiConsumer<R, T> merge) {
+        return new GenericIndependentLineStreamWorker<>(id, numLines, parse, merge);
+    }
+
+    /**
+     * Reads the lines of a record, after the line with the id. Should do as little work as possible.
+     *
+     * @param lineStream the line stream
+     * @return the lines of the record
+     */
+    List<String> readRecord(LineStream lineStream);
+
+    /**
+     * Parses the lines of a record. Can be called concurrently from several threads.
+     *
+     * @param record the lines of the record
+     * @return the result of parsing the record
+     */
+    R parse(List<String> record);
+
+    /**
+     * Adds the result of parsing a record to the data.
+     *
+     * @param result the result of {@link #parse(List)}
+     * @param data   the data to update
+     */
+    void merge(R result, T data);
+
+    /**
+     * Reads, parses and merges a record in the current thread.
+     */
+    @Override
+    default void apply(LineStream lineStream, T data) {
+        merge(parse(readRecord(lineStream)), data);
+    }
+}
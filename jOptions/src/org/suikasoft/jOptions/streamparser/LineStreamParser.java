@@ -92,52 +92,96 @@ public interface LineStreamParser<T extends DataClass<T>> extends AutoCloseable
     default String parse(InputStream inputStream, File dumpFile, boolean printLinesNotParsed,
             boolean storeLinesNotParsed) {
 
-        StringBuilder linesNotParsed = new StringBuilder();
-
         try (LineStream lines = LineStream.newInstance(inputStream, null)) {
-            lines.setDumpFile(dumpFile);
-            if (SpecsSystem.isDebug()) {
-                lines.enableLastLines(10);
-            }
+            return parse(lines, dumpFile, printLinesNotParsed, storeLinesNotParsed);
+        }
+    }
 
-            while (lines.hasNextLine()) {
+    /**
+     * Parses an input stream with a pipeline, and optionally dumps unparsed lines
+     * to a file.
+     *
+     * <p>
+     * The input is read and decoded in a separate thread, and the records of
+     * {@link IndependentLineStreamWorker}s are parsed in parallel, using the given
+     * number of threads. The result is the same as
+     * {@link #parse(InputStream, File, boolean, boolean)}, as long as the
+     * independent workers follow their contract.
+     *
+     * <p>
+     * By default, parses the input sequentially.
+     *
+     * @param inputStream         the input stream
+     * @param dumpFile            the file to dump unparsed lines
+     * @param printLinesNotParsed whether to print unparsed lines
+     * @param storeLinesNotParsed whether to store unparsed lines
+     * @param numThreads          the number of threads that parse records of
+     *                            independent workers
+     * @return lines of the inputStream that were not parsed
+     */
+    default String parse(InputStream inputStream, File dumpFile, boolean printLinesNotParsed,
+            boolean storeLinesNotParsed, int numThreads) {
 
-                // Line that will be used as id
-                String currentLine = lines.nextLine();
+        return parse(inputStream, dumpFile, printLinesNotParsed, storeLinesNotParsed);
+    }
 
-                // If parser null, check linestream parsers
-                if (getIds().contains(currentLine)) {
-                    try {
-                        parse(currentLine, lines);
-                    } catch (Exception e) {
-                        SpecsLogs.warn("Problems while parsing '" + currentLine + "'", e);
-                    }
+    /**
+     * Parses the lines of a line stream, and optionally dumps unparsed lines to a
+     * file.
+     *
+     * @param lines               the line stream
+     * @param dumpFile            the file to dump unparsed lines
+     * @param printLinesNotParsed whether to print unparsed lines
+     * @param storeLinesNotParsed whether to store unparsed lines
+     * @return lines of the stream that were not parsed
+     */
+    default String parse(LineStream lines, File dumpFile, boolean printLinesNotParsed,
+            boolean storeLinesNotParsed) {
+
+        StringBuilder linesNotParsed = new StringBuilder();
+
+        lines.setDumpFile(dumpFile);
+        if (SpecsSystem.isDebug()) {
+            lines.enableLastLines(10);
+        }
+
+        while (lines.hasNextLine()) {
+
+            // Line that will be used as id
+            String currentLine = lines.nextLine();
 
-                    continue;
+            // If parser null, check linestream parsers
+            if (getIds().contains(currentLine)) {
+                try {
+                    parse(currentLine, lines);
+                } catch (Exception e) {
+                    SpecsLogs.warn("Problems while parsing '" + currentLine + "'", e);
                 }
 
-                // If line should not be ignored, add to warnings
-                if (!getLineIgnore().test(currentLine)) {
-                    // Add line to the warnings
-                    if (storeLinesNotParsed) {
-                        if (SpecsSystem.isDebug()) {
-                            SpecsLogs.debug(() -> "LineStreamParser: line not parsed, '" + currentLine
-                                    + "'\nPrevious lines:\n"
-                                    + String.join("\n", lines.getLastLines()));
+                continue;
+            }
 
-                        }
+            // If line should not be ignored, add to warnings
+            if (!getLineIgnore().test(currentLine)) {
+                // Add line to the warnings
+                if (storeLinesNotParsed) {
+                    if (SpecsSystem.isDebug()) {
+                        SpecsLogs.debug(() -> "LineStreamParser: line not parsed, '" + currentLine
+                                + "'\nPrevious lines:\n"
+                                + String.join("\n", lines.getLastLines()));
 
-                        linesNotParsed.append(currentLine).append("\n");
                     }
 
-                    if (printLinesNotParsed) {
-                        SpecsLogs.msgInfo(currentLine);
-                    }
-                } else {
-                    SpecsLogs.debug("Ignoring line: " + currentLine);
+                    linesNotParsed.append(currentLine).append("\n");
                 }
 
+                if (printLinesNotParsed) {
+                    SpecsLogs.msgInfo(currentLine);
+                }
+            } else {
+                SpecsLogs.debug("Ignoring line: " + currentLine);
             }
+
         }
 
         return linesNotParsed.toString();
@@ -13,7 +13,6 @@
 
 package org.suikasoft.jOptions.treenode;
 
-import java.lang.reflect.Constructor;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -175,17 +174,10 @@ public class ClassesService<T extends DataNode<T>> {
 
         // Create builder
         try {
-            Constructor<? extends T> constructor = dataNodeClass.getConstructor(
-                    DataStore.class,
-                    Collection.class);
-
-            return (data, children) -> {
-                try {
-                    return constructor.newInstance(data, children);
-                } catch (Exception e) {
-                    throw new RuntimeException("Could not call constructor for DataNode", e);
-                }
-            };
+            // Fail early if there is no constructor
+            DataNodeConstructors.get(dataNodeClass);
+
+            return (data, children) -> DataNodeConstructors.newInstance(dataNodeClass, data, children);
 
         } catch (Exception e) {
             SpecsLogs.msgLib("Could not create constructor for DataNode:" + e.getMessage());
@@ -13,7 +13,6 @@
 
 package org.suikasoft.jOptions.treenode;
 
-import java.lang.reflect.Constructor;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -21,6 +20,7 @@ import java.util.Optional;
 
 import org.suikasoft.jOptions.DataStore.DataClass;
 import org.suikasoft.jOptions.DataStore.GenericDataClass;
+import org.suikasoft.jOptions.DataStore.ShallowCopyable;
 import org.suikasoft.jOptions.Datakey.DataKey;
 import org.suikasoft.jOptions.Interfaces.DataStore;
 import org.suikasoft.jOptions.storedefinition.StoreDefinition;
@@ -135,29 +135,16 @@ public abstract class DataNode<K extends DataNode<K>> extends ATreeNode<K>
     @Override
     protected K copyPrivate() {
         // Create a new DataStore that can hold the same types of keys as the original
-        String dataStoreName = data.getName() != null ? data.getName() : "CopiedDataStore";
-        DataStore newDataStore = DataStore.newInstance(dataStoreName, data);
-
-        return newInstanceWithDataStore((Class<K>) getClass(), newDataStore, Collections.emptyList());
-
-    }
-
-    /**
-     * Creates a new node instance with the given DataStore.
-     */
-    private static <K extends DataNode<K>, T extends K> K newInstanceWithDataStore(Class<T> nodeClass,
-            DataStore dataStore, List<K> children) {
-        try {
-            Constructor<T> constructorMethod = nodeClass.getConstructor(DataStore.class, Collection.class);
-            try {
-                return nodeClass.cast(constructorMethod.newInstance(dataStore, children));
-            } catch (Exception e) {
-                throw new RuntimeException("Could not call constructor for DataNode", e);
-            }
-
-        } catch (Exception e) {
-            throw new RuntimeException("Could not create constructor for DataNode", e);
+        DataStore newDataStore;
+        if (data instanceof ShallowCopyable copyable) {
+            // Shares the values with the original until one of them changes
+            newDataStore = copyable.shallowCopy();
+        } else {
+            String dataStoreName = data.getName() != null ? data.getName() : "CopiedDataStore";
+            newDataStore = DataStore.newInstance(dataStoreName, data);
         }
+
+        return DataNodeConstructors.newInstance((Class<K>) getClass(), newDataStore, Collections.emptyList());
     }
 
     /*** STATIC HELPER METHODS ***/
@@ -165,6 +152,11 @@ public abstract class DataNode<K extends DataNode<K>> extends ATreeNode<K>
     /**
      * Creates a new DataStore for the given node class.
      *
+     * <p>
+     * If the node class implements
+     * {@link org.suikasoft.jOptions.storedefinition.UsesCompactDataStore}, returns a
+     * {@link org.suikasoft.jOptions.DataStore.CompactDataStore}.
+     *
      * @param nodeClass the class of the node
      * @return a new DataStore instance
      */
@@ -183,17 +175,7 @@ public abstract class DataNode<K extends DataNode<K>> extends ATreeNode<K>
 
         DataStore newDataStore = DataNode.newDataStore(nodeClass);
 
-        try {
-            Constructor<T> constructorMethod = nodeClass.getConstructor(DataStore.class, Collection.class);
-            try {
-                return nodeClass.cast(constructorMethod.newInstance(newDataStore, children));
-            } catch (Exception e) {
-                throw new RuntimeException("Could not call constructor for ClavaNode", e);
-            }
-
-        } catch (Exception e) {
-            throw new RuntimeException("Could not create constructor for ClavaNode", e);
-        }
+        return DataNodeConstructors.newInstance(nodeClass, newDataStore, children);
     }
 
     @Override
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2026 SPeCS Research Group.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.suikasoft.jOptions.treenode;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Collection;
+
+import org.suikasoft.jOptions.Interfaces.DataStore;
+
+/**
+ * Cache of the (DataStore, Collection) constructors of DataNode classes, as
+ * method handles.
+ *
+ * <p>
+ * Avoids looking up the constructor with reflection every time a node is
+ * created or copied.
+ */
+class DataNodeConstructors {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, DataStore.class,
+            Collection.class);
+
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> nodeClass) {
+            try {
+                Constructor<?> constructor = nodeClass.getConstructor(DataStore.class, Collection.class);
+                return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Could not create constructor for DataNode " + nodeClass.getName(), e);
+            }
+        }
+    };
+
+    private DataNodeConstructors() {
+    }
+
+    /**
+     * Returns the constructor of the given class, with type (DataStore, Collection)Object.
+     *
+     * @param nodeClass the class of the node
+     * @return a method handle for the constructor
+     * @throws RuntimeException if the class does not have a public constructor that receives a DataStore and a
+     *                          Collection
+     */
+    static MethodHandle get(Class<?> nodeClass) {
+        return CONSTRUCTORS.get(nodeClass);
+    }
+
+    /**
+     * Creates a new node with the given data and children.
+     *
+     * @param nodeClass the class of the node
+     * @param data      the DataStore of the node
+     * @param children  the children of the node
+     * @return the new node
+     */
+    static <T> T newInstance(Class<T> nodeClass, DataStore data, Collection<?> children) {
+        MethodHandle constructor = get(nodeClass);
+
+        try {
+            return nodeClass.cast((Object) constructor.invokeExact(data, children));
+        } catch (Throwable e) {
+            throw new RuntimeException("Could not call constructor for DataNode", e);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package org.suikasoft.jOptions.DataStore;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.suikasoft.jOptions.Datakey.DataKey;
+import org.suikasoft.jOptions.Datakey.KeyFactory;
+import org.suikasoft.jOptions.Interfaces.DataStore;
+import org.suikasoft.jOptions.storedefinition.StoreDefinition;
+import org.suikasoft.jOptions.storedefinition.StoreDefinitionBuilder;
+
+/**
+ * Test suite for CompactDataStore.
+ *
+ * Tests the array-backed storage, the lazy default values, custom getters and
+ * setters, and how the implementation is selected from the StoreDefinition.
+ */
+@DisplayName("CompactDataStore Tests")
+class CompactDataStoreTest {
+
+    private DataKey<String> stringKey;
+    private DataKey<Integer> intKey;
+    private DataKey<Double> doubleKey;
+    private DataKey<List<String>> listKey;
+    private DataKey<String> upperKey;
+    private StoreDefinition definition;
+    private CompactDataStore store;
+
+    @BeforeEach
+    void setUp() {
+        stringKey = KeyFactory.string("string", "default");
+        intKey = KeyFactory.integer("int");
+        doubleKey = KeyFactory.object("double", Double.class);
+        listKey = KeyFactory.list("list", String.class).setDefault(() -> new ArrayList<>());
+        upperKey = KeyFactory.string("upper")
+                .setCustomGetter((value, data) -> value.toUpperCase());
+
+        definition = new StoreDefinitionBuilder("Compact")
+                .addKeys(stringKey, intKey, doubleKey, listKey, upperKey)
+                .setCompact(true)
+                .build();
+
+        store = new CompactDataStore(definition);
+    }
+
+    @Nested
+    @DisplayName("Selection Tests")
+    class SelectionTests {
+
+        @Test
+        @DisplayName("Closed stores of compact definitions should be compact")
+        void testNewInstance_CompactDefinition() {
+            assertThat(DataStore.newInstance(definition, true)).isInstanceOf(CompactDataStore.class);
+            assertThat(DataStore.newInstance(definition, false)).isInstanceOf(SimpleDataStore.class);
+        }
+
+        @Test
+        @DisplayName("Closed stores of other definitions should not be compact")
+        void testNewInstance_NormalDefinition() {
+            StoreDefinition normal = StoreDefinition.newInstance("Normal", stringKey, intKey);
+
+            assertThat(normal.isCompact()).isFalse();
+            assertThat(DataStore.newInstance(normal, true)).isInstanceOf(ListDataStore.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get and Set Tests")
+    class GetSetTests {
+
+        @Test
+        @DisplayName("Should store and retrieve values")
+        void testSetGet() {
+            store.set(stringKey, "value").set(intKey, 10);
+
+            assertThat(store.get(stringKey)).isEqualTo("value");
+            assertThat(store.get(intKey)).isEqualTo(10);
+            assertThat(store.hasValue(stringKey)).isTrue();
+            assertThat(store.getKeysWithValues()).containsExactly("string", "int");
+            assertThat(store.get("int")).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should return default values without storing them")
+        void testDefaultNotStored() {
+            assertThat(store.get(stringKey)).isEqualTo("default");
+            assertThat(store.hasValue(stringKey)).isFalse();
+
+            // Mutable defaults are not kept
+            store.get(listKey).add("element");
+            assertThat(store.get(listKey)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should throw when there is no value nor default")
+        void testNoDefault() {
+            assertThatThrownBy(() -> store.get(doubleKey))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("No default value");
+        }
+
+        @Test
+        @DisplayName("Should throw in strict mode when there is no value")
+        void testStrict() {
+            store.setStrict(true);
+
+            assertThatThrownBy(() -> store.get(stringKey))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("No value present");
+        }
+
+        @Test
+        @DisplayName("Should apply custom getters and setters")
+        void testCustomGetterAndSetter() {
+            store.set(upperKey, "value");
+            assertThat(store.get(upperKey)).isEqualTo("VALUE");
+            assertThat(store.get("upper")).isEqualTo("value");
+
+            // The custom setter of list keys copies the list
+            List<String> list = List.of("a");
+            store.set(listKey, list);
+            assertThat(store.get(listKey)).containsExactly("a").isNotSameAs(list);
+        }
+
+        @Test
+        @DisplayName("Should use the custom getter of keys that are not the instance in the definition")
+        void testEqualKeyWithDifferentGetter() {
+            DataKey<String> otherStringKey = KeyFactory.string("string")
+                    .setCustomGetter((value, data) -> value + "!");
+
+            store.set(stringKey, "value");
+
+            assertThat(store.get(stringKey)).isEqualTo("value");
+            assertThat(store.get(otherStringKey)).isEqualTo("value!");
+        }
+
+        @Test
+        @DisplayName("Should reject values of the wrong type")
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        void testWrongType() {
+            DataKey rawKey = intKey;
+
+            assertThatThrownBy(() -> store.set(rawKey, "not an integer"))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("Tried to add a value of type");
+        }
+
+        @Test
+        @DisplayName("Should ignore keys that are not in the definition")
+        void testUnknownKey() {
+            DataKey<String> unknownKey = KeyFactory.string("unknown");
+
+            store.set(unknownKey, "value");
+
+            assertThat(store.hasValue(unknownKey)).isFalse();
+            assertThat(store.setRaw("unknown", "value")).isEmpty();
+            assertThat(store.get("unknown")).isNull();
+            assertThat(store.getKeysWithValues()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should remove values")
+        void testRemove() {
+            store.set(intKey, 10);
+
+            assertThat(store.remove(intKey)).contains(10);
+            assertThat(store.hasValue(intKey)).isFalse();
+            assertThat(store.remove(intKey)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Copy and Equality Tests")
+    class CopyEqualityTests {
+
+        @Test
+        @DisplayName("Copies should be compact and independent")
+        void testCopy() {
+            store.set(stringKey, "value").set(listKey, List.of("a"));
+
+            DataStore copy = store.copy();
+
+            assertThat(copy).isInstanceOf(CompactDataStore.class).isEqualTo(store);
+            copy.get(listKey).add("b");
+            assertThat(store.get(listKey)).containsExactly("a");
+        }
+
+        @Test
+        @DisplayName("Shallow copies should share values until one of the stores is modified")
+        void testShallowCopy() {
+            store.set(stringKey, "value").set(intKey, 1);
+
+            DataStore copy = store.shallowCopy();
+            DataStore copyOfCopy = ((CompactDataStore) copy).shallowCopy();
+
+            assertThat(copy).isInstanceOf(CompactDataStore.class).isEqualTo(store);
+
+            copy.set(intKey, 2);
+            store.remove(stringKey);
+
+            assertThat(store.get(intKey)).isEqualTo(1);
+            assertThat(store.hasValue(stringKey)).isFalse();
+            assertThat(copy.get(intKey)).isEqualTo(2);
+            assertThat(copy.get(stringKey)).isEqualTo("value");
+            assertThat(copyOfCopy.get(intKey)).isEqualTo(1);
+            assertThat(copyOfCopy.get(stringKey)).isEqualTo("value");
+        }
+
+        @Test
+        @DisplayName("Stores with different values should not be equal")
+        void testNotEquals() {
+            CompactDataStore other = new CompactDataStore(definition);
+            other.set(intKey, 1);
+
+            assertThat(other).isNotEqualTo(store);
+            assertThat(new CompactDataStore(definition)).isEqualTo(store).hasSameHashCodeAs(store);
+        }
+
+        @Test
+        @DisplayName("Should not allow changing the definition")
+        void testSetStoreDefinition() {
+            assertThat(store.getStoreDefinitionTry()).contains(definition);
+            assertThat(store.isClosed()).isTrue();
+            assertThatThrownBy(() -> store.setStoreDefinition(definition)).isInstanceOf(RuntimeException.class);
+        }
+    }
+}
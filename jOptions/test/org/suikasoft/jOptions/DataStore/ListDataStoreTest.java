@@ -4,10 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +20,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.suikasoft.jOptions.Datakey.DataKey;
 import org.suikasoft.jOptions.Datakey.KeyFactory;
+import org.suikasoft.jOptions.Interfaces.DataStore;
 import org.suikasoft.jOptions.storedefinition.StoreDefinition;
 
 /**
@@ -441,4 +447,72 @@ class ListDataStoreTest {
             assertThat(copy.hasValue(intKey)).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("Concurrency")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("stores can be created and used concurrently from several threads")
+        void testConcurrentStores_SameDefinition_ResolveIndexesCorrectly() throws Exception {
+            // A fresh definition, so that its indexes are built by the worker threads
+            StoreDefinition definition = StoreDefinition.newInstance("Concurrent Store", stringKey, intKey, boolKey);
+
+            int numThreads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+            CountDownLatch start = new CountDownLatch(1);
+
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < numThreads; i++) {
+                    int threadId = i;
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        for (int j = 0; j < 1000; j++) {
+                            ListDataStore store = new ListDataStore(definition);
+                            store.set(intKey, threadId * 1000 + j);
+                            store.set(stringKey, "value" + j);
+
+                            if (store.get(intKey) != threadId * 1000 + j || !store.get(stringKey).equals("value" + j)
+                                    || store.hasValue(boolKey)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }));
+                }
+                start.countDown();
+
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get()).isTrue();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Shallow Copy")
+    class ShallowCopyTests {
+
+        @Test
+        @DisplayName("shallow copy shares values until one of the stores is modified")
+        void testShallowCopy_CopyOnWrite() {
+            listDataStore.set(stringKey, "value");
+            listDataStore.set(intKey, 1);
+
+            DataStore copy = listDataStore.shallowCopy();
+
+            assertThat(copy).isInstanceOf(ListDataStore.class).isEqualTo(listDataStore);
+
+            copy.set(intKey, 2);
+            listDataStore.remove(stringKey);
+
+            assertThat(listDataStore.get(intKey)).isEqualTo(1);
+            assertThat(listDataStore.hasValue(stringKey)).isFalse();
+            assertThat(copy.get(intKey)).isEqualTo(2);
+            assertThat(copy.get(stringKey)).isEqualTo("value");
+        }
+    }
 }
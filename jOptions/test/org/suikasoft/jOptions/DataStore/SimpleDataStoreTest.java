@@ -330,4 +330,29 @@ class SimpleDataStoreTest {
             assertThat(stringRepresentation).contains("toString-test");
         }
     }
+
+    @Nested
+    @DisplayName("Shallow Copy Tests")
+    class ShallowCopyTests {
+
+        @Test
+        @DisplayName("shallow copy shares values until one of the stores is modified")
+        void testShallowCopy_CopyOnWrite() {
+            SimpleDataStore original = new SimpleDataStore("original");
+            original.set(stringKey, "value");
+            original.set(intKey, 1);
+
+            DataStore copy = original.shallowCopy();
+
+            assertThat(copy).isInstanceOf(SimpleDataStore.class).isEqualTo(original);
+
+            copy.set(intKey, 2);
+            original.remove(stringKey);
+
+            assertThat(original.get(intKey)).isEqualTo(1);
+            assertThat(original.hasValue(stringKey)).isFalse();
+            assertThat(copy.get(intKey)).isEqualTo(2);
+            assertThat(copy.get(stringKey)).isEqualTo("value");
+        }
+    }
 }
@@ -10,8 +10,14 @@ import org.mockito.MockitoAnnotations;
 import org.suikasoft.jOptions.Datakey.DataKey;
 import org.suikasoft.jOptions.Datakey.KeyFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.assertTimeout;
@@ -316,6 +322,110 @@ class StoreDefinitionIndexesTest {
         }
     }
 
+    @Nested
+    @DisplayName("Caching Tests")
+    class CachingTests {
+
+        @Test
+        @DisplayName("Should return the same indexes for the same definition")
+        void testGetCached_SameDefinition_ReturnsSameInstance() {
+            // Given
+            when(mockStoreDefinition.getKeys()).thenReturn(Arrays.asList(stringKey, intKey));
+
+            // When
+            StoreDefinitionIndexes first = StoreDefinitionIndexes.getCached(mockStoreDefinition);
+            StoreDefinitionIndexes second = StoreDefinitionIndexes.getCached(mockStoreDefinition);
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(first.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should build indexes only once when requested concurrently")
+        void testGetCached_ConcurrentRequests_ReturnsSameInstance() throws Exception {
+            // Given
+            StoreDefinition definition = StoreDefinition.newInstance("Concurrent", stringKey, intKey, boolKey);
+            int numThreads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+            CountDownLatch start = new CountDownLatch(1);
+
+            try {
+                // When
+                List<Future<StoreDefinitionIndexes>> results = new ArrayList<>();
+                for (int i = 0; i < numThreads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return StoreDefinitionIndexes.getCached(definition);
+                    }));
+                }
+                start.countDown();
+
+                // Then
+                StoreDefinitionIndexes expected = StoreDefinitionIndexes.getCached(definition);
+                for (Future<StoreDefinitionIndexes> result : results) {
+                    assertThat(result.get()).isSameAs(expected);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should resolve the same key in different definitions")
+        void testGetIndex_SameKeyInDifferentDefinitions_ReturnsCorrectIndexes() {
+            // Given
+            StoreDefinitionIndexes first = new StoreDefinitionIndexes(
+                    StoreDefinition.newInstance("First", stringKey, intKey));
+            StoreDefinitionIndexes second = new StoreDefinitionIndexes(
+                    StoreDefinition.newInstance("Second", intKey, boolKey));
+
+            // When / Then - alternate lookups, so that the index cached in the key keeps changing
+            for (int i = 0; i < 3; i++) {
+                assertThat(first.getIndex(intKey)).isEqualTo(1);
+                assertThat(second.getIndex(intKey)).isEqualTo(0);
+                assertThat(first.hasIndex(boolKey)).isFalse();
+                assertThat(second.hasIndex(boolKey)).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("Should resolve a key shared by many definitions")
+        void testGetIndex_KeySharedByManyDefinitions_ReturnsCorrectIndexes() {
+            // Given
+            List<StoreDefinitionIndexes> indexes = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                List<DataKey<?>> keys = new ArrayList<>();
+                for (int j = 0; j < i; j++) {
+                    keys.add(KeyFactory.string("shared.padding" + j));
+                }
+                keys.add(intKey);
+                indexes.add(new StoreDefinitionIndexes(
+                        StoreDefinition.newInstance("Shared" + i, keys.toArray(DataKey<?>[]::new))));
+            }
+
+            // When / Then
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < indexes.size(); i++) {
+                    assertThat(indexes.get(i).getIndex(intKey)).isEqualTo(i);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should resolve keys with the same name but different instances")
+        void testGetIndex_EqualKeyDifferentInstance_ReturnsIndex() {
+            // Given
+            StoreDefinitionIndexes indexes = new StoreDefinitionIndexes(
+                    StoreDefinition.newInstance("Test", stringKey, intKey));
+            DataKey<Integer> otherIntKey = KeyFactory.integer("test.int");
+
+            // When / Then
+            assertThat(indexes.getIndex(intKey)).isEqualTo(1);
+            assertThat(indexes.getIndex(otherIntKey)).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("Performance Tests")
     class PerformanceTests {
@@ -6,7 +6,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -490,6 +493,131 @@ class GenericLineStreamParserTest {
         }
     }
 
+    @Nested
+    @DisplayName("Pipeline Tests")
+    class PipelineTests {
+
+        private List<Integer> merged;
+
+        @BeforeEach
+        void setUpPipeline() {
+            merged = new ArrayList<>();
+            workers.put("ITEM", IndependentLineStreamWorker.<TestDataClass, Integer> newInstance("ITEM", 1,
+                    record -> Integer.parseInt(record.get(0)), (value, data) -> merged.add(value)));
+            parser = new GenericLineStreamParser<>(testData, workers);
+        }
+
+        private String newInput(int numRecords) {
+            StringBuilder input = new StringBuilder();
+            for (int i = 0; i < numRecords; i++) {
+                input.append("ITEM\n").append(i).append("\n");
+                if (i % 100 == 0) {
+                    input.append("TEST_WORKER\nline").append(i).append("\n");
+                    input.append("not parsed ").append(i).append("\n");
+                }
+            }
+            return input.toString();
+        }
+
+        @Test
+        @DisplayName("Should produce the same result as sequential parsing")
+        void testSameAsSequential() {
+            String input = newInput(5000);
+
+            String sequentialUnparsed = parser.parse(new ByteArrayInputStream(input.getBytes()), null, false, true);
+            List<Integer> sequentialMerged = new ArrayList<>(merged);
+            String sequentialValue = testData.getValue();
+            long sequentialLines = parser.getReadLines();
+            long sequentialChars = parser.getReadChars();
+
+            merged.clear();
+            testData.setValue("");
+
+            String pipelinedUnparsed = parser.parse(new ByteArrayInputStream(input.getBytes()), null, false, true, 4);
+
+            assertThat(merged).hasSize(5000).isEqualTo(sequentialMerged);
+            assertThat(testData.getValue()).isEqualTo(sequentialValue);
+            assertThat(pipelinedUnparsed).isEqualTo(sequentialUnparsed);
+            assertThat(parser.getReadLines()).isEqualTo(sequentialLines);
+            assertThat(parser.getReadChars()).isEqualTo(sequentialChars);
+            assertThat(parser.getNumExceptions()).isZero();
+        }
+
+        @Test
+        @DisplayName("Other workers should see the records merged before them")
+        void testInterleavedWorkers() {
+            StringBuilder input = new StringBuilder();
+            for (int i = 0; i < 2000; i++) {
+                input.append("ITEM\n").append(i).append("\n");
+                if (i % 7 == 0) {
+                    input.append("SNAPSHOT\n");
+                }
+            }
+
+            List<String> sequentialSnapshots = null;
+            for (int numThreads : new int[] { 1, 2, 8 }) {
+                merged.clear();
+                List<String> snapshots = new ArrayList<>();
+                workers.put("SNAPSHOT", LineStreamWorker.<TestDataClass> newInstance("SNAPSHOT",
+                        (lines, data) -> snapshots.add(merged.size() + ":" + merged.get(merged.size() - 1))));
+                parser = new GenericLineStreamParser<>(testData, workers);
+
+                parser.parse(new ByteArrayInputStream(input.toString().getBytes()), null, false, true, numThreads);
+
+                assertThat(parser.getNumExceptions()).isZero();
+                assertThat(merged).hasSize(2000);
+                if (sequentialSnapshots == null) {
+                    sequentialSnapshots = snapshots;
+                    assertThat(snapshots).hasSize(286).startsWith("1:0", "8:7");
+                } else {
+                    assertThat(snapshots).as("%d threads", numThreads).isEqualTo(sequentialSnapshots);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should write all lines to the dump file")
+        void testDumpFile() throws Exception {
+            String input = newInput(1000);
+            File dumpFile = new File(tempDir, "pipeline_dump.txt");
+
+            parser.parse(new ByteArrayInputStream(input.getBytes()), dumpFile, false, true, 4);
+
+            assertThat(Files.readString(dumpFile.toPath())).isEqualTo(input);
+        }
+
+        @Test
+        @DisplayName("Should apply line ignore predicate")
+        void testLineIgnore() {
+            parser.setLineIgnore(line -> line.startsWith("not parsed"));
+
+            String unparsed = parser.parse(new ByteArrayInputStream(newInput(1000).getBytes()), null, false, true, 4);
+
+            assertThat(unparsed).isEmpty();
+            assertThat(merged).hasSize(1000);
+        }
+
+        @Test
+        @DisplayName("Should count exceptions of records parsed in parallel")
+        void testExceptions() {
+            String input = "ITEM\n1\nITEM\nnot a number\nITEM\n3\n";
+
+            parser.parse(new ByteArrayInputStream(input.getBytes()), null, false, true, 2);
+
+            assertThat(merged).containsExactly(1, 3);
+            assertThat(parser.getNumExceptions()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should parse sequentially with a single thread")
+        void testSingleThread() {
+            parser.parse(new ByteArrayInputStream(newInput(100).getBytes()), null, false, true, 1);
+
+            assertThat(merged).hasSize(100);
+            assertThat(testWorker.wasCalled()).isTrue();
+        }
+    }
+
     // Test helper classes
     private static class TestDataClass extends ADataClass<TestDataClass> {
         private String value = "";
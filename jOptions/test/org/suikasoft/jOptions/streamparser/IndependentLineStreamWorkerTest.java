@@ -0,0 +1,88 @@
+package org.suikasoft.jOptions.streamparser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.suikasoft.jOptions.DataStore.ADataClass;
+
+import pt.up.fe.specs.util.utilities.LineStream;
+
+/**
+ * Test suite for IndependentLineStreamWorker and its default implementation.
+ */
+@DisplayName("IndependentLineStreamWorker Tests")
+class IndependentLineStreamWorkerTest {
+
+    private static class TestDataClass extends ADataClass<TestDataClass> {
+    }
+
+    @Nested
+    @DisplayName("Factory Tests")
+    class FactoryTests {
+
+        @Test
+        @DisplayName("Should create worker with the given id")
+        void testNewInstance() {
+            var worker = IndependentLineStreamWorker.<TestDataClass, String> newInstance("ID", 2,
+                    record -> String.join(",", record), (result, data) -> {
+                    });
+
+            assertThat(worker.getId()).isEqualTo("ID");
+        }
+
+        @Test
+        @DisplayName("Should reject negative number of lines")
+        void testNegativeLines() {
+            assertThatThrownBy(() -> IndependentLineStreamWorker.<TestDataClass, String> newInstance("ID", -1,
+                    record -> "", (result, data) -> {
+                    }))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Record Tests")
+    class RecordTests {
+
+        @Test
+        @DisplayName("Should read the given number of lines")
+        void testReadRecord() {
+            var worker = IndependentLineStreamWorker.<TestDataClass, String> newInstance("ID", 2,
+                    record -> String.join(",", record), (result, data) -> {
+                    });
+
+            LineStream lines = LineStream.newInstance("a\nb\nc");
+
+            assertThat(worker.readRecord(lines)).containsExactly("a", "b");
+            assertThat(lines.nextLine()).isEqualTo("c");
+        }
+
+        @Test
+        @DisplayName("Should stop reading at the end of the stream")
+        void testReadRecordEndOfStream() {
+            var worker = IndependentLineStreamWorker.<TestDataClass, String> newInstance("ID", 3,
+                    record -> String.join(",", record), (result, data) -> {
+                    });
+
+            assertThat(worker.readRecord(LineStream.newInstance("a"))).containsExactly("a");
+        }
+
+        @Test
+        @DisplayName("Apply should read, parse and merge the record")
+        void testApply() {
+            List<String> results = new ArrayList<>();
+            var worker = IndependentLineStreamWorker.<TestDataClass, String> newInstance("ID", 2,
+                    record -> String.join(",", record), (result, data) -> results.add(result));
+
+            worker.apply(LineStream.newInstance("a\nb\nc"), new TestDataClass());
+
+            assertThat(results).containsExactly("a,b");
+        }
+    }
+}
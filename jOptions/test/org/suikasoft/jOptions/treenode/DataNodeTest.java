@@ -17,10 +17,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.suikasoft.jOptions.DataStore.CompactDataStore;
 import org.suikasoft.jOptions.Datakey.DataKey;
 import org.suikasoft.jOptions.Datakey.KeyFactory;
 import org.suikasoft.jOptions.Interfaces.DataStore;
 import org.suikasoft.jOptions.storedefinition.StoreDefinition;
+import org.suikasoft.jOptions.storedefinition.UsesCompactDataStore;
 
 /**
  * Comprehensive tests for {@link DataNode} abstract class functionality.
@@ -64,6 +66,28 @@ class DataNodeTest {
         }
     }
 
+    /**
+     * Node that opts in to the compact DataStore.
+     */
+    public static class CompactTestDataNode extends DataNode<CompactTestDataNode> implements UsesCompactDataStore {
+
+        public static final DataKey<String> NAME = KeyFactory.string("name", "unnamed");
+
+        public CompactTestDataNode(DataStore data, Collection<? extends CompactTestDataNode> children) {
+            super(data, children);
+        }
+
+        @Override
+        protected CompactTestDataNode getThis() {
+            return this;
+        }
+
+        @Override
+        protected Class<CompactTestDataNode> getBaseClass() {
+            return CompactTestDataNode.class;
+        }
+    }
+
     @BeforeEach
     void setUp() {
         stringKey = KeyFactory.string("testString");
@@ -271,6 +295,37 @@ class DataNodeTest {
             assertThat(result.getChildren()).hasSize(1);
             assertThat(result.getChildren().get(0)).isEqualTo(child);
         }
+
+        @Test
+        @DisplayName("Should create compact DataStore for node classes that opt in")
+        void testNewDataStore_CompactNodeClass_CreatesCompactDataStore() {
+            // When
+            CompactTestDataNode node = DataNode.newInstance(CompactTestDataNode.class, Collections.emptyList());
+            node.set(CompactTestDataNode.NAME, "node");
+            CompactTestDataNode copy = node.copy();
+
+            // Then
+            assertThat(DataNode.newDataStore(CompactTestDataNode.class)).isInstanceOf(CompactDataStore.class);
+            assertThat(node.getData()).isInstanceOf(CompactDataStore.class);
+            assertThat(copy.getData()).isInstanceOf(CompactDataStore.class).isNotSameAs(node.getData());
+            assertThat(copy.get(CompactTestDataNode.NAME)).isEqualTo("node");
+        }
+
+        @Test
+        @DisplayName("Copies should not change the original node")
+        void testCopy_CompactNode_IsIndependent() {
+            // Given
+            CompactTestDataNode node = DataNode.newInstance(CompactTestDataNode.class, Collections.emptyList());
+            node.set(CompactTestDataNode.NAME, "node");
+
+            // When
+            CompactTestDataNode copy = node.copy();
+            copy.set(CompactTestDataNode.NAME, "copy");
+
+            // Then
+            assertThat(node.get(CompactTestDataNode.NAME)).isEqualTo("node");
+            assertThat(copy.get(CompactTestDataNode.NAME)).isEqualTo("copy");
+        }
     }
 
     @Nested